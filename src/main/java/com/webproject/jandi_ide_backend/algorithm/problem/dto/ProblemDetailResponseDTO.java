@@ -1,5 +1,6 @@
 package com.webproject.jandi_ide_backend.algorithm.problem.dto;
 
+import com.webproject.jandi_ide_backend.compiler.checker.CheckerType;
 import com.webproject.jandi_ide_backend.algorithm.testCase.dto.TestCaseResponseDTO;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
@@ -28,6 +29,24 @@ public class ProblemDetailResponseDTO {
     @Schema(description = "시간 제한 (초 단위)", example = "1")
     private Integer timeLimit;
 
+    @Schema(description = "출력 제한 (KB 단위, null 이면 기본값)", example = "65536")
+    private Integer outputLimit;
+
+    @Schema(description = "테스트 케이스를 한 프로세스에서 묶어 실행하는지 여부 (null 이면 false)", example = "false")
+    private Boolean batchedHarness;
+
+    @Schema(description = "출력 검사 방식 (null 이면 DEFAULT)", example = "DEFAULT")
+    private CheckerType checkerType;
+
+    @Schema(description = "FLOAT 검사기의 허용 절대 오차 (null 이면 1e-6)", example = "0.000001")
+    private Double checkerAbsoluteEpsilon;
+
+    @Schema(description = "FLOAT 검사기의 허용 상대 오차 (null 이면 1e-6)", example = "0.000001")
+    private Double checkerRelativeEpsilon;
+
+    @Schema(description = "SPECIAL 검사기가 실행할 스페셜 저지 이름", example = "multi_answer")
+    private String specialJudge;
+
     @Schema(description = "해당 문제의 테스트 케이스")
     private List<TestCaseResponseDTO> testCases;
 
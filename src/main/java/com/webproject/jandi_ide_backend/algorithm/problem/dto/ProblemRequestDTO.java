@@ -1,8 +1,10 @@
 package com.webproject.jandi_ide_backend.algorithm.problem.dto;
 
+import com.webproject.jandi_ide_backend.compiler.checker.CheckerType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -31,6 +33,27 @@ public class ProblemRequestDTO {
     @Schema(description = "시간 제한 (초 단위)", example = "2")
     private Integer timeLimit;
 
+    @Min(1)
+    @Schema(description = "출력 제한 (KB 단위, 생략하면 기본값)", example = "65536")
+    private Integer outputLimit;
+
+    @Schema(description = "테스트 케이스를 한 프로세스에서 묶어 실행할지 여부 (생략하면 false)", example = "false")
+    private Boolean batchedHarness;
+
+    @Schema(description = "출력 검사 방식 (생략하면 DEFAULT)", example = "DEFAULT")
+    private CheckerType checkerType;
+
+    @PositiveOrZero
+    @Schema(description = "FLOAT 검사기의 허용 절대 오차 (생략하면 1e-6)", example = "0.000001")
+    private Double checkerAbsoluteEpsilon;
+
+    @PositiveOrZero
+    @Schema(description = "FLOAT 검사기의 허용 상대 오차 (생략하면 1e-6)", example = "0.000001")
+    private Double checkerRelativeEpsilon;
+
+    @Schema(description = "SPECIAL 검사기가 실행할 스페셜 저지 이름 (서버에 배포된 실행 파일)", example = "multi_answer")
+    private String specialJudge;
+
     @Schema(description = "문제에 연결된 태그 목록", example = "[\"Array\", \"Sort\", \"DP\"]")
     private List<String> tags;
 }
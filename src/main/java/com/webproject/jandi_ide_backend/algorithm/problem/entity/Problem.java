@@ -1,5 +1,6 @@
 package com.webproject.jandi_ide_backend.algorithm.problem.entity;
 
+import com.webproject.jandi_ide_backend.compiler.checker.CheckerType;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -34,6 +35,25 @@ public class Problem {
     @Column(name = "time_limit", nullable = false)
     private Integer timeLimit;  // 시간 제한 (seconds)
 
+    @Column(name = "output_limit")
+    private Integer outputLimit;  // 출력 제한 (KB), null 이면 기본값 사용
+
+    @Column(name = "batched_harness")
+    private Boolean batchedHarness;  // 테스트 케이스를 하네스 프로세스 하나로 묶어 실행할지 여부, null 이면 false
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "checker_type")
+    private CheckerType checkerType;  // 출력 검사 방식, null 이면 DEFAULT
+
+    @Column(name = "checker_absolute_epsilon")
+    private Double checkerAbsoluteEpsilon;  // FLOAT 검사기의 허용 절대 오차, null 이면 1e-6
+
+    @Column(name = "checker_relative_epsilon")
+    private Double checkerRelativeEpsilon;  // FLOAT 검사기의 허용 상대 오차, null 이면 1e-6
+
+    @Column(name = "special_judge")
+    private String specialJudge;  // SPECIAL 검사기가 실행할 스페셜 저지 이름
+
     @ElementCollection
     @CollectionTable(
             name = "problem_tags",
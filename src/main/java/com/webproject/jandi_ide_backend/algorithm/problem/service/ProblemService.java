@@ -10,6 +10,8 @@ import com.webproject.jandi_ide_backend.algorithm.testCase.dto.TestCaseResponseD
 import com.webproject.jandi_ide_backend.algorithm.testCase.entity.TestCase;
 import com.webproject.jandi_ide_backend.algorithm.testCase.repository.TestCaseRepository;
 import com.webproject.jandi_ide_backend.algorithm.testCase.service.TestCaseService;
+import com.webproject.jandi_ide_backend.compiler.checker.CheckerEngine;
+import com.webproject.jandi_ide_backend.compiler.checker.CheckerType;
 import com.webproject.jandi_ide_backend.global.error.CustomErrorCodes;
 import com.webproject.jandi_ide_backend.global.error.CustomException;
 import org.springframework.data.domain.Page;
@@ -25,11 +27,14 @@ public class ProblemService {
     private final ProblemRepository problemRepository;
     private final TestCaseRepository testCaseRepository;
     private final TestCaseService testCaseService;
+    private final CheckerEngine checkerEngine;
 
-    public ProblemService(ProblemRepository problemRepository, TestCaseRepository testCaseRepository, TestCaseService testCaseService) {
+    public ProblemService(ProblemRepository problemRepository, TestCaseRepository testCaseRepository, TestCaseService testCaseService,
+                          CheckerEngine checkerEngine) {
         this.problemRepository = problemRepository;
         this.testCaseRepository = testCaseRepository;
         this.testCaseService = testCaseService;
+        this.checkerEngine = checkerEngine;
     }
 
     public ProblemPageResponseDTO getProblems(Integer page, Integer size, String sort, String direction) {
@@ -69,6 +74,7 @@ public class ProblemService {
     }
 
     public ProblemResponseDTO postProblem(ProblemRequestDTO problemRequestDTO) {
+        validateChecker(problemRequestDTO);
         Problem problem = new Problem();
         problem.setTitle(problemRequestDTO.getTitle());
         problem.setDescription(problemRequestDTO.getDescription());
@@ -76,6 +82,12 @@ public class ProblemService {
         problem.getTags().addAll(problemRequestDTO.getTags());
         problem.setMemory(problemRequestDTO.getMemory());
         problem.setTimeLimit(problemRequestDTO.getTimeLimit());
+        problem.setOutputLimit(problemRequestDTO.getOutputLimit());
+        problem.setBatchedHarness(problemRequestDTO.getBatchedHarness());
+        problem.setCheckerType(problemRequestDTO.getCheckerType());
+        problem.setCheckerAbsoluteEpsilon(problemRequestDTO.getCheckerAbsoluteEpsilon());
+        problem.setCheckerRelativeEpsilon(problemRequestDTO.getCheckerRelativeEpsilon());
+        problem.setSpecialJudge(problemRequestDTO.getSpecialJudge());
 
         try{
             problemRepository.save(problem);
@@ -88,12 +100,19 @@ public class ProblemService {
 
     public ProblemResponseDTO updateProblem(ProblemRequestDTO problemRequestDTO,Integer id) {
         Problem problem = problemRepository.findById(id).orElseThrow(() -> new CustomException(CustomErrorCodes.PROBLEM_NOT_FOUND));
+        validateChecker(problemRequestDTO);
 
         problem.setTitle(problemRequestDTO.getTitle());
         problem.setDescription(problemRequestDTO.getDescription());
         problem.setLevel(problemRequestDTO.getLevel());
         problem.setMemory(problemRequestDTO.getMemory());
         problem.setTimeLimit(problemRequestDTO.getTimeLimit());
+        problem.setOutputLimit(problemRequestDTO.getOutputLimit());
+        problem.setBatchedHarness(problemRequestDTO.getBatchedHarness());
+        problem.setCheckerType(problemRequestDTO.getCheckerType());
+        problem.setCheckerAbsoluteEpsilon(problemRequestDTO.getCheckerAbsoluteEpsilon());
+        problem.setCheckerRelativeEpsilon(problemRequestDTO.getCheckerRelativeEpsilon());
+        problem.setSpecialJudge(problemRequestDTO.getSpecialJudge());
 
         problem.getTags().clear();
         problem.getTags().addAll(problemRequestDTO.getTags());
@@ -121,6 +140,12 @@ public class ProblemService {
         detailDTO.setLevel(problem.getLevel());
         detailDTO.setMemory(problem.getMemory());
         detailDTO.setTimeLimit(problem.getTimeLimit());
+        detailDTO.setOutputLimit(problem.getOutputLimit());
+        detailDTO.setBatchedHarness(problem.getBatchedHarness());
+        detailDTO.setCheckerType(problem.getCheckerType());
+        detailDTO.setCheckerAbsoluteEpsilon(problem.getCheckerAbsoluteEpsilon());
+        detailDTO.setCheckerRelativeEpsilon(problem.getCheckerRelativeEpsilon());
+        detailDTO.setSpecialJudge(problem.getSpecialJudge());
         detailDTO.setTestCases(testCaseDTOs);
         detailDTO.setTags(problem.getTags());
         detailDTO.setCreatedAt(problem.getCreatedAt());
@@ -137,6 +162,7 @@ public class ProblemService {
         } catch (Exception e) {
             throw new CustomException(CustomErrorCodes.DB_OPERATION_FAILED);
         }
+        testCaseService.evictTestCases(id);
     }
 
     /**
@@ -150,6 +176,16 @@ public class ProblemService {
                 .orElseThrow(() -> new CustomException(CustomErrorCodes.PROBLEM_NOT_FOUND));
     }
 
+    /**
+     * SPECIAL 검사기는 서버에 배포된 스페셜 저지만 지정할 수 있습니다.
+     */
+    private void validateChecker(ProblemRequestDTO problemRequestDTO) {
+        if (problemRequestDTO.getCheckerType() == CheckerType.SPECIAL
+                && !checkerEngine.isSpecialJudgeAvailable(problemRequestDTO.getSpecialJudge())) {
+            throw new CustomException(CustomErrorCodes.INVALID_CHECKER);
+        }
+    }
+
     private ProblemResponseDTO convertToProblemResponseDTO(Problem problem) {
         ProblemResponseDTO problemResponseDTO = new ProblemResponseDTO();
         problemResponseDTO.setId(problem.getId());
@@ -157,6 +193,12 @@ public class ProblemService {
         problemResponseDTO.setLevel(problem.getLevel());
         problemResponseDTO.setMemory(problem.getMemory());
         problemResponseDTO.setTimeLimit(problem.getTimeLimit());
+        problemResponseDTO.setOutputLimit(problem.getOutputLimit());
+        problemResponseDTO.setBatchedHarness(problem.getBatchedHarness());
+        problemResponseDTO.setCheckerType(problem.getCheckerType());
+        problemResponseDTO.setCheckerAbsoluteEpsilon(problem.getCheckerAbsoluteEpsilon());
+        problemResponseDTO.setCheckerRelativeEpsilon(problem.getCheckerRelativeEpsilon());
+        problemResponseDTO.setSpecialJudge(problem.getSpecialJudge());
         problemResponseDTO.setTags(problem.getTags());
         problemResponseDTO.setCreatedAt(problem.getCreatedAt());
         problemResponseDTO.setUpdatedAt(problem.getUpdatedAt());
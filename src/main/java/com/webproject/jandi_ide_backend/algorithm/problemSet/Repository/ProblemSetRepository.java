@@ -16,4 +16,6 @@ public interface ProblemSetRepository extends JpaRepository<ProblemSet, Long> {
     Page<ProblemSet> findAllByUser(User user, Pageable pageable);
 
     long countByUser(User user);
+
+    boolean existsByIdAndProblemsContaining(Long id, Integer problemId); // 문제집에 문제가 포함되어 있는지 확인 (문제 목록을 불러오지 않음)
 }
@@ -24,4 +24,5 @@ public class ReqPostProblemSetDTO {
     //선택적
     private List<Integer> problemIds; //커스텀일 때만 필수
     private String companyName; //기업문제일 때만 필수
+    private Boolean failFast; //처음 실패한 테스트 케이스에서 채점 중단 (없으면 서버 기본값)
 }
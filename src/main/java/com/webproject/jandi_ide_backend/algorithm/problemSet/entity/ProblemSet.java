@@ -51,6 +51,10 @@ public class ProblemSet {
     @Column(name = "description")
     private String description;
 
+    // 처음 실패한 테스트 케이스에서 채점을 멈출지 여부 (null 이면 서버 기본 채점 방식)
+    @Column(name = "fail_fast")
+    private Boolean failFast;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "language", nullable = false)
     private Language language;
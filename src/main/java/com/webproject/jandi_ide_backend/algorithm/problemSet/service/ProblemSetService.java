@@ -243,6 +243,7 @@ public class ProblemSetService {
         problemSet.setUser(user);
         problemSet.setCompany(company);
         problemSet.setLanguage(probSetDTO.getLanguage());
+        problemSet.setFailFast(probSetDTO.getFailFast());
         problemSet.setCreatedAt(LocalDateTime.now(ZoneId.of("Asia/Seoul")));
         problemSet.setUpdatedAt(LocalDateTime.now(ZoneId.of("Asia/Seoul")));
         problemSetRepository.save(problemSet);
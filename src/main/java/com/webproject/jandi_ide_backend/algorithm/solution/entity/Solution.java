@@ -94,6 +94,7 @@ public class Solution {
         RUNTIME_ERROR,    // 런타임 에러
         COMPILATION_ERROR,// 컴파일 에러
         TIMEOUT,          // 시간 초과
-        MEMORY_LIMIT      // 메모리 초과
+        MEMORY_LIMIT,     // 메모리 초과
+        OUTPUT_LIMIT      // 출력 초과
     }
 }
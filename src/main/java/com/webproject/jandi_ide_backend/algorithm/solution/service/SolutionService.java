@@ -11,6 +11,7 @@ import com.webproject.jandi_ide_backend.algorithm.solution.entity.Solution;
 import com.webproject.jandi_ide_backend.algorithm.solution.repository.SolutionRepository;
 import com.webproject.jandi_ide_backend.global.error.CustomErrorCodes;
 import com.webproject.jandi_ide_backend.global.error.CustomException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,24 +27,34 @@ public class SolutionService {
     private final ProblemService problemService;
     private final ProblemSetService problemSetService;
     private final ProblemSetRepository problemSetRepository;
+    // 추가 정보(채점 결과 상세)의 최대 길이 (TEXT 컬럼 한도 안에 들도록 문자 수로 제한)
+    private final int additionalInfoMaxLength;
     
     public SolutionService(SolutionRepository solutionRepository, 
                          ProblemService problemService,
                          ProblemSetService problemSetService,
-                         ProblemSetRepository problemSetRepository) {
+                         ProblemSetRepository problemSetRepository,
+                         @Value("${solution.additional-info.max-length:16000}") int additionalInfoMaxLength) {
         this.solutionRepository = solutionRepository;
         this.problemService = problemService;
         this.problemSetService = problemSetService;
         this.problemSetRepository = problemSetRepository;
+        this.additionalInfoMaxLength = additionalInfoMaxLength;
     }
     
     /**
      * 제출된 솔루션을 저장합니다.
+     * 추가 정보가 최대 길이를 넘으면 앞부분만 저장합니다.
      * @param solution 저장할 솔루션 객체
      * @return 저장된 솔루션 객체
      */
     @Transactional
     public Solution saveSolution(Solution solution) {
+        String additionalInfo = solution.getAdditionalInfo();
+        if (additionalInfo != null && additionalInfo.length() > additionalInfoMaxLength) {
+            solution.setAdditionalInfo(additionalInfo.substring(0, additionalInfoMaxLength)
+                    + "\n... (결과가 너무 길어 " + additionalInfoMaxLength + "자 이후는 생략되었습니다)");
+        }
         return solutionRepository.save(solution);
     }
     
@@ -55,6 +66,18 @@ public class SolutionService {
     public Optional<Solution> findById(Long id) {
         return solutionRepository.findById(id);
     }
+
+    /**
+     * 솔루션을 제출한 사용자의 깃헙 아이디를 조회합니다.
+     * @param id 조회할 솔루션의 ID
+     * @return 제출한 사용자의 깃헙 아이디 (솔루션이 없으면 empty)
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> findOwnerGithubId(Long id) {
+        return solutionRepository.findById(id)
+                .map(Solution::getUser)
+                .map(user -> user.getGithubId());
+    }
     
     /**
      * 모든 솔루션을 조회합니다.
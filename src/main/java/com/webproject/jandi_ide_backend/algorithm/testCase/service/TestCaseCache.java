@@ -0,0 +1,264 @@
+package com.webproject.jandi_ide_backend.algorithm.testCase.service;
+
+import com.webproject.jandi_ide_backend.algorithm.testCase.entity.TestCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * 문제별 테스트 케이스 목록 캐시
+ *
+ * 채점할 때마다 MySQL에서 TEXT 컬럼(input/output)을 다시 읽지 않도록 문제 ID별 테스트 케이스 목록을 메모리에 보관합니다.
+ *
+ * - 항목마다 문제별 버전을 함께 저장하고, 테스트 케이스가 추가/수정/삭제되면 버전을 올려 이전 항목을 무효화합니다.
+ *   조회 중에 무효화가 일어나면 조회한 목록은 캐시에 넣지 않으므로 이전 데이터가 다시 들어가지 않습니다.
+ * - 무효화는 Redis 채널(TEST_CASE_INVALIDATE)로 다른 서버에도 전달되며, 전달되지 못한 경우에 대비해 항목에 만료 시간을 둡니다.
+ * - 전체 크기(입출력 문자열 기준 추정 바이트) 기준 LRU 방식으로 오래 사용하지 않은 항목부터 제거합니다.
+ * - 캐시된 테스트 케이스는 영속성 컨텍스트와 분리된 복사본이며, 호출하는 쪽은 수정하지 않아야 합니다.
+ * - 적중/실패/제거 횟수와 크기는 Micrometer 지표(judge.testcase.cache.*)로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class TestCaseCache implements MessageListener {
+
+    public static final String INVALIDATE_CHANNEL = "TEST_CASE_INVALIDATE";
+    // 테스트 케이스 하나에 더하는 객체 자체의 크기 추정치 (바이트)
+    private static final long ENTRY_OVERHEAD_BYTES = 128;
+
+    private final boolean enabled;
+    private final long maxBytes;
+    private final long ttlMillis;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    // 문제 ID -> 항목 (접근 순서, 가장 오래된 항목이 앞)
+    private final LinkedHashMap<Integer, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    // 문제 ID -> 버전 (무효화할 때마다 증가)
+    private final Map<Integer, Long> versions = new HashMap<>();
+    private long totalBytes = 0;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    /**
+     * 테스트 케이스 캐시 생성자
+     *
+     * @param enabled 캐시 사용 여부
+     * @param maxBytes 캐시 최대 크기 (바이트)
+     * @param ttlSeconds 항목 만료 시간 (초, 다른 서버의 무효화를 받지 못한 경우의 안전장치)
+     * @param redisTemplate 무효화 발행에 사용하는 RedisTemplate
+     * @param listenerContainer 무효화 구독에 사용하는 리스너 컨테이너
+     * @param meterRegistry 지표 레지스트리
+     */
+    public TestCaseCache(
+            @Value("${compiler.testcase-cache.enabled:true}") boolean enabled,
+            @Value("${compiler.testcase-cache.max-bytes:67108864}") long maxBytes,
+            @Value("${compiler.testcase-cache.ttl-seconds:600}") long ttlSeconds,
+            RedisTemplate<String, Object> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+
+        this.hitCounter = Counter.builder("judge.testcase.cache.hits")
+                .description("테스트 케이스 캐시 적중 횟수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("judge.testcase.cache.misses")
+                .description("테스트 케이스 캐시 실패 횟수")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("judge.testcase.cache.evictions")
+                .description("테스트 케이스 캐시 제거 횟수")
+                .register(meterRegistry);
+        Gauge.builder("judge.testcase.cache.size", this, TestCaseCache::getTotalBytes)
+                .description("테스트 케이스 캐시 크기 (추정 바이트)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("judge.testcase.cache.entries", this, TestCaseCache::getEntryCount)
+                .description("테스트 케이스 캐시에 보관된 문제 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 다른 서버에서 발행한 무효화를 구독합니다.
+     */
+    @PostConstruct
+    private void init() {
+        if (enabled) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+        }
+    }
+
+    /**
+     * 문제의 테스트 케이스 목록을 캐시에서 찾고, 없으면 loader로 조회해 캐시에 넣습니다.
+     *
+     * @param problemId 문제 ID
+     * @param loader 캐시에 없을 때 테스트 케이스 목록을 조회하는 함수
+     * @return 테스트 케이스 목록 (호출마다 새 리스트)
+     */
+    public List<TestCase> get(Integer problemId, Supplier<List<TestCase>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        long version;
+        synchronized (this) {
+            Entry entry = entries.get(problemId);
+            version = versions.getOrDefault(problemId, 0L);
+            if (entry != null && entry.version == version && !entry.isExpired(ttlMillis)) {
+                hitCounter.increment();
+                return new ArrayList<>(entry.testCases);
+            }
+            if (entry != null) {
+                remove(problemId);
+            }
+        }
+
+        missCounter.increment();
+        List<TestCase> testCases = detach(loader.get());
+        long bytes = estimateBytes(testCases);
+
+        synchronized (this) {
+            // 조회하는 동안 무효화되었으면 이전 데이터일 수 있으므로 넣지 않음
+            if (bytes <= maxBytes && versions.getOrDefault(problemId, 0L) == version) {
+                remove(problemId);
+                entries.put(problemId, new Entry(version, testCases, bytes));
+                totalBytes += bytes;
+                evictIfNeeded();
+            }
+        }
+        return new ArrayList<>(testCases);
+    }
+
+    /**
+     * 문제의 테스트 케이스 목록을 무효화하고 다른 서버에도 알립니다.
+     * 테스트 케이스를 추가/수정/삭제한 뒤 호출합니다.
+     *
+     * @param problemId 문제 ID
+     */
+    public void invalidate(Integer problemId) {
+        if (!enabled) {
+            return;
+        }
+        invalidateLocal(problemId);
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, problemId);
+        } catch (Exception e) {
+            // 다른 서버의 항목은 만료 시간이 지나면 다시 조회됨
+            log.warn("Failed to publish test case invalidation for problem {}: {}", problemId, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 서버에서 발행한 무효화를 처리합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8).replace("\"", "").trim();
+            invalidateLocal(Integer.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed test case invalidation message: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void invalidateLocal(Integer problemId) {
+        versions.merge(problemId, 1L, Long::sum);
+        remove(problemId);
+        log.debug("Invalidated cached test cases for problem {}", problemId);
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    private void remove(Integer problemId) {
+        Entry removed = entries.remove(problemId);
+        if (removed != null) {
+            totalBytes -= removed.bytes;
+        }
+    }
+
+    /**
+     * 최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거합니다.
+     */
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<Integer, Entry>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            totalBytes -= iterator.next().getValue().bytes;
+            iterator.remove();
+            evictionCounter.increment();
+        }
+    }
+
+    /**
+     * 영속성 컨텍스트와 분리된 복사본을 만듭니다. (요청 간에 관리 중인 엔티티를 공유하지 않도록)
+     */
+    private List<TestCase> detach(List<TestCase> testCases) {
+        List<TestCase> copies = new ArrayList<>(testCases.size());
+        for (TestCase testCase : testCases) {
+            TestCase copy = new TestCase();
+            copy.setId(testCase.getId());
+            copy.setProblem(testCase.getProblem());
+            copy.setInput(testCase.getInput());
+            copy.setOutput(testCase.getOutput());
+            copy.setCreatedAt(testCase.getCreatedAt());
+            copy.setUpdatedAt(testCase.getUpdatedAt());
+            copies.add(copy);
+        }
+        return Collections.unmodifiableList(copies);
+    }
+
+    /**
+     * 입출력 문자열 길이로 항목 크기를 추정합니다. (문자당 2바이트)
+     */
+    private long estimateBytes(List<TestCase> testCases) {
+        long bytes = 0;
+        for (TestCase testCase : testCases) {
+            bytes += ENTRY_OVERHEAD_BYTES;
+            bytes += 2L * (testCase.getInput() != null ? testCase.getInput().length() : 0);
+            bytes += 2L * (testCase.getOutput() != null ? testCase.getOutput().length() : 0);
+        }
+        return bytes;
+    }
+
+    /**
+     * 캐시 항목
+     */
+    private static class Entry {
+        private final long version;
+        private final List<TestCase> testCases;
+        private final long bytes;
+        private final long createdAt = System.currentTimeMillis();
+
+        Entry(long version, List<TestCase> testCases, long bytes) {
+            this.version = version;
+            this.testCases = testCases;
+            this.bytes = bytes;
+        }
+
+        boolean isExpired(long ttlMillis) {
+            return ttlMillis > 0 && System.currentTimeMillis() - createdAt > ttlMillis;
+        }
+    }
+}
@@ -16,10 +16,13 @@ import java.util.List;
 public class TestCaseService {
     private final ProblemRepository problemRepository;
     private final TestCaseRepository testCaseRepository;
+    private final TestCaseCache testCaseCache;
 
-    public TestCaseService(ProblemRepository problemRepository, TestCaseRepository testCaseRepository) {
+    public TestCaseService(ProblemRepository problemRepository, TestCaseRepository testCaseRepository,
+                           TestCaseCache testCaseCache) {
         this.problemRepository = problemRepository;
         this.testCaseRepository = testCaseRepository;
+        this.testCaseCache = testCaseCache;
     }
 
     /**
@@ -40,6 +43,7 @@ public class TestCaseService {
         } catch (Exception e) {
             throw new CustomException(CustomErrorCodes.DB_OPERATION_FAILED);
         }
+        testCaseCache.invalidate(problem.getId());
 
         return convertToDTO(testCase);
     }
@@ -60,6 +64,7 @@ public class TestCaseService {
         } catch (Exception e) {
             throw new CustomException(CustomErrorCodes.DB_OPERATION_FAILED);
         }
+        testCaseCache.invalidate(testCase.getProblem().getId());
 
         return convertToDTO(testCase);
     }
@@ -76,15 +81,25 @@ public class TestCaseService {
         } catch (Exception e) {
             throw new CustomException(CustomErrorCodes.DB_OPERATION_FAILED);
         }
+        testCaseCache.invalidate(testCase.getProblem().getId());
     }
 
     /**
      * 주어진 문제 ID에 해당하는 모든 테스트 케이스를 조회합니다.
+     * 채점 경로에서 매번 DB를 조회하지 않도록 TestCaseCache에 보관된 목록을 사용합니다.
      * @param problemId 조회할 문제의 ID
-     * @return 테스트 케이스 목록
+     * @return 테스트 케이스 목록 (캐시된 복사본이므로 수정하지 않아야 함)
      */
     public List<TestCase> getTestCasesByProblemId(Integer problemId) {
-        return testCaseRepository.findByProblemId(problemId);
+        return testCaseCache.get(problemId, () -> testCaseRepository.findByProblemId(problemId));
+    }
+
+    /**
+     * 문제의 캐시된 테스트 케이스 목록을 무효화합니다. (문제 삭제 등 테스트 케이스가 함께 바뀌는 경우)
+     * @param problemId 문제의 ID
+     */
+    public void evictTestCases(Integer problemId) {
+        testCaseCache.invalidate(problemId);
     }
 
     public TestCaseResponseDTO convertToDTO(TestCase testCase){
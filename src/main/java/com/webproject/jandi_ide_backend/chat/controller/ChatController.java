@@ -13,6 +13,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
@@ -32,6 +33,7 @@ import java.util.List;
  */
 @Slf4j
 @Controller
+@ConditionalOnWebApplication
 @RequestMapping("/api/chat")
 @RequiredArgsConstructor
 @Tag(name = "채팅 메시지", description = "채팅 메시지 송수신 및 조회 API")
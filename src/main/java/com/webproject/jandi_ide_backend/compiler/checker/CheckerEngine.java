@@ -0,0 +1,138 @@
+package com.webproject.jandi_ide_backend.compiler.checker;
+
+import com.webproject.jandi_ide_backend.algorithm.testCase.entity.TestCase;
+import com.webproject.jandi_ide_backend.compiler.service.TestDataStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.regex.Pattern;
+
+/**
+ * 출력 검사기 엔진
+ *
+ * 문제에 지정된 검사 방식(CheckerSpec)에 맞는 출력 검사기를 테스트 케이스마다 만듭니다.
+ * 기대 출력은 검사기 종류별 정규화 형식으로 한 번만 바꿔 TestDataStore에 파일로 저장하고(메모리 매핑),
+ * 저장소를 사용하지 않으면 실행마다 메모리에서 정규화합니다.
+ *
+ * 스페셜 저지는 관리자가 compiler.checker.special-judge-dir 에 배포한 실행 파일만 사용할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class CheckerEngine {
+
+    // 스페셜 저지 이름에는 경로 구분자를 허용하지 않음
+    private static final Pattern JUDGE_NAME = Pattern.compile("[A-Za-z0-9._-]+");
+
+    private final TestDataStore testDataStore;
+    private final Path specialJudgeDir;
+    private final long specialJudgeTimeoutSeconds;
+
+    /**
+     * 출력 검사기 엔진 생성자
+     *
+     * @param testDataStore 정규화된 기대 출력을 저장할 테스트 데이터 저장소
+     * @param specialJudgeDir 스페셜 저지 실행 파일이 있는 디렉토리
+     * @param specialJudgeTimeoutSeconds 스페셜 저지 실행 제한 시간 (초)
+     */
+    public CheckerEngine(
+            TestDataStore testDataStore,
+            @Value("${compiler.checker.special-judge-dir:special_judges}") String specialJudgeDir,
+            @Value("${compiler.checker.special-judge-timeout-seconds:10}") long specialJudgeTimeoutSeconds) {
+        this.testDataStore = testDataStore;
+        this.specialJudgeDir = Paths.get(specialJudgeDir).toAbsolutePath();
+        this.specialJudgeTimeoutSeconds = specialJudgeTimeoutSeconds;
+    }
+
+    /**
+     * 테스트 케이스 하나를 검사할 새 출력 검사기를 만듭니다.
+     *
+     * @param spec 문제의 검사 방식
+     * @param testCase 테스트 케이스
+     * @return 출력 검사기 (한 번의 실행에만 사용)
+     */
+    public OutputChecker create(CheckerSpec spec, TestCase testCase) {
+        return switch (spec.getType()) {
+            case DEFAULT -> new DefaultChecker(expected(spec, testCase).getBytes());
+            case EXACT -> new ExactChecker(expected(spec, testCase).getBytes());
+            case TOKEN -> new TokenChecker(expected(spec, testCase).getBytes(), false);
+            case LINE -> new TokenChecker(expected(spec, testCase).getBytes(), true);
+            case FLOAT -> new FloatChecker(expected(spec, testCase).getBytes(),
+                    spec.getAbsoluteEpsilon(), spec.getRelativeEpsilon());
+            case SPECIAL -> new SpecialJudgeChecker(specialJudge(spec.getSpecialJudge()),
+                    TestDataStore.formatInput(testCase.getInput()), testCase.getOutput(), specialJudgeTimeoutSeconds);
+        };
+    }
+
+    /**
+     * 검사 방식에 맞게 정규화된 테스트 케이스의 기대 출력을 반환합니다.
+     * 정규화 형식이 같은 검사 방식끼리는 같은 바이트와 해시를 공유합니다.
+     *
+     * @param spec 문제의 검사 방식
+     * @param testCase 테스트 케이스
+     * @return 정규화된 기대 출력과 그 해시
+     */
+    public ExpectedOutput expected(CheckerSpec spec, TestCase testCase) {
+        CheckerType type = spec.getType();
+        if (testDataStore.isEnabled()) {
+            try {
+                return testDataStore.expected(testCase, form(type), output -> canonicalize(type, output));
+            } catch (IOException e) {
+                log.warn("Failed to load {} expected output for test case {}, normalizing in memory: {}",
+                        form(type), testCase.getId(), e.getMessage());
+            }
+        }
+        return ExpectedOutput.of(canonicalize(type, testCase.getOutput()));
+    }
+
+    /**
+     * 스페셜 저지 이름이 배포된 실행 파일을 가리키는지 확인합니다.
+     *
+     * @param name 스페셜 저지 이름
+     * @return 사용할 수 있으면 true
+     */
+    public boolean isSpecialJudgeAvailable(String name) {
+        return name != null && JUDGE_NAME.matcher(name).matches()
+                && Files.isExecutable(specialJudgeDir.resolve(name));
+    }
+
+    /**
+     * 기대 출력을 검사기 종류별 정규화 형식으로 바꿉니다.
+     *
+     * @param type 검사기 종류
+     * @param expectedOutput 원본 기대 출력
+     * @return 정규화된 바이트
+     */
+    public static byte[] canonicalize(CheckerType type, String expectedOutput) {
+        return switch (type) {
+            case DEFAULT -> DefaultChecker.normalize(expectedOutput);
+            case EXACT, SPECIAL -> expectedOutput.getBytes(StandardCharsets.UTF_8);
+            case TOKEN, FLOAT -> TokenChecker.canonicalize(expectedOutput.getBytes(StandardCharsets.UTF_8), false);
+            case LINE -> TokenChecker.canonicalize(expectedOutput.getBytes(StandardCharsets.UTF_8), true);
+        };
+    }
+
+    /**
+     * 정규화 형식 이름 (FLOAT는 TOKEN과 같은 형식을 사용)
+     */
+    private static String form(CheckerType type) {
+        return switch (type) {
+            case DEFAULT -> "default";
+            case EXACT, SPECIAL -> "exact";
+            case TOKEN, FLOAT -> "token";
+            case LINE -> "line";
+        };
+    }
+
+    private Path specialJudge(String name) {
+        if (!isSpecialJudgeAvailable(name)) {
+            throw new IllegalStateException("사용할 수 없는 스페셜 저지입니다: " + name);
+        }
+        return specialJudgeDir.resolve(name);
+    }
+}
@@ -0,0 +1,45 @@
+package com.webproject.jandi_ide_backend.compiler.checker;
+
+import com.webproject.jandi_ide_backend.algorithm.problem.entity.Problem;
+import lombok.Getter;
+
+/**
+ * 문제에 지정된 출력 검사 방식
+ */
+@Getter
+public class CheckerSpec {
+
+    // FLOAT 검사기에서 오차를 지정하지 않았을 때 사용하는 기본 허용 오차
+    public static final double DEFAULT_EPSILON = 1e-6;
+
+    public static final CheckerSpec DEFAULT = new CheckerSpec(CheckerType.DEFAULT, DEFAULT_EPSILON, DEFAULT_EPSILON, null);
+
+    private final CheckerType type;
+    private final double absoluteEpsilon;
+    private final double relativeEpsilon;
+    // 스페셜 저지 이름 (compiler.checker.special-judge-dir 안의 실행 파일 이름)
+    private final String specialJudge;
+
+    public CheckerSpec(CheckerType type, double absoluteEpsilon, double relativeEpsilon, String specialJudge) {
+        this.type = type;
+        this.absoluteEpsilon = absoluteEpsilon;
+        this.relativeEpsilon = relativeEpsilon;
+        this.specialJudge = specialJudge;
+    }
+
+    /**
+     * 문제의 검사기 설정을 읽습니다. 지정하지 않은 항목은 기본값을 사용합니다.
+     *
+     * @param problem 문제
+     * @return 검사 방식
+     */
+    public static CheckerSpec of(Problem problem) {
+        if (problem.getCheckerType() == null) {
+            return DEFAULT;
+        }
+        return new CheckerSpec(problem.getCheckerType(),
+                problem.getCheckerAbsoluteEpsilon() != null ? problem.getCheckerAbsoluteEpsilon() : DEFAULT_EPSILON,
+                problem.getCheckerRelativeEpsilon() != null ? problem.getCheckerRelativeEpsilon() : DEFAULT_EPSILON,
+                problem.getSpecialJudge());
+    }
+}
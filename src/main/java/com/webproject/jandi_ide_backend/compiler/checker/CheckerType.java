@@ -0,0 +1,39 @@
+package com.webproject.jandi_ide_backend.compiler.checker;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 출력 검사기 종류
+ */
+@Schema(description = "출력 검사기 종류")
+public enum CheckerType {
+    /**
+     * 기존 채점 규칙 (양쪽 끝 공백 제거, 두 칸 공백을 줄바꿈으로, 연속된 줄바꿈을 하나로)
+     */
+    DEFAULT,
+
+    /**
+     * 바이트 단위로 정확히 일치
+     */
+    EXACT,
+
+    /**
+     * 공백/줄바꿈으로 구분한 토큰 순서가 일치 (공백 종류와 개수는 무시)
+     */
+    TOKEN,
+
+    /**
+     * 줄 단위로 토큰이 일치 (줄 안의 공백 개수와 앞뒤 빈 줄은 무시)
+     */
+    LINE,
+
+    /**
+     * 토큰 단위로 비교하되 숫자 토큰은 절대/상대 오차 안이면 일치
+     */
+    FLOAT,
+
+    /**
+     * 문제별 스페셜 저지 프로그램으로 판정
+     */
+    SPECIAL
+}
@@ -0,0 +1,233 @@
+package com.webproject.jandi_ide_backend.compiler.checker;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 기본 출력 검사기 (CheckerType.DEFAULT)
+ *
+ * 검사기를 지정하지 않은 문제에 사용하며, 기존 채점과 같은 규칙으로 비교합니다.
+ * 1. 양쪽 끝 공백 제거 (trim)
+ * 2. 두 개 연속된 공백을 줄바꿈으로 변환
+ * 3. 연속된 줄바꿈을 하나로 정규화
+ *
+ * 공백과 줄바꿈은 ASCII이므로 UTF-8 바이트 단위로 비교해도 문자 단위 비교와 결과가 같습니다.
+ * 미리 정규화해 둔 기대 출력(TestDataStore의 메모리 매핑 파일 등)을 넘기면 정규화와 복사를 건너뜁니다.
+ */
+public class DefaultChecker implements OutputChecker {
+
+    // 정규화된 기대 출력 (절대 위치로만 읽으므로 여러 비교기가 같은 버퍼를 공유해도 됨)
+    private final ByteBuffer expected;
+    private final int expectedLength;
+    private int expectedPos;
+
+    private final Normalizer actual = new Normalizer(this::compareNext);
+    private boolean mismatch;
+    private long consumedBytes;
+    // 지금 처리 중인 실제 출력 바이트의 위치와 처음 달라진 위치
+    private long position;
+    private long firstDifference = -1;
+
+    /**
+     * @param expectedOutput 기대 출력
+     */
+    public DefaultChecker(String expectedOutput) {
+        this(ByteBuffer.wrap(normalize(expectedOutput)));
+    }
+
+    /**
+     * @param normalizedExpected normalize 결과와 같은 형식의 기대 출력 (수정하지 않음)
+     */
+    public DefaultChecker(ByteBuffer normalizedExpected) {
+        this.expected = normalizedExpected;
+        this.expectedLength = normalizedExpected.limit();
+    }
+
+    /**
+     * 기대 출력을 비교 규칙에 따라 정규화합니다.
+     *
+     * @param expectedOutput 기대 출력
+     * @return 정규화된 UTF-8 바이트
+     */
+    public static byte[] normalize(String expectedOutput) {
+        return normalize(expectedOutput.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 출력 조각을 비교합니다.
+     *
+     * @param buffer 출력 바이트
+     * @param offset 시작 위치
+     * @param length 길이
+     * @return 지금까지 일치하면 true, 불일치가 발견되면 false
+     */
+    @Override
+    public boolean accept(byte[] buffer, int offset, int length) {
+        for (int i = offset; i < offset + length && !mismatch; i++) {
+            position = consumedBytes + (i - offset);
+            actual.accept(buffer[i]);
+        }
+        consumedBytes += length;
+        return !mismatch;
+    }
+
+    /**
+     * 출력이 끝났음을 알리고 최종 비교 결과를 반환합니다.
+     * 끝에 남은 공백은 trim 규칙에 따라 버립니다.
+     *
+     * @return 전체 출력이 기대 출력과 같으면 true
+     */
+    @Override
+    public boolean finish() {
+        if (!mismatch && expectedPos != expectedLength && firstDifference < 0) {
+            // 실제 출력이 기대 출력보다 짧음
+            firstDifference = consumedBytes;
+        }
+        return !mismatch && expectedPos == expectedLength;
+    }
+
+    @Override
+    public Long getFirstDifference() {
+        return firstDifference >= 0 ? firstDifference : null;
+    }
+
+    /**
+     * 불일치가 발견되었는지 확인합니다.
+     */
+    public boolean isMismatch() {
+        return mismatch;
+    }
+
+    /**
+     * 지금까지 비교한 실제 출력 바이트 수
+     */
+    public long getConsumedBytes() {
+        return consumedBytes;
+    }
+
+    private void compareNext(byte b) {
+        if (expectedPos >= expectedLength || expected.get(expectedPos) != b) {
+            mismatch = true;
+            firstDifference = position;
+            return;
+        }
+        expectedPos++;
+    }
+
+    private static byte[] normalize(byte[] source) {
+        Collector collector = new Collector(source.length);
+        Normalizer normalizer = new Normalizer(collector);
+        for (byte b : source) {
+            normalizer.accept(b);
+        }
+        return collector.toByteArray();
+    }
+
+    private static boolean isTrimmed(byte b) {
+        // String.trim()과 같이 U+0020 이하의 문자를 공백으로 취급 (UTF-8 다중 바이트는 음수이므로 제외됨)
+        return b >= 0 && b <= ' ';
+    }
+
+    /**
+     * 정규화된 바이트를 받는 대상
+     */
+    private interface Sink {
+        void emit(byte b);
+    }
+
+    /**
+     * 기대 출력 정규화 결과를 모으는 버퍼
+     */
+    private static class Collector implements Sink {
+        private byte[] bytes;
+        private int length;
+
+        Collector(int capacity) {
+            this.bytes = new byte[Math.max(16, capacity)];
+        }
+
+        @Override
+        public void emit(byte b) {
+            if (length == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+            bytes[length++] = b;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, length);
+        }
+    }
+
+    /**
+     * 기존 채점 규칙의 정규화를 한 바이트씩 수행하는 상태 기계
+     *
+     * 앞쪽 공백은 건너뛰고, 공백 문자열은 다음 공백이 아닌 문자가 올 때까지 보류했다가 내보내므로
+     * 출력 끝의 공백은 자연스럽게 버려집니다. 짝지어진 공백과 연속된 줄바꿈은 보류 중에 바로 줄입니다.
+     */
+    private static class Normalizer {
+        private final Sink sink;
+        private boolean started;
+        // 보류 중인 공백 문자열 (공백이 아닌 문자가 오면 규칙을 적용해 내보냄)
+        private byte[] pending = new byte[16];
+        private int pendingLength;
+        private byte lastEmitted;
+
+        Normalizer(Sink sink) {
+            this.sink = sink;
+        }
+
+        void accept(byte b) {
+            if (isTrimmed(b)) {
+                if (started) {
+                    hold(b);
+                }
+                return;
+            }
+            started = true;
+            flushPending();
+            output(b);
+        }
+
+        private void hold(byte b) {
+            if (pendingLength > 0) {
+                byte last = pending[pendingLength - 1];
+                // 두 개 연속된 공백은 줄바꿈 하나가 됨 (앞의 공백은 이미 짝지어졌으므로 항상 홀로 남은 공백)
+                if (b == ' ' && last == ' ') {
+                    pending[pendingLength - 1] = '\n';
+                    collapseNewline();
+                    return;
+                }
+                if (b == '\n' && last == '\n') {
+                    return;
+                }
+            }
+            if (pendingLength == pending.length) {
+                pending = Arrays.copyOf(pending, pending.length * 2);
+            }
+            pending[pendingLength++] = b;
+        }
+
+        private void collapseNewline() {
+            if (pendingLength > 1 && pending[pendingLength - 2] == '\n') {
+                pendingLength--;
+            }
+        }
+
+        private void flushPending() {
+            for (int i = 0; i < pendingLength; i++) {
+                output(pending[i]);
+            }
+            pendingLength = 0;
+        }
+
+        private void output(byte b) {
+            if (b == '\n' && lastEmitted == '\n') {
+                return;
+            }
+            lastEmitted = b;
+            sink.emit(b);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.webproject.jandi_ide_backend.compiler.checker;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 정확히 일치 검사기 (CheckerType.EXACT)
+ *
+ * 실제 출력과 기대 출력을 바이트 단위로 비교합니다. 공백과 줄바꿈도 모두 같아야 합니다.
+ */
+public class ExactChecker implements OutputChecker {
+
+    // 기대 출력 (절대 위치로만 읽으므로 여러 검사기가 같은 버퍼를 공유해도 됨)
+    private final ByteBuffer expected;
+    private final int expectedLength;
+    private int expectedPos;
+    private long firstDifference = -1;
+
+    /**
+     * @param expected 기대 출력 바이트 (수정하지 않음)
+     */
+    public ExactChecker(ByteBuffer expected) {
+        this.expected = expected;
+        this.expectedLength = expected.limit();
+    }
+
+    @Override
+    public boolean accept(byte[] buffer, int offset, int length) {
+        if (firstDifference >= 0) {
+            return false;
+        }
+        for (int i = offset; i < offset + length; i++) {
+            if (expectedPos >= expectedLength || expected.get(expectedPos) != buffer[i]) {
+                firstDifference = expectedPos;
+                return false;
+            }
+            expectedPos++;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean finish() {
+        if (firstDifference < 0 && expectedPos != expectedLength) {
+            firstDifference = expectedPos;
+        }
+        return firstDifference < 0;
+    }
+
+    @Override
+    public Long getFirstDifference() {
+        return firstDifference >= 0 ? firstDifference : null;
+    }
+}
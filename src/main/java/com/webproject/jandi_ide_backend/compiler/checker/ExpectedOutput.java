@@ -0,0 +1,49 @@
+package com.webproject.jandi_ide_backend.compiler.checker;
+
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 검사기 종류별 정규화 형식으로 바꾼 기대 출력
+ *
+ * 바이트는 절대 위치로만 읽으므로 여러 검사기가 같은 버퍼를 공유해도 됩니다.
+ * 해시는 정규화 형식 기준이므로 원본 기대 출력의 공백만 다른 테스트 케이스는 같은 해시를 가집니다.
+ */
+@Getter
+public class ExpectedOutput {
+
+    private final ByteBuffer bytes;
+    // 정규화된 기대 출력의 SHA-256 (16진수)
+    private final String sha256;
+
+    public ExpectedOutput(ByteBuffer bytes, String sha256) {
+        this.bytes = bytes;
+        this.sha256 = sha256;
+    }
+
+    /**
+     * 메모리에 있는 정규화 결과로 기대 출력을 만듭니다.
+     *
+     * @param canonical 정규화된 기대 출력
+     * @return 기대 출력
+     */
+    public static ExpectedOutput of(byte[] canonical) {
+        return new ExpectedOutput(ByteBuffer.wrap(canonical), sha256(canonical));
+    }
+
+    /**
+     * 바이트의 SHA-256 해시를 16진수 문자열로 반환합니다.
+     */
+    public static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 지원해야 함
+            throw new IllegalStateException(e);
+        }
+    }
+}
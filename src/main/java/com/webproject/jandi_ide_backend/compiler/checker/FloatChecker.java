@@ -0,0 +1,191 @@
+package com.webproject.jandi_ide_backend.compiler.checker;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 실수 오차 허용 검사기 (CheckerType.FLOAT)
+ *
+ * TOKEN 검사기와 같이 공백으로 구분한 토큰을 순서대로 비교하되, 양쪽 토큰이 모두 숫자이면
+ * 절대 오차 또는 상대 오차(기대값 기준)가 허용 범위 안일 때 같은 토큰으로 봅니다. 숫자가 아닌 토큰은 바이트 단위로 비교합니다.
+ *
+ * 숫자는 문자열을 만들지 않고 토큰 바이트에서 바로 해석하므로 토큰마다 객체를 만들지 않습니다.
+ * 해석은 유효 숫자 18자리까지만 사용하므로 오차 비교에는 충분하지만 정확한 값 비교에는 쓰지 않습니다.
+ * 기대 출력은 TokenChecker.canonicalize(source, false) 결과를 넘겨야 합니다.
+ */
+public class FloatChecker implements OutputChecker {
+
+    private static final int MAX_SIGNIFICANT_DIGITS = 18;
+
+    private final ByteBuffer expected;
+    private final int expectedLength;
+    private int expectedPos;
+    private final double absoluteEpsilon;
+    private final double relativeEpsilon;
+
+    // 지금 읽고 있는 실제 출력 토큰 (긴 토큰이 오면 늘어남)
+    private byte[] token = new byte[64];
+    private ByteBuffer tokenView = ByteBuffer.wrap(token);
+    private int tokenLength;
+    private long tokenStart;
+    private long consumedBytes;
+    private boolean mismatch;
+    private long firstDifference = -1;
+
+    /**
+     * @param canonicalExpected TOKEN 정규화 형식의 기대 출력 (수정하지 않음)
+     * @param absoluteEpsilon 허용 절대 오차
+     * @param relativeEpsilon 허용 상대 오차
+     */
+    public FloatChecker(ByteBuffer canonicalExpected, double absoluteEpsilon, double relativeEpsilon) {
+        this.expected = canonicalExpected;
+        this.expectedLength = canonicalExpected.limit();
+        this.absoluteEpsilon = absoluteEpsilon;
+        this.relativeEpsilon = relativeEpsilon;
+    }
+
+    @Override
+    public boolean accept(byte[] buffer, int offset, int length) {
+        for (int i = offset; i < offset + length && !mismatch; i++) {
+            byte b = buffer[i];
+            if (TokenChecker.isSpace(b)) {
+                if (tokenLength > 0) {
+                    endToken();
+                }
+                continue;
+            }
+            if (tokenLength == 0) {
+                tokenStart = consumedBytes + (i - offset);
+            }
+            if (tokenLength == token.length) {
+                token = Arrays.copyOf(token, token.length * 2);
+                tokenView = ByteBuffer.wrap(token);
+            }
+            token[tokenLength++] = b;
+        }
+        consumedBytes += length;
+        return !mismatch;
+    }
+
+    @Override
+    public boolean finish() {
+        if (!mismatch && tokenLength > 0) {
+            endToken();
+        }
+        if (!mismatch && expectedPos < expectedLength) {
+            // 실제 출력의 토큰이 더 적음
+            mismatch = true;
+            firstDifference = consumedBytes;
+        }
+        return !mismatch;
+    }
+
+    @Override
+    public Long getFirstDifference() {
+        return firstDifference >= 0 ? firstDifference : null;
+    }
+
+    /**
+     * 실제 출력 토큰 하나를 기대 출력의 다음 토큰과 비교합니다.
+     */
+    private void endToken() {
+        int start = expectedPos;
+        int end = start;
+        while (end < expectedLength && expected.get(end) != ' ' && expected.get(end) != '\n') {
+            end++;
+        }
+        if (start >= expectedLength || !tokenMatches(start, end)) {
+            mismatch = true;
+            firstDifference = tokenStart;
+        }
+        // 기대 출력의 토큰 사이에는 공백이 하나씩 있음
+        expectedPos = end + 1;
+        tokenLength = 0;
+    }
+
+    private boolean tokenMatches(int expectedStart, int expectedEnd) {
+        double expectedValue = parse(expected, expectedStart, expectedEnd);
+        double actualValue = parse(tokenView, 0, tokenLength);
+        if (!Double.isNaN(expectedValue) && !Double.isNaN(actualValue)) {
+            double difference = Math.abs(actualValue - expectedValue);
+            return difference <= absoluteEpsilon || difference <= relativeEpsilon * Math.abs(expectedValue);
+        }
+        if (expectedEnd - expectedStart != tokenLength) {
+            return false;
+        }
+        for (int i = 0; i < tokenLength; i++) {
+            if (expected.get(expectedStart + i) != token[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * [부호] 숫자 [. 숫자] [e [부호] 숫자] 형식의 토큰을 실수로 해석합니다.
+     *
+     * @return 해석한 값, 숫자 형식이 아니면 NaN
+     */
+    static double parse(ByteBuffer bytes, int from, int to) {
+        int i = from;
+        boolean negative = false;
+        if (i < to && (bytes.get(i) == '-' || bytes.get(i) == '+')) {
+            negative = bytes.get(i) == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int significant = 0;
+        int exponent = 0;
+        int digits = 0;
+        boolean fraction = false;
+        for (; i < to; i++) {
+            byte b = bytes.get(i);
+            if (b == '.' && !fraction) {
+                fraction = true;
+                continue;
+            }
+            if (b < '0' || b > '9') {
+                break;
+            }
+            digits++;
+            if (significant < MAX_SIGNIFICANT_DIGITS) {
+                if (mantissa != 0 || b != '0') {
+                    significant++;
+                }
+                mantissa = mantissa * 10 + (b - '0');
+                if (fraction) {
+                    exponent--;
+                }
+            } else if (!fraction) {
+                // 버린 정수 자릿수만큼 지수를 올림
+                exponent++;
+            }
+        }
+        if (digits == 0) {
+            return Double.NaN;
+        }
+        if (i < to && (bytes.get(i) == 'e' || bytes.get(i) == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < to && (bytes.get(i) == '-' || bytes.get(i) == '+')) {
+                negativeExponent = bytes.get(i) == '-';
+                i++;
+            }
+            int exponentDigits = 0;
+            int value = 0;
+            for (; i < to && bytes.get(i) >= '0' && bytes.get(i) <= '9'; i++) {
+                value = Math.min(100_000, value * 10 + (bytes.get(i) - '0'));
+                exponentDigits++;
+            }
+            if (exponentDigits == 0) {
+                return Double.NaN;
+            }
+            exponent += negativeExponent ? -value : value;
+        }
+        if (i != to) {
+            return Double.NaN;
+        }
+        double value = mantissa * Math.pow(10, exponent);
+        return negative ? -value : value;
+    }
+}
@@ -0,0 +1,72 @@
+package com.webproject.jandi_ide_backend.compiler.checker;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 출력 검사기
+ *
+ * 실행 중인 프로그램의 출력을 조각 단위로 받아 기대 출력과 바로 비교합니다.
+ * 실제 출력은 모으지 않고 한 번만 훑으며, 불일치가 확정되는 즉시 accept가 false를 반환하므로 실행을 중단할 수 있습니다.
+ * 기대 출력은 검사기 종류별 정규화 형식(CheckerEngine.canonicalize)으로 미리 만들어 두고 여러 검사기가 공유합니다.
+ *
+ * 한 번의 실행에만 사용하며 스레드 안전하지 않습니다.
+ */
+public interface OutputChecker {
+
+    int READ_BUFFER_SIZE = 8192;
+
+    /**
+     * 출력 조각을 비교합니다.
+     *
+     * @param buffer 출력 바이트
+     * @param offset 시작 위치
+     * @param length 길이
+     * @return 지금까지 일치하면 true, 불일치가 확정되면 false
+     */
+    boolean accept(byte[] buffer, int offset, int length);
+
+    /**
+     * 출력이 끝났음을 알리고 최종 비교 결과를 반환합니다.
+     *
+     * @return 전체 출력이 기대 출력과 맞으면 true
+     */
+    boolean finish();
+
+    /**
+     * 실제 출력에서 처음 달라진 위치 (바이트 오프셋)
+     *
+     * @return 달라진 위치, 일치하거나 위치를 알 수 없으면 null
+     */
+    Long getFirstDifference();
+
+    /**
+     * 스트림을 끝까지 읽어 비교합니다. 불일치가 확정되면 바로 멈춥니다.
+     *
+     * @param in 출력 스트림
+     * @return 전체 출력이 기대 출력과 맞으면 true
+     * @throws IOException 읽기 오류
+     */
+    default boolean matches(InputStream in) throws IOException {
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            if (!accept(buffer, 0, read)) {
+                return false;
+            }
+        }
+        return finish();
+    }
+
+    /**
+     * 이미 모은 전체 출력을 비교합니다. (buffered 출력 방식)
+     *
+     * @param output 실제 출력
+     * @return 전체 출력이 기대 출력과 맞으면 true
+     */
+    default boolean matches(String output) {
+        byte[] bytes = output.getBytes(StandardCharsets.UTF_8);
+        return accept(bytes, 0, bytes.length) && finish();
+    }
+}
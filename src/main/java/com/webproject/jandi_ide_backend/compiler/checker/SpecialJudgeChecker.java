@@ -0,0 +1,134 @@
+package com.webproject.jandi_ide_backend.compiler.checker;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스페셜 저지 검사기 (CheckerType.SPECIAL)
+ *
+ * 답이 여러 개인 문제처럼 고정된 기대 출력과 비교할 수 없는 경우, 문제에 지정된 스페셜 저지 프로그램으로 판정합니다.
+ * 실제 출력은 임시 파일에 기록해 두었다가 출력이 끝나면 아래와 같이 실행하며, 종료 코드가 0이면 맞은 것으로 봅니다.
+ *
+ *   {스페셜 저지} {입력 파일} {기대 출력 파일} {실제 출력 파일}
+ *
+ * 입력 파일에는 제출 코드가 받은 것과 같은 형식의 입력이 들어 있습니다.
+ * 출력이 끝나기 전에는 판정할 수 없으므로 accept는 항상 true를 반환하고, 처음 달라진 위치는 알 수 없습니다.
+ */
+@Slf4j
+public class SpecialJudgeChecker implements OutputChecker {
+
+    private final Path judge;
+    private final String input;
+    private final String expectedOutput;
+    private final long timeoutSeconds;
+
+    private Path actualFile;
+    private OutputStream actual;
+    private boolean failed;
+    private Boolean accepted;
+
+    /**
+     * @param judge 스페셜 저지 실행 파일
+     * @param input 제출 코드에 전달한 입력
+     * @param expectedOutput 기대 출력 (모범 답안)
+     * @param timeoutSeconds 스페셜 저지 실행 제한 시간 (초)
+     */
+    public SpecialJudgeChecker(Path judge, String input, String expectedOutput, long timeoutSeconds) {
+        this.judge = judge;
+        this.input = input;
+        this.expectedOutput = expectedOutput;
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public boolean accept(byte[] buffer, int offset, int length) {
+        if (failed) {
+            return true;
+        }
+        try {
+            if (actual == null) {
+                actualFile = Files.createTempFile("special-judge-actual-", ".txt");
+                actual = new BufferedOutputStream(Files.newOutputStream(actualFile));
+            }
+            actual.write(buffer, offset, length);
+        } catch (IOException e) {
+            log.warn("Failed to record output for special judge: {}", e.getMessage());
+            failed = true;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean finish() {
+        if (accepted == null) {
+            accepted = !failed && judge();
+        }
+        return accepted;
+    }
+
+    @Override
+    public Long getFirstDifference() {
+        return null;
+    }
+
+    private boolean judge() {
+        Path inputFile = null;
+        Path expectedFile = null;
+        try {
+            if (actual == null) {
+                actualFile = Files.createTempFile("special-judge-actual-", ".txt");
+            } else {
+                actual.close();
+            }
+            inputFile = Files.createTempFile("special-judge-input-", ".txt");
+            expectedFile = Files.createTempFile("special-judge-expected-", ".txt");
+            Files.writeString(inputFile, input, StandardCharsets.UTF_8);
+            Files.writeString(expectedFile, expectedOutput, StandardCharsets.UTF_8);
+
+            Process process = new ProcessBuilder(List.of(judge.toString(), inputFile.toString(),
+                    expectedFile.toString(), actualFile.toString()))
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            try {
+                process.getOutputStream().close();
+                if (!process.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
+                    log.warn("Special judge {} timed out after {}s", judge.getFileName(), timeoutSeconds);
+                    return false;
+                }
+                return process.exitValue() == 0;
+            } finally {
+                process.destroyForcibly();
+            }
+        } catch (IOException e) {
+            log.warn("Failed to run special judge {}: {}", judge.getFileName(), e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            deleteQuietly(inputFile);
+            deleteQuietly(expectedFile);
+            deleteQuietly(actualFile);
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("Failed to delete {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.webproject.jandi_ide_backend.compiler.checker;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 토큰 검사기 (CheckerType.TOKEN, CheckerType.LINE)
+ *
+ * 공백 문자(U+0020 이하)로 구분한 토큰을 순서대로 비교합니다.
+ * - TOKEN: 줄바꿈도 공백으로 취급하므로 토큰 순서만 같으면 일치
+ * - LINE: 줄바꿈은 구분하고 줄 안의 공백 개수만 무시. 앞뒤 빈 줄은 무시하지만 토큰 사이의 빈 줄은 비교
+ *
+ * 실제 출력을 정규화 형식(토큰 사이 공백 하나, LINE 은 줄 사이 줄바꿈)으로 바꾸면서 바로 기대 출력과 비교하므로
+ * 바이트마다 객체를 만들지 않습니다. 기대 출력은 canonicalize 결과를 넘겨야 합니다.
+ */
+public class TokenChecker implements OutputChecker {
+
+    private final ByteBuffer expected;
+    private final int expectedLength;
+    private int expectedPos;
+
+    private final Normalizer actual;
+    private boolean mismatch;
+    private long consumedBytes;
+    private long position;
+    private long firstDifference = -1;
+
+    /**
+     * @param canonicalExpected canonicalize 결과와 같은 형식의 기대 출력 (수정하지 않음)
+     * @param lines 줄바꿈을 구분할지 여부 (LINE)
+     */
+    public TokenChecker(ByteBuffer canonicalExpected, boolean lines) {
+        this.expected = canonicalExpected;
+        this.expectedLength = canonicalExpected.limit();
+        this.actual = new Normalizer(lines, this::compareNext);
+    }
+
+    /**
+     * 기대 출력을 토큰 검사기의 정규화 형식으로 바꿉니다.
+     *
+     * @param source 기대 출력 바이트
+     * @param lines 줄바꿈을 구분할지 여부 (LINE)
+     * @return 정규화된 바이트
+     */
+    public static byte[] canonicalize(byte[] source, boolean lines) {
+        Collector collector = new Collector(source.length);
+        Normalizer normalizer = new Normalizer(lines, collector);
+        for (byte b : source) {
+            normalizer.accept(b);
+        }
+        return collector.toByteArray();
+    }
+
+    @Override
+    public boolean accept(byte[] buffer, int offset, int length) {
+        for (int i = offset; i < offset + length && !mismatch; i++) {
+            position = consumedBytes + (i - offset);
+            actual.accept(buffer[i]);
+        }
+        consumedBytes += length;
+        return !mismatch;
+    }
+
+    @Override
+    public boolean finish() {
+        if (!mismatch && expectedPos != expectedLength && firstDifference < 0) {
+            firstDifference = consumedBytes;
+        }
+        return !mismatch && expectedPos == expectedLength;
+    }
+
+    @Override
+    public Long getFirstDifference() {
+        return firstDifference >= 0 ? firstDifference : null;
+    }
+
+    private void compareNext(byte b) {
+        if (expectedPos >= expectedLength || expected.get(expectedPos) != b) {
+            mismatch = true;
+            firstDifference = position;
+            return;
+        }
+        expectedPos++;
+    }
+
+    static boolean isSpace(byte b) {
+        // String.trim()과 같이 U+0020 이하의 문자를 공백으로 취급 (UTF-8 다중 바이트는 음수이므로 제외됨)
+        return b >= 0 && b <= ' ';
+    }
+
+    /**
+     * 정규화된 바이트를 받는 대상
+     */
+    interface Sink {
+        void emit(byte b);
+    }
+
+    /**
+     * 기대 출력 정규화 결과를 모으는 버퍼
+     */
+    private static class Collector implements Sink {
+        private byte[] bytes;
+        private int length;
+
+        Collector(int capacity) {
+            this.bytes = new byte[Math.max(16, capacity)];
+        }
+
+        @Override
+        public void emit(byte b) {
+            if (length == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+            bytes[length++] = b;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, length);
+        }
+    }
+
+    /**
+     * 토큰 사이의 공백을 하나로 줄이는 상태 기계
+     * 공백은 다음 토큰이 올 때까지 보류했다가 내보내므로 끝의 공백은 자연스럽게 버려집니다.
+     */
+    static class Normalizer {
+        private final boolean lines;
+        private final Sink sink;
+        private boolean started;
+        private boolean pendingSpace;
+        private int pendingNewlines;
+
+        Normalizer(boolean lines, Sink sink) {
+            this.lines = lines;
+            this.sink = sink;
+        }
+
+        void accept(byte b) {
+            if (lines && b == '\n') {
+                if (started) {
+                    pendingNewlines++;
+                }
+                pendingSpace = false;
+                return;
+            }
+            if (isSpace(b)) {
+                // 줄의 앞쪽 공백은 버림
+                pendingSpace = started && (pendingNewlines == 0 || !lines);
+                return;
+            }
+            if (pendingNewlines > 0) {
+                for (int i = 0; i < pendingNewlines; i++) {
+                    sink.emit((byte) '\n');
+                }
+            } else if (pendingSpace) {
+                sink.emit((byte) ' ');
+            }
+            pendingNewlines = 0;
+            pendingSpace = false;
+            started = true;
+            sink.emit(b);
+        }
+    }
+}
@@ -4,8 +4,14 @@ import com.webproject.jandi_ide_backend.algorithm.solution.entity.Solution;
 import com.webproject.jandi_ide_backend.compiler.dto.CodeSubmissionDto;
 import com.webproject.jandi_ide_backend.compiler.dto.CompileResultDto;
 import com.webproject.jandi_ide_backend.compiler.dto.CompilerErrorResponseDto;
+import com.webproject.jandi_ide_backend.compiler.dto.JudgeProgressDto;
+import com.webproject.jandi_ide_backend.compiler.dto.RuntimeInfoDto;
 import com.webproject.jandi_ide_backend.compiler.dto.SaveSolutionDto;
+import com.webproject.jandi_ide_backend.compiler.dto.SubmissionStatusDto;
 import com.webproject.jandi_ide_backend.compiler.service.CompilerService;
+import com.webproject.jandi_ide_backend.compiler.service.JudgeQueueService;
+import com.webproject.jandi_ide_backend.compiler.service.LanguageRuntimeRegistry;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,11 +21,18 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.security.Principal;
+import java.util.List;
+
 /**
  * 코드 컴파일 및 실행을 담당하는 컨트롤러
  * 
@@ -32,15 +45,45 @@ import lombok.extern.slf4j.Slf4j;
 @Tag(name = "컴파일러 API", description = "코드 컴파일 및 실행을 위한 API")
 public class CompilerController {
 
+    private static final long MAX_WAIT_SECONDS = 60;
+
     private final CompilerService compilerService;
+    private final JudgeQueueService judgeQueueService;
+    private final LanguageRuntimeRegistry runtimeRegistry;
     
     /**
      * 컴파일러 컨트롤러 생성자
      * 
      * @param compilerService 코드 컴파일 및 실행 서비스
+     * @param judgeQueueService 비동기 채점 큐 서비스
+     * @param runtimeRegistry 언어 런타임 레지스트리
      */
-    public CompilerController(CompilerService compilerService) {
+    public CompilerController(CompilerService compilerService, JudgeQueueService judgeQueueService,
+                              LanguageRuntimeRegistry runtimeRegistry) {
         this.compilerService = compilerService;
+        this.judgeQueueService = judgeQueueService;
+        this.runtimeRegistry = runtimeRegistry;
+    }
+
+    /**
+     * 지원 언어와 서버에서 찾은 컴파일러/인터프리터 정보를 반환합니다.
+     * 
+     * @return 언어 런타임 정보 목록
+     */
+    @GetMapping("/runtimes")
+    @Operation(
+        summary = "지원 언어 런타임 조회",
+        description = "지원 언어별로 서버 시작 시 찾은 컴파일러/인터프리터 경로와 버전, 사용 가능 여부를 반환합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200", 
+            description = "조회 성공", 
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = RuntimeInfoDto.class)))
+        )
+    })
+    public ResponseEntity<List<RuntimeInfoDto>> getRuntimes() {
+        return ResponseEntity.ok(runtimeRegistry.describe());
     }
     
     /**
@@ -162,4 +205,157 @@ public class CompilerController {
         
         return ResponseEntity.ok(compilerService.processSaveSolutionRequest(saveSolutionDto));
     }
+
+    /**
+     * 코드를 비동기 채점 큐에 제출합니다. 채점을 기다리지 않고 제출 ID를 바로 반환합니다.
+     * 
+     * @param submissionDto 제출된 코드 정보
+     * @param idempotencyKey 멱등성 키 (선택)
+     * @return 등록된 제출의 상태 정보
+     */
+    @PostMapping("/submissions")
+    @Operation(
+        summary = "비동기 채점 제출",
+        description = "코드를 채점 큐에 등록하고 제출 ID를 즉시 반환합니다. 결과는 상태 조회 또는 long-polling API로 확인합니다. "
+                + "같은 문제에 같은 코드로 채점한 결과가 있으면 채점하지 않고 완료된 상태로 반환하며, "
+                + "같은 Idempotency-Key 로 다시 보내면 처음 만든 제출을 반환합니다.",
+        security = { @SecurityRequirement(name = "Authorization") }
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "202", 
+            description = "채점 큐 등록 성공", 
+            content = @Content(schema = @Schema(implementation = SubmissionStatusDto.class))
+        ),
+        @ApiResponse(
+            responseCode = "400", 
+            description = "잘못된 요청 데이터", 
+            content = @Content(schema = @Schema(implementation = CompilerErrorResponseDto.class))
+        ),
+        @ApiResponse(
+            responseCode = "503", 
+            description = "채점 대기열이 가득 참 (Retry-After 헤더 참고)", 
+            content = @Content(schema = @Schema(implementation = CompilerErrorResponseDto.class))
+        )
+    })
+    public ResponseEntity<?> submitCode(
+            @RequestBody CodeSubmissionDto submissionDto,
+            @Parameter(description = "멱등성 키 (같은 키로 다시 보내면 새 제출을 만들지 않음)", example = "5f0c6f1e-2b1a-4c1e-9d7a-3f1b2c4d5e6f")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        log.debug("비동기 채점 제출: 사용자={}, 문제={}, 언어={}", 
+            submissionDto.getUserId(), 
+            submissionDto.getProblemId(), 
+            submissionDto.getLanguage());
+
+        CompilerErrorResponseDto validationError = compilerService.validateCode(submissionDto.getCode(), submissionDto.getLanguage());
+        if (validationError != null) {
+            return ResponseEntity.badRequest().body(validationError);
+        }
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(judgeQueueService.submit(submissionDto, idempotencyKey));
+    }
+
+    /**
+     * 제출의 현재 채점 상태를 조회합니다.
+     * 
+     * 다른 사용자의 제출은 조회할 수 없습니다.
+     * 
+     * @param submissionId 제출 ID
+     * @param principal 인증된 사용자
+     * @return 제출 상태 정보
+     */
+    @GetMapping("/submissions/{submissionId}")
+    @Operation(
+        summary = "채점 상태 조회",
+        description = "제출 ID로 현재 채점 상태와 결과를 조회합니다.",
+        security = { @SecurityRequirement(name = "Authorization") }
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200", 
+            description = "조회 성공", 
+            content = @Content(schema = @Schema(implementation = SubmissionStatusDto.class))
+        ),
+        @ApiResponse(responseCode = "403", description = "다른 사용자의 제출"),
+        @ApiResponse(responseCode = "404", description = "제출을 찾을 수 없음")
+    })
+    public ResponseEntity<SubmissionStatusDto> getSubmission(
+            @Parameter(description = "제출 ID", required = true, example = "42")
+            @PathVariable Long submissionId,
+            @Parameter(hidden = true) Principal principal) {
+        judgeQueueService.checkOwner(submissionId, principal.getName());
+        return judgeQueueService.getStatus(submissionId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 채점이 끝날 때까지 기다렸다가 결과를 반환합니다 (long-polling).
+     * 제한 시간 안에 채점이 끝나지 않으면 그 시점의 상태를 반환합니다.
+     * 다른 사용자의 제출은 기다릴 수 없습니다.
+     * 
+     * @param submissionId 제출 ID
+     * @param timeout 최대 대기 시간 (초, 최대 60)
+     * @param principal 인증된 사용자
+     * @return 제출 상태 정보
+     */
+    @GetMapping("/submissions/{submissionId}/wait")
+    @Operation(
+        summary = "채점 결과 대기 (long-polling)",
+        description = "채점이 끝날 때까지 최대 timeout초 동안 기다린 뒤 상태를 반환합니다.",
+        security = { @SecurityRequirement(name = "Authorization") }
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200", 
+            description = "채점 완료 또는 대기 시간 만료", 
+            content = @Content(schema = @Schema(implementation = SubmissionStatusDto.class))
+        ),
+        @ApiResponse(responseCode = "403", description = "다른 사용자의 제출")
+    })
+    public DeferredResult<SubmissionStatusDto> waitForSubmission(
+            @Parameter(description = "제출 ID", required = true, example = "42")
+            @PathVariable Long submissionId,
+            @Parameter(description = "최대 대기 시간 (초)", example = "30")
+            @RequestParam(defaultValue = "30") long timeout,
+            @Parameter(hidden = true) Principal principal) {
+        judgeQueueService.checkOwner(submissionId, principal.getName());
+        long timeoutSeconds = Math.max(1, Math.min(timeout, MAX_WAIT_SECONDS));
+        return judgeQueueService.awaitResult(submissionId, timeoutSeconds * 1000);
+    }
+
+    /**
+     * 채점 진행 상황을 Server-Sent Events로 전송합니다.
+     * 구독 즉시 현재 상태를 보내고, 채점이 끝나면 최종 결과(FINISHED)를 보낸 뒤 연결을 닫습니다.
+     * 다른 사용자의 제출은 구독할 수 없습니다.
+     * 
+     * @param submissionId 제출 ID
+     * @param principal 인증된 사용자
+     * @return 진행 이벤트 스트림
+     */
+    @GetMapping(value = "/submissions/{submissionId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "채점 진행 상황 구독 (SSE)",
+        description = "테스트 케이스별 실행 시작과 판정을 progress 이벤트로 전송합니다. WebSocket(STOMP)에서는 /queue/judge/{submissionId}를 구독하면 같은 이벤트를 받을 수 있습니다. 두 방식 모두 제출한 사용자만 구독할 수 있습니다.",
+        security = { @SecurityRequirement(name = "Authorization") }
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200", 
+            description = "구독 성공", 
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                    schema = @Schema(implementation = JudgeProgressDto.class))
+        ),
+        @ApiResponse(responseCode = "403", description = "다른 사용자의 제출"),
+        @ApiResponse(responseCode = "404", description = "제출을 찾을 수 없음")
+    })
+    public ResponseEntity<SseEmitter> streamSubmission(
+            @Parameter(description = "제출 ID", required = true, example = "42")
+            @PathVariable Long submissionId,
+            @Parameter(hidden = true) Principal principal) {
+        judgeQueueService.checkOwner(submissionId, principal.getName());
+        return judgeQueueService.streamProgress(submissionId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
 } 
\ No newline at end of file
@@ -54,4 +54,10 @@ public class CodeSubmissionDto {
      */
     @Schema(description = "문제 해결 시간 (초 단위)", example = "120")
     private Integer solvingTime;
+
+    /**
+     * 채점 방식 (없으면 문제집 설정, 서버 기본값 순으로 적용)
+     */
+    @Schema(description = "채점 방식 (없으면 문제집 설정, 서버 기본값 순으로 적용)", example = "FULL")
+    private JudgeMode judgeMode;
 } 
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.webproject.jandi_ide_backend.compiler.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 컴파일 진단 정보 DTO
+ *
+ * 컴파일러가 보고한 오류/경고 하나를 위치 정보와 함께 담는 데이터 전송 객체입니다.
+ * 클라이언트는 줄/열 정보를 이용해 에디터에 오류 위치를 표시할 수 있습니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "컴파일 진단 정보")
+public class CompileDiagnosticDto {
+
+    @Schema(description = "진단 종류 (ERROR, WARNING, MANDATORY_WARNING, NOTE, OTHER)", example = "ERROR")
+    private String kind;
+
+    @Schema(description = "소스 파일 이름", example = "Main.java")
+    private String source;
+
+    @Schema(description = "줄 번호 (1부터 시작, 알 수 없으면 null)", example = "10")
+    private Long line;
+
+    @Schema(description = "열 번호 (1부터 시작, 알 수 없으면 null)", example = "37")
+    private Long column;
+
+    @Schema(description = "컴파일러 진단 코드", example = "compiler.err.expected")
+    private String code;
+
+    @Schema(description = "진단 메시지", example = "';' expected")
+    private String message;
+}
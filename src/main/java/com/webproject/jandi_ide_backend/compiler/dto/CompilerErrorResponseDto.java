@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 컴파일러 오류 응답 DTO
@@ -40,6 +41,9 @@ public class CompilerErrorResponseDto {
     @Schema(description = "사용 언어", example = "java")
     private String language;
     
+    @Schema(description = "컴파일 진단 목록 (컴파일 에러인 경우 줄/열 단위 오류 정보)")
+    private List<CompileDiagnosticDto> diagnostics;
+    
     // Custom builder implementation to ensure compatibility
     public static class CompilerErrorResponseDtoBuilder {
         private int status;
@@ -50,6 +54,7 @@ public class CompilerErrorResponseDto {
         private String errorDetails;
         private String code;
         private String language;
+        private List<CompileDiagnosticDto> diagnostics;
         
         public CompilerErrorResponseDtoBuilder() {
         }
@@ -94,14 +99,20 @@ public class CompilerErrorResponseDto {
             return this;
         }
         
+        public CompilerErrorResponseDtoBuilder diagnostics(List<CompileDiagnosticDto> diagnostics) {
+            this.diagnostics = diagnostics;
+            return this;
+        }
+        
         public CompilerErrorResponseDto build() {
-            return new CompilerErrorResponseDto(status, error, message, timestamp, errorType, errorDetails, code, language);
+            return new CompilerErrorResponseDto(status, error, message, timestamp, errorType, errorDetails, code, language, diagnostics);
         }
     }
     
     // Add a constructor that matches the builder's build method
     private CompilerErrorResponseDto(int status, String error, String message, LocalDateTime timestamp, 
-                                   String errorType, String errorDetails, String code, String language) {
+                                   String errorType, String errorDetails, String code, String language,
+                                   List<CompileDiagnosticDto> diagnostics) {
         this.status = status;
         this.error = error;
         this.message = message;
@@ -110,5 +121,6 @@ public class CompilerErrorResponseDto {
         this.errorDetails = errorDetails;
         this.code = code;
         this.language = language;
+        this.diagnostics = diagnostics;
     }
 } 
\ No newline at end of file
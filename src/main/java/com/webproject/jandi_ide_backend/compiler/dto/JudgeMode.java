@@ -0,0 +1,21 @@
+package com.webproject.jandi_ide_backend.compiler.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 채점 방식 열거형
+ *
+ * 테스트 케이스를 모두 실행할지, 처음 실패한 테스트 케이스에서 멈출지를 나타냅니다.
+ */
+@Schema(description = "채점 방식")
+public enum JudgeMode {
+    /**
+     * 모든 테스트 케이스 실행 (테스트 케이스별 결과를 모두 반환)
+     */
+    FULL,
+
+    /**
+     * CORRECT 가 아닌 판정이 나오면 남은 테스트 케이스를 실행하지 않음
+     */
+    FAIL_FAST
+}
@@ -0,0 +1,96 @@
+package com.webproject.jandi_ide_backend.compiler.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 채점 진행 이벤트 DTO
+ *
+ * 비동기 채점 중인 제출의 진행 상황을 STOMP(/queue/judge/{submissionId})와 SSE로 전달합니다.
+ * 이벤트는 짧은 간격으로 모아서 보내므로 verdicts 에는 직전 이벤트 이후 끝난 테스트 케이스가 여러 개 담길 수 있으며,
+ * 나머지 필드는 이벤트를 만든 시점의 누적 상태입니다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "채점 진행 이벤트")
+public class JudgeProgressDto {
+
+    /**
+     * 채점 단계
+     */
+    public enum Phase {
+        QUEUED,     // 채점 대기 중
+        COMPILING,  // 컴파일 중
+        RUNNING,    // 테스트 케이스 실행 중
+        FINISHED    // 채점 완료 (result 포함)
+    }
+
+    @Schema(description = "제출 ID (Solution ID)", example = "42")
+    private Long submissionId;
+
+    @Schema(description = "제출별 이벤트 순번 (1부터 증가)", example = "3")
+    private Long sequence;
+
+    @Schema(description = "채점 단계", example = "RUNNING")
+    private Phase phase;
+
+    @Schema(description = "전체 테스트 케이스 수", example = "30")
+    private Integer totalTestCases;
+
+    @Schema(description = "판정이 끝난 테스트 케이스 수", example = "12")
+    private Integer completedTestCases;
+
+    @Schema(description = "통과한 테스트 케이스 수", example = "12")
+    private Integer passedTestCases;
+
+    @Schema(description = "지금 실행 중인 테스트 케이스 번호", example = "[13, 14]")
+    private List<Integer> runningTestCases;
+
+    @Schema(description = "직전 이벤트 이후 판정이 끝난 테스트 케이스")
+    private List<Verdict> verdicts;
+
+    @Schema(description = "최종 채점 결과 (FINISHED 일 때만)")
+    private SubmissionStatusDto result;
+
+    /**
+     * 테스트 케이스 하나의 판정 (입출력은 담지 않음)
+     */
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "테스트 케이스 판정")
+    public static class Verdict {
+
+        @Schema(description = "테스트 케이스 번호", example = "12")
+        private Integer testNum;
+
+        @Schema(description = "테스트 결과 상태", example = "CORRECT")
+        private ResultStatus status;
+
+        @Schema(description = "실행 소요 시간 (밀리초 단위)", example = "12.5")
+        private Double executionTime;
+
+        @Schema(description = "사용 메모리 (MB 단위)", example = "32.4")
+        private Double usedMemory;
+
+        public static Verdict from(ResultDto result) {
+            return Verdict.builder()
+                    .testNum(result.getTestNum())
+                    .status(result.getStatus())
+                    .executionTime(result.getExecutionTime())
+                    .usedMemory(result.getUsedMemory())
+                    .build();
+        }
+    }
+}
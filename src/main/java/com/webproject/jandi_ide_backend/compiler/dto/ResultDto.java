@@ -4,6 +4,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.List;
+
 /**
  * 코드 실행 결과 DTO
  * 
@@ -43,11 +45,23 @@ public class ResultDto {
      */
     @Schema(description = "실행 소요 시간 (밀리초 단위)", example = "12.5")
     private Double executionTime;
-    
+
+    /**
+     * 사용한 CPU 시간 (user + sys, 밀리초 단위)
+     */
+    @Schema(description = "사용한 CPU 시간 (user + sys, 밀리초 단위)", example = "10.0")
+    private Double cpuTime;
+
     /**
-     * 사용 메모리 (MB 단위)
+     * 시간 제한 판정 방식 (CPU 시간 또는 벽시계 시간)
      */
-    @Schema(description = "사용 메모리 (MB 단위)", example = "32.4")
+    @Schema(description = "시간 제한 판정 방식 (CPU: CPU 시간, WALL: 벽시계 시간)", example = "CPU")
+    private TimeLimitPolicy timePolicy;
+
+    /**
+     * 사용 메모리 (최대 RSS, MB 단위)
+     */
+    @Schema(description = "사용 메모리 (실행 중 최대 RSS, MB 단위)", example = "32.4")
     private Double usedMemory;
     
     /**
@@ -55,4 +69,16 @@ public class ResultDto {
      */
     @Schema(description = "테스트 결과 상태", example = "PASS")
     private ResultStatus status;
+
+    /**
+     * 컴파일 진단 목록 (컴파일 에러 결과에만 포함)
+     */
+    @Schema(description = "컴파일 진단 목록 (컴파일 에러 결과에만 포함)")
+    private List<CompileDiagnosticDto> diagnostics;
+
+    /**
+     * 실제 출력에서 처음 달라진 위치 (오답일 때만)
+     */
+    @Schema(description = "실제 출력에서 처음 달라진 위치 (바이트 오프셋, 오답이고 위치를 알 수 있을 때만)", example = "42")
+    private Long firstDifference;
 } 
\ No newline at end of file
@@ -48,5 +48,10 @@ public enum ResultStatus {
     /**
      * 메모리 사용 제한 초과
      */
-    MEMORY_LIMIT
+    MEMORY_LIMIT,
+
+    /**
+     * 출력 제한 초과
+     */
+    OUTPUT_LIMIT
 } 
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.webproject.jandi_ide_backend.compiler.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 언어 런타임 정보 DTO
+ *
+ * 서버가 지원하는 언어와, 애플리케이션 시작 시 찾은 컴파일러/인터프리터 정보를 담는 데이터 전송 객체입니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "언어 런타임 정보")
+public class RuntimeInfoDto {
+
+    @Schema(description = "제출 시 사용하는 언어 값", example = "java")
+    private String language;
+
+    @Schema(description = "언어 표시 이름", example = "자바")
+    private String displayName;
+
+    @Schema(description = "실행 전 컴파일 단계가 있는지 여부", example = "true")
+    private Boolean compiled;
+
+    @Schema(description = "필요한 툴체인을 모두 찾아 사용할 수 있는지 여부", example = "true")
+    private Boolean available;
+
+    @Schema(description = "메모리 제한 비교 시 더해 주는 런타임 자체 메모리 (MB)", example = "64")
+    private Integer memoryOverheadMb;
+
+    @Schema(description = "찾은 툴체인 목록")
+    private List<ToolchainDto> toolchains;
+
+    /**
+     * 툴체인 정보
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "툴체인 정보")
+    public static class ToolchainDto {
+
+        @Schema(description = "역할 (compiler, runtime, interpreter)", example = "compiler")
+        private String role;
+
+        @Schema(description = "실행 파일 경로", example = "/usr/bin/javac")
+        private String command;
+
+        @Schema(description = "버전 문자열", example = "javac 17.0.2")
+        private String version;
+    }
+}
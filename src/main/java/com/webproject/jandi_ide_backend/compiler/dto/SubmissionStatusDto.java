@@ -0,0 +1,89 @@
+package com.webproject.jandi_ide_backend.compiler.dto;
+
+import com.webproject.jandi_ide_backend.algorithm.solution.entity.Solution;
+import com.webproject.jandi_ide_backend.algorithm.solution.entity.Solution.SolutionStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 채점 제출 상태 DTO
+ *
+ * 채점 큐에 등록된 제출의 진행 상태와 최종 결과를 담는 데이터 전송 객체입니다.
+ * 상태가 SUBMITTED 또는 EVALUATING 인 동안에는 결과 필드가 비어 있습니다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "비동기 채점 제출 상태")
+public class SubmissionStatusDto {
+
+    @Schema(description = "제출 ID (Solution ID)", example = "42")
+    private Long submissionId;
+
+    @Schema(description = "문제 ID", example = "1")
+    private Integer problemId;
+
+    @Schema(description = "프로그래밍 언어", example = "java")
+    private String language;
+
+    @Schema(description = "채점 상태", example = "EVALUATING")
+    private SolutionStatus status;
+
+    @Schema(description = "채점 완료 여부", example = "false")
+    private Boolean finished;
+
+    @Schema(description = "정답 여부", example = "false")
+    private Boolean isCorrect;
+
+    @Schema(description = "실행 결과 상세 정보")
+    private String additionalInfo;
+
+    @Schema(description = "실행 시간 (ms)", example = "10")
+    private Integer executionTime;
+
+    @Schema(description = "메모리 사용량 (MB)", example = "15")
+    private Integer memoryUsage;
+
+    @Schema(description = "제출 시간")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "상태 변경 시간")
+    private LocalDateTime updatedAt;
+
+    /**
+     * 채점이 끝난 상태인지 확인합니다.
+     *
+     * @param status 솔루션 상태
+     * @return SUBMITTED, EVALUATING 이외의 상태이면 true
+     */
+    public static boolean isTerminal(SolutionStatus status) {
+        return status != null && status != SolutionStatus.SUBMITTED && status != SolutionStatus.EVALUATING;
+    }
+
+    /**
+     * Solution 엔티티를 SubmissionStatusDto로 변환
+     */
+    public static SubmissionStatusDto fromEntity(Solution solution) {
+        return SubmissionStatusDto.builder()
+                .submissionId(solution.getId())
+                .problemId(solution.getProblemId())
+                .language(solution.getLanguage())
+                .status(solution.getStatus())
+                .finished(isTerminal(solution.getStatus()))
+                .isCorrect(solution.getIsCorrect())
+                .additionalInfo(solution.getAdditionalInfo())
+                .executionTime(solution.getExecutionTime())
+                .memoryUsage(solution.getMemoryUsage())
+                .createdAt(solution.getCreatedAt())
+                .updatedAt(solution.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.webproject.jandi_ide_backend.compiler.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 시간 제한 판정 방식 열거형
+ *
+ * 테스트 케이스 실행 결과가 어떤 기준으로 시간 초과를 판정받았는지 나타냅니다.
+ */
+@Schema(description = "시간 제한 판정 방식")
+public enum TimeLimitPolicy {
+    /**
+     * 제출 코드가 사용한 CPU 시간(user + sys)으로 판정
+     * 벽시계 시간은 시간 제한의 배수까지 허용하며, 넘으면 강제 종료 후 시간 초과로 처리
+     */
+    CPU,
+
+    /**
+     * 프로세스 시작부터 종료까지의 벽시계 시간으로 판정
+     */
+    WALL
+}
@@ -1,8 +1,11 @@
 package com.webproject.jandi_ide_backend.compiler.exception;
 
 import com.webproject.jandi_ide_backend.algorithm.solution.entity.Solution.SolutionStatus;
+import com.webproject.jandi_ide_backend.compiler.dto.CompileDiagnosticDto;
 import lombok.Getter;
 
+import java.util.List;
+
 /**
  * 컴파일러 관련 예외 클래스
  * 
@@ -32,6 +35,11 @@ public class CompilerException extends RuntimeException {
      */
     private final String language;
 
+    /**
+     * 컴파일 진단 목록 (컴파일 에러인 경우 줄/열 단위 오류 정보)
+     */
+    private final List<CompileDiagnosticDto> diagnostics;
+
     /**
      * 컴파일러 예외 생성자
      * 
@@ -42,11 +50,27 @@ public class CompilerException extends RuntimeException {
      * @param language 사용 언어
      */
     public CompilerException(String message, SolutionStatus errorType, String errorDetails, String code, String language) {
+        this(message, errorType, errorDetails, code, language, List.of());
+    }
+
+    /**
+     * 컴파일 진단 정보를 포함하는 컴파일러 예외 생성자
+     * 
+     * @param message 기본 오류 메시지
+     * @param errorType 오류 유형 (SolutionStatus 열거형)
+     * @param errorDetails 상세 오류 메시지
+     * @param code 오류가 발생한 코드
+     * @param language 사용 언어
+     * @param diagnostics 컴파일 진단 목록
+     */
+    public CompilerException(String message, SolutionStatus errorType, String errorDetails, String code, String language,
+                             List<CompileDiagnosticDto> diagnostics) {
         super(message);
         this.errorType = errorType;
         this.errorDetails = errorDetails;
         this.code = code;
         this.language = language;
+        this.diagnostics = diagnostics != null ? diagnostics : List.of();
     }
     
     /**
@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -59,6 +60,34 @@ public class CompilerExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * JudgeOverloadedException 처리
+     * 채점 대기열이 가득 찬 경우 503과 Retry-After 헤더를 반환합니다.
+     */
+    @ExceptionHandler(JudgeOverloadedException.class)
+    @ApiResponse(
+        responseCode = "503",
+        description = "채점 과부하",
+        content = @Content(schema = @Schema(implementation = CompilerErrorResponseDto.class))
+    )
+    @Hidden // API 응답은 컨트롤러의 ApiResponse로 문서화됨
+    public ResponseEntity<CompilerErrorResponseDto> handleJudgeOverloadedException(JudgeOverloadedException ex) {
+        log.warn("채점 과부하로 제출 거부: {}", ex.getMessage());
+
+        CompilerErrorResponseDto errorResponse = CompilerErrorResponseDto.builder()
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Judge Overloaded")
+                .message(ex.getMessage())
+                .timestamp(LocalDateTime.now())
+                .errorType("JUDGE_OVERLOADED")
+                .errorDetails(ex.getRetryAfterSeconds() + "초 후에 다시 시도해주세요.")
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
     /**
      * 컴파일러 관련 모든 Exception 처리
      * CompilerException 이외의 일반 예외를 처리합니다.
@@ -267,6 +296,11 @@ public class CompilerExceptionHandler {
             return SolutionStatus.MEMORY_LIMIT.name();
         }
         
+        // 출력 초과 관련 키워드
+        if (message.contains("출력 초과")) {
+            return SolutionStatus.OUTPUT_LIMIT.name();
+        }
+        
         // 기본값
         return "SERVER_ERROR";
     }
@@ -283,6 +317,8 @@ public class CompilerExceptionHandler {
             return "코드 실행 시간이 제한을 초과했습니다. 알고리즘을 최적화하거나 무한 루프를 확인해주세요.";
         } else if (SolutionStatus.MEMORY_LIMIT.name().equals(errorType)) {
             return "코드 실행 중 메모리 사용량이 제한을 초과했습니다. 메모리 사용을 최적화해주세요.";
+        } else if (SolutionStatus.OUTPUT_LIMIT.name().equals(errorType)) {
+            return "코드의 출력이 제한을 초과했습니다. 무한 루프나 불필요한 디버그 출력을 확인해주세요.";
         } else {
             return ex.getMessage() != null ? ex.getMessage() : "예상치 못한 오류가 발생했습니다.";
         }
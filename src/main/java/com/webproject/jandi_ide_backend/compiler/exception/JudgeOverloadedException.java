@@ -0,0 +1,28 @@
+package com.webproject.jandi_ide_backend.compiler.exception;
+
+import lombok.Getter;
+
+/**
+ * 채점 과부하 예외 클래스
+ *
+ * 채점 큐가 가득 차서 더 이상 제출을 받을 수 없을 때 발생합니다.
+ * 클라이언트는 retryAfterSeconds 이후에 다시 시도해야 합니다.
+ */
+@Getter
+public class JudgeOverloadedException extends RuntimeException {
+    /**
+     * 재시도까지 권장 대기 시간 (초)
+     */
+    private final long retryAfterSeconds;
+
+    /**
+     * 채점 과부하 예외 생성자
+     *
+     * @param message 오류 메시지
+     * @param retryAfterSeconds 재시도까지 권장 대기 시간 (초)
+     */
+    public JudgeOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,227 @@
+package com.webproject.jandi_ide_backend.compiler.runner;
+
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+
+/**
+ * Java 묶음 실행(batched harness)의 진입점
+ *
+ * 백엔드가 문제의 테스트 케이스를 모두 표준 입력으로 한 번에 넘기면, 테스트 케이스마다 새 클래스로더로
+ * 제출 코드의 Main을 불러와 main 메서드를 실행하고 출력을 프레임 단위로 돌려줍니다.
+ * 테스트 케이스마다 JVM을 띄우지 않으므로 작은 테스트 케이스가 많은 문제에서 프로세스 생성 비용이 사라집니다.
+ *
+ * 이 클래스는 클래스 파일 하나만으로 실행되어야 하므로 애플리케이션의 다른 클래스나 라이브러리를 사용하지 않습니다.
+ *
+ * 인자: token, timeLimitMillis, outputLimitBytes, classDir
+ * 입력: (입력 바이트 수 + "\n" + 입력) 을 테스트 케이스 수만큼 반복
+ * 출력: (token index status wallMicros cpuMicros 출력바이트수 + "\n" + 출력) 을 테스트 케이스마다, 마지막에 token END
+ *
+ * 예외, 시간 초과, 출력 초과, 남은 사용자 스레드처럼 다음 테스트 케이스를 믿고 실행할 수 없는 상황이면
+ * 해당 프레임을 기록한 뒤 바로 종료합니다. 백엔드는 프레임이 없는 테스트 케이스를 프로세스별 실행으로 다시 채점합니다.
+ */
+public final class BatchHarness {
+
+    public static final String STATUS_OK = "OK";
+    public static final String STATUS_ERROR = "ERROR";
+    public static final String STATUS_TIMEOUT = "TIMEOUT";
+    public static final String STATUS_OUTPUT_LIMIT = "OUTPUT_LIMIT";
+    public static final String END = "END";
+
+    private BatchHarness() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        String token = args[0];
+        long timeLimitMillis = Long.parseLong(args[1]);
+        long outputLimitBytes = Long.parseLong(args[2]);
+        String classDir = args[3];
+
+        // 프레임 채널은 원래 표준 입출력에 고정하고, 제출 코드가 쓰는 System.in/out은 테스트 케이스마다 교체
+        InputStream frames = new BufferedInputStream(new FileInputStream(FileDescriptor.in));
+        OutputStream reply = new BufferedOutputStream(new FileOutputStream(FileDescriptor.out));
+
+        int index = 0;
+        byte[] input;
+        while ((input = readFrame(frames)) != null) {
+            index++;
+            Execution execution = execute(classDir, input, timeLimitMillis, outputLimitBytes);
+            String header = token + " " + index + " " + execution.status + " " + execution.wallNanos / 1000
+                    + " " + execution.cpuNanos / 1000 + " " + execution.output.length + "\n";
+            reply.write(header.getBytes(StandardCharsets.UTF_8));
+            reply.write(execution.output);
+            reply.flush();
+            if (!execution.continuable) {
+                // 상태를 신뢰할 수 없으므로 남은 테스트 케이스는 백엔드에 맡기고 종료
+                Runtime.getRuntime().halt(0);
+            }
+        }
+        reply.write((token + " " + END + "\n").getBytes(StandardCharsets.UTF_8));
+        reply.flush();
+        Runtime.getRuntime().halt(0);
+    }
+
+    /**
+     * 입력 프레임 하나를 읽습니다.
+     *
+     * @return 입력 바이트, 더 이상 프레임이 없으면 null
+     */
+    private static byte[] readFrame(InputStream in) throws IOException {
+        StringBuilder length = new StringBuilder();
+        int b;
+        while ((b = in.read()) != '\n') {
+            if (b == -1) {
+                return null;
+            }
+            length.append((char) b);
+        }
+        byte[] data = new byte[Integer.parseInt(length.toString().trim())];
+        int read = 0;
+        while (read < data.length) {
+            int n = in.read(data, read, data.length - read);
+            if (n == -1) {
+                throw new EOFException("입력 프레임이 끝나기 전에 입력이 닫혔습니다");
+            }
+            read += n;
+        }
+        return data;
+    }
+
+    private static Execution execute(String classDir, byte[] input, long timeLimitMillis, long outputLimitBytes) {
+        InputStream originalIn = System.in;
+        PrintStream originalOut = System.out;
+        PrintStream originalErr = System.err;
+        Execution execution = new Execution();
+        LimitedOutput captured = new LimitedOutput(outputLimitBytes);
+
+        try (URLClassLoader loader = new URLClassLoader(
+                new URL[]{Paths.get(classDir).toUri().toURL()}, ClassLoader.getPlatformClassLoader());
+             PrintStream userOut = new PrintStream(captured, false, StandardCharsets.UTF_8)) {
+
+            Method main = loader.loadClass("Main").getMethod("main", String[].class);
+            main.setAccessible(true);
+
+            // 표준 에러는 fork 방식(redirectErrorStream)과 같이 표준 출력에 합침
+            System.setIn(new ByteArrayInputStream(input));
+            System.setOut(userOut);
+            System.setErr(userOut);
+
+            int threadsBefore = Thread.activeCount();
+            MainThread mainThread = new MainThread(main, loader);
+            mainThread.start();
+            mainThread.join(timeLimitMillis);
+
+            if (mainThread.isAlive()) {
+                execution.status = STATUS_TIMEOUT;
+                execution.wallNanos = System.nanoTime() - mainThread.startNanos;
+                execution.continuable = false;
+            } else {
+                execution.wallNanos = mainThread.wallNanos;
+                execution.cpuNanos = mainThread.cpuNanos;
+                // 예외로 끝난 테스트 케이스는 백엔드가 프로세스별 실행으로 다시 채점하므로 출력은 쓰지 않음
+                Throwable failure = mainThread.failure;
+                execution.status = failure == null ? STATUS_OK : STATUS_ERROR;
+                execution.continuable = !(failure instanceof OutOfMemoryError) && Thread.activeCount() <= threadsBefore;
+            }
+            userOut.flush();
+            if (captured.exceeded) {
+                execution.status = STATUS_OUTPUT_LIMIT;
+                execution.continuable = false;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            execution.status = STATUS_ERROR;
+            execution.continuable = false;
+        } catch (ReflectiveOperationException | LinkageError | IOException e) {
+            execution.status = STATUS_ERROR;
+            execution.continuable = false;
+        } finally {
+            System.setIn(originalIn);
+            System.setOut(originalOut);
+            System.setErr(originalErr);
+        }
+        execution.output = execution.status.equals(STATUS_OUTPUT_LIMIT) ? new byte[0] : captured.toByteArray();
+        return execution;
+    }
+
+    /**
+     * 실행 결과
+     */
+    private static final class Execution {
+        String status = STATUS_ERROR;
+        long wallNanos;
+        long cpuNanos;
+        boolean continuable = true;
+        byte[] output = new byte[0];
+    }
+
+    /**
+     * 출력 제한까지만 보관하는 출력 버퍼 (넘으면 이후 출력은 버림)
+     */
+    private static final class LimitedOutput extends ByteArrayOutputStream {
+        private final long limit;
+        volatile boolean exceeded;
+
+        LimitedOutput(long limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            if (count + 1 > limit) {
+                exceeded = true;
+                return;
+            }
+            super.write(b);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            if (count + (long) len > limit) {
+                exceeded = true;
+                return;
+            }
+            super.write(b, off, len);
+        }
+    }
+
+    /**
+     * 제출 코드의 main을 실행하는 스레드 (main 실행 시간과 이 스레드의 CPU 시간만 측정)
+     */
+    private static final class MainThread extends Thread {
+        private final Method main;
+        volatile long startNanos = System.nanoTime();
+        volatile long wallNanos;
+        volatile long cpuNanos;
+        volatile Throwable failure;
+
+        MainThread(Method main, ClassLoader loader) {
+            super("main");
+            this.main = main;
+            setContextClassLoader(loader);
+        }
+
+        @Override
+        public void run() {
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            long cpuBefore = threads.getCurrentThreadCpuTime();
+            startNanos = System.nanoTime();
+            try {
+                main.invoke(null, (Object) new String[0]);
+            } catch (InvocationTargetException e) {
+                failure = e.getCause();
+            } catch (Throwable e) {
+                failure = e;
+            } finally {
+                wallNanos = System.nanoTime() - startNanos;
+                cpuNanos = Math.max(0, threads.getCurrentThreadCpuTime() - cpuBefore);
+            }
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.webproject.jandi_ide_backend.compiler.runner;
+
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 미리 띄워 두는 Java 실행 JVM의 진입점
+ *
+ * 백엔드가 별도 JVM으로 실행하며, 표준 입출력을 제어 채널로 사용해 요청을 하나씩 처리합니다.
+ * 요청마다 새 클래스로더로 제출 코드의 Main을 불러오고 System.in/out/err를 입력/출력 파일로 바꾼 뒤
+ * main 메서드만 실행하므로 JVM 기동과 JDK 클래스 로딩 시간이 실행 시간에 포함되지 않습니다.
+ *
+ * 메모리는 fork 방식의 proc 측정과 같이 실행 전에 /proc/self/clear_refs 로 최대 RSS(VmHWM)를 현재 값으로 되돌리고
+ * 실행 후 /proc/self/status 의 VmHWM 을 읽어 JVM 전체의 최대 RSS로 보고합니다.
+ * 제출 코드가 System.exit 을 호출하면 종료 훅에서 STATUS_EXIT 응답을 보낸 뒤 종료하므로 백엔드가 종료 코드를 확인할 수 있습니다.
+ *
+ * 이 클래스는 클래스 파일 하나만으로 실행되어야 하므로 애플리케이션의 다른 클래스나 라이브러리를 사용하지 않습니다.
+ *
+ * 요청: classDir(UTF), inputFile(UTF), outputFile(UTF), timeLimitMillis(long)
+ * 응답: status(int), elapsedNanos(long), cpuNanos(long), usedBytes(long), reusable(boolean), message(UTF)
+ */
+public final class WarmJvmRunner {
+
+    public static final int READY = 0x4A414E44;
+
+    public static final int STATUS_OK = 0;
+    public static final int STATUS_EXCEPTION = 1;
+    public static final int STATUS_MEMORY_LIMIT = 2;
+    public static final int STATUS_TIMEOUT = 3;
+    public static final int STATUS_ERROR = 4;
+    public static final int STATUS_EXIT = 5;
+
+    // writeUTF 최대 길이보다 충분히 작게 유지
+    private static final int MAX_MESSAGE_LENGTH = 16_000;
+
+    private static final Path PROC_STATUS = Paths.get("/proc/self/status");
+    private static final Path PROC_CLEAR_REFS = Paths.get("/proc/self/clear_refs");
+
+    // System.exit 호출 시 종료 훅에서 남은 출력을 기록하기 위한 현재 출력 스트림
+    private static volatile PrintStream currentOut;
+    // 진행 중인 실행 (System.exit 호출 시 종료 훅에서 응답을 보내기 위해 보관, 응답 채널과 함께 REPLY_LOCK 으로 보호)
+    private static final Object REPLY_LOCK = new Object();
+    private static MainThread currentRun;
+    private static DataOutputStream reply;
+
+    private WarmJvmRunner() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        // 제어 채널은 원래 표준 입출력에 고정하고, 제출 코드가 쓰는 System.in/out은 실행마다 교체
+        DataInputStream control = new DataInputStream(new BufferedInputStream(new FileInputStream(FileDescriptor.in)));
+        reply = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out)));
+
+        Runtime.getRuntime().addShutdownHook(new Thread(WarmJvmRunner::onShutdown, "runner-exit"));
+        warmUp();
+
+        reply.writeInt(READY);
+        reply.flush();
+
+        while (true) {
+            String classDir;
+            try {
+                classDir = control.readUTF();
+            } catch (EOFException e) {
+                return;
+            }
+            String inputFile = control.readUTF();
+            String outputFile = control.readUTF();
+            long timeLimitMillis = control.readLong();
+
+            Execution execution = execute(classDir, inputFile, outputFile, timeLimitMillis);
+
+            synchronized (REPLY_LOCK) {
+                currentRun = null;
+                writeReply(execution.status, execution.elapsedNanos, execution.cpuNanos, execution.usedBytes,
+                        execution.reusable, execution.message);
+            }
+
+            if (!execution.reusable) {
+                // 상태를 신뢰할 수 없으므로 응답 후 바로 종료 (남은 사용자 스레드와 관계없이 종료, 백엔드가 새 JVM으로 교체)
+                Runtime.getRuntime().halt(0);
+            }
+            // 다음 실행의 최대 RSS에 이번 실행의 힙이 남지 않도록 백엔드가 결과를 처리하는 동안 힙을 줄임
+            System.gc();
+        }
+    }
+
+    private static void writeReply(int status, long elapsedNanos, long cpuNanos, long usedBytes,
+                                   boolean reusable, String message) throws IOException {
+        reply.writeInt(status);
+        reply.writeLong(elapsedNanos);
+        reply.writeLong(cpuNanos);
+        reply.writeLong(usedBytes);
+        reply.writeBoolean(reusable);
+        reply.writeUTF(truncate(message));
+        reply.flush();
+    }
+
+    private static Execution execute(String classDir, String inputFile, String outputFile, long timeLimitMillis) {
+        InputStream originalIn = System.in;
+        PrintStream originalOut = System.out;
+        PrintStream originalErr = System.err;
+        Execution execution = new Execution();
+
+        try (URLClassLoader loader = new URLClassLoader(
+                new URL[]{Paths.get(classDir).toUri().toURL()}, ClassLoader.getPlatformClassLoader());
+             InputStream userIn = new BufferedInputStream(new FileInputStream(inputFile));
+             PrintStream userOut = new PrintStream(
+                     new BufferedOutputStream(new FileOutputStream(outputFile)), false, StandardCharsets.UTF_8)) {
+
+            Method main = loader.loadClass("Main").getMethod("main", String[].class);
+            main.setAccessible(true);
+
+            // 표준 에러는 fork 방식(redirectErrorStream)과 같이 표준 출력에 합침
+            System.setIn(userIn);
+            System.setOut(userOut);
+            System.setErr(userOut);
+            currentOut = userOut;
+
+            int threadsBefore = Thread.activeCount();
+            MainThread mainThread = new MainThread(main, loader);
+            boolean rssMeasured = resetPeakRss();
+            synchronized (REPLY_LOCK) {
+                currentRun = mainThread;
+            }
+            mainThread.start();
+            mainThread.join(timeLimitMillis);
+
+            if (mainThread.isAlive()) {
+                execution.status = STATUS_TIMEOUT;
+                execution.elapsedNanos = System.nanoTime() - mainThread.startNanos;
+                execution.reusable = false;
+            } else {
+                execution.elapsedNanos = mainThread.elapsedNanos;
+                execution.cpuNanos = mainThread.cpuNanos;
+                execution.usedBytes = rssMeasured ? peakRssBytes() : mainThread.usedBytes;
+                Throwable failure = mainThread.failure;
+                if (failure == null) {
+                    execution.status = STATUS_OK;
+                    execution.reusable = Thread.activeCount() <= threadsBefore;
+                } else if (failure instanceof OutOfMemoryError) {
+                    execution.status = STATUS_MEMORY_LIMIT;
+                    execution.message = String.valueOf(failure);
+                    execution.reusable = false;
+                } else {
+                    // JVM 기본 동작과 같은 형식으로 예외를 출력
+                    trimStackTrace(failure);
+                    userOut.print("Exception in thread \"main\" ");
+                    failure.printStackTrace(userOut);
+                    execution.status = STATUS_EXCEPTION;
+                    execution.message = String.valueOf(failure);
+                    execution.reusable = Thread.activeCount() <= threadsBefore;
+                }
+            }
+            userOut.flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            execution.status = STATUS_ERROR;
+            execution.message = "interrupted";
+            execution.reusable = false;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            execution.status = STATUS_ERROR;
+            execution.message = "Main 클래스의 main 메서드를 찾을 수 없습니다: " + e;
+        } catch (IOException e) {
+            execution.status = STATUS_ERROR;
+            execution.message = String.valueOf(e);
+        } finally {
+            currentOut = null;
+            System.setIn(originalIn);
+            System.setOut(originalOut);
+            System.setErr(originalErr);
+        }
+        return execution;
+    }
+
+    /**
+     * 제출 코드가 주로 사용하는 입출력 클래스를 미리 불러와 첫 실행의 클래스 로딩 비용을 줄입니다.
+     */
+    private static void warmUp() {
+        java.util.Scanner scanner = new java.util.Scanner("1 2.5 word\nline\n");
+        scanner.nextInt();
+        scanner.nextDouble();
+        scanner.next();
+        scanner.nextLine();
+        scanner.nextLine();
+        try (BufferedReader reader = new BufferedReader(new StringReader("1,2 3\n"))) {
+            java.util.StringTokenizer tokenizer = new java.util.StringTokenizer(reader.readLine(), ", ");
+            while (tokenizer.hasMoreTokens()) {
+                Integer.parseInt(tokenizer.nextToken());
+            }
+        } catch (IOException ignored) {
+            // 메모리 문자열이므로 발생하지 않음
+        }
+        PrintStream sink = new PrintStream(OutputStream.nullOutputStream(), false, StandardCharsets.UTF_8);
+        sink.println(String.format("%d %.2f %s", 1, 2.5, "x"));
+        sink.println(String.join(",", "1,2".split(",")));
+        sink.println(new StringBuilder("ab").reverse());
+        // 문자열 연결과 람다의 invokedynamic 부트스트랩도 미리 수행
+        int value = sink.hashCode() & 7;
+        sink.println("value=" + value + " " + scanner);
+        java.util.function.IntUnaryOperator twice = x -> x * 2;
+        sink.println(java.util.stream.IntStream.range(0, 4).map(twice).sum());
+        sink.flush();
+        ManagementFactory.getThreadMXBean().getCurrentThreadCpuTime();
+    }
+
+    /**
+     * 실행 JVM의 리플렉션 호출 프레임을 제거해 일반 JVM에서 실행한 것과 같은 스택 트레이스를 남깁니다.
+     */
+    private static void trimStackTrace(Throwable failure) {
+        for (Throwable current = failure; current != null; current = current.getCause()) {
+            StackTraceElement[] frames = current.getStackTrace();
+            int end = frames.length;
+            while (end > 0 && isRunnerFrame(frames[end - 1])) {
+                end--;
+            }
+            if (end > 0 && end < frames.length) {
+                current.setStackTrace(java.util.Arrays.copyOf(frames, end));
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+    }
+
+    private static boolean isRunnerFrame(StackTraceElement frame) {
+        String className = frame.getClassName();
+        return className.startsWith("jdk.internal.reflect.")
+                || className.startsWith("java.lang.reflect.")
+                || className.startsWith(WarmJvmRunner.class.getName());
+    }
+
+    /**
+     * 종료 훅: 제출 코드가 System.exit 을 호출한 경우 남은 출력을 기록하고 진행 중인 실행의 응답을 보냅니다.
+     * 백엔드는 이 응답을 받은 뒤 프로세스 종료 코드로 정상 종료 여부를 판정합니다.
+     */
+    private static void onShutdown() {
+        PrintStream out = currentOut;
+        if (out != null) {
+            out.flush();
+        }
+        synchronized (REPLY_LOCK) {
+            MainThread run = currentRun;
+            if (run == null) {
+                return;
+            }
+            currentRun = null;
+            try {
+                writeReply(STATUS_EXIT, System.nanoTime() - run.startNanos, run.cpuNanosSoFar(), peakRssBytes(), false, "");
+            } catch (IOException ignored) {
+                // 백엔드가 이미 제어 채널을 닫은 경우
+            }
+        }
+    }
+
+    /**
+     * 최대 RSS(VmHWM)를 현재 RSS로 되돌립니다.
+     *
+     * @return 되돌렸으면 true (/proc 을 쓸 수 없는 환경이면 false 이고 힙 사용량 차이로 대신 측정)
+     */
+    private static boolean resetPeakRss() {
+        try {
+            Files.writeString(PROC_CLEAR_REFS, "5");
+            return true;
+        } catch (IOException | UnsupportedOperationException | SecurityException e) {
+            return false;
+        }
+    }
+
+    private static long peakRssBytes() {
+        try {
+            for (String line : Files.readAllLines(PROC_STATUS)) {
+                if (line.startsWith("VmHWM:")) {
+                    return Long.parseLong(line.substring(6).replace("kB", "").trim()) * 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // /proc 을 읽을 수 없는 환경
+        }
+        return 0;
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return "";
+        }
+        return message.length() > MAX_MESSAGE_LENGTH ? message.substring(0, MAX_MESSAGE_LENGTH) : message;
+    }
+
+    /**
+     * 실행 결과
+     */
+    private static final class Execution {
+        int status = STATUS_ERROR;
+        long elapsedNanos;
+        long cpuNanos;
+        long usedBytes;
+        boolean reusable = true;
+        String message;
+    }
+
+    /**
+     * 제출 코드의 main을 실행하는 스레드 (main 실행 시간과 이 스레드의 CPU 시간만 측정)
+     */
+    private static final class MainThread extends Thread {
+        private final Method main;
+        volatile long startNanos = System.nanoTime();
+        volatile long cpuBefore;
+        volatile long elapsedNanos;
+        volatile long cpuNanos;
+        volatile long usedBytes;
+        volatile Throwable failure;
+
+        MainThread(Method main, ClassLoader loader) {
+            super("main");
+            this.main = main;
+            setContextClassLoader(loader);
+        }
+
+        @Override
+        public void run() {
+            Runtime runtime = Runtime.getRuntime();
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            long usedBefore = runtime.totalMemory() - runtime.freeMemory();
+            cpuBefore = threads.getCurrentThreadCpuTime();
+            startNanos = System.nanoTime();
+            try {
+                main.invoke(null, (Object) new String[0]);
+            } catch (InvocationTargetException e) {
+                failure = e.getCause();
+            } catch (Throwable e) {
+                failure = e;
+            } finally {
+                elapsedNanos = System.nanoTime() - startNanos;
+                cpuNanos = Math.max(0, threads.getCurrentThreadCpuTime() - cpuBefore);
+                usedBytes = Math.max(0, runtime.totalMemory() - runtime.freeMemory() - usedBefore);
+            }
+        }
+
+        /**
+         * 지금까지 사용한 CPU 시간 (System.exit 호출로 main 이 끝나지 않은 경우에도 사용)
+         */
+        long cpuNanosSoFar() {
+            long now = ManagementFactory.getThreadMXBean().getThreadCpuTime(getId());
+            return now < 0 ? cpuNanos : Math.max(0, now - cpuBefore);
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import com.webproject.jandi_ide_backend.algorithm.problem.entity.Problem;
+import com.webproject.jandi_ide_backend.algorithm.testCase.entity.TestCase;
+import com.webproject.jandi_ide_backend.compiler.checker.CheckerEngine;
+import com.webproject.jandi_ide_backend.compiler.checker.CheckerSpec;
+import com.webproject.jandi_ide_backend.compiler.checker.OutputChecker;
+import com.webproject.jandi_ide_backend.compiler.dto.ResultDto;
+import com.webproject.jandi_ide_backend.compiler.dto.ResultStatus;
+import com.webproject.jandi_ide_backend.compiler.dto.TimeLimitPolicy;
+import com.webproject.jandi_ide_backend.compiler.runner.BatchHarness;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+/**
+ * 묶음 실행(batched harness) 실행기
+ *
+ * batchedHarness 가 켜진 문제에서 모든 테스트 케이스 입력을 프레임으로 묶어 하나의 하네스 프로세스에 넘기고,
+ * 하네스가 테스트 케이스마다 제출 코드의 진입점을 다시 호출해 돌려준 출력 프레임을 테스트 케이스별 결과로 나눕니다.
+ * 작은 테스트 케이스가 많은 문제에서 테스트 케이스마다 프로세스(JVM, 인터프리터)를 띄우는 비용을 없앱니다.
+ *
+ * 하네스 결과를 믿을 수 없는 테스트 케이스는 기존 프로세스별 실행으로 다시 채점합니다.
+ * - 예외/비정상 종료, 시간 초과, 출력 초과로 끝난 테스트 케이스와 그 뒤의 프레임이 없는 테스트 케이스
+ * - 하네스 프로세스 전체의 메모리 사용량이 제한을 넘은 경우 (테스트 케이스별로 나눌 수 없으므로 전체)
+ * - 프레임 형식이 깨진 경우 (제출 코드가 원래 표준 출력에 직접 쓴 경우 등) 그 이후 전체
+ * 따라서 묶음 실행에서 바로 판정되는 결과는 정상 종료한 테스트 케이스의 CORRECT/WRONG_ANSWER 뿐입니다.
+ *
+ * fail-fast 로 실행 중이면 하네스 프로세스는 끝까지 실행하되, 처음 WRONG_ANSWER 인 테스트 케이스 뒤의 결과는 버리고 다시 실행하지도 않습니다.
+ */
+@Slf4j
+@Component
+public class BatchedHarnessRunner {
+
+    private static final String PYTHON_HARNESS_RESOURCE = "compiler/python_batch_harness.py";
+    // 하네스 기동(JVM, 인터프리터)에 허용하는 추가 시간
+    private static final long STARTUP_ALLOWANCE_MILLIS = 2000;
+    // 출력 프레임 헤더 한 줄의 최대 크기 추정치
+    private static final long FRAME_HEADER_BYTES = 128;
+
+    private final ProcessRunner processRunner;
+    private final TestCaseExecutor testCaseExecutor;
+    private final CheckerEngine checkerEngine;
+    private final JudgeProgressPublisher progressPublisher;
+
+    private Path javaHarnessClassPath;
+    private Path pythonHarnessScript;
+
+    public BatchedHarnessRunner(ProcessRunner processRunner, TestCaseExecutor testCaseExecutor,
+                                CheckerEngine checkerEngine, JudgeProgressPublisher progressPublisher) {
+        this.processRunner = processRunner;
+        this.testCaseExecutor = testCaseExecutor;
+        this.checkerEngine = checkerEngine;
+        this.progressPublisher = progressPublisher;
+    }
+
+    /**
+     * 문제가 묶음 실행 대상인지 확인합니다.
+     */
+    public boolean isBatched(Problem problem, List<TestCase> testcases) {
+        return Boolean.TRUE.equals(problem.getBatchedHarness()) && testcases.size() > 1;
+    }
+
+    /**
+     * Java 하네스 클래스가 있는 클래스 경로 (처음 호출 시 임시 디렉토리에 꺼냄)
+     */
+    public synchronized Path javaHarnessClassPath() throws IOException {
+        if (javaHarnessClassPath == null) {
+            Path classPath = Files.createTempDirectory("jandi-batch-harness");
+            List<Class<?>> classes = new ArrayList<>();
+            classes.add(BatchHarness.class);
+            classes.addAll(List.of(BatchHarness.class.getDeclaredClasses()));
+            for (Class<?> type : classes) {
+                String resource = type.getName().replace('.', '/') + ".class";
+                Path target = classPath.resolve(resource);
+                Files.createDirectories(target.getParent());
+                copyResource(resource, target);
+            }
+            javaHarnessClassPath = classPath;
+        }
+        return javaHarnessClassPath;
+    }
+
+    /**
+     * Python 하네스 스크립트 경로 (처음 호출 시 임시 파일로 꺼냄)
+     */
+    public synchronized Path pythonHarnessScript() throws IOException {
+        if (pythonHarnessScript == null) {
+            Path script = Files.createTempFile("jandi-batch-harness", ".py");
+            copyResource(PYTHON_HARNESS_RESOURCE, script);
+            script.toFile().deleteOnExit();
+            pythonHarnessScript = script;
+        }
+        return pythonHarnessScript;
+    }
+
+    private void copyResource(String resource, Path target) throws IOException {
+        try (InputStream in = BatchedHarnessRunner.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("Harness resource not found: " + resource);
+            }
+            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 모든 테스트 케이스를 하네스 프로세스 하나로 실행하고, 하네스에서 판정할 수 없는 테스트 케이스는 fallback 으로 실행합니다.
+     *
+     * @param problem 문제 정보 (시간/메모리/출력 제한)
+     * @param testcases 테스트 케이스 목록
+     * @param launcher 하네스 실행 명령 (뒤에 token, 시간 제한, 출력 제한, target 인자가 붙음)
+     * @param target 하네스에 넘길 제출 코드 위치 (Java: 클래스 디렉토리, Python: 소스 파일)
+     * @param workingDir 작업 디렉토리
+     * @param memoryLimitMb 하네스 프로세스 전체에 적용할 메모리 제한 (MB, 런타임 자체 메모리 포함)
+     * @param fallback 테스트 케이스 하나를 프로세스별로 실행하는 작업
+     * @return 테스트 케이스별 실행 결과 (testNum 오름차순)
+     */
+    public List<ResultDto> execute(Problem problem, List<TestCase> testcases, List<String> launcher, String target,
+                                   Path workingDir, int memoryLimitMb, TestCaseExecutor.TestCaseTask fallback) {
+        long timeLimitMillis = problem.getTimeLimit() * 1000L;
+        long outputLimitBytes = processRunner.outputLimitBytes(problem.getOutputLimit());
+        // 제출 코드가 원래 표준 출력에 직접 프레임을 흉내 내지 못하도록 실행마다 임의의 token 사용
+        String token = UUID.randomUUID().toString().replace("-", "");
+        List<String> command = new ArrayList<>(launcher);
+        command.addAll(List.of(token, String.valueOf(timeLimitMillis), String.valueOf(outputLimitBytes), target));
+
+        Map<Integer, Frame> frames = Collections.emptyMap();
+        double peakMemoryMb = 0;
+        try {
+            ProcessRunner.ProcessResult run = testCaseExecutor.callWithPermit(() -> processRunner.run(command, workingDir,
+                    frameInputs(testcases),
+                    timeLimitMillis * testcases.size() + STARTUP_ALLOWANCE_MILLIS,
+                    memoryLimitMb,
+                    (outputLimitBytes + FRAME_HEADER_BYTES) * testcases.size()));
+            // 하네스 전체의 메모리 사용량은 테스트 케이스별로 나눌 수 없으므로 넘으면 모두 다시 실행
+            if (!run.exceedsMemoryLimit(memoryLimitMb) && !run.isOutputLimitExceeded()) {
+                frames = parseFrames(run.getOutput(), token);
+                peakMemoryMb = run.getPeakMemoryMB();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("테스트 케이스 실행이 중단되었습니다", e);
+        } catch (Exception e) {
+            log.warn("Batched harness failed for problem {}: {}", problem.getId(), e.getMessage());
+        }
+
+        List<ResultDto> results = new ArrayList<>();
+        List<TestCase> retry = new ArrayList<>();
+        List<Integer> retryNumbers = new ArrayList<>();
+        JudgeProgressListener progress = progressPublisher.current();
+        TimeLimitPolicy timePolicy = processRunner.getTimePolicy();
+        CheckerSpec checkerSpec = CheckerSpec.of(problem);
+        boolean failFast = testCaseExecutor.isFailFast();
+        for (int i = 0; i < testcases.size(); i++) {
+            TestCase testCase = testcases.get(i);
+            Frame frame = frames.get(i + 1);
+            if (frame == null || !frame.isJudgeable(timePolicy, timeLimitMillis)) {
+                retry.add(testCase);
+                retryNumbers.add(i + 1);
+                continue;
+            }
+            ResultDto result = judge(testCase, i + 1, frame, checkerEngine.create(checkerSpec, testCase), timePolicy, peakMemoryMb);
+            progress.verdict(result);
+            results.add(result);
+            if (failFast && result.getStatus() != ResultStatus.CORRECT) {
+                // 앞쪽에서 다시 실행할 테스트 케이스만 남기고 중단
+                break;
+            }
+        }
+
+        if (!retry.isEmpty()) {
+            log.debug("Batched harness judged {} of {} test cases, re-running {} per process",
+                    results.size(), testcases.size(), retry.size());
+            results.addAll(testCaseExecutor.execute(retry, retryNumbers, fallback));
+        }
+        results.sort(Comparator.comparingInt(ResultDto::getTestNum));
+        return results;
+    }
+
+    /**
+     * 각 테스트 케이스 입력을 (바이트 수 + 줄바꿈 + 입력) 프레임으로 묶습니다.
+     * 입력은 프로세스별 실행과 같은 형식(공백 구분을 쉼표 구분으로 변환)으로 넘깁니다.
+     */
+    private String frameInputs(List<TestCase> testcases) {
+        StringBuilder framed = new StringBuilder();
+        for (TestCase testCase : testcases) {
+            String formattedInput = TestDataStore.formatInput(testCase.getInput());
+            framed.append(formattedInput.getBytes(StandardCharsets.UTF_8).length).append('\n').append(formattedInput);
+        }
+        return framed.toString();
+    }
+
+    /**
+     * 하네스 출력을 테스트 케이스별 프레임으로 나눕니다. 형식이 깨진 지점부터는 버립니다.
+     */
+    private Map<Integer, Frame> parseFrames(String output, String token) {
+        Map<Integer, Frame> frames = new HashMap<>();
+        byte[] bytes = output.getBytes(StandardCharsets.UTF_8);
+        int position = 0;
+        int expectedIndex = 1;
+        while (position < bytes.length) {
+            int lineEnd = indexOf(bytes, (byte) '\n', position);
+            if (lineEnd < 0) {
+                break;
+            }
+            String[] header = new String(bytes, position, lineEnd - position, StandardCharsets.UTF_8).split(" ");
+            if (header.length == 2 && header[0].equals(token) && header[1].equals(BatchHarness.END)) {
+                break;
+            }
+            try {
+                if (header.length != 6 || !header[0].equals(token) || Integer.parseInt(header[1]) != expectedIndex) {
+                    break;
+                }
+                int length = Integer.parseInt(header[5]);
+                if (lineEnd + 1 + length > bytes.length) {
+                    break;
+                }
+                frames.put(expectedIndex, new Frame(header[2], Long.parseLong(header[3]) / 1000.0,
+                        Long.parseLong(header[4]) / 1000.0, new String(bytes, lineEnd + 1, length, StandardCharsets.UTF_8)));
+                position = lineEnd + 1 + length;
+                expectedIndex++;
+            } catch (NumberFormatException e) {
+                break;
+            }
+        }
+        return frames;
+    }
+
+    private static int indexOf(byte[] bytes, byte value, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private ResultDto judge(TestCase testCase, int testNum, Frame frame, OutputChecker checker,
+                            TimeLimitPolicy timePolicy, double peakMemoryMb) {
+        boolean matched = checker.matches(frame.output);
+        return ResultDto.builder()
+                .testNum(testNum)
+                .input(testCase.getInput())
+                .expectedResult(testCase.getOutput())
+                .actualResult(processRunner.storedOutput(frame.output).trim())
+                .executionTime(frame.wallMillis)
+                .cpuTime(frame.cpuMillis)
+                .timePolicy(timePolicy)
+                .usedMemory(peakMemoryMb)
+                .status(matched ? ResultStatus.CORRECT : ResultStatus.WRONG_ANSWER)
+                .firstDifference(matched ? null : checker.getFirstDifference())
+                .build();
+    }
+
+    /**
+     * 테스트 케이스 하나의 하네스 출력 프레임
+     */
+    private static class Frame {
+        private final String status;
+        private final double wallMillis;
+        private final double cpuMillis;
+        private final String output;
+
+        Frame(String status, double wallMillis, double cpuMillis, String output) {
+            this.status = status;
+            this.wallMillis = wallMillis;
+            this.cpuMillis = cpuMillis;
+            this.output = output;
+        }
+
+        /**
+         * 정상 종료했고 시간 제한 안에 끝나 하네스 결과로 바로 판정할 수 있는지 여부
+         */
+        boolean isJudgeable(TimeLimitPolicy timePolicy, long timeLimitMillis) {
+            double measured = timePolicy == TimeLimitPolicy.CPU ? cpuMillis : wallMillis;
+            return BatchHarness.STATUS_OK.equals(status) && measured <= timeLimitMillis;
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 컴파일 결과물 캐시
+ *
+ * (언어, 컴파일러 옵션, 소스 코드)의 SHA-256 해시를 키로 컴파일 결과물(Main.class, Main 실행 파일 등)을
+ * 로컬 디스크에 보관합니다. 같은 코드를 다시 실행하거나 제출하면 컴파일을 건너뛰고 결과물을 복사해 사용합니다.
+ *
+ * - 전체 크기(바이트) 기준 LRU 방식으로 오래 사용하지 않은 항목부터 제거합니다.
+ * - 항목은 디렉토리 단위로 저장되며 마지막 사용 시각을 디렉토리 수정 시각에 기록하므로 재시작 후에도 유지됩니다.
+ * - 적중/실패/제거 횟수는 Micrometer 지표(judge.artifact.cache.*)로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class CompiledArtifactCache {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final boolean enabled;
+    private final Path cacheDir;
+    private final long maxBytes;
+
+    // 키 -> 항목 크기 (접근 순서, 가장 오래된 항목이 앞)
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes = 0;
+
+    // 복사 중인 항목이 제거되지 않도록 보호 (복원은 공유, 저장/제거는 배타)
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    /**
+     * 컴파일 결과물 캐시 생성자
+     *
+     * @param enabled 캐시 사용 여부
+     * @param cacheDir 캐시 디렉토리
+     * @param maxBytes 캐시 최대 크기 (바이트)
+     * @param meterRegistry 지표 레지스트리
+     */
+    public CompiledArtifactCache(
+            @Value("${compiler.artifact-cache.enabled:true}") boolean enabled,
+            @Value("${compiler.artifact-cache.dir:compiler_cache}") String cacheDir,
+            @Value("${compiler.artifact-cache.max-bytes:268435456}") long maxBytes,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.cacheDir = Paths.get(cacheDir);
+        this.maxBytes = maxBytes;
+
+        this.hitCounter = Counter.builder("judge.artifact.cache.hits")
+                .description("컴파일 결과물 캐시 적중 횟수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("judge.artifact.cache.misses")
+                .description("컴파일 결과물 캐시 실패 횟수")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("judge.artifact.cache.evictions")
+                .description("컴파일 결과물 캐시 제거 횟수")
+                .register(meterRegistry);
+        Gauge.builder("judge.artifact.cache.size", this, CompiledArtifactCache::getTotalBytes)
+                .description("컴파일 결과물 캐시 크기 (바이트)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        if (enabled) {
+            loadIndex();
+        }
+    }
+
+    /**
+     * 캐시 키를 생성합니다.
+     *
+     * @param language 프로그래밍 언어
+     * @param compilerFlags 컴파일러 및 옵션 (옵션이 바뀌면 다른 결과물로 취급)
+     * @param source 소스 코드
+     * @return SHA-256 16진수 문자열
+     */
+    public String key(String language, String compilerFlags, String source) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(language.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(compilerFlags.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 캐시된 결과물을 작업 디렉토리로 복사합니다.
+     *
+     * @param key 캐시 키
+     * @param workingDir 결과물을 복사할 작업 디렉토리
+     * @return 캐시 적중 여부
+     */
+    public boolean restore(String key, Path workingDir) {
+        if (!enabled) {
+            return false;
+        }
+
+        lock.readLock().lock();
+        try {
+            synchronized (entries) {
+                if (entries.get(key) == null) {
+                    missCounter.increment();
+                    return false;
+                }
+            }
+
+            Path entryDir = cacheDir.resolve(key);
+            try (Stream<Path> files = Files.list(entryDir)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.copy(file, workingDir.resolve(file.getFileName()),
+                            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+                }
+                // 마지막 사용 시각 기록 (재시작 후 LRU 순서 복원용)
+                Files.setLastModifiedTime(entryDir, FileTime.fromMillis(System.currentTimeMillis()));
+            }
+            hitCounter.increment();
+            log.debug("Artifact cache hit: {}", key);
+            return true;
+        } catch (IOException e) {
+            log.warn("Failed to restore cached artifact {}: {}", key, e.getMessage());
+            missCounter.increment();
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 컴파일 결과물을 캐시에 저장합니다.
+     * 저장에 실패해도 채점에는 영향을 주지 않습니다.
+     *
+     * @param key 캐시 키
+     * @param artifacts 저장할 결과물 파일 목록
+     */
+    public void store(String key, List<Path> artifacts) {
+        if (!enabled || artifacts.isEmpty()) {
+            return;
+        }
+
+        Path tempDir = cacheDir.resolve(key + "." + UUID.randomUUID() + TEMP_SUFFIX);
+        try {
+            // 임시 디렉토리에 먼저 복사한 뒤 이름을 바꿔 반쯤 쓰인 항목이 보이지 않도록 함
+            Files.createDirectories(tempDir);
+            long size = 0;
+            for (Path artifact : artifacts) {
+                Path target = tempDir.resolve(artifact.getFileName());
+                Files.copy(artifact, target, StandardCopyOption.COPY_ATTRIBUTES);
+                size += Files.size(target);
+            }
+            if (size > maxBytes) {
+                log.debug("Artifact {} is larger than the cache ({} bytes), not cached", key, size);
+                deleteRecursively(tempDir);
+                return;
+            }
+
+            lock.writeLock().lock();
+            try {
+                synchronized (entries) {
+                    if (entries.containsKey(key)) {
+                        deleteRecursively(tempDir);
+                        return;
+                    }
+                }
+                Path entryDir = cacheDir.resolve(key);
+                deleteRecursively(entryDir);
+                Files.move(tempDir, entryDir, StandardCopyOption.ATOMIC_MOVE);
+                synchronized (entries) {
+                    entries.put(key, size);
+                    totalBytes += size;
+                }
+                evictIfNeeded();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.debug("Artifact cached: {} ({} bytes)", key, size);
+        } catch (IOException e) {
+            log.warn("Failed to cache artifact {}: {}", key, e.getMessage());
+            deleteRecursively(tempDir);
+        }
+    }
+
+    /**
+     * 캐시에 저장된 전체 결과물 크기 (바이트)
+     */
+    public long getTotalBytes() {
+        synchronized (entries) {
+            return totalBytes;
+        }
+    }
+
+    /**
+     * 전체 크기가 한도를 넘으면 가장 오래 사용하지 않은 항목부터 제거합니다.
+     * 쓰기 잠금을 잡은 상태에서 호출해야 합니다.
+     */
+    private void evictIfNeeded() {
+        while (true) {
+            String eldestKey;
+            long eldestSize;
+            synchronized (entries) {
+                if (totalBytes <= maxBytes || entries.isEmpty()) {
+                    return;
+                }
+                Map.Entry<String, Long> eldest = entries.entrySet().iterator().next();
+                eldestKey = eldest.getKey();
+                eldestSize = eldest.getValue();
+                entries.remove(eldestKey);
+                totalBytes -= eldestSize;
+            }
+            deleteRecursively(cacheDir.resolve(eldestKey));
+            evictionCounter.increment();
+            log.debug("Artifact evicted: {} ({} bytes)", eldestKey, eldestSize);
+        }
+    }
+
+    /**
+     * 시작 시 디스크의 캐시 항목을 읽어 마지막 사용 시각 순서로 인덱스를 복원합니다.
+     */
+    private void loadIndex() {
+        try {
+            Files.createDirectories(cacheDir);
+            List<Path> entryDirs = new ArrayList<>();
+            try (Stream<Path> dirs = Files.list(cacheDir)) {
+                dirs.filter(Files::isDirectory).forEach(entryDirs::add);
+            }
+
+            entryDirs.sort(Comparator.comparingLong(dir -> dir.toFile().lastModified()));
+            for (Path dir : entryDirs) {
+                String name = dir.getFileName().toString();
+                if (name.endsWith(TEMP_SUFFIX)) {
+                    // 이전 실행에서 저장하다 중단된 항목
+                    deleteRecursively(dir);
+                    continue;
+                }
+                long size = directorySize(dir);
+                entries.put(name, size);
+                totalBytes += size;
+            }
+            lock.writeLock().lock();
+            try {
+                evictIfNeeded();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Artifact cache loaded: dir={}, entries={}, bytes={}, maxBytes={}",
+                    cacheDir.toAbsolutePath(), entries.size(), totalBytes, maxBytes);
+        } catch (IOException e) {
+            log.error("Failed to load artifact cache from {}", cacheDir.toAbsolutePath(), e);
+        }
+    }
+
+    private long directorySize(Path dir) throws IOException {
+        long size = 0;
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                size += Files.size(file);
+            }
+        }
+        return size;
+    }
+
+    private void deleteRecursively(Path path) {
+        File file = path.toFile();
+        if (!file.exists()) {
+            return;
+        }
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child.toPath());
+            }
+        }
+        if (!file.delete()) {
+            log.warn("Failed to delete cache file: {}", file.getAbsolutePath());
+        }
+    }
+}
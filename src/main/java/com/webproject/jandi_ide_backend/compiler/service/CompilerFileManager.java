@@ -1,46 +1,186 @@
 package com.webproject.jandi_ide_backend.compiler.service;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 /**
  * 컴파일러 파일 관리 클래스
  * 
  * 코드 처리를 위한 파일 및 디렉토리 생성, 관리, 삭제를 담당하는 유틸리티 클래스
+ * 
+ * 작업 디렉토리는 제출마다 겹치지 않는 디렉토리를 미리 만들어 둔 풀에서 나눠 줍니다.
+ * - 같은 사용자가 같은 문제에 동시에 제출해도 서로의 소스/실행 파일을 덮어쓰지 않습니다.
+ * - 사용이 끝난 디렉토리는 백그라운드에서 비운 뒤 풀에 돌려주므로, 채점 경로에서 재귀 삭제를 기다리지 않습니다.
+ * - root 를 /dev/shm 같은 메모리 기반 파일 시스템으로 지정하면 소스/실행 파일 입출력이 디스크를 거치지 않습니다.
+ * - 작업 디렉토리 하나의 사용량이 quota-mb 를 넘으면 checkQuota 에서 오류가 발생하며, 넘은 디렉토리는 재사용하지 않습니다.
  */
 @Slf4j
 @Component
 public class CompilerFileManager {
     
-    private static final String BASE_DIR = "compiler_workspace";
-    
+    private static final String WORKSPACE_PREFIX = "ws-";
+
+    private final Path baseDir;
+    // 이번 실행에서 만든 작업 디렉토리 이름의 접두어 (이전 실행에서 남은 디렉토리와 구분)
+    private final String instancePrefix = WORKSPACE_PREFIX + Long.toString(System.currentTimeMillis(), 36) + "-";
+    private final int poolSize;
+    private final long quotaBytes;
+
+    // 비어 있는 재사용 가능한 작업 디렉토리
+    private final BlockingDeque<Path> readyDirs = new LinkedBlockingDeque<>();
+    private final AtomicLong workspaceNumber = new AtomicLong(1);
+    private final ExecutorService cleaner;
+
+    /**
+     * 컴파일러 파일 관리자 생성자
+     *
+     * @param root 작업 디렉토리들을 만들 루트 디렉토리 (tmpfs 경로 권장)
+     * @param poolSize 미리 만들어 두고 재사용할 작업 디렉토리 수
+     * @param quotaMb 작업 디렉토리 하나의 최대 사용량 (MB)
+     * @param meterRegistry 지표 레지스트리
+     */
+    public CompilerFileManager(
+            @Value("${compiler.workspace.root:compiler_workspace}") String root,
+            @Value("${compiler.workspace.pool-size:16}") int poolSize,
+            @Value("${compiler.workspace.quota-mb:256}") long quotaMb,
+            MeterRegistry meterRegistry) {
+        this.baseDir = Paths.get(root);
+        this.poolSize = Math.max(0, poolSize);
+        this.quotaBytes = Math.max(1, quotaMb) * 1024 * 1024;
+        this.cleaner = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "judge-workspace-cleaner");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("judge.workspace.ready", readyDirs, BlockingDeque::size)
+                .description("바로 사용할 수 있는 작업 디렉토리 수")
+                .register(meterRegistry);
+    }
+
     /**
-     * 사용자 ID와 문제 ID를 기반으로 작업 디렉토리 경로를 생성하고 디렉토리를 만듭니다.
+     * 제출 하나가 단독으로 사용할 작업 디렉토리를 할당합니다.
+     * 풀에 비어 있는 디렉토리가 있으면 바로 돌려주고, 없으면 새로 만듭니다.
+     * 사용이 끝나면 반드시 releaseWorkingDir 로 반환해야 합니다.
      * 
-     * @param userId 사용자 ID
-     * @param problemId 문제 ID
-     * @return 생성된 작업 디렉토리 경로
+     * @param userId 사용자 ID (로그용)
+     * @param problemId 문제 ID (로그용)
+     * @return 할당된 작업 디렉토리 경로
      * @throws IOException 디렉토리 생성 중 오류 발생 시
      */
     public Path createWorkingDir(Long userId, Long problemId) throws IOException {
-        // 기본 디렉토리 구조: compiler_workspace/user_{userId}/problem_{problemId}/
-        String userDir = "user_" + userId;
-        String problemDir = "problem_" + problemId;
-        Path workingDir = Paths.get(BASE_DIR, userDir, problemDir);
-        
-        // 디렉토리 생성
-        Files.createDirectories(workingDir);
-        log.debug("Created working directory: {}", workingDir);
-        
+        Path workingDir = readyDirs.pollFirst();
+        if (workingDir == null) {
+            workingDir = newWorkspace();
+        }
+        log.debug("Allocated working directory {} (user={}, problem={})", workingDir, userId, problemId);
         return workingDir;
     }
+
+    /**
+     * 작업 디렉토리를 반환합니다.
+     * 내용은 백그라운드에서 지우고, 풀이 가득 차지 않았으면 비운 디렉토리를 다시 풀에 넣습니다.
+     *
+     * @param workingDir createWorkingDir 로 받은 작업 디렉토리
+     */
+    public void releaseWorkingDir(Path workingDir) {
+        if (workingDir == null) {
+            return;
+        }
+        cleaner.execute(() -> recycle(workingDir));
+    }
+
+    /**
+     * 작업 디렉토리 사용량이 할당량을 넘었는지 확인합니다.
+     *
+     * @param workingDir 작업 디렉토리
+     * @throws IOException 할당량을 넘은 경우
+     */
+    public void checkQuota(Path workingDir) throws IOException {
+        long usage = diskUsage(workingDir);
+        if (usage > quotaBytes) {
+            throw new IOException("작업 디렉토리 용량 제한(" + quotaBytes / (1024 * 1024) + "MB)을 초과했습니다 (사용량: "
+                    + usage / (1024 * 1024) + "MB)");
+        }
+    }
+
+    private Path newWorkspace() throws IOException {
+        while (true) {
+            Path workingDir = baseDir.resolve(instancePrefix + workspaceNumber.getAndIncrement());
+            try {
+                return Files.createDirectory(workingDir);
+            } catch (FileAlreadyExistsException e) {
+                // 이전 실행에서 남은 디렉토리와 이름이 겹치면 다음 번호 사용
+            }
+        }
+    }
+
+    private void recycle(Path workingDir) {
+        try {
+            boolean overQuota = diskUsage(workingDir) > quotaBytes;
+            if (overQuota || readyDirs.size() >= poolSize) {
+                deleteRecursively(workingDir);
+                return;
+            }
+            try (Stream<Path> children = Files.list(workingDir)) {
+                for (Path child : (Iterable<Path>) children::iterator) {
+                    deleteRecursively(child);
+                }
+            }
+            readyDirs.offerLast(workingDir);
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Failed to recycle working directory {}: {}", workingDir, e.getMessage());
+        }
+    }
+
+    private long diskUsage(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile).mapToLong(file -> {
+                try {
+                    return Files.size(file);
+                } catch (IOException e) {
+                    // 실행 중 삭제된 입출력 파일
+                    return 0;
+                }
+            }).sum();
+        } catch (NoSuchFileException e) {
+            return 0;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void deleteRecursively(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(path)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
     
     /**
      * 작업 디렉토리에 Java 코드 파일을 생성합니다.
@@ -159,17 +299,44 @@ public class CompilerFileManager {
     
     /**
      * 기본 컴파일러 작업 디렉토리를 생성합니다.
-     * 애플리케이션 시작 시 호출됩니다.
+     * 애플리케이션 시작 시 호출되며, 이전 실행에서 남은 디렉토리는 백그라운드에서 지우고 작업 디렉토리 풀을 채웁니다.
      */
     public void initCompilerWorkspace() {
         try {
-            Path baseDir = Paths.get(BASE_DIR);
-            if (!Files.exists(baseDir)) {
-                Files.createDirectories(baseDir);
-                log.info("Created compiler workspace directory: {}", baseDir.toAbsolutePath());
-            }
+            Files.createDirectories(baseDir);
+            log.info("Compiler workspace directory: {} (pool={}, quota={}MB)",
+                    baseDir.toAbsolutePath(), poolSize, quotaBytes / (1024 * 1024));
         } catch (IOException e) {
             log.error("Failed to create compiler workspace directory", e);
+            return;
         }
+        cleaner.execute(() -> {
+            try (Stream<Path> leftovers = Files.list(baseDir)) {
+                for (Path leftover : (Iterable<Path>) leftovers::iterator) {
+                    // 정리 중에 이미 할당된 이번 실행의 작업 디렉토리는 건드리지 않음
+                    if (!leftover.getFileName().toString().startsWith(instancePrefix)) {
+                        deleteRecursively(leftover);
+                    }
+                }
+            } catch (IOException | UncheckedIOException e) {
+                log.warn("Failed to clean up previous working directories: {}", e.getMessage());
+            }
+            while (readyDirs.size() < poolSize) {
+                try {
+                    readyDirs.offerLast(newWorkspace());
+                } catch (IOException e) {
+                    log.warn("Failed to pre-create working directory: {}", e.getMessage());
+                    return;
+                }
+            }
+        });
+    }
+
+    /**
+     * 애플리케이션 종료 시 스레드 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        cleaner.shutdownNow();
     }
-} 
\ No newline at end of file
+}
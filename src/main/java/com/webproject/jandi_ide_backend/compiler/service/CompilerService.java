@@ -2,79 +2,99 @@ package com.webproject.jandi_ide_backend.compiler.service;
 
 import com.webproject.jandi_ide_backend.algorithm.problem.entity.Problem;
 import com.webproject.jandi_ide_backend.algorithm.problem.service.ProblemService;
+import com.webproject.jandi_ide_backend.algorithm.problemSet.Repository.ProblemSetRepository;
 import com.webproject.jandi_ide_backend.algorithm.solution.entity.Solution;
 import com.webproject.jandi_ide_backend.algorithm.solution.entity.Solution.SolutionStatus;
 import com.webproject.jandi_ide_backend.algorithm.solution.service.SolutionService;
 import com.webproject.jandi_ide_backend.algorithm.testCase.entity.TestCase;
 import com.webproject.jandi_ide_backend.algorithm.testCase.service.TestCaseService;
 import com.webproject.jandi_ide_backend.compiler.dto.CodeSubmissionDto;
+import com.webproject.jandi_ide_backend.compiler.dto.CompileDiagnosticDto;
 import com.webproject.jandi_ide_backend.compiler.dto.CompileResultDto;
 import com.webproject.jandi_ide_backend.compiler.dto.CompilerErrorResponseDto;
+import com.webproject.jandi_ide_backend.compiler.dto.JudgeMode;
 import com.webproject.jandi_ide_backend.compiler.dto.ResultDto;
 import com.webproject.jandi_ide_backend.compiler.dto.ResultStatus;
 import com.webproject.jandi_ide_backend.compiler.dto.SaveSolutionDto;
 import com.webproject.jandi_ide_backend.compiler.exception.CompilerException;
+import com.webproject.jandi_ide_backend.compiler.exception.JudgeOverloadedException;
 import com.webproject.jandi_ide_backend.user.entity.User;
 import com.webproject.jandi_ide_backend.user.service.UserService;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.*;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.*;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 /**
  * 코드 컴파일 및 실행 서비스
  * 
  * 사용자가 제출한 코드를 컴파일하고 실행하여 결과를 반환하는 서비스입니다.
- * Java, Python, C++ 언어를 지원하며, 알고리즘 문제 풀이 및 단순 코드 테스트 기능을 제공합니다.
+ * 언어별 처리는 LanguageRuntime 구현체(Java, Python, C++)에 맡기며, 알고리즘 문제 풀이 및 단순 코드 테스트 기능을 제공합니다.
+ * 채점 방식(JudgeMode)은 요청, 문제집(ProblemSet.failFast), 서버 기본값(compiler.judge.mode) 순으로 정합니다.
  */
 @Service
 @Slf4j
 public class CompilerService {
 
-    private final JavaCompiler javaCompiler;
-    private final PythonCompiler pythonCompiler;
-    private final CppCompiler cppCompiler;
+    private final LanguageRuntimeRegistry runtimeRegistry;
     private final ProblemService problemService;
     private final TestCaseService testCaseService;
     private final UserService userService;
     private final SolutionService solutionService;
     private final CompilerFileManager fileManager;
+    private final JudgeProgressPublisher progressPublisher;
+    private final JudgeScheduler scheduler;
+    private final TestCaseExecutor testCaseExecutor;
+    private final ProblemSetRepository problemSetRepository;
+    private final JudgeMode defaultJudgeMode;
 
     /**
      * 컴파일러 서비스 생성자
      * 
-     * @param javaCompiler Java 컴파일러
-     * @param pythonCompiler Python 컴파일러
-     * @param cppCompiler C++ 컴파일러
+     * @param runtimeRegistry 언어 런타임 레지스트리
      * @param problemService 문제 서비스
      * @param testCaseService 테스트 케이스 서비스
      * @param userService 사용자 서비스
      * @param solutionService 솔루션 서비스
      * @param fileManager 컴파일러 파일 관리자
+     * @param progressPublisher 채점 진행 이벤트 발행기
+     * @param scheduler 채점 스케줄러
+     * @param testCaseExecutor 테스트 케이스 실행기 (fail-fast 적용)
+     * @param problemSetRepository 문제집 조회 (문제집별 채점 방식)
+     * @param defaultJudgeMode 요청과 문제집에 채점 방식이 없을 때의 채점 방식 (full, fail-fast)
      */
     public CompilerService(
-            JavaCompiler javaCompiler,
-            PythonCompiler pythonCompiler,
-            CppCompiler cppCompiler,
+            LanguageRuntimeRegistry runtimeRegistry,
             ProblemService problemService,
             TestCaseService testCaseService,
             UserService userService,
             SolutionService solutionService,
-            CompilerFileManager fileManager) {
-        this.javaCompiler = javaCompiler;
-        this.pythonCompiler = pythonCompiler;
-        this.cppCompiler = cppCompiler;
+            CompilerFileManager fileManager,
+            JudgeProgressPublisher progressPublisher,
+            JudgeScheduler scheduler,
+            TestCaseExecutor testCaseExecutor,
+            ProblemSetRepository problemSetRepository,
+            @Value("${compiler.judge.mode:full}") String defaultJudgeMode) {
+        this.runtimeRegistry = runtimeRegistry;
         this.problemService = problemService;
         this.testCaseService = testCaseService;
         this.userService = userService;
         this.solutionService = solutionService;
         this.fileManager = fileManager;
+        this.progressPublisher = progressPublisher;
+        this.scheduler = scheduler;
+        this.testCaseExecutor = testCaseExecutor;
+        this.problemSetRepository = problemSetRepository;
+        this.defaultJudgeMode = JudgeMode.valueOf(defaultJudgeMode.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
     }
     
     /**
@@ -109,7 +129,8 @@ public class CompilerService {
         
         // 3. 언어별 컴파일러 선택 및 실행
         List<ResultDto> results = compileAndRun(problem, testCases, submissionDto.getCode(), 
-                                             submissionDto.getLanguage(), submissionDto.getUserId());
+                                             submissionDto.getLanguage(), submissionDto.getUserId(),
+                                             resolveJudgeMode(submissionDto));
         
         // 4. 결과 분석
         boolean isAllPass = results.stream().allMatch(result -> result.getStatus() == ResultStatus.CORRECT);
@@ -172,12 +193,16 @@ public class CompilerService {
                 status = SolutionStatus.COMPILATION_ERROR;
                 String errorDetails = getErrorDetails(results);
                 throw new CompilerException("컴파일 에러가 발생했습니다", status, errorDetails, 
-                        submissionDto.getCode(), submissionDto.getLanguage());
+                        submissionDto.getCode(), submissionDto.getLanguage(), getDiagnostics(results));
             } else if (hasRuntimeError(results)) {
                 status = SolutionStatus.RUNTIME_ERROR;
                 String errorDetails = getErrorDetails(results);
                 throw new CompilerException("런타임 에러가 발생했습니다", status, errorDetails, 
                         submissionDto.getCode(), submissionDto.getLanguage());
+            } else if (hasOutputLimitError(results)) {
+                status = SolutionStatus.OUTPUT_LIMIT;
+                throw new CompilerException("출력 초과가 발생했습니다", status, "프로그램의 출력이 출력 제한을 초과했습니다", 
+                        submissionDto.getCode(), submissionDto.getLanguage());
             } else if (hasTimeoutError(results)) {
                 status = SolutionStatus.TIMEOUT;
                 throw new CompilerException("시간 초과가 발생했습니다", status, "실행 시간이 제한 시간을 초과했습니다", 
@@ -220,59 +245,10 @@ public class CompilerService {
         StringBuilder output = new StringBuilder();
         Double executionTime = 0.0;
         Double memoryUsage = 0.0;
-        boolean isCompiled = false;
-        boolean isExecuted = false;
         SolutionStatus status = SolutionStatus.SUBMITTED;
         
         try {
-            // 언어별 처리
-            switch (language.toLowerCase()) {
-                case "java":
-                    output.append("자바 코드 컴파일 시작...\n");
-                    isCompiled = checkJavaCompilation(code, output);
-                    if (!isCompiled) {
-                        status = SolutionStatus.COMPILATION_ERROR;
-                        throw new CompilerException("자바 컴파일 에러", status, output.toString(), code, language);
-                    }
-                    output.append("컴파일 성공. 실행 시작...\n\n");
-                    isExecuted = checkJavaExecution(code, simpleInput, output);
-                    if (!isExecuted) {
-                        status = SolutionStatus.RUNTIME_ERROR;
-                        throw new CompilerException("자바 실행 오류", status, output.toString(), code, language);
-                    }
-                    break;
-                    
-                case "python":
-                    output.append("파이썬 코드 실행 시작...\n");
-                    isCompiled = true; // Python은 인터프리터 언어라 컴파일 단계가 없음
-                    isExecuted = checkPythonExecution(code, simpleInput, output);
-                    if (!isExecuted) {
-                        status = SolutionStatus.RUNTIME_ERROR;
-                        throw new CompilerException("파이썬 실행 오류", status, output.toString(), code, language);
-                    }
-                    break;
-                    
-                case "c++":
-                    output.append("C++ 코드 컴파일 시작...\n");
-                    isCompiled = checkCppCompilation(code, output);
-                    if (!isCompiled) {
-                        status = SolutionStatus.COMPILATION_ERROR;
-                        throw new CompilerException("C++ 컴파일 에러", status, output.toString(), code, language);
-                    }
-                    output.append("컴파일 성공! 실행 시작...\n\n");
-                    isExecuted = checkCppExecution(code, simpleInput, output);
-                    if (!isExecuted) {
-                        status = SolutionStatus.RUNTIME_ERROR;
-                        throw new CompilerException("C++ 실행 오류", status, output.toString(), code, language);
-                    }
-                    break;
-                    
-                default:
-                    output.append("지원하지 않는 언어입니다: ").append(language);
-                    output.append("\n현재 지원 언어: java, python, c++");
-                    throw new CompilerException("지원하지 않는 언어", SolutionStatus.COMPILATION_ERROR, 
-                          "언어: " + language + "는 지원되지 않습니다. 지원 언어: java, python, c++", code, language);
-            }
+            runSimpleCheck(user, code, language, simpleInput, output);
             
             // 상태 결정 - 모든 검사 통과 시 CORRECT
             status = SolutionStatus.CORRECT;
@@ -306,384 +282,53 @@ public class CompilerService {
     }
     
     /**
-     * Java 코드 컴파일 여부 확인
+     * 언어 런타임으로 단순 컴파일/실행 검사를 수행합니다.
+     * 다른 제출과 겹치지 않는 작업 디렉토리에서 컴파일한 뒤 간단한 입력으로 한 번 실행합니다.
      * 
-     * @param code 컴파일할 Java 코드
-     * @param output 컴파일 결과 및 오류 메시지를 저장할 StringBuilder
-     * @return 컴파일 성공 여부
-     */
-    private boolean checkJavaCompilation(String code, StringBuilder output) {
-        File javaFile = null;
-        try {
-            // 임시 파일 생성
-            javaFile = new File("Main.java");
-            try (FileWriter writer = new FileWriter(javaFile)) {
-                writer.write(code);
-            }
-            
-            // 컴파일 프로세스 실행
-            ProcessBuilder compilePb = new ProcessBuilder("javac", javaFile.getAbsolutePath());
-            Process compileProcess = compilePb.start();
-            
-            // 프로세스 출력 수집
-            String[] results = collectProcessOutput(compileProcess, 10); // 10초 타임아웃
-            String stdOut = results[0];
-            String stdErr = results[1];
-            
-            // 프로세스 종료 대기
-            int exitCode = compileProcess.waitFor();
-            
-            // 컴파일 결과 확인 (종료 코드가 0이 아니면 컴파일 실패)
-            if (exitCode != 0) {
-                // 오류 출력이 있으면 추가
-                if (!stdErr.isEmpty()) {
-                    output.append(stdErr);
-                }
-                // 표준 출력도 있으면 추가 (일부 컴파일러는 표준 출력으로 오류 메시지를 출력할 수 있음)
-                if (!stdOut.isEmpty()) {
-                    output.append(stdOut);
-                }
-                
-                // 둘 다 비어있으면 기본 메시지
-                if (stdErr.isEmpty() && stdOut.isEmpty()) {
-                    output.append("컴파일 실패 (종료 코드: ").append(exitCode).append(")");
-                }
-                
-                return false;
-            }
-            
-            // 성공이지만 출력이 있는 경우 (경고 등)
-            if (!stdOut.isEmpty()) {
-                output.append("컴파일러 출력: ").append(stdOut);
-            }
-            
-            return true;
-        } catch (TimeoutException e) {
-            output.append("컴파일 시간 초과 (10초)");
-            return false;
-        } catch (Exception e) {
-            output.append("컴파일 중 시스템 오류: ").append(e.getMessage());
-            return false;
-        } finally {
-            // 임시 파일 정리
-            if (javaFile != null) {
-                javaFile.delete();
-            }
-            // 클래스 파일 삭제
-            new File("Main.class").delete();
-        }
-    }
-    
-    /**
-     * Java 코드 실행 여부 확인
-     * 
-     * @param code 실행할 Java 코드
-     * @param input 표준 입력으로 전달할 데이터
-     * @param output 실행 결과 및 오류 메시지를 저장할 StringBuilder
-     * @return 실행 성공 여부
-     */
-    private boolean checkJavaExecution(String code, String input, StringBuilder output) {
-        File javaFile = null;
-        try {
-            // 임시 파일 생성
-            javaFile = new File("Main.java");
-            try (FileWriter writer = new FileWriter(javaFile)) {
-                writer.write(code);
-            }
-            
-            // 실행 프로세스 시작
-            ProcessBuilder runPb = new ProcessBuilder("java", "Main");
-            Process runProcess = runPb.start();
-            
-            // 입력 데이터 전달
-            if (input != null && !input.isEmpty()) {
-                try (BufferedWriter processInput = new BufferedWriter(new OutputStreamWriter(runProcess.getOutputStream()))) {
-                    processInput.write(input);
-                    processInput.newLine();
-                    processInput.flush();
-                }
-            }
-            
-            // 프로세스 출력 수집 (5초 타임아웃)
-            String[] results = collectProcessOutput(runProcess, 5);
-            String stdOut = results[0];
-            String stdErr = results[1];
-            
-            // 프로세스 종료 대기
-            int exitCode = runProcess.waitFor();
-            
-            // 실행 결과 및 오류 기록
-            output.append("실행 결과 (종료 코드: ").append(exitCode).append("):\n");
-            
-            if (!stdOut.isEmpty()) {
-                output.append("표준 출력:\n").append(stdOut);
-            } else {
-                output.append("(표준 출력 없음)\n");
-            }
-            
-            // 오류가 있는 경우 추가
-            if (!stdErr.isEmpty()) {
-                output.append("\n오류 출력:\n").append(stdErr);
-                return false;
-            }
-            
-            // 종료 코드가 0이 아니면 실행 실패로 간주
-            if (exitCode != 0) {
-                output.append("\n비정상 종료: 종료 코드 ").append(exitCode);
-                return false;
-            }
-            
-            return true;
-        } catch (TimeoutException e) {
-            output.append("실행 시간 초과 (5초)");
-            return false;
-        } catch (Exception e) {
-            output.append("실행 중 시스템 오류: ").append(e.getMessage());
-            return false;
-        } finally {
-            // 임시 파일 정리
-            if (javaFile != null) {
-                javaFile.delete();
-            }
-            // 클래스 파일 삭제
-            new File("Main.class").delete();
-        }
-    }
-    
-    /**
-     * Python 코드 실행 여부 확인
-     * 
-     * @param code 실행할 Python 코드
-     * @param input 표준 입력으로 전달할 데이터
-     * @param output 실행 결과 및 오류 메시지를 저장할 StringBuilder
-     * @return 실행 성공 여부
+     * @param user 사용자 정보
+     * @param code 검사할 코드
+     * @param language 프로그래밍 언어
+     * @param simpleInput 표준 입력으로 전달할 데이터
+     * @param output 컴파일/실행 결과 및 오류 메시지를 저장할 StringBuilder
+     * @throws CompilerException 지원하지 않는 언어이거나 컴파일/실행에 실패한 경우
+     * @throws IOException 작업 디렉토리 할당 중 오류 발생 시
      */
-    private boolean checkPythonExecution(String code, String input, StringBuilder output) {
-        File pythonFile = null;
-        try {
-            // 임시 파일 생성
-            pythonFile = new File("Main.py");
-            try (FileWriter writer = new FileWriter(pythonFile)) {
-                writer.write(code);
-            }
-            
-            // 여러 Python 인터프리터 명령어를 순차적으로 시도
-            String[] pythonInterpreters = {"python3", "python", "py"};
-            ProcessBuilder runPb = null;
-            Process runProcess = null;
-            boolean started = false;
-            
-            for (String interpreter : pythonInterpreters) {
-                try {
-                    runPb = new ProcessBuilder(interpreter, pythonFile.getAbsolutePath());
-                    log.debug("Trying Python interpreter: {}", interpreter);
-                    runProcess = runPb.start();
-                    started = true;
-                    log.debug("Successfully started Python with: {}", interpreter);
-                    break;
-                } catch (IOException e) {
-                    log.warn("Failed to start Python with interpreter {}: {}", interpreter, e.getMessage());
-                }
-            }
-            
-            if (!started || runProcess == null) {
-                throw new IOException("Unable to start any Python interpreter. Tried: " + 
-                                      String.join(", ", pythonInterpreters));
-            }
-            
-            // 입력 데이터 전달
-            if (input != null && !input.isEmpty()) {
-                try (BufferedWriter processInput = new BufferedWriter(new OutputStreamWriter(runProcess.getOutputStream()))) {
-                    processInput.write(input); // 직접 전체 입력을 한번에 전달
-                    processInput.newLine();
-                    processInput.flush();
-                }
-            }
-            
-            // 프로세스 출력 수집 (5초 타임아웃)
-            String[] results = collectProcessOutput(runProcess, 5);
-            String stdOut = results[0];
-            String stdErr = results[1];
-            
-            // 프로세스 종료 대기
-            int exitCode = runProcess.waitFor();
-            
-            // 실행 결과 및 오류 기록
-            output.append("실행 결과 (종료 코드: ").append(exitCode).append("):\n");
-            
-            if (!stdOut.isEmpty()) {
-                output.append("표준 출력:\n").append(stdOut);
-            } else {
-                output.append("(표준 출력 없음)\n");
-            }
-            
-            // 오류가 있는 경우 추가
-            if (!stdErr.isEmpty()) {
-                output.append("\n오류 출력:\n").append(stdErr);
-                return false;
-            }
-            
-            // 종료 코드가 0이 아니면 실행 실패로 간주
-            if (exitCode != 0) {
-                output.append("\n비정상 종료: 종료 코드 ").append(exitCode);
-                return false;
-            }
-            
-            return true;
-        } catch (TimeoutException e) {
-            output.append("실행 시간 초과 (5초)");
-            return false;
-        } catch (Exception e) {
-            output.append("실행 중 시스템 오류: ").append(e.getMessage());
-            return false;
-        } finally {
-            // 임시 파일 정리
-            if (pythonFile != null) {
-                pythonFile.delete();
-            }
+    private void runSimpleCheck(User user, String code, String language, String simpleInput, StringBuilder output)
+            throws IOException {
+        LanguageRuntime runtime = runtimeRegistry.find(language).orElse(null);
+        if (runtime == null) {
+            String languages = String.join(", ", runtimeRegistry.getLanguages());
+            output.append("지원하지 않는 언어입니다: ").append(language);
+            output.append("\n현재 지원 언어: ").append(languages);
+            throw new CompilerException("지원하지 않는 언어", SolutionStatus.COMPILATION_ERROR, 
+                  "언어: " + language + "는 지원되지 않습니다. 지원 언어: " + languages, code, language);
         }
-    }
-    
-    /**
-     * C++ 코드 컴파일 여부 확인
-     * 
-     * @param code 컴파일할 C++ 코드
-     * @param output 컴파일 결과 및 오류 메시지를 저장할 StringBuilder
-     * @return 컴파일 성공 여부
-     */
-    private boolean checkCppCompilation(String code, StringBuilder output) {
-        File cppFile = null;
-        try {
-            // 임시 파일 생성
-            cppFile = new File("Main.cpp");
-            try (FileWriter writer = new FileWriter(cppFile)) {
-                writer.write(code);
-            }
-            
-            // 컴파일 프로세스 실행
-            ProcessBuilder compilePb = new ProcessBuilder("g++", cppFile.getAbsolutePath(), "-o", "Main");
-            Process compileProcess = compilePb.start();
-            
-            // 프로세스 출력 수집
-            String[] results = collectProcessOutput(compileProcess, 10); // 10초 타임아웃
-            String stdOut = results[0];
-            String stdErr = results[1];
-            
-            // 프로세스 종료 대기
-            int exitCode = compileProcess.waitFor();
-            
-            // 컴파일 결과 확인 (종료 코드가 0이 아니면 컴파일 실패)
-            if (exitCode != 0) {
-                // 오류 출력이 있으면 추가
-                if (!stdErr.isEmpty()) {
-                    output.append(stdErr);
-                }
-                // 표준 출력도 있으면 추가 (일부 컴파일러는 표준 출력으로 오류 메시지를 출력할 수 있음)
-                if (!stdOut.isEmpty()) {
-                    output.append(stdOut);
-                }
-                
-                // 둘 다 비어있으면 기본 메시지
-                if (stdErr.isEmpty() && stdOut.isEmpty()) {
-                    output.append("컴파일 실패 (종료 코드: ").append(exitCode).append(")");
-                }
-                
-                return false;
-            }
-            
-            // 성공이지만 출력이 있는 경우 (경고 등)
-            if (!stdOut.isEmpty()) {
-                output.append("컴파일러 출력: ").append(stdOut);
-            }
-            
-            return true;
-        } catch (TimeoutException e) {
-            output.append("컴파일 시간 초과 (10초)");
-            return false;
-        } catch (Exception e) {
-            output.append("컴파일 중 시스템 오류: ").append(e.getMessage());
-            return false;
-        } finally {
-            // 임시 파일 정리
-            if (cppFile != null) {
-                cppFile.delete();
-            }
+        String name = runtime.getDisplayName();
+        if (!runtime.isAvailable()) {
+            throw new CompilerException(name + " 실행 환경 없음", SolutionStatus.RUNTIME_ERROR, 
+                  "서버에서 " + name + " 컴파일러/인터프리터를 찾을 수 없습니다", code, language);
         }
-    }
-    
-    /**
-     * C++ 코드 실행 여부 확인
-     * 
-     * @param code 실행할 C++ 코드
-     * @param input 표준 입력으로 전달할 데이터
-     * @param output 실행 결과 및 오류 메시지를 저장할 StringBuilder
-     * @return 실행 성공 여부
-     */
-    private boolean checkCppExecution(String code, String input, StringBuilder output) {
-        File cppFile = null;
+
+        // 다른 제출과 겹치지 않는 작업 디렉토리에서 컴파일/실행
+        Path workspace = fileManager.createWorkingDir(user != null ? Long.valueOf(user.getId()) : null, 0L);
         try {
-            // 임시 파일 생성
-            cppFile = new File("Main.cpp");
-            try (FileWriter writer = new FileWriter(cppFile)) {
-                writer.write(code);
-            }
-            
-            // 실행 프로세스 시작
-            ProcessBuilder runPb = new ProcessBuilder("./Main");
-            Process runProcess = runPb.start();
-            
-            // 입력 데이터 전달
-            if (input != null && !input.isEmpty()) {
-                try (BufferedWriter processInput = new BufferedWriter(new OutputStreamWriter(runProcess.getOutputStream()))) {
-                    processInput.write(input);
-                    processInput.newLine();
-                    processInput.flush();
+            List<CompileDiagnosticDto> diagnostics = new ArrayList<>();
+            output.append(name).append(runtime.isCompiled() ? " 코드 컴파일 시작...\n" : " 코드 실행 시작...\n");
+            if (!runtime.checkCompilation(workspace, code, output, diagnostics)) {
+                if (runtime.isCompiled()) {
+                    throw new CompilerException(name + " 컴파일 에러", SolutionStatus.COMPILATION_ERROR, output.toString(), 
+                          code, language, diagnostics);
                 }
+                throw new CompilerException(name + " 실행 오류", SolutionStatus.RUNTIME_ERROR, output.toString(), code, language);
             }
-            
-            // 프로세스 출력 수집 (5초 타임아웃)
-            String[] results = collectProcessOutput(runProcess, 5);
-            String stdOut = results[0];
-            String stdErr = results[1];
-            
-            // 프로세스 종료 대기
-            int exitCode = runProcess.waitFor();
-            
-            // 실행 결과 및 오류 기록
-            output.append("실행 결과 (종료 코드: ").append(exitCode).append("):\n");
-            
-            if (!stdOut.isEmpty()) {
-                output.append("표준 출력:\n").append(stdOut);
-            } else {
-                output.append("(표준 출력 없음)\n");
-            }
-            
-            // 오류가 있는 경우 추가
-            if (!stdErr.isEmpty()) {
-                output.append("\n오류 출력:\n").append(stdErr);
-                return false;
+            if (runtime.isCompiled()) {
+                output.append("컴파일 성공. 실행 시작...\n\n");
             }
-            
-            // 종료 코드가 0이 아니면 실행 실패로 간주
-            if (exitCode != 0) {
-                output.append("\n비정상 종료: 종료 코드 ").append(exitCode);
-                return false;
+            if (!runtime.checkExecution(workspace, simpleInput, output)) {
+                throw new CompilerException(name + " 실행 오류", SolutionStatus.RUNTIME_ERROR, output.toString(), code, language);
             }
-            
-            return true;
-        } catch (TimeoutException e) {
-            output.append("실행 시간 초과 (5초)");
-            return false;
-        } catch (Exception e) {
-            output.append("실행 중 시스템 오류: ").append(e.getMessage());
-            return false;
         } finally {
-            // 임시 파일 정리
-            if (cppFile != null) {
-                cppFile.delete();
-            }
-            // 실행 파일 삭제
-            new File("Main").delete();
+            fileManager.releaseWorkingDir(workspace);
         }
     }
     
@@ -695,16 +340,52 @@ public class CompilerService {
      * @param code 실행할 코드
      * @param language 프로그래밍 언어
      * @param userId 사용자 ID
+     * @param judgeMode 채점 방식 (FAIL_FAST 이면 처음 실패한 테스트 케이스까지만 결과 반환)
      * @return 테스트 케이스별 실행 결과 목록
      * @throws IllegalArgumentException 지원하지 않는 언어인 경우
      */
-    private List<ResultDto> compileAndRun(Problem problem, List<TestCase> testCases, String code, String language, Long userId) {
-        return switch (language.toLowerCase()) {
-            case "java" -> javaCompiler.runCode(problem, testCases, code, userId);
-            case "python" -> pythonCompiler.runCode(problem, testCases, code, userId);
-            case "c++" -> cppCompiler.runCode(problem, testCases, code, userId);
-            default -> throw new IllegalArgumentException("지원하지 않는 언어입니다: " + language);
-        };
+    private List<ResultDto> compileAndRun(Problem problem, List<TestCase> testCases, String code, String language, Long userId,
+                                          JudgeMode judgeMode) {
+        LanguageRuntime runtime = runtimeRegistry.get(language);
+        if (!runtime.isAvailable()) {
+            return List.of(ResultDto.builder()
+                    .testNum(1)
+                    .actualResult("🚨ERROR : 서버에서 " + runtime.getDisplayName() + " 컴파일러/인터프리터를 찾을 수 없습니다\n")
+                    .status(ResultStatus.RUNTIME_ERROR)
+                    .build());
+        }
+        // 비동기 채점 중이면 컴파일 단계와 전체 테스트 케이스 수를 알림
+        progressPublisher.current().compiling(testCases.size());
+        return testCaseExecutor.failFast(judgeMode == JudgeMode.FAIL_FAST,
+                () -> runtime.runCode(problem, testCases, code, userId));
+    }
+
+    /**
+     * 제출에 적용할 채점 방식을 정합니다.
+     * 요청에 지정한 방식, 문제집의 fail-fast 설정, 서버 기본값 순으로 적용합니다.
+     * 채점 워커 스레드에서도 호출되므로 지연 로딩되는 문제집의 문제 목록은 읽지 않고 쿼리로 확인합니다.
+     *
+     * @param submissionDto 코드 제출 정보
+     * @return 채점 방식
+     */
+    public JudgeMode resolveJudgeMode(CodeSubmissionDto submissionDto) {
+        if (submissionDto.getJudgeMode() != null) {
+            return submissionDto.getJudgeMode();
+        }
+        Long problemId = submissionDto.getProblemId();
+        if (submissionDto.getProblemSetId() != null && problemId != null && problemId > 0) {
+            // 문제집에 속한 문제의 제출에만 문제집 설정을 적용
+            Boolean failFast = null;
+            if (problemSetRepository.existsByIdAndProblemsContaining(submissionDto.getProblemSetId(), problemId.intValue())) {
+                failFast = problemSetRepository.findById(submissionDto.getProblemSetId())
+                        .map(problemSet -> problemSet.getFailFast())
+                        .orElse(null);
+            }
+            if (failFast != null) {
+                return failFast ? JudgeMode.FAIL_FAST : JudgeMode.FULL;
+            }
+        }
+        return defaultJudgeMode;
     }
     
     /**
@@ -730,7 +411,19 @@ public class CompilerService {
         return results.stream().anyMatch(result -> 
                 result.getStatus() == ResultStatus.RUNTIME_ERROR && 
                 !result.getActualResult().contains("메모리 초과") && 
-                !result.getActualResult().contains("시간 초과"));
+                !result.getActualResult().contains("시간 초과") &&
+                !result.getActualResult().contains("출력 초과"));
+    }
+
+    /**
+     * 출력 제한 초과 오류 여부 확인
+     * 
+     * @param results 테스트 결과 목록
+     * @return 출력 제한 초과 오류 존재 여부
+     */
+    private boolean hasOutputLimitError(List<ResultDto> results) {
+        return results.stream().anyMatch(result -> 
+                result.getStatus() == ResultStatus.OUTPUT_LIMIT);
     }
     
     /**
@@ -769,6 +462,19 @@ public class CompilerService {
                 .collect(Collectors.joining("\n"));
     }
     
+    /**
+     * 컴파일 진단 정보 추출
+     * 
+     * @param results 테스트 결과 목록
+     * @return 컴파일 에러 결과에 포함된 진단 목록
+     */
+    private List<CompileDiagnosticDto> getDiagnostics(List<ResultDto> results) {
+        return results.stream()
+                .filter(result -> result.getDiagnostics() != null)
+                .flatMap(result -> result.getDiagnostics().stream())
+                .collect(Collectors.toList());
+    }
+    
     /**
      * 오답 상세 정보 추출
      * 
@@ -810,7 +516,8 @@ public class CompilerService {
         
         // 3. 언어별 컴파일러 선택 및 실행
         List<ResultDto> results = compileAndRun(problem, testCases, submissionDto.getCode(), 
-                                             submissionDto.getLanguage(), submissionDto.getUserId());
+                                             submissionDto.getLanguage(), submissionDto.getUserId(),
+                                             resolveJudgeMode(submissionDto));
         
         // 4. 결과 분석
         boolean isAllPass = results.stream().allMatch(result -> result.getStatus() == ResultStatus.CORRECT);
@@ -860,12 +567,16 @@ public class CompilerService {
                 status = SolutionStatus.COMPILATION_ERROR;
                 String errorDetails = getErrorDetails(results);
                 throw new CompilerException("컴파일 에러가 발생했습니다", status, errorDetails, 
-                        submissionDto.getCode(), submissionDto.getLanguage());
+                        submissionDto.getCode(), submissionDto.getLanguage(), getDiagnostics(results));
             } else if (hasRuntimeError(results)) {
                 status = SolutionStatus.RUNTIME_ERROR;
                 String errorDetails = getErrorDetails(results);
                 throw new CompilerException("런타임 에러가 발생했습니다", status, errorDetails, 
                         submissionDto.getCode(), submissionDto.getLanguage());
+            } else if (hasOutputLimitError(results)) {
+                status = SolutionStatus.OUTPUT_LIMIT;
+                throw new CompilerException("출력 초과가 발생했습니다", status, "프로그램의 출력이 출력 제한을 초과했습니다", 
+                        submissionDto.getCode(), submissionDto.getLanguage());
             } else if (hasTimeoutError(results)) {
                 status = SolutionStatus.TIMEOUT;
                 throw new CompilerException("시간 초과가 발생했습니다", status, "실행 시간이 제한 시간을 초과했습니다", 
@@ -909,59 +620,10 @@ public class CompilerService {
         StringBuilder output = new StringBuilder();
         Double executionTime = 0.0;
         Double memoryUsage = 0.0;
-        boolean isCompiled = false;
-        boolean isExecuted = false;
         SolutionStatus status = SolutionStatus.SUBMITTED;
         
         try {
-            // 언어별 처리
-            switch (language.toLowerCase()) {
-                case "java":
-                    output.append("자바 코드 컴파일 시작...\n");
-                    isCompiled = checkJavaCompilation(code, output);
-                    if (!isCompiled) {
-                        status = SolutionStatus.COMPILATION_ERROR;
-                        throw new CompilerException("자바 컴파일 에러", status, output.toString(), code, language);
-                    }
-                    output.append("컴파일 성공. 실행 시작...\n\n");
-                    isExecuted = checkJavaExecution(code, simpleInput, output);
-                    if (!isExecuted) {
-                        status = SolutionStatus.RUNTIME_ERROR;
-                        throw new CompilerException("자바 실행 오류", status, output.toString(), code, language);
-                    }
-                    break;
-                    
-                case "python":
-                    output.append("파이썬 코드 실행 시작...\n");
-                    isCompiled = true; // Python은 인터프리터 언어라 컴파일 단계가 없음
-                    isExecuted = checkPythonExecution(code, simpleInput, output);
-                    if (!isExecuted) {
-                        status = SolutionStatus.RUNTIME_ERROR;
-                        throw new CompilerException("파이썬 실행 오류", status, output.toString(), code, language);
-                    }
-                    break;
-                    
-                case "c++":
-                    output.append("C++ 코드 컴파일 시작...\n");
-                    isCompiled = checkCppCompilation(code, output);
-                    if (!isCompiled) {
-                        status = SolutionStatus.COMPILATION_ERROR;
-                        throw new CompilerException("C++ 컴파일 에러", status, output.toString(), code, language);
-                    }
-                    output.append("컴파일 성공! 실행 시작...\n\n");
-                    isExecuted = checkCppExecution(code, simpleInput, output);
-                    if (!isExecuted) {
-                        status = SolutionStatus.RUNTIME_ERROR;
-                        throw new CompilerException("C++ 실행 오류", status, output.toString(), code, language);
-                    }
-                    break;
-                    
-                default:
-                    output.append("지원하지 않는 언어입니다: ").append(language);
-                    output.append("\n현재 지원 언어: java, python, c++");
-                    throw new CompilerException("지원하지 않는 언어", SolutionStatus.COMPILATION_ERROR, 
-                          "언어: " + language + "는 지원되지 않습니다. 지원 언어: java, python, c++", code, language);
-            }
+            runSimpleCheck(user, code, language, simpleInput, output);
             
             // 상태 결정 - 모든 검사 통과 시 CORRECT
             status = SolutionStatus.CORRECT;
@@ -1059,6 +721,7 @@ public class CompilerService {
             .errorDetails(e.getErrorDetails()) // 원본 컴파일러 오류 메시지
             .code(e.getCode())
             .language(e.getLanguage())
+            .diagnostics(e.getDiagnostics())
             .build();
     }
     
@@ -1092,9 +755,11 @@ public class CompilerService {
     
     /**
      * 코드 제출 DTO에서 compileCode를 호출하고, 발생 가능한 모든 예외를 처리합니다.
+     * 컴파일과 실행은 채점 스케줄러의 슬롯을 얻은 뒤 요청 스레드에서 수행합니다.
      * 
      * @param submissionDto 코드 제출 정보
      * @return 컴파일 결과 또는 에러 응답
+     * @throws JudgeOverloadedException 사용자의 동시 채점 한도를 넘었거나 슬롯을 기다리는 시간이 초과된 경우
      */
     public Object processCompileRequest(CodeSubmissionDto submissionDto) {
         try {
@@ -1105,7 +770,10 @@ public class CompilerService {
             }
             
             // 코드 컴파일 및 실행
-            return compileCode(submissionDto);
+            return scheduler.call(scheduler.ticket(submissionDto), () -> compileCode(submissionDto));
+        } catch (JudgeOverloadedException e) {
+            // 503 + Retry-After 로 응답하도록 그대로 전달
+            throw e;
         } catch (CompilerException e) {
             return handleCompilerException(e);
         } catch (Exception e) {
@@ -1136,58 +804,4 @@ public class CompilerService {
         }
     }
 
-    /**
-     * 프로세스의 표준 출력과 표준 에러를 모두 수집하는 유틸리티 메소드
-     * 
-     * @param process 실행된 프로세스
-     * @param timeout 타임아웃 시간 (초)
-     * @return 출력 및 에러 수집 결과 (String[] 배열로 [표준출력, 표준에러] 형태)
-     * @throws TimeoutException 타임아웃 발생 시
-     * @throws ExecutionException 실행 중 예외 발생 시
-     * @throws InterruptedException 인터럽트 발생 시
-     */
-    private String[] collectProcessOutput(Process process, int timeout) 
-            throws TimeoutException, ExecutionException, InterruptedException {
-        
-        // 표준 출력과 에러를 동시에 읽기 위한 스레드 풀
-        ExecutorService executor = Executors.newFixedThreadPool(2);
-        
-        // 표준 출력 읽기
-        Future<String> stdOutFuture = executor.submit(() -> {
-            StringBuilder result = new StringBuilder();
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    result.append(line).append("\n");
-                }
-            }
-            return result.toString();
-        });
-        
-        // 표준 에러 읽기
-        Future<String> stdErrFuture = executor.submit(() -> {
-            StringBuilder result = new StringBuilder();
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getErrorStream()))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    result.append(line).append("\n");
-                }
-            }
-            return result.toString();
-        });
-        
-        try {
-            // 주어진 타임아웃 내에 두 스트림의 결과 획득
-            String stdOut = stdOutFuture.get(timeout, TimeUnit.SECONDS);
-            String stdErr = stdErrFuture.get(timeout, TimeUnit.SECONDS);
-            
-            executor.shutdown();
-            return new String[] { stdOut, stdErr };
-        } catch (TimeoutException e) {
-            // 타임아웃 발생 시 프로세스와 스레드 풀 강제 종료
-            process.destroyForcibly();
-            executor.shutdownNow();
-            throw e;
-        }
-    }
-} 
\ No newline at end of file
+}
@@ -2,28 +2,177 @@ package com.webproject.jandi_ide_backend.compiler.service;
 
 import com.webproject.jandi_ide_backend.algorithm.problem.entity.Problem;
 import com.webproject.jandi_ide_backend.algorithm.testCase.entity.TestCase;
+import com.webproject.jandi_ide_backend.compiler.checker.CheckerEngine;
+import com.webproject.jandi_ide_backend.compiler.checker.CheckerSpec;
+import com.webproject.jandi_ide_backend.compiler.checker.OutputChecker;
+import com.webproject.jandi_ide_backend.compiler.dto.CompileDiagnosticDto;
 import com.webproject.jandi_ide_backend.compiler.dto.ResultDto;
 import com.webproject.jandi_ide_backend.compiler.dto.ResultStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
 
 import java.io.*;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.*;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
-public class CppCompiler {
+@Order(3)
+public class CppCompiler implements LanguageRuntime {
+
+    // 결과물 캐시 키에 포함되는 컴파일 명령. 옵션이 바뀌면 이전 결과물을 재사용하지 않음
+    private static final String COMPILE_COMMAND = "g++";
+    private static final String COMPILE_TIMER = "judge.cpp.compile";
 
     private final CompilerFileManager fileManager;
+    private final TestCaseExecutor testCaseExecutor;
+    private final CompiledArtifactCache artifactCache;
+    private final ProcessRunner processRunner;
+    private final ToolchainLocator toolchainLocator;
+    private final SimpleCheckRunner simpleCheckRunner;
+    private final CppPrecompiledHeader precompiledHeader;
+    private final CheckerEngine checkerEngine;
+    private final MeterRegistry meterRegistry;
+
+    // 사용 중인 컴파일 프로필 이름과 옵션
+    private final String profileName;
+    private final List<String> compileFlags;
+
+    // 시작 시 찾은 컴파일러
+    private volatile Toolchain compiler;
+    // 워밍업에서 준비한 PCH 디렉토리 (없으면 null)
+    private volatile Path pchDir;
 
-    public CppCompiler(CompilerFileManager fileManager) {
+    /**
+     * C++ 런타임 생성자
+     *
+     * @param profileName 사용할 컴파일 프로필 이름
+     * @param profiles 컴파일 프로필 목록 (이름=옵션, 세미콜론으로 구분)
+     */
+    public CppCompiler(CompilerFileManager fileManager, TestCaseExecutor testCaseExecutor,
+                       CompiledArtifactCache artifactCache, ProcessRunner processRunner,
+                       ToolchainLocator toolchainLocator, SimpleCheckRunner simpleCheckRunner,
+                       CppPrecompiledHeader precompiledHeader, CheckerEngine checkerEngine,
+                       MeterRegistry meterRegistry,
+                       @Value("${compiler.cpp.profile:gnu++17}") String profileName,
+                       @Value("${compiler.cpp.profiles:gnu++17=-O2 -std=gnu++17 -pipe;gnu++20=-O2 -std=gnu++20 -pipe}") String profiles) {
         this.fileManager = fileManager;
+        this.testCaseExecutor = testCaseExecutor;
+        this.artifactCache = artifactCache;
+        this.processRunner = processRunner;
+        this.toolchainLocator = toolchainLocator;
+        this.simpleCheckRunner = simpleCheckRunner;
+        this.precompiledHeader = precompiledHeader;
+        this.checkerEngine = checkerEngine;
+        this.meterRegistry = meterRegistry;
+
+        Map<String, List<String>> parsed = parseProfiles(profiles);
+        if (!parsed.containsKey(profileName)) {
+            throw new IllegalStateException("C++ 컴파일 프로필을 찾을 수 없습니다: " + profileName + " (정의된 프로필: " + parsed.keySet() + ")");
+        }
+        this.profileName = profileName;
+        this.compileFlags = parsed.get(profileName);
+        log.info("C++ compile profile: {} {}", profileName, compileFlags);
+    }
+
+    /**
+     * 컴파일 프로필 목록을 해석합니다. (예: gnu++17=-O2 -std=gnu++17 -pipe;gnu++20=-O2 -std=gnu++20 -pipe)
+     */
+    private static Map<String, List<String>> parseProfiles(String profiles) {
+        Map<String, List<String>> parsed = new LinkedHashMap<>();
+        for (String entry : profiles.split(";")) {
+            int separator = entry.indexOf('=');
+            if (separator <= 0) {
+                continue;
+            }
+            List<String> flags = Arrays.stream(entry.substring(separator + 1).trim().split("\\s+"))
+                    .filter(flag -> !flag.isEmpty())
+                    .collect(Collectors.toList());
+            parsed.put(entry.substring(0, separator).trim(), flags);
+        }
+        return parsed;
+    }
+
+    @Override
+    public String getLanguage() {
+        return "c++";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "C++";
+    }
+
+    @Override
+    public boolean isCompiled() {
+        return true;
+    }
+
+    @Override
+    public List<Toolchain> discoverToolchains() {
+        compiler = toolchainLocator.locate("compiler", List.of(COMPILE_COMMAND), List.of("--version")).orElse(null);
+        return getToolchains();
     }
 
+    @Override
+    public List<Toolchain> getToolchains() {
+        return compiler != null ? List.of(compiler) : List.of();
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return compiler != null;
+    }
+
+    /**
+     * 사용 중인 컴파일 프로필의 옵션으로 자주 쓰는 헤더를 미리 컴파일합니다.
+     */
+    @Override
+    public void warmup() {
+        pchDir = precompiledHeader.prepare(compiler, profileName, compileFlags).orElse(null);
+    }
+
+    /**
+     * 컴파일 명령을 만듭니다. PCH가 준비되어 있으면 PCH 디렉토리를 먼저 찾도록 -I 로 넘깁니다.
+     */
+    private List<String> compileCommand(File source, Path executable, Path pch) {
+        List<String> command = new ArrayList<>();
+        command.add(compiler.getCommand());
+        command.addAll(compileFlags);
+        if (pch != null) {
+            command.add("-I");
+            command.add(pch.toString());
+        }
+        command.add(source.getAbsolutePath());
+        command.add("-o");
+        command.add(executable.toString());
+        return command;
+    }
+
+    /**
+     * 컴파일 시간을 프로필, PCH 사용 여부, 결과별로 기록합니다.
+     */
+    private void recordCompileTime(long startNanos, boolean pchUsed, boolean success) {
+        Timer.builder(COMPILE_TIMER)
+                .description("C++ 제출 코드 컴파일 시간")
+                .tag("profile", profileName)
+                .tag("pch", String.valueOf(pchUsed))
+                .tag("result", success ? "success" : "error")
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
     public List<ResultDto> runCode(Problem problem, List<TestCase> testcases, String code, Long userId) {
         List<ResultDto> results = new ArrayList<>();
         Path workingDir = null;
@@ -33,208 +182,220 @@ public class CppCompiler {
             Long problemId = Long.valueOf(problem.getId()); // Convert Integer to Long
             workingDir = fileManager.createWorkingDir(userId, problemId);
 
-            for (int i = 0; i < testcases.size(); i++) {
-                String input = testcases.get(i).getInput();
-                String expectedOutput = testcases.get(i).getOutput();
-                StringBuilder output = new StringBuilder();
-                Double time = 0.0;
-                Double memory = 0.0;
-
-                try {
-                    // 임시 파일 생성
-                    File cppFile = fileManager.createCppFile(workingDir, code);
-
-                    // 컴파일 및 Main 파일 생성
-                    String cppCompiler = "g++";
-                    ProcessBuilder compilePb = new ProcessBuilder(cppCompiler, cppFile.getAbsolutePath(), "-o", workingDir.resolve("Main").toString());
-                    compilePb.directory(workingDir.toFile()); // 작업 디렉토리 설정
-                    Process compileProcess = compilePb.start();
-                    compileProcess.waitFor();
-
-                    // 컴파일 에러 발생 시 에러 및 종료
-                    if (compileProcess.exitValue() != 0) {
-                        BufferedReader errorReader = new BufferedReader(new InputStreamReader(compileProcess.getErrorStream()));
-                        String errorLine;
-                        while ((errorLine = errorReader.readLine()) != null) {
-                            output.append(errorLine).append("\n");
-                        }
-                        results.add(ResultDto.builder()
-                                .testNum(i+1)
-                                .input(input)
-                                .expectedResult(expectedOutput)
-                                .actualResult(output.toString())
-                                .status(ResultStatus.COMPILATION_ERROR)
-                                .build());
-                        continue;
-                    }
-
-                    // 실행 파일 실행
-                    String execPath = workingDir.resolve("Main").toString();
-                    ProcessBuilder runPb = new ProcessBuilder(execPath);
-                    runPb.directory(workingDir.toFile()); // 실행 파일이 있는 디렉토리 설정
-                    runPb.redirectErrorStream(true); // 표준 에러를 표준 출력으로 리다이렉트
-                    Process runProcess = runPb.start();
-
-                    // 테스트 케이스 입력 전달
-                    OutputStream stdin = runProcess.getOutputStream();
-                    BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(stdin));
-                    
-                    // 입력값 처리: 공백으로 구분된 입력을 쉼표로 구분된 형식으로 변환
-                    String[] inputValues = input.trim().split("\\s+");
-                    String formattedInput = String.join(",", inputValues);
-                    log.debug("Formatted input for test case {}: {}", i+1, formattedInput);
-                    
-                    writer.write(formattedInput);
-                    writer.newLine();
-                    writer.flush();
-                    writer.close(); // 입력 스트림을 닫아 프로세스가 더 이상 입력을 기다리지 않게 함
-
-                    // 타이머 시작
-                    long startTime = System.nanoTime();
-                    long startMemory = getUsedMemory();
-                    
-                    // 출력 읽기
-                    InputStream stdout = runProcess.getInputStream();
-                    BufferedReader reader = new BufferedReader(new InputStreamReader(stdout));
-                    StringBuilder result = new StringBuilder();
-                    String line;
-                    
-                    try {
-                        // 프로세스 완료 대기 (타임아웃 설정)
-                        boolean completed = runProcess.waitFor(problem.getTimeLimit(), TimeUnit.SECONDS);
-                        
-                        if (!completed) {
-                            // 타임아웃 발생
-                            runProcess.destroyForcibly();
-                            output.append("시간 초과 발생: 실행 시간이 제한(")
-                                  .append(problem.getTimeLimit())
-                                  .append("초)을 초과했습니다.\n");
-                            
-                            results.add(ResultDto.builder()
-                                    .testNum(i+1)
-                                    .input(input)
-                                    .expectedResult(expectedOutput)
-                                    .actualResult(output.toString())
-                                    .status(ResultStatus.TIMEOUT)
-                                    .build());
-                            continue;
-                        }
-                        
-                        // 출력 읽기
-                        while ((line = reader.readLine()) != null) {
-                            result.append(line).append("\n");
-                        }
-                        
-                        // 추가로 남은 출력이 있는지 확인 (한 줄 이상일 경우)
-                        int available = stdout.available();
-                        if (available > 0) {
-                            byte[] buffer = new byte[available];
-                            stdout.read(buffer);
-                            result.append(new String(buffer));
-                        }
-                        
-                        // 종료 코드 확인
-                        int exitCode = runProcess.exitValue();
-                        if (exitCode != 0) {
-                            log.warn("Process exited with non-zero code: " + exitCode);
-                        }
-                        
-                    } catch (InterruptedException e) {
-                        runProcess.destroyForcibly();
-                        output.append("실행이 중단되었습니다: ").append(e.getMessage()).append("\n");
-                        
-                        results.add(ResultDto.builder()
-                                .testNum(i+1)
-                                .input(input)
-                                .expectedResult(expectedOutput)
-                                .actualResult(output.toString())
-                                .status(ResultStatus.RUNTIME_ERROR)
-                                .build());
-                        continue;
-                    } finally {
-                        // 자원 정리
-                        reader.close();
-                        stdout.close();
-                        runProcess.destroyForcibly();
-                        
-                        long endTime = System.nanoTime();
-                        long endMemory = getUsedMemory();
-                        
-                        Double executionTime = (double) TimeUnit.NANOSECONDS.toMillis(endTime - startTime);
-                        Double usedMemoryMB = (double) ((endMemory - startMemory) / (1024 * 1024));
-                        
-                        time = executionTime;
-                        memory = usedMemoryMB;
-                    }
-
-                    // 결과 저장
-                    String resultString = result.toString().trim();
-                    log.debug("Raw output capture: [" + resultString + "]");
-
-                    // 통과 여부 확인
-                    boolean isPass = compareOutput(resultString, expectedOutput);
-
-                    ResultDto resultDto = ResultDto.builder()
-                            .testNum(i + 1)
-                            .input(input)
-                            .expectedResult(expectedOutput)
-                            .actualResult(resultString)
-                            .executionTime(time)
-                            .usedMemory(memory)
-                            .status(isPass ? ResultStatus.CORRECT : ResultStatus.WRONG_ANSWER)
-                            .build();
-
-                    results.add(resultDto);
-                } catch (Exception e) {
-                    output.append("🚨ERROR : ").append(e.getMessage()).append("\n");
-                    results.add(ResultDto.builder()
-                            .testNum(i+1)
-                            .input(input)
-                            .expectedResult(expectedOutput)
-                            .actualResult(output.toString())
-                            .status(ResultStatus.RUNTIME_ERROR)
-                            .build());
+            // 소스 파일 생성 및 컴파일 (제출당 한 번만 수행, 같은 코드는 캐시된 실행 파일 재사용)
+            File cppFile = fileManager.createCppFile(workingDir, code);
+            String artifactKey = artifactCache.key("c++", COMPILE_COMMAND + " " + String.join(" ", compileFlags), code);
+            if (!artifactCache.restore(artifactKey, workingDir)) {
+                ResultDto compileError = compile(cppFile, workingDir);
+                if (compileError != null) {
+                    results.add(compileError);
+                    return results;
                 }
+                artifactCache.store(artifactKey, List.of(workingDir.resolve("Main")));
             }
+            fileManager.checkQuota(workingDir);
+
+            // 컴파일된 실행 파일로 모든 테스트 케이스 실행
+            Path execDir = workingDir;
+            results.addAll(testCaseExecutor.execute(testcases,
+                    (testCase, testNum) -> runTestCase(problem, testCase, testNum, execDir)));
         } catch (IOException e) {
-            log.error("Error creating working directory: {}", e.getMessage(), e);
+            log.error("Working directory error: {}", e.getMessage(), e);
             results.add(ResultDto.builder()
                     .testNum(1)
-                    .actualResult("작업 디렉토리 생성 오류: " + e.getMessage())
+                    .actualResult("작업 디렉토리 오류: " + e.getMessage())
                     .status(ResultStatus.RUNTIME_ERROR)
                     .build());
         } finally {
-            // 작업이 끝난 후 디렉토리 정리
-            if (workingDir != null) {
-                fileManager.cleanupDirectory(workingDir.toFile());
-            }
+            // 작업 디렉토리는 백그라운드에서 비운 뒤 재사용
+            fileManager.releaseWorkingDir(workingDir);
         }
         return results;
     }
 
-    private long getUsedMemory() {
-        Runtime runtime = Runtime.getRuntime();
-        return runtime.totalMemory() - runtime.freeMemory();
-    }
-
-    private boolean compareOutput(String actual, String expected) {
-        log.debug("Comparing - Actual output: [" + actual + "]");
-        log.debug("Comparing - Expected output: [" + expected + "]");
-        
-        // 실제 출력에서 실행 결과 부분 추출 (필요한 경우)
-        String actualOutput = actual.trim();
-        String expectedOutput = expected.trim();
-        
-        // 두 개 연속된 공백을 줄바꿈으로 변환
-        actualOutput = actualOutput.replaceAll("  ", "\n");
-        expectedOutput = expectedOutput.replaceAll("  ", "\n");
-        
-        // 연속된 줄바꿈을 하나로 정규화
-        actualOutput = actualOutput.replaceAll("\n+", "\n");
-        expectedOutput = expectedOutput.replaceAll("\n+", "\n");
-        
-        log.debug("After formatting - Actual: [" + actualOutput + "], Expected: [" + expectedOutput + "]");
-        
-        return actualOutput.equals(expectedOutput);
+    /**
+     * 컴파일된 실행 파일을 테스트 케이스 하나에 대해 실행합니다.
+     * 병렬 모드에서는 여러 스레드에서 동시에 호출되므로 공유 상태를 두지 않습니다.
+     *
+     * @param problem 문제 정보 (시간/메모리 제한)
+     * @param testCase 실행할 테스트 케이스
+     * @param testNum 테스트 케이스 번호
+     * @param workingDir 실행 파일이 있는 작업 디렉토리
+     * @return 테스트 케이스 실행 결과
+     */
+    private ResultDto runTestCase(Problem problem, TestCase testCase, int testNum, Path workingDir) {
+        String input = testCase.getInput();
+        String expectedOutput = testCase.getOutput();
+
+        long timeLimitMillis = problem.getTimeLimit() * 1000L;
+        int memoryLimitMb = problem.getMemory();
+        long outputLimitBytes = processRunner.outputLimitBytes(problem.getOutputLimit());
+
+        List<String> command = List.of(workingDir.resolve("Main").toString());
+
+        try {
+            // streaming 방식은 출력을 기록되는 대로 검사기로 비교하고 첫 불일치에서 실행을 중단
+            OutputChecker checker = checkerEngine.create(CheckerSpec.of(problem), testCase);
+            ProcessRunner.ProcessResult run = processRunner.runTestCase(command, workingDir, testCase, checker,
+                    timeLimitMillis, memoryLimitMb, outputLimitBytes);
+
+            if (run.getExitCode() != 0 && !run.isTimedOut()) {
+                log.warn("Process exited with non-zero code: " + run.getExitCode());
+            }
+
+            // 결과 저장
+            String resultString = run.getOutput().trim();
+            log.debug("Raw output capture: [" + resultString + "]");
+
+            if (run.isOutputLimitExceeded()) {
+                return ResultDto.builder()
+                        .testNum(testNum)
+                        .input(input)
+                        .expectedResult(expectedOutput)
+                        .actualResult("출력 초과 발생: 출력이 제한(" + outputLimitBytes / 1024 + "KB)을 초과했습니다.\n")
+                        .executionTime(run.getWallTimeMillis())
+                        .cpuTime(run.getCpuTimeMillis())
+                        .timePolicy(run.getTimePolicy())
+                        .usedMemory(run.getPeakMemoryMB())
+                        .status(ResultStatus.OUTPUT_LIMIT)
+                        .build();
+            }
+            if (run.isTimeLimitExceeded()) {
+                return ResultDto.builder()
+                        .testNum(testNum)
+                        .input(input)
+                        .expectedResult(expectedOutput)
+                        .actualResult("시간 초과 발생: 실행 시간이 제한(" + problem.getTimeLimit() + "초)을 초과했습니다.\n")
+                        .executionTime(run.getWallTimeMillis())
+                        .cpuTime(run.getCpuTimeMillis())
+                        .timePolicy(run.getTimePolicy())
+                        .usedMemory(run.getPeakMemoryMB())
+                        .status(ResultStatus.TIMEOUT)
+                        .build();
+            }
+            if (run.exceedsMemoryLimit(memoryLimitMb) || resultString.contains("std::bad_alloc")) {
+                return ResultDto.builder()
+                        .testNum(testNum)
+                        .input(input)
+                        .expectedResult(expectedOutput)
+                        .actualResult("메모리 초과 발생: 메모리 제한(" + problem.getMemory() + "MB)을 초과했습니다.\n")
+                        .executionTime(run.getWallTimeMillis())
+                        .cpuTime(run.getCpuTimeMillis())
+                        .timePolicy(run.getTimePolicy())
+                        .usedMemory(run.getPeakMemoryMB())
+                        .status(ResultStatus.MEMORY_LIMIT)
+                        .build();
+            }
+
+            // 통과 여부 확인
+            boolean isPass = run.getOutputMatched() != null ? run.getOutputMatched() : checker.matches(run.getOutput());
+
+            return ResultDto.builder()
+                    .testNum(testNum)
+                    .input(input)
+                    .expectedResult(expectedOutput)
+                    .actualResult(run.getStoredOutput().trim())
+                    .executionTime(run.getWallTimeMillis())
+                    .cpuTime(run.getCpuTimeMillis())
+                    .timePolicy(run.getTimePolicy())
+                    .usedMemory(run.getPeakMemoryMB())
+                    .status(isPass ? ResultStatus.CORRECT : ResultStatus.WRONG_ANSWER)
+                    .firstDifference(isPass ? null : checker.getFirstDifference())
+                    .build();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ResultDto.builder()
+                    .testNum(testNum)
+                    .input(input)
+                    .expectedResult(expectedOutput)
+                    .actualResult("실행이 중단되었습니다: " + e.getMessage() + "\n")
+                    .status(ResultStatus.RUNTIME_ERROR)
+                    .build();
+        } catch (Exception e) {
+            return ResultDto.builder()
+                    .testNum(testNum)
+                    .input(input)
+                    .expectedResult(expectedOutput)
+                    .actualResult("🚨ERROR : " + e.getMessage() + "\n")
+                    .status(ResultStatus.RUNTIME_ERROR)
+                    .build();
+        }
+    }
+
+    /**
+     * 작업 디렉토리의 Main.cpp를 컴파일하여 실행 파일 Main을 생성합니다.
+     * 생성된 실행 파일은 모든 테스트 케이스 실행에 재사용됩니다.
+     *
+     * @param cppFile 컴파일할 소스 파일
+     * @param workingDir 작업 디렉토리
+     * @return 컴파일 실패 시 COMPILATION_ERROR 결과, 성공 시 null
+     */
+    private ResultDto compile(File cppFile, Path workingDir) {
+        StringBuilder output = new StringBuilder();
+
+        // 컴파일 및 Main 파일 생성 (시작 시 찾은 g++ 와 컴파일 프로필 옵션 사용)
+        Path pch = pchDir;
+        List<String> command = compileCommand(cppFile, workingDir.resolve("Main"), pch);
+        ProcessBuilder compilePb = new ProcessBuilder(command);
+        compilePb.directory(workingDir.toFile()); // 작업 디렉토리 설정
+        compilePb.redirectErrorStream(true);
+
+        long startNanos = System.nanoTime();
+        try {
+            Process compileProcess = compilePb.start();
+
+            // 컴파일러 출력을 먼저 모두 읽어야 파이프가 가득 차서 멈추는 일이 없음
+            try (BufferedReader errorReader = new BufferedReader(new InputStreamReader(compileProcess.getInputStream()))) {
+                String errorLine;
+                while ((errorLine = errorReader.readLine()) != null) {
+                    output.append(errorLine).append("\n");
+                }
+            }
+            compileProcess.waitFor();
+            recordCompileTime(startNanos, pch != null, compileProcess.exitValue() == 0);
+
+            // 컴파일 에러 발생 시 에러 반환
+            if (compileProcess.exitValue() != 0) {
+                return ResultDto.builder()
+                        .testNum(1)
+                        .actualResult(output.toString())
+                        .status(ResultStatus.COMPILATION_ERROR)
+                        .build();
+            }
+            return null;
+        } catch (IOException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return ResultDto.builder()
+                    .testNum(1)
+                    .actualResult("🚨ERROR : " + e.getMessage() + "\n")
+                    .status(ResultStatus.RUNTIME_ERROR)
+                    .build();
+        }
+    }
+
+    /**
+     * 단순 검사용으로 작업 디렉토리에서 Main.cpp를 컴파일하여 실행 파일 Main을 만듭니다.
+     */
+    @Override
+    public boolean checkCompilation(Path workspace, String code, StringBuilder output, List<CompileDiagnosticDto> diagnostics) {
+        try {
+            File cppFile = fileManager.createCppFile(workspace, code);
+            List<String> command = compileCommand(cppFile, workspace.resolve("Main"), pchDir);
+            return simpleCheckRunner.compile(command, workspace, output);
+        } catch (IOException e) {
+            output.append("컴파일 중 시스템 오류: ").append(e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 단순 검사용으로 checkCompilation 이 작업 디렉토리에 만든 실행 파일을 실행합니다.
+     */
+    @Override
+    public boolean checkExecution(Path workspace, String input, StringBuilder output) {
+        List<String> command = List.of(workspace.resolve("Main").toAbsolutePath().toString());
+        return simpleCheckRunner.execute(command, workspace, input, output);
     }
 }
@@ -0,0 +1,227 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * C++ 미리 컴파일된 헤더(PCH) 관리
+ *
+ * 제출 코드에서 자주 쓰는 헤더(기본값: bits/stdc++.h, iostream)를 컴파일 프로필의 옵션으로 미리 컴파일해
+ * compiler.cpp.pch.dir 아래에 헤더 경로 그대로(bits/stdc++.h.gch) 저장합니다.
+ * 제출 코드를 컴파일할 때 이 디렉토리를 -I 로 넘기면 g++ 가 같은 이름의 .gch 를 먼저 찾아 헤더를 다시 해석하지 않습니다.
+ *
+ * - PCH 디렉토리 이름에는 컴파일러 경로/버전, 컴파일 옵션, 헤더 목록의 해시가 들어가므로 옵션이 바뀌면 새로 만듭니다.
+ * - 이미 만들어진 디렉토리는 서버를 재시작해도 재사용하며, 다른 해시의 이전 디렉토리는 삭제합니다.
+ * - 빌드 디렉토리(.build-*)는 같은 디렉토리를 쓰는 다른 인스턴스가 빌드 중일 수 있으므로 빌드 제한 시간보다 오래된 것만 삭제합니다.
+ * - 옵션이 맞지 않아 PCH를 쓸 수 없는 경우 g++ 는 경고 없이 원래 헤더를 사용하므로 컴파일 결과는 달라지지 않습니다.
+ */
+@Slf4j
+@Component
+public class CppPrecompiledHeader {
+
+    private static final String READY_MARKER = ".ready";
+    private static final String BUILD_PREFIX = ".build-";
+    private static final long BUILD_TIMEOUT_SECONDS = 120;
+    private static final int BUILD_OUTPUT_LIMIT = 16 * 1024;
+
+    private final boolean enabled;
+    private final Path rootDir;
+    private final List<String> headers;
+    private final ProcessIoReaper ioReaper;
+
+    /**
+     * C++ PCH 관리자 생성자
+     *
+     * @param enabled PCH 사용 여부
+     * @param rootDir PCH를 저장할 디렉토리
+     * @param headers 미리 컴파일할 헤더 목록 (쉼표로 구분, 예: bits/stdc++.h,iostream)
+     * @param ioReaper 컴파일러 출력을 읽는 공유 입출력 처리기
+     */
+    public CppPrecompiledHeader(
+            @Value("${compiler.cpp.pch.enabled:true}") boolean enabled,
+            @Value("${compiler.cpp.pch.dir:compiler_pch}") String rootDir,
+            @Value("${compiler.cpp.pch.headers:bits/stdc++.h,iostream}") String headers,
+            ProcessIoReaper ioReaper) {
+        this.enabled = enabled;
+        this.rootDir = Paths.get(rootDir).toAbsolutePath();
+        this.headers = Arrays.stream(headers.split(","))
+                .map(String::trim)
+                .filter(header -> !header.isEmpty())
+                .collect(Collectors.toList());
+        this.ioReaper = ioReaper;
+    }
+
+    /**
+     * 컴파일 프로필에 맞는 PCH를 준비합니다. 이미 만들어져 있으면 그대로 사용합니다.
+     *
+     * @param compiler 시작 시 찾은 g++
+     * @param profileName 컴파일 프로필 이름
+     * @param flags 컴파일 프로필의 옵션
+     * @return 컴파일 시 -I 로 넘길 디렉토리, PCH를 사용하지 않거나 만들지 못했으면 empty
+     */
+    public Optional<Path> prepare(Toolchain compiler, String profileName, List<String> flags) {
+        if (!enabled || headers.isEmpty()) {
+            return Optional.empty();
+        }
+        String name = profileName.replaceAll("[^A-Za-z0-9._-]", "_") + "-" + fingerprint(compiler, flags);
+        Path target = rootDir.resolve(name);
+        if (Files.exists(target.resolve(READY_MARKER))) {
+            log.info("Using C++ precompiled headers for profile {}: {}", profileName, target);
+            return Optional.of(target);
+        }
+
+        Path buildDir = null;
+        try {
+            Files.createDirectories(rootDir);
+            removeStale(name);
+            buildDir = Files.createTempDirectory(rootDir, BUILD_PREFIX);
+            long startNanos = System.nanoTime();
+            int built = 0;
+            for (String header : headers) {
+                if (build(compiler, flags, header, buildDir)) {
+                    built++;
+                }
+            }
+            if (built == 0) {
+                return Optional.empty();
+            }
+            Files.createFile(buildDir.resolve(READY_MARKER));
+            try {
+                Files.move(buildDir, target, StandardCopyOption.ATOMIC_MOVE);
+                buildDir = null;
+            } catch (IOException e) {
+                // 다른 인스턴스가 먼저 만든 경우 그쪽을 사용
+                log.debug("C++ precompiled headers already exist at {}: {}", target, e.getMessage());
+            }
+            log.info("Built C++ precompiled headers for profile {} ({} of {} headers) in {} ms: {}",
+                    profileName, built, headers.size(), (System.nanoTime() - startNanos) / 1_000_000, target);
+            return Files.exists(target.resolve(READY_MARKER)) ? Optional.of(target) : Optional.empty();
+        } catch (IOException e) {
+            log.warn("Failed to prepare C++ precompiled headers: {}", e.getMessage());
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } finally {
+            if (buildDir != null) {
+                deleteRecursively(buildDir);
+            }
+        }
+    }
+
+    /**
+     * 헤더 하나를 미리 컴파일합니다.
+     * 헤더를 직접 컴파일하지 않고 #include 하는 래퍼를 컴파일해 시스템 헤더 경로를 그대로 따르게 합니다.
+     */
+    private boolean build(Toolchain compiler, List<String> flags, String header, Path buildDir)
+            throws IOException, InterruptedException {
+        Path wrapper = Files.createTempFile(buildDir, "pch-", ".h");
+        Path output = buildDir.resolve(header + ".gch");
+        Files.createDirectories(output.getParent());
+        Files.writeString(wrapper, "#include <" + header + ">\n", StandardCharsets.UTF_8);
+
+        List<String> command = new ArrayList<>();
+        command.add(compiler.getCommand());
+        command.addAll(flags);
+        command.addAll(List.of("-x", "c++-header", wrapper.toString(), "-o", output.toString()));
+
+        Process process = new ProcessBuilder(command).directory(buildDir.toFile()).redirectErrorStream(true).start();
+        ioReaper.track(process);
+        try {
+            process.getOutputStream().close();
+            String message = ioReaper.read(process, process.getInputStream(), BUILD_OUTPUT_LIMIT)
+                    .get(BUILD_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                    .getText();
+            if (!process.waitFor(BUILD_TIMEOUT_SECONDS, TimeUnit.SECONDS) || process.exitValue() != 0) {
+                log.warn("Failed to precompile C++ header <{}>: {}", header, message.strip().lines().findFirst().orElse(""));
+                return false;
+            }
+            return true;
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Failed to precompile C++ header <{}>: {}", header, e.getMessage());
+            return false;
+        } finally {
+            process.destroyForcibly();
+            Files.deleteIfExists(wrapper);
+        }
+    }
+
+    /**
+     * 컴파일러, 옵션, 헤더 목록이 같으면 같은 값을 돌려주는 해시 (앞 12자리)
+     */
+    private String fingerprint(Toolchain compiler, List<String> flags) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : List.of(compiler.getCommand(), compiler.getVersion(),
+                    String.join(" ", flags), String.join(",", headers))) {
+                digest.update(part.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest()).substring(0, 12);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 다른 옵션으로 만들어진 이전 PCH와 중단된 빌드 디렉토리를 삭제합니다. (PCH 하나가 수십~수백 MB)
+     * 빌드 디렉토리는 모든 헤더의 빌드 제한 시간이 지나도록 바뀌지 않은 것만 중단된 것으로 봅니다.
+     * 완성된 PCH는 지워져도 g++ 가 원래 헤더를 사용하므로 다른 인스턴스가 쓰는 중이어도 삭제할 수 있습니다.
+     */
+    private void removeStale(String currentName) throws IOException {
+        long abandonedBeforeMillis = System.currentTimeMillis()
+                - TimeUnit.SECONDS.toMillis(BUILD_TIMEOUT_SECONDS * (headers.size() + 1L));
+        try (Stream<Path> dirs = Files.list(rootDir)) {
+            dirs.filter(Files::isDirectory)
+                    .filter(dir -> {
+                        String dirName = dir.getFileName().toString();
+                        if (dirName.startsWith(BUILD_PREFIX)) {
+                            return lastModifiedMillis(dir) < abandonedBeforeMillis;
+                        }
+                        return !dirName.equals(currentName);
+                    })
+                    .forEach(this::deleteRecursively);
+        }
+    }
+
+    private long lastModifiedMillis(Path dir) {
+        try {
+            return Files.getLastModifiedTime(dir).toMillis();
+        } catch (IOException e) {
+            // 다른 인스턴스가 이미 옮기거나 삭제한 경우
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private void deleteRecursively(Path dir) {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    log.debug("Failed to delete {}: {}", path, e.getMessage());
+                }
+            });
+        } catch (IOException e) {
+            log.debug("Failed to delete {}: {}", dir, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import com.webproject.jandi_ide_backend.compiler.dto.CompileDiagnosticDto;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.tools.*;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 프로세스 내 Java 컴파일러
+ *
+ * javac 프로세스를 띄우지 않고 javax.tools 컴파일러 API로 소스를 메모리에서 바로 컴파일합니다.
+ * JVM 기동 비용(0.5~1.5초)이 사라지며, 컴파일러 내부 캐시가 전용 스레드에 유지되어 반복 컴파일이 빨라집니다.
+ *
+ * - 소스와 결과 클래스 파일은 메모리 파일 매니저에서만 다루며, 결과 바이트는 호출자에게 그대로 전달됩니다.
+ * - 컴파일 오류는 줄/열 정보를 가진 CompileDiagnosticDto 목록으로 반환됩니다.
+ * - compiler.java.compile-mode=fork 이거나 JDK 컴파일러를 찾을 수 없으면 사용하지 않으며,
+ *   이 경우 호출자는 기존의 javac 프로세스 방식으로 컴파일합니다.
+ */
+@Slf4j
+@Component
+public class InMemoryJavaCompiler {
+
+    private static final String MODE_IN_PROCESS = "in-process";
+
+    // 사용자 코드가 애플리케이션 클래스를 참조하거나 어노테이션 프로세서를 실행하지 못하도록 제한
+    private static final List<String> COMPILE_OPTIONS = List.of("-proc:none", "-encoding", "UTF-8");
+
+    private final javax.tools.JavaCompiler systemCompiler;
+    private final boolean enabled;
+    private final long timeoutSeconds;
+    private final ExecutorService pool;
+
+    // 컴파일 스레드마다 표준 파일 매니저를 재사용 (JDK 모듈 인덱스 캐시 유지)
+    private final ThreadLocal<StandardJavaFileManager> standardFileManagers = new ThreadLocal<>();
+    private final List<StandardJavaFileManager> openedFileManagers = new CopyOnWriteArrayList<>();
+
+    /**
+     * 프로세스 내 Java 컴파일러 생성자
+     *
+     * @param compileMode 컴파일 방식 (in-process 또는 fork)
+     * @param poolSize 컴파일 전용 스레드 수
+     * @param timeoutSeconds 컴파일 제한 시간 (초)
+     */
+    public InMemoryJavaCompiler(
+            @Value("${compiler.java.compile-mode:in-process}") String compileMode,
+            @Value("${compiler.java.in-process.pool-size:2}") int poolSize,
+            @Value("${compiler.java.in-process.timeout-seconds:10}") long timeoutSeconds) {
+        this.systemCompiler = ToolProvider.getSystemJavaCompiler();
+        this.timeoutSeconds = timeoutSeconds;
+
+        boolean inProcess = MODE_IN_PROCESS.equalsIgnoreCase(compileMode);
+        if (inProcess && systemCompiler == null) {
+            log.warn("System Java compiler is not available (running on a JRE?), falling back to forked javac");
+        }
+        this.enabled = inProcess && systemCompiler != null;
+
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        this.pool = Executors.newFixedThreadPool(Math.max(1, poolSize), runnable -> {
+            Thread thread = new Thread(runnable, "java-compiler-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        log.info("Java compile mode: {}", enabled ? MODE_IN_PROCESS : "fork");
+    }
+
+    /**
+     * 프로세스 내 컴파일을 사용할 수 있는지 확인합니다.
+     *
+     * @return in-process 모드이고 JDK 컴파일러가 있으면 true
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 소스 코드를 메모리에서 컴파일합니다.
+     *
+     * @param className 최상위 클래스 이름 (소스 파일 이름이 됨)
+     * @param source 소스 코드
+     * @return 컴파일 결과 (성공 여부, 클래스 바이트, 진단 목록)
+     */
+    public Compilation compile(String className, String source) {
+        Future<Compilation> future = pool.submit(() -> doCompile(className, source));
+        try {
+            return future.get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return Compilation.failure(className, "컴파일 시간 초과 (" + timeoutSeconds + "초)");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return Compilation.failure(className, "컴파일이 중단되었습니다");
+        } catch (ExecutionException e) {
+            log.error("In-process compilation failed unexpectedly", e.getCause());
+            return Compilation.failure(className, "컴파일러 내부 오류: " + e.getCause().getMessage());
+        }
+    }
+
+    private Compilation doCompile(String className, String source) throws IOException {
+        DiagnosticCollector<JavaFileObject> collector = new DiagnosticCollector<>();
+        MemoryFileManager fileManager = new MemoryFileManager(standardFileManager());
+        JavaFileObject sourceFile = new SourceFile(className, source);
+
+        javax.tools.JavaCompiler.CompilationTask task = systemCompiler.getTask(
+                null, fileManager, collector, COMPILE_OPTIONS, null, List.of(sourceFile));
+        boolean success = Boolean.TRUE.equals(task.call());
+
+        List<CompileDiagnosticDto> diagnostics = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : collector.getDiagnostics()) {
+            diagnostics.add(toDto(className, diagnostic));
+        }
+        return new Compilation(success, success ? fileManager.getClassBytes() : Map.of(), diagnostics);
+    }
+
+    private StandardJavaFileManager standardFileManager() throws IOException {
+        StandardJavaFileManager fileManager = standardFileManagers.get();
+        if (fileManager == null) {
+            fileManager = systemCompiler.getStandardFileManager(null, null, StandardCharsets.UTF_8);
+            // 사용자 코드는 JDK 클래스만 사용할 수 있음
+            fileManager.setLocation(StandardLocation.CLASS_PATH, List.of());
+            standardFileManagers.set(fileManager);
+            openedFileManagers.add(fileManager);
+        }
+        return fileManager;
+    }
+
+    private CompileDiagnosticDto toDto(String className, Diagnostic<? extends JavaFileObject> diagnostic) {
+        return CompileDiagnosticDto.builder()
+                .kind(diagnostic.getKind().name())
+                .source(diagnostic.getSource() != null ? className + ".java" : null)
+                .line(diagnostic.getLineNumber() != Diagnostic.NOPOS ? diagnostic.getLineNumber() : null)
+                .column(diagnostic.getColumnNumber() != Diagnostic.NOPOS ? diagnostic.getColumnNumber() : null)
+                .code(diagnostic.getCode())
+                .message(diagnostic.getMessage(null))
+                .build();
+    }
+
+    /**
+     * 애플리케이션 종료 시 컴파일 스레드와 파일 매니저 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+        for (StandardJavaFileManager fileManager : openedFileManagers) {
+            try {
+                fileManager.close();
+            } catch (IOException e) {
+                log.debug("Failed to close file manager: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 프로세스 내 컴파일 결과
+     */
+    @Getter
+    public static class Compilation {
+        private final boolean success;
+        // 클래스 이름(내부 클래스 포함) -> 클래스 파일 바이트
+        private final Map<String, byte[]> classes;
+        private final List<CompileDiagnosticDto> diagnostics;
+
+        Compilation(boolean success, Map<String, byte[]> classes, List<CompileDiagnosticDto> diagnostics) {
+            this.success = success;
+            this.classes = classes;
+            this.diagnostics = diagnostics;
+        }
+
+        static Compilation failure(String className, String message) {
+            CompileDiagnosticDto diagnostic = CompileDiagnosticDto.builder()
+                    .kind(Diagnostic.Kind.ERROR.name())
+                    .source(className + ".java")
+                    .message(message)
+                    .build();
+            return new Compilation(false, Map.of(), List.of(diagnostic));
+        }
+
+        /**
+         * 클래스 파일을 디렉토리에 기록합니다. (Main.class, Main$Inner.class ...)
+         *
+         * @param directory 클래스 파일을 기록할 디렉토리
+         * @return 기록한 파일 목록
+         * @throws IOException 파일 기록 중 오류 발생 시
+         */
+        public List<Path> writeClassFiles(Path directory) throws IOException {
+            List<Path> written = new ArrayList<>();
+            for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+                Path classFile = directory.resolve(entry.getKey().replace('.', '/') + ".class");
+                if (classFile.getParent() != null) {
+                    Files.createDirectories(classFile.getParent());
+                }
+                Files.write(classFile, entry.getValue());
+                written.add(classFile);
+            }
+            return written;
+        }
+
+        /**
+         * javac 출력과 같은 형식의 오류 메시지를 만듭니다.
+         *
+         * @return "Main.java:3: error: ';' expected" 형식의 메시지
+         */
+        public String formatDiagnostics() {
+            StringBuilder formatted = new StringBuilder();
+            for (CompileDiagnosticDto diagnostic : diagnostics) {
+                if (diagnostic.getSource() != null) {
+                    formatted.append(diagnostic.getSource());
+                    if (diagnostic.getLine() != null) {
+                        formatted.append(':').append(diagnostic.getLine());
+                    }
+                    formatted.append(": ");
+                }
+                formatted.append(diagnostic.getKind().toLowerCase(Locale.ROOT).replace('_', ' '))
+                        .append(": ")
+                        .append(diagnostic.getMessage())
+                        .append('\n');
+            }
+            return formatted.toString();
+        }
+    }
+
+    /**
+     * 문자열 소스 코드를 담는 JavaFileObject
+     */
+    private static class SourceFile extends SimpleJavaFileObject {
+        private final String source;
+
+        SourceFile(String className, String source) {
+            super(URI.create("string:///" + className + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+
+    /**
+     * 컴파일된 클래스 바이트를 메모리에 담는 JavaFileObject
+     */
+    private static class ClassFile extends SimpleJavaFileObject {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        ClassFile(String className) {
+            super(URI.create("mem:///" + className.replace('.', '/') + Kind.CLASS.extension), Kind.CLASS);
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            return bytes;
+        }
+
+        byte[] getBytes() {
+            return bytes.toByteArray();
+        }
+    }
+
+    /**
+     * 클래스 파일 출력을 메모리로 돌리는 파일 매니저
+     * 표준 파일 매니저는 컴파일 스레드에서 계속 재사용되므로 닫지 않습니다.
+     */
+    private static class MemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+        private final Map<String, ClassFile> outputs = new LinkedHashMap<>();
+
+        MemoryFileManager(StandardJavaFileManager fileManager) {
+            super(fileManager);
+        }
+
+        @Override
+        public JavaFileObject getJavaFileForOutput(Location location, String className,
+                                                   JavaFileObject.Kind kind, FileObject sibling) {
+            ClassFile classFile = new ClassFile(className);
+            outputs.put(className, classFile);
+            return classFile;
+        }
+
+        @Override
+        public void close() {
+            // 공유 표준 파일 매니저는 닫지 않음
+        }
+
+        Map<String, byte[]> getClassBytes() {
+            Map<String, byte[]> classes = new LinkedHashMap<>();
+            outputs.forEach((name, file) -> classes.put(name, file.getBytes()));
+            return classes;
+        }
+    }
+}
@@ -2,27 +2,172 @@ package com.webproject.jandi_ide_backend.compiler.service;
 
 import com.webproject.jandi_ide_backend.algorithm.problem.entity.Problem;
 import com.webproject.jandi_ide_backend.algorithm.testCase.entity.TestCase;
+import com.webproject.jandi_ide_backend.compiler.checker.CheckerEngine;
+import com.webproject.jandi_ide_backend.compiler.checker.CheckerSpec;
+import com.webproject.jandi_ide_backend.compiler.checker.OutputChecker;
+import com.webproject.jandi_ide_backend.compiler.dto.CompileDiagnosticDto;
 import com.webproject.jandi_ide_backend.compiler.dto.ResultDto;
 import com.webproject.jandi_ide_backend.compiler.dto.ResultStatus;
+import com.webproject.jandi_ide_backend.compiler.dto.TimeLimitPolicy;
+import com.webproject.jandi_ide_backend.compiler.runner.BatchHarness;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
 
 import java.io.*;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.*;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
-public class JavaCompiler {
+@Order(1)
+public class JavaCompiler implements LanguageRuntime {
+
+    // 결과물 캐시 키에 포함되는 컴파일 명령. 옵션이 바뀌면 이전 결과물을 재사용하지 않음
+    private static final String COMPILE_COMMAND = "javac";
+    // in-process 컴파일 결과물의 캐시 키 (javac 프로세스와 결과물이 같다고 가정하지 않음)
+    private static final String IN_PROCESS_COMPILE = "javax.tools";
+    // JVM 기동 CPU 시간 기준값을 측정할 때 실행할 횟수 (가장 작은 값을 사용)
+    private static final int STARTUP_SAMPLES = 3;
+    private static final long STARTUP_PROBE_TIMEOUT_MILLIS = 10_000;
 
     private final CompilerFileManager fileManager;
+    private final TestCaseExecutor testCaseExecutor;
+    private final CompiledArtifactCache artifactCache;
+    private final InMemoryJavaCompiler inMemoryJavaCompiler;
+    private final WarmJvmRunnerPool warmRunnerPool;
+    private final ProcessRunner processRunner;
+    private final ToolchainLocator toolchainLocator;
+    private final SimpleCheckRunner simpleCheckRunner;
+    private final BatchedHarnessRunner batchedHarnessRunner;
+    private final CheckerEngine checkerEngine;
+    // 측정된 최대 RSS를 메모리 제한과 비교할 때 더해 주는 JVM 자체 메모리 (MB)
+    private final int jvmMemoryOverheadMb;
+    // 빈 JVM 기동/종료에 드는 CPU 시간 (ms). 프로세스 전체 CPU 시간에서 빼서 JIT/GC 스레드의 기동 비용을 제외
+    private volatile double jvmStartupCpuMillis = 0.0;
+
+    // 시작 시 찾은 툴체인 (javac 는 fork 컴파일 모드에서만 필요)
+    private volatile Toolchain javac;
+    private volatile Toolchain java;
 
-    public JavaCompiler(CompilerFileManager fileManager) {
+    public JavaCompiler(CompilerFileManager fileManager, TestCaseExecutor testCaseExecutor,
+                        CompiledArtifactCache artifactCache, InMemoryJavaCompiler inMemoryJavaCompiler,
+                        WarmJvmRunnerPool warmRunnerPool, ProcessRunner processRunner,
+                        ToolchainLocator toolchainLocator, SimpleCheckRunner simpleCheckRunner,
+                        BatchedHarnessRunner batchedHarnessRunner, CheckerEngine checkerEngine,
+                        @Value("${compiler.accounting.jvm-memory-overhead-mb:64}") int jvmMemoryOverheadMb) {
         this.fileManager = fileManager;
+        this.testCaseExecutor = testCaseExecutor;
+        this.artifactCache = artifactCache;
+        this.inMemoryJavaCompiler = inMemoryJavaCompiler;
+        this.warmRunnerPool = warmRunnerPool;
+        this.processRunner = processRunner;
+        this.toolchainLocator = toolchainLocator;
+        this.simpleCheckRunner = simpleCheckRunner;
+        this.batchedHarnessRunner = batchedHarnessRunner;
+        this.checkerEngine = checkerEngine;
+        this.jvmMemoryOverheadMb = jvmMemoryOverheadMb;
+    }
+
+    @Override
+    public String getLanguage() {
+        return "java";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "자바";
+    }
+
+    @Override
+    public boolean isCompiled() {
+        return true;
+    }
+
+    @Override
+    public List<Toolchain> discoverToolchains() {
+        javac = toolchainLocator.locate("compiler", List.of(COMPILE_COMMAND), List.of("-version")).orElse(null);
+        java = toolchainLocator.locate("runtime", List.of("java"), List.of("-version")).orElse(null);
+        if (java != null) {
+            // warm 실행 모드의 실행 JVM도 찾은 java 로 띄움
+            warmRunnerPool.start(java);
+        }
+        return getToolchains();
+    }
+
+    @Override
+    public List<Toolchain> getToolchains() {
+        return Stream.of(javac, java).filter(toolchain -> toolchain != null).toList();
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return java != null && (javac != null || inMemoryJavaCompiler.isEnabled());
     }
 
+    @Override
+    public int getMemoryOverheadMb() {
+        return jvmMemoryOverheadMb;
+    }
+
+    /**
+     * in-process 컴파일 모드에서는 javax.tools 컴파일러 클래스를 미리 불러와 첫 제출의 컴파일 지연을 줄이고,
+     * JVM 기동 CPU 시간 기준값을 측정합니다.
+     */
+    @Override
+    public void warmup() {
+        if (inMemoryJavaCompiler.isEnabled()) {
+            inMemoryJavaCompiler.compile("Main", "public class Main { public static void main(String[] args) { } }");
+            log.info("In-process Java compiler warmed up");
+        }
+        measureStartupCpu();
+    }
+
+    /**
+     * 제출 코드 없이 JVM을 띄웠다 종료하는 데 드는 CPU 시간을 측정합니다.
+     * 프로세스 CPU 시간에는 JIT 컴파일러와 GC 스레드가 쓴 시간이 포함되므로, 이 기준값만큼은 시간 제한에서 허용합니다.
+     * 측정하지 못하면 기준값은 0으로 남아 이전과 같이 프로세스 전체 CPU 시간으로 판정합니다.
+     */
+    private void measureStartupCpu() {
+        List<String> command = List.of(java.getCommand(), "-Xmx64m", "-XX:+UseSerialGC", "-version");
+        Path workingDir = Paths.get(System.getProperty("java.io.tmpdir"));
+        double baseline = Double.MAX_VALUE;
+        try {
+            for (int i = 0; i < STARTUP_SAMPLES; i++) {
+                ProcessRunner.ProcessResult run = processRunner.run(command, workingDir, "",
+                        STARTUP_PROBE_TIMEOUT_MILLIS, 256, 64 * 1024);
+                if (run.isTimedOut() || run.getExitCode() != 0) {
+                    log.warn("Failed to measure JVM startup CPU time: exit code {}", run.getExitCode());
+                    return;
+                }
+                baseline = Math.min(baseline, run.getCpuTimeMillis());
+            }
+        } catch (IOException e) {
+            log.warn("Failed to measure JVM startup CPU time: {}", e.getMessage());
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        jvmStartupCpuMillis = baseline;
+        log.info("JVM startup CPU baseline: {}ms", String.format("%.1f", baseline));
+    }
+
+    /**
+     * Java 실행에 적용할 RSS 제한 (MB)
+     * 힙(-Xmx)을 메모리 제한으로 두므로 JVM 자체 메모리만큼 여유를 두되,
+     * 힙을 메모리 제한의 2배로 두던 이전 판정보다 좁아지지 않도록 최소 2배를 보장합니다.
+     */
+    private int rssLimitMb(Problem problem) {
+        return Math.max(problem.getMemory() * 2, problem.getMemory() + jvmMemoryOverheadMb);
+    }
+
+    @Override
     public List<ResultDto> runCode(Problem problem, List<TestCase> testcases, String code, Long userId) {
         List<ResultDto> results = new ArrayList<>();
         Path workingDir = null;
@@ -33,225 +178,430 @@ public class JavaCompiler {
             Long problemId = Long.valueOf(problem.getId()); // Convert Integer to Long
             workingDir = fileManager.createWorkingDir(userId, problemId);
             
-            for (int i = 0; i < testcases.size(); i++) {
-                String input = testcases.get(i).getInput();
-                String expectedOutput = testcases.get(i).getOutput();
-                StringBuilder output = new StringBuilder();
-                Double time = 0.0;
-                Double memory = 0.0;
-
-                // 임시 파일 생성
-                javaFile = fileManager.createJavaFile(workingDir, code);
-
-                // 컴파일. javaCompiler 경로 맞게 설정해야함.
-                String javaCompiler = "javac";
-                ProcessBuilder compilePb = new ProcessBuilder(javaCompiler, javaFile.getAbsolutePath());
-                compilePb.directory(workingDir.toFile()); // 작업 디렉토리 설정
-                
-                try {
-                    Process compileProcess = compilePb.start();
-                    compileProcess.waitFor();
-
-                    if (compileProcess.exitValue() != 0) {
-                        output.append("컴파일 에러 발생:\n");
-                        try (BufferedReader errorReader = new BufferedReader(new InputStreamReader(compileProcess.getErrorStream()))) {
-                            String errorLine;
-
-                            while ((errorLine = errorReader.readLine()) != null) {
-                                output.append(errorLine).append("\n");
-                            }
-                        }
-                        
-                        results.add(ResultDto.builder()
-                                .testNum(i+1)
-                                .input(input)
-                                .expectedResult(expectedOutput)
-                                .actualResult(output.toString())
-                                .status(ResultStatus.COMPILATION_ERROR)
-                                .build());
-                        continue;
-                    }
-                } catch (IOException | InterruptedException e) {
-                    output.append("컴파일 프로세스 오류: ").append(e.getMessage()).append("\n");
-                    results.add(ResultDto.builder()
-                            .testNum(i+1)
-                            .input(input)
-                            .expectedResult(expectedOutput)
-                            .actualResult(output.toString())
-                            .status(ResultStatus.RUNTIME_ERROR)
-                            .build());
-                    continue;
+            // 소스 파일 생성 및 컴파일 (제출당 한 번만 수행, 같은 코드는 캐시된 클래스 파일 재사용)
+            javaFile = fileManager.createJavaFile(workingDir, code);
+            String compileMode = inMemoryJavaCompiler.isEnabled() ? IN_PROCESS_COMPILE : COMPILE_COMMAND;
+            String artifactKey = artifactCache.key("java", compileMode, code);
+            if (!artifactCache.restore(artifactKey, workingDir)) {
+                ResultDto compileError = compile(javaFile, code, workingDir);
+                if (compileError != null) {
+                    results.add(compileError);
+                    return results;
                 }
+                artifactCache.store(artifactKey, listClassFiles(workingDir));
+            }
+            fileManager.checkQuota(workingDir);
+
+            // 컴파일된 클래스로 모든 테스트 케이스 실행 (묶음 실행 문제는 하네스 JVM 하나로 실행)
+            Path classDir = workingDir;
+            TestCaseExecutor.TestCaseTask task = (testCase, testNum) -> runTestCase(problem, testCase, testNum, classDir);
+            if (batchedHarnessRunner.isBatched(problem, testcases)) {
+                List<String> launcher = List.of(java.getCommand(), "-Xmx" + problem.getMemory() + "m", "-XX:+UseSerialGC",
+                        "-cp", batchedHarnessRunner.javaHarnessClassPath().toString(), BatchHarness.class.getName());
+                results.addAll(batchedHarnessRunner.execute(problem, testcases, launcher, classDir.toString(),
+                        classDir, rssLimitMb(problem), task));
+            } else {
+                results.addAll(testCaseExecutor.execute(testcases, task));
+            }
+        } catch (IOException e) {
+            log.error("Working directory error: {}", e.getMessage(), e);
+            results.add(ResultDto.builder()
+                    .testNum(1)
+                    .actualResult("작업 디렉토리 오류: " + e.getMessage())
+                    .status(ResultStatus.RUNTIME_ERROR)
+                    .build());
+        } finally {
+            // 작업 디렉토리는 백그라운드에서 비운 뒤 재사용
+            fileManager.releaseWorkingDir(workingDir);
+        }
+        return results;
+    }
+
+    /**
+     * 컴파일된 Main 클래스를 테스트 케이스 하나에 대해 실행합니다.
+     * 병렬 모드에서는 여러 스레드에서 동시에 호출되므로 공유 상태를 두지 않습니다.
+     *
+     * @param problem 문제 정보 (시간/메모리 제한)
+     * @param testCase 실행할 테스트 케이스
+     * @param testNum 테스트 케이스 번호
+     * @param workingDir 클래스 파일이 있는 작업 디렉토리
+     * @return 테스트 케이스 실행 결과
+     */
+    private ResultDto runTestCase(Problem problem, TestCase testCase, int testNum, Path workingDir) {
+        if (warmRunnerPool.isEnabled()) {
+            return runTestCaseWarm(problem, testCase, testNum, workingDir);
+        }
+
+        String input = testCase.getInput();
+        String expectedOutput = testCase.getOutput();
+
+        // 힙은 문제의 메모리 제한으로 두고, 측정되는 RSS에는 JVM 자체 메모리만큼 여유를 둠
+        // cpu 판정에서는 JVM 기동 CPU 시간만큼 제한을 늘리고 보고하는 CPU 시간에서는 뺌
+        long timeLimitMillis = problem.getTimeLimit() * 1000L;
+        double startupCpuMillis = processRunner.getTimePolicy() == TimeLimitPolicy.CPU ? jvmStartupCpuMillis : 0.0;
+        int memoryLimitMb = rssLimitMb(problem);
+        long outputLimitBytes = processRunner.outputLimitBytes(problem.getOutputLimit());
+        List<String> command = List.of(java.getCommand(), "-Xmx" + problem.getMemory() + "m", "-XX:+UseSerialGC", "Main");
+
+        try {
+            // streaming 방식은 출력을 기록되는 대로 검사기로 비교하고 첫 불일치에서 실행을 중단
+            OutputChecker checker = checkerEngine.create(CheckerSpec.of(problem), testCase);
+            ProcessRunner.ProcessResult run = processRunner.runTestCase(command, workingDir, testCase, checker,
+                    timeLimitMillis + Math.round(startupCpuMillis), memoryLimitMb, outputLimitBytes);
+            double cpuTimeMillis = Math.max(0.0, run.getCpuTimeMillis() - startupCpuMillis);
+
+            if (run.getExitCode() != 0 && !run.isTimedOut()) {
+                log.warn("Process exited with non-zero code: " + run.getExitCode());
+            }
+
+            // 결과 저장
+            String resultString = run.getOutput().trim();
+            log.debug("Raw output capture: [" + resultString + "]");
+
+            if (run.isOutputLimitExceeded()) {
+                return ResultDto.builder()
+                        .testNum(testNum)
+                        .input(input)
+                        .expectedResult(expectedOutput)
+                        .actualResult("출력 초과 발생: 출력이 제한(" + outputLimitBytes / 1024 + "KB)을 초과했습니다.\n")
+                        .executionTime(run.getWallTimeMillis())
+                        .cpuTime(cpuTimeMillis)
+                        .timePolicy(run.getTimePolicy())
+                        .usedMemory(run.getPeakMemoryMB())
+                        .status(ResultStatus.OUTPUT_LIMIT)
+                        .build();
+            }
+            if (run.isTimeLimitExceeded()) {
+                return ResultDto.builder()
+                        .testNum(testNum)
+                        .input(input)
+                        .expectedResult(expectedOutput)
+                        .actualResult("시간 초과 발생: 실행 시간이 제한(" + problem.getTimeLimit() + "초)을 초과했습니다.\n")
+                        .executionTime(run.getWallTimeMillis())
+                        .cpuTime(cpuTimeMillis)
+                        .timePolicy(run.getTimePolicy())
+                        .usedMemory(run.getPeakMemoryMB())
+                        .status(ResultStatus.TIMEOUT)
+                        .build();
+            }
+            if (run.exceedsMemoryLimit(memoryLimitMb) || resultString.contains("java.lang.OutOfMemoryError")) {
+                return ResultDto.builder()
+                        .testNum(testNum)
+                        .input(input)
+                        .expectedResult(expectedOutput)
+                        .actualResult("메모리 초과 발생: 메모리 제한(" + problem.getMemory() + "MB)을 초과했습니다.\n")
+                        .executionTime(run.getWallTimeMillis())
+                        .cpuTime(cpuTimeMillis)
+                        .timePolicy(run.getTimePolicy())
+                        .usedMemory(run.getPeakMemoryMB())
+                        .status(ResultStatus.MEMORY_LIMIT)
+                        .build();
+            }
+
+            // 통과 여부 확인 (실제 프로그램 출력만 actualResult에 포함)
+            boolean isPass = run.getOutputMatched() != null ? run.getOutputMatched() : checker.matches(run.getOutput());
+
+            return ResultDto.builder()
+                    .testNum(testNum)
+                    .input(input)
+                    .expectedResult(expectedOutput)
+                    .actualResult(run.getStoredOutput().trim())
+                    .executionTime(run.getWallTimeMillis())
+                    .cpuTime(cpuTimeMillis)
+                    .timePolicy(run.getTimePolicy())
+                    .usedMemory(run.getPeakMemoryMB())
+                    .status(isPass ? ResultStatus.CORRECT : ResultStatus.WRONG_ANSWER)
+                    .firstDifference(isPass ? null : checker.getFirstDifference())
+                    .build();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ResultDto.builder()
+                    .testNum(testNum)
+                    .input(input)
+                    .expectedResult(expectedOutput)
+                    .actualResult("실행이 중단되었습니다: " + e.getMessage() + "\n")
+                    .status(ResultStatus.RUNTIME_ERROR)
+                    .build();
+        } catch (Exception e) {
+            return ResultDto.builder()
+                    .testNum(testNum)
+                    .input(input)
+                    .expectedResult(expectedOutput)
+                    .actualResult("예상치 못한 오류: " + e.getMessage() + "\n")
+                    .status(ResultStatus.RUNTIME_ERROR)
+                    .build();
+        }
+    }
+
+    /**
+     * 미리 띄워 둔 실행 JVM에서 테스트 케이스 하나를 실행합니다. (compiler.java.run-mode=warm)
+     * 실행 시간에는 JVM 기동 시간을 제외한 main 메서드 실행 시간만 포함됩니다.
+     */
+    private ResultDto runTestCaseWarm(Problem problem, TestCase testCase, int testNum, Path workingDir) {
+        String input = testCase.getInput();
+        String expectedOutput = testCase.getOutput();
+
+        // 입력값 처리: 공백으로 구분된 입력을 쉼표로 구분된 형식으로 변환 (fork 방식과 동일)
+        String formattedInput = TestDataStore.formatInput(input);
+        log.debug("Formatted input for test case {}: {}", testNum, formattedInput);
+        long timeLimitMillis = problem.getTimeLimit() * 1000L;
+        // 실행 JVM 전체의 최대 RSS를 측정하므로 fork 방식과 같은 여유를 둠
+        int memoryLimitMb = rssLimitMb(problem);
+        long outputLimitBytes = processRunner.outputLimitBytes(problem.getOutputLimit());
+
+        try {
+            OutputChecker checker = checkerEngine.create(CheckerSpec.of(problem), testCase);
+            WarmJvmRunnerPool.RunResult run = warmRunnerPool.run(
+                    workingDir, formattedInput, processRunner.isStreaming() ? checker : null,
+                    problem.getMemory(), processRunner.wallTimeLimitMillis(timeLimitMillis), outputLimitBytes);
 
-                // 자바 파일 실행
-                String javaRunner = "java";
-                ProcessBuilder javaProcess = new ProcessBuilder(javaRunner, "-Xmx" + problem.getMemory() * 2 + "m", "Main");
-                javaProcess.directory(workingDir.toFile()); // 클래스 파일이 있는 디렉토리 설정
-                javaProcess.redirectErrorStream(true); // 표준 에러를 표준 출력으로 리다이렉트
-                try {
-                    Process runProcess = javaProcess.start();
-
-                    // 테스트 케이스 입력 전달
-                    OutputStream stdin = runProcess.getOutputStream();
-                    BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(stdin));
-                    
-                    // 입력값 처리: 공백으로 구분된 입력을 쉼표로 구분된 형식으로 변환
-                    String[] inputValues = input.trim().split("\\s+");
-                    String formattedInput = String.join(",", inputValues);
-                    log.debug("Formatted input for test case {}: {}", i+1, formattedInput);
-                    
-                    writer.write(formattedInput);
-                    writer.newLine();
-                    writer.flush();
-                    writer.close(); // 입력 스트림을 닫아 프로세스가 더 이상 입력을 기다리지 않게 함
-
-                    // 타이머 시작
-                    long startTime = System.nanoTime();
-                    long startMemory = getUsedMemory();
-                    
-                    // 출력 읽기
-                    InputStream stdout = runProcess.getInputStream();
-                    BufferedReader reader = new BufferedReader(new InputStreamReader(stdout));
-                    StringBuilder result = new StringBuilder();
-                    String line;
-                    
-                    try {
-                        // 프로세스 완료 대기 (타임아웃 설정)
-                        boolean completed = runProcess.waitFor(problem.getTimeLimit(), TimeUnit.SECONDS);
-                        
-                        if (!completed) {
-                            // 타임아웃 발생
-                            runProcess.destroyForcibly();
-                            output.append("시간 초과 발생: 실행 시간이 제한(")
-                                  .append(problem.getTimeLimit())
-                                  .append("초)을 초과했습니다.\n");
-                            
-                            results.add(ResultDto.builder()
-                                    .testNum(i+1)
-                                    .input(input)
-                                    .expectedResult(expectedOutput)
-                                    .actualResult(output.toString())
-                                    .status(ResultStatus.TIMEOUT)
-                                    .build());
-                            continue;
-                        }
-                        
-                        // 출력 읽기
-                        while ((line = reader.readLine()) != null) {
-                            result.append(line).append("\n");
-                        }
-                        
-                        // 추가로 남은 출력이 있는지 확인 (한 줄 이상일 경우)
-                        int available = stdout.available();
-                        if (available > 0) {
-                            byte[] buffer = new byte[available];
-                            stdout.read(buffer);
-                            result.append(new String(buffer));
-                        }
-                        
-                        // 종료 코드 확인
-                        int exitCode = runProcess.exitValue();
-                        if (exitCode != 0) {
-                            log.warn("Process exited with non-zero code: " + exitCode);
-                        }
-                        
-                    } catch (InterruptedException e) {
-                        runProcess.destroyForcibly();
-                        output.append("실행이 중단되었습니다: ").append(e.getMessage()).append("\n");
-                        
-                        results.add(ResultDto.builder()
-                                .testNum(i+1)
-                                .input(input)
-                                .expectedResult(expectedOutput)
-                                .actualResult(output.toString())
-                                .status(ResultStatus.RUNTIME_ERROR)
-                                .build());
-                        continue;
-                    } finally {
-                        long endTime = System.nanoTime();
-                        long endMemory = getUsedMemory();
-                        
-                        // 자원 정리
-                        reader.close();
-                        stdout.close();
-                        runProcess.destroyForcibly();
-                        
-                        Double executionTime = (double) TimeUnit.NANOSECONDS.toMillis(endTime - startTime);
-                        Double usedMemoryMB = (double) ((endMemory - startMemory) / (1024 * 1024));
-                        
-                        time = executionTime;
-                        memory = usedMemoryMB;
-                    }
-
-                    // 결과 저장
-                    String resultString = result.toString().trim();
-                    log.debug("Raw output capture: [" + resultString + "]");
-                    
-                    // 통과 여부 확인
-                    boolean isPass = compareOutput(resultString, expectedOutput);
-                    
-                    // 중복 출력 제거: 여기서는 통과/실패와 입출력 비교 메시지를 추가하지 않음
-                    // 오직 실제 프로그램 출력만 actualResult에 포함
-
-                    results.add(ResultDto.builder()
-                            .testNum(i + 1)
+            // 판정 방식에 따라 main 스레드 CPU 시간 또는 main 실행 시간이 제한을 넘으면 시간 초과로 처리
+            TimeLimitPolicy timePolicy = processRunner.getTimePolicy();
+            double measured = timePolicy == TimeLimitPolicy.CPU ? run.getCpuMillis() : run.getElapsedMillis();
+            WarmJvmRunnerPool.Status status = measured > timeLimitMillis && run.getStatus() != WarmJvmRunnerPool.Status.OUTPUT_LIMIT
+                    ? WarmJvmRunnerPool.Status.TIMEOUT : run.getStatus();
+            if (status != WarmJvmRunnerPool.Status.OUTPUT_LIMIT && status != WarmJvmRunnerPool.Status.TIMEOUT
+                    && run.getUsedMemoryMB() > memoryLimitMb) {
+                status = WarmJvmRunnerPool.Status.MEMORY_LIMIT;
+            }
+            switch (status) {
+                case OUTPUT_LIMIT:
+                    return ResultDto.builder()
+                            .testNum(testNum)
+                            .input(input)
+                            .expectedResult(expectedOutput)
+                            .actualResult("출력 초과 발생: 출력이 제한(" + outputLimitBytes / 1024 + "KB)을 초과했습니다.\n")
+                            .executionTime(run.getElapsedMillis())
+                            .cpuTime(run.getCpuMillis())
+                            .timePolicy(timePolicy)
+                            .status(ResultStatus.OUTPUT_LIMIT)
+                            .build();
+                case TIMEOUT:
+                    return ResultDto.builder()
+                            .testNum(testNum)
                             .input(input)
                             .expectedResult(expectedOutput)
-                            .actualResult(resultString)  // 실제 프로그램 출력만 포함
-                            .executionTime(time)
-                            .usedMemory(memory)
-                            .status(isPass ? ResultStatus.CORRECT : ResultStatus.WRONG_ANSWER)
-                            .build());
-                } catch (Exception e) {
-                    output.append("예상치 못한 오류: ").append(e.getMessage()).append("\n");
-                    results.add(ResultDto.builder()
-                            .testNum(i+1)
+                            .actualResult("시간 초과 발생: 실행 시간이 제한(" + problem.getTimeLimit() + "초)을 초과했습니다.\n")
+                            .executionTime(run.getElapsedMillis())
+                            .cpuTime(run.getCpuMillis())
+                            .timePolicy(timePolicy)
+                            .status(ResultStatus.TIMEOUT)
+                            .build();
+                case MEMORY_LIMIT:
+                    return ResultDto.builder()
+                            .testNum(testNum)
                             .input(input)
                             .expectedResult(expectedOutput)
-                            .actualResult(output.toString())
+                            .actualResult("메모리 초과 발생: 메모리 제한(" + problem.getMemory() + "MB)을 초과했습니다.\n")
+                            .executionTime(run.getElapsedMillis())
+                            .cpuTime(run.getCpuMillis())
+                            .timePolicy(timePolicy)
+                            .usedMemory(run.getUsedMemoryMB())
+                            .status(ResultStatus.MEMORY_LIMIT)
+                            .build();
+                case EXIT:
+                    return ResultDto.builder()
+                            .testNum(testNum)
+                            .input(input)
+                            .expectedResult(expectedOutput)
+                            .actualResult("런타임 오류: 프로그램이 종료 코드 " + run.getExitCode() + "(으)로 종료되었습니다.\n"
+                                    + run.getStoredOutput().trim())
+                            .executionTime(run.getElapsedMillis())
+                            .cpuTime(run.getCpuMillis())
+                            .timePolicy(timePolicy)
+                            .usedMemory(run.getUsedMemoryMB())
                             .status(ResultStatus.RUNTIME_ERROR)
-                            .build());
-                }
+                            .build();
+                case ERROR:
+                    return ResultDto.builder()
+                            .testNum(testNum)
+                            .input(input)
+                            .expectedResult(expectedOutput)
+                            .actualResult("예상치 못한 오류: " + run.getMessage() + "\n")
+                            .status(ResultStatus.RUNTIME_ERROR)
+                            .build();
+                default:
+                    break;
             }
+
+            // 예외로 종료된 경우에도 fork 방식과 같이 출력(스택 트레이스 포함)을 그대로 비교
+            String resultString = run.getOutput().trim();
+            log.debug("Raw output capture: [" + resultString + "]");
+            boolean isPass = run.getOutputMatched() != null ? run.getOutputMatched() : checker.matches(run.getOutput());
+
+            return ResultDto.builder()
+                    .testNum(testNum)
+                    .input(input)
+                    .expectedResult(expectedOutput)
+                    .actualResult(run.getStoredOutput().trim())
+                    .executionTime(run.getElapsedMillis())
+                    .cpuTime(run.getCpuMillis())
+                    .timePolicy(timePolicy)
+                    .usedMemory(run.getUsedMemoryMB())
+                    .status(isPass ? ResultStatus.CORRECT : ResultStatus.WRONG_ANSWER)
+                    .firstDifference(isPass ? null : checker.getFirstDifference())
+                    .build();
+        } catch (InterruptedIOException e) {
+            // fail-fast 취소로 실행 JVM을 종료한 경우 인터럽트 상태를 유지
+            Thread.currentThread().interrupt();
+            return ResultDto.builder()
+                    .testNum(testNum)
+                    .input(input)
+                    .expectedResult(expectedOutput)
+                    .actualResult("실행이 중단되었습니다: " + e.getMessage() + "\n")
+                    .status(ResultStatus.RUNTIME_ERROR)
+                    .build();
         } catch (IOException e) {
-            log.error("Error creating working directory: {}", e.getMessage(), e);
-            results.add(ResultDto.builder()
+            return ResultDto.builder()
+                    .testNum(testNum)
+                    .input(input)
+                    .expectedResult(expectedOutput)
+                    .actualResult("예상치 못한 오류: " + e.getMessage() + "\n")
+                    .status(ResultStatus.RUNTIME_ERROR)
+                    .build();
+        }
+    }
+
+    /**
+     * 작업 디렉토리의 Main.java를 컴파일합니다.
+     * 생성된 클래스 파일은 모든 테스트 케이스 실행에 재사용됩니다.
+     *
+     * in-process 모드에서는 javax.tools로 메모리에서 컴파일하고, fork 모드에서는 javac 프로세스를 실행합니다.
+     *
+     * @param javaFile 컴파일할 소스 파일
+     * @param code 소스 코드
+     * @param workingDir 작업 디렉토리
+     * @return 컴파일 실패 시 COMPILATION_ERROR 결과, 성공 시 null
+     */
+    private ResultDto compile(File javaFile, String code, Path workingDir) {
+        if (inMemoryJavaCompiler.isEnabled()) {
+            return compileInProcess(code, workingDir);
+        }
+        return compileWithJavac(javaFile, workingDir);
+    }
+
+    /**
+     * javax.tools 컴파일러로 메모리에서 컴파일하고 클래스 파일을 작업 디렉토리에 기록합니다.
+     */
+    private ResultDto compileInProcess(String code, Path workingDir) {
+        InMemoryJavaCompiler.Compilation compilation = inMemoryJavaCompiler.compile("Main", code);
+        if (!compilation.isSuccess()) {
+            return ResultDto.builder()
                     .testNum(1)
-                    .actualResult("작업 디렉토리 생성 오류: " + e.getMessage())
+                    .actualResult("컴파일 에러 발생:\n" + compilation.formatDiagnostics())
+                    .status(ResultStatus.COMPILATION_ERROR)
+                    .diagnostics(compilation.getDiagnostics())
+                    .build();
+        }
+        try {
+            compilation.writeClassFiles(workingDir);
+            return null;
+        } catch (IOException e) {
+            return ResultDto.builder()
+                    .testNum(1)
+                    .actualResult("컴파일 프로세스 오류: " + e.getMessage() + "\n")
                     .status(ResultStatus.RUNTIME_ERROR)
-                    .build());
-        } finally {
-            // 작업이 끝난 후 디렉토리 정리
-            if (workingDir != null) {
-                fileManager.cleanupDirectory(workingDir.toFile());
+                    .build();
+        }
+    }
+
+    /**
+     * javac 프로세스로 컴파일합니다. (compiler.java.compile-mode=fork)
+     */
+    private ResultDto compileWithJavac(File javaFile, Path workingDir) {
+        StringBuilder output = new StringBuilder();
+
+        // 컴파일 (시작 시 찾은 javac 사용)
+        ProcessBuilder compilePb = new ProcessBuilder(javac.getCommand(), javaFile.getAbsolutePath());
+        compilePb.directory(workingDir.toFile()); // 작업 디렉토리 설정
+        compilePb.redirectErrorStream(true);
+
+        try {
+            Process compileProcess = compilePb.start();
+
+            // 컴파일러 출력을 먼저 모두 읽어야 파이프가 가득 차서 멈추는 일이 없음
+            StringBuilder compilerOutput = new StringBuilder();
+            try (BufferedReader errorReader = new BufferedReader(new InputStreamReader(compileProcess.getInputStream()))) {
+                String errorLine;
+                while ((errorLine = errorReader.readLine()) != null) {
+                    compilerOutput.append(errorLine).append("\n");
+                }
+            }
+            compileProcess.waitFor();
+
+            if (compileProcess.exitValue() != 0) {
+                output.append("컴파일 에러 발생:\n").append(compilerOutput);
+                return ResultDto.builder()
+                        .testNum(1)
+                        .actualResult(output.toString())
+                        .status(ResultStatus.COMPILATION_ERROR)
+                        .build();
+            }
+            return null;
+        } catch (IOException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
             }
+            output.append("컴파일 프로세스 오류: ").append(e.getMessage()).append("\n");
+            return ResultDto.builder()
+                    .testNum(1)
+                    .actualResult(output.toString())
+                    .status(ResultStatus.RUNTIME_ERROR)
+                    .build();
+        }
+    }
+
+    /**
+     * 단순 검사용으로 작업 디렉토리에서 Main.java를 컴파일합니다.
+     * in-process 모드에서는 javac 프로세스 없이 메모리에서 컴파일하고 클래스 파일만 기록합니다.
+     */
+    @Override
+    public boolean checkCompilation(Path workspace, String code, StringBuilder output, List<CompileDiagnosticDto> diagnostics) {
+        if (inMemoryJavaCompiler.isEnabled()) {
+            InMemoryJavaCompiler.Compilation compilation = inMemoryJavaCompiler.compile("Main", code);
+            diagnostics.addAll(compilation.getDiagnostics());
+            if (!compilation.isSuccess()) {
+                output.append(compilation.formatDiagnostics());
+                return false;
+            }
+            if (!compilation.getDiagnostics().isEmpty()) {
+                output.append("컴파일러 출력: ").append(compilation.formatDiagnostics());
+            }
+            // 실행 검사에서 사용할 클래스 파일만 작업 디렉토리에 기록
+            try {
+                compilation.writeClassFiles(workspace);
+            } catch (IOException e) {
+                output.append("컴파일 중 시스템 오류: ").append(e.getMessage());
+                return false;
+            }
+            return true;
+        }
+
+        try {
+            // 클래스 파일은 소스와 같은 작업 디렉토리에 생성됨
+            File javaFile = fileManager.createJavaFile(workspace, code);
+            return simpleCheckRunner.compile(List.of(javac.getCommand(), javaFile.getAbsolutePath()), workspace, output);
+        } catch (IOException e) {
+            output.append("컴파일 중 시스템 오류: ").append(e.getMessage());
+            return false;
         }
-        return results;
     }
 
-    private long getUsedMemory() {
-        Runtime runtime = Runtime.getRuntime();
-        return runtime.totalMemory() - runtime.freeMemory();
+    /**
+     * 단순 검사용으로 checkCompilation 이 작업 디렉토리에 만든 Main 클래스를 실행합니다.
+     */
+    @Override
+    public boolean checkExecution(Path workspace, String input, StringBuilder output) {
+        List<String> command = List.of(java.getCommand(), "-cp", workspace.toAbsolutePath().toString(), "Main");
+        return simpleCheckRunner.execute(command, workspace, input, output);
     }
 
-    private boolean compareOutput(String actual, String expected) {
-        log.debug("Comparing - Actual output: [" + actual + "]");
-        log.debug("Comparing - Expected output: [" + expected + "]");
-        
-        // 1단계: 양쪽 끝 공백 제거
-        String actualOutput = actual.trim();
-        String expectedOutput = expected.trim();
-        
-        // 2단계: 두 개 연속된 공백을 줄바꿈으로 변환
-        actualOutput = actualOutput.replaceAll("  ", "\n");
-        expectedOutput = expectedOutput.replaceAll("  ", "\n");
-        
-        // 3단계: 연속된 줄바꿈을 하나로 정규화
-        actualOutput = actualOutput.replaceAll("\n+", "\n");
-        expectedOutput = expectedOutput.replaceAll("\n+", "\n");
-        
-        log.debug("After formatting - Actual: [" + actualOutput + "], Expected: [" + expectedOutput + "]");
-        
-        return actualOutput.equals(expectedOutput);
+    /**
+     * 작업 디렉토리의 클래스 파일 목록을 반환합니다. (내부 클래스 포함)
+     */
+    private List<Path> listClassFiles(Path workingDir) throws IOException {
+        try (Stream<Path> files = Files.list(workingDir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".class")).toList();
+        }
     }
 }
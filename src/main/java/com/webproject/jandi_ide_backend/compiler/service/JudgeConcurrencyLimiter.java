@@ -0,0 +1,220 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import com.webproject.jandi_ide_backend.compiler.dto.ResultDto;
+import com.webproject.jandi_ide_backend.compiler.dto.ResultStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * 채점 동시 실행 수 자동 조절기 (AIMD)
+ *
+ * 테스트 케이스 프로세스의 지연 비율(벽시계 시간 / CPU 시간)로 CPU 경합을 판단해 동시에 실행할 채점 수(limit)를 조절합니다.
+ * CPU 를 계속 쓰는 프로세스는 코어를 기다리는 만큼만 벽시계 시간이 CPU 시간보다 길어지므로,
+ * 문제나 제출 코드가 느린지와 관계없이 서버 부하가 늘 때만 값이 커집니다.
+ *
+ * - 정상 종료(CORRECT, WRONG_ANSWER)한 실행만 반영합니다. 시간·출력·메모리 초과와 런타임 오류는 강제 종료 시점에 따라 값이 달라지고,
+ *   컴파일 에러는 실행이 없으므로 반영하지 않습니다. CPU 시간이 min-cpu-ms 보다 짧거나 지연 비율이 MAX_STALL 을 넘는 실행도
+ *   (프로세스 시작 비용이 대부분이거나 sleep, 입출력을 기다린 실행) 제외합니다.
+ * - 채점이 끝날 때 최근 지연 비율(지수 이동 평균)이 평소 지연 비율의 stall-tolerance 배를 넘거나 서버 CPU 사용률이 cpu-target 을 넘으면
+ *   limit 에 backoff-ratio 를 곱해 줄입니다(multiplicative decrease). 줄인 뒤 시작한 채점의 결과가 나올 때까지는 다시 줄이지 않습니다.
+ * - 그렇지 않고 대기 중인 요청이 있으면 limit 을 채점 limit 개마다 1씩 늘립니다(additive increase).
+ *
+ * 호스트마다 코어 수와 다른 부하가 달라도 별도 설정 없이 CPU 포화 직전의 동시 실행 수로 수렴합니다.
+ */
+@Slf4j
+@Component
+public class JudgeConcurrencyLimiter {
+
+    // 평소 지연 비율에 새 값을 반영하는 비율
+    private static final double BASELINE_ALPHA = 0.01;
+    // 최근 지연 비율에 새 값을 반영하는 비율
+    private static final double RECENT_ALPHA = 0.2;
+    // 이보다 큰 지연 비율은 CPU 경합이 아니라 sleep 이나 입출력 대기로 봄
+    static final double MAX_STALL = 5.0;
+    // 평소 지연 비율이 잡히기 전까지 줄이지 않는 샘플 수
+    static final int WARMUP_SAMPLES = 20;
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double stallTolerance;
+    private final double backoffRatio;
+    private final double cpuTarget;
+    private final double minCpuMillis;
+    private final com.sun.management.OperatingSystemMXBean osBean;
+
+    // 아래 상태는 this 로 동기화 (limit 은 잠금 없이 읽음)
+    private volatile double limit;
+    private double baselineStall = 1.0;
+    private double recentStall = 1.0;
+    private long stallSamples;
+    private long lastDecreaseNanos = System.nanoTime();
+
+    private final DistributionSummary stallSummary;
+    private final Counter shedCounter;
+
+    /**
+     * 채점 동시 실행 수 자동 조절기 생성자
+     *
+     * @param meterRegistry 지표 레지스트리
+     * @param enabled 자동 조절 사용 여부 (끄면 compiler.judge.scheduler.slots 로 고정)
+     * @param initialLimit 처음 동시 실행 수 (0이면 CPU 코어 수)
+     * @param minLimit 최소 동시 실행 수
+     * @param maxLimit 최대 동시 실행 수 (0이면 CPU 코어 수의 2배)
+     * @param stallTolerance 평소 지연 비율의 몇 배를 넘으면 과부하로 볼지
+     * @param backoffRatio 과부하일 때 동시 실행 수에 곱하는 비율
+     * @param cpuTarget 과부하로 볼 서버 CPU 사용률 (0~1, 0 이하이면 CPU 사용률을 보지 않음)
+     * @param minCpuMillis 지연 비율을 반영할 실행의 최소 CPU 시간 (ms)
+     */
+    public JudgeConcurrencyLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${compiler.judge.limiter.enabled:true}") boolean enabled,
+            @Value("${compiler.judge.limiter.initial-limit:${compiler.judge.scheduler.slots:0}}") int initialLimit,
+            @Value("${compiler.judge.limiter.min-limit:1}") int minLimit,
+            @Value("${compiler.judge.limiter.max-limit:0}") int maxLimit,
+            @Value("${compiler.judge.limiter.stall-tolerance:1.5}") double stallTolerance,
+            @Value("${compiler.judge.limiter.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${compiler.judge.limiter.cpu-target:0.9}") double cpuTarget,
+            @Value("${compiler.judge.limiter.min-cpu-ms:20}") double minCpuMillis) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        this.enabled = enabled;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit > 0 ? maxLimit : cores * 2);
+        this.stallTolerance = Math.max(1.0, stallTolerance);
+        this.backoffRatio = Math.min(0.99, Math.max(0.1, backoffRatio));
+        this.cpuTarget = cpuTarget;
+        this.minCpuMillis = Math.max(1.0, minCpuMillis);
+        this.osBean = ManagementFactory.getPlatformMXBean(com.sun.management.OperatingSystemMXBean.class);
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit > 0 ? initialLimit : cores));
+
+        Gauge.builder("judge.limiter.limit", this, JudgeConcurrencyLimiter::getLimit)
+                .description("현재 허용하는 채점 동시 실행 수")
+                .register(meterRegistry);
+        this.stallSummary = DistributionSummary.builder("judge.limiter.stall")
+                .description("동시 실행 수 조절에 사용한 테스트 케이스 실행의 지연 비율 (벽시계 시간 / CPU 시간)")
+                .register(meterRegistry);
+        this.shedCounter = Counter.builder("judge.limiter.rejected")
+                .description("예상 대기 시간이 길어 미리 거절한 요청 수")
+                .register(meterRegistry);
+
+        log.info("Judge concurrency limiter initialized: enabled={}, limit={}, range=[{}, {}]",
+                enabled, getLimit(), this.minLimit, this.maxLimit);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 현재 허용하는 동시 실행 수
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * 자동 조절로 늘어날 수 있는 최대 동시 실행 수
+     */
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * 끝난 테스트 케이스 실행의 지연 비율을 반영합니다.
+     *
+     * @param result 테스트 케이스 실행 결과
+     */
+    public void onTestCase(ResultDto result) {
+        if (!enabled || result == null) {
+            return;
+        }
+        if (result.getStatus() != ResultStatus.CORRECT && result.getStatus() != ResultStatus.WRONG_ANSWER) {
+            return;
+        }
+        Double wallMillis = result.getExecutionTime();
+        Double cpuMillis = result.getCpuTime();
+        if (wallMillis == null || cpuMillis == null || cpuMillis < minCpuMillis) {
+            return;
+        }
+        // 여러 스레드를 쓰는 런타임은 CPU 시간이 벽시계 시간보다 길 수 있으므로 1 미만은 경합 없음(1)으로 봄
+        double stall = Math.max(1.0, wallMillis / cpuMillis);
+        if (stall > MAX_STALL) {
+            return;
+        }
+        stallSummary.record(stall);
+
+        synchronized (this) {
+            stallSamples++;
+            recentStall += RECENT_ALPHA * (stall - recentStall);
+            // 과부하 때의 높은 값이 평소 값을 끌어올리지 않도록 반영 값을 제한
+            baselineStall += BASELINE_ALPHA * (Math.min(stall, baselineStall * stallTolerance) - baselineStall);
+        }
+    }
+
+    /**
+     * 채점이 끝날 때 동시 실행 수를 조절합니다.
+     *
+     * @param startedAtNanos 채점을 시작한 시각 (System.nanoTime)
+     * @param saturated 대기 중인 요청이 있었는지 여부
+     */
+    public void onJudged(long startedAtNanos, boolean saturated) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            boolean stalled = stallSamples >= WARMUP_SAMPLES && recentStall > baselineStall * stallTolerance;
+            boolean overloaded = stalled || isCpuSaturated();
+
+            if (overloaded) {
+                // 지난번 줄인 뒤에 시작한 채점에서 다시 과부하가 보일 때만 줄임
+                if (startedAtNanos - lastDecreaseNanos > 0) {
+                    double previous = limit;
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    lastDecreaseNanos = System.nanoTime();
+                    // 줄이기 전 실행의 값으로 다시 줄이지 않도록 최근 값을 평소 값으로 되돌림
+                    recentStall = baselineStall;
+                    if ((int) previous != (int) limit) {
+                        log.info("Judge concurrency limit decreased to {} ({})", getLimit(), stalled ? "stall" : "cpu");
+                    }
+                }
+            } else if (saturated) {
+                limit = Math.min(maxLimit, limit + 1.0 / Math.max(1, getLimit()));
+            }
+        }
+    }
+
+    /**
+     * 지금 들어온 요청이 max-wait 안에 시작될 수 없어 보이면 거절할지 결정합니다.
+     *
+     * @param waiting 대기 중인 요청 수
+     * @param meanServiceSeconds 최근 평균 채점 시간 (초)
+     * @param maxWaitMillis 허용하는 최대 대기 시간 (ms)
+     * @return 거절해야 하면 true
+     */
+    public boolean shouldShed(int waiting, double meanServiceSeconds, long maxWaitMillis) {
+        if (!enabled) {
+            return false;
+        }
+        double expectedWaitMillis = (waiting + 1) * meanServiceSeconds * 1000 / Math.max(1, getLimit());
+        if (expectedWaitMillis <= maxWaitMillis) {
+            return false;
+        }
+        shedCounter.increment();
+        return true;
+    }
+
+    private boolean isCpuSaturated() {
+        if (cpuTarget <= 0 || osBean == null) {
+            return false;
+        }
+        double cpuLoad = osBean.getCpuLoad();
+        return cpuLoad >= 0 && cpuLoad > cpuTarget;
+    }
+}
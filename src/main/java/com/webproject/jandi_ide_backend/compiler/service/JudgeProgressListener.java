@@ -0,0 +1,42 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import com.webproject.jandi_ide_backend.compiler.dto.ResultDto;
+
+/**
+ * 채점 진행 상황을 받는 대상
+ *
+ * 채점 루프(컴파일, 테스트 케이스 실행 스레드)에서 직접 호출되므로 구현체는 전송을 기다리지 않고 바로 반환해야 합니다.
+ * 병렬 실행에서는 여러 스레드에서 동시에 호출됩니다.
+ */
+public interface JudgeProgressListener {
+
+    /**
+     * 진행 상황을 받는 곳이 없을 때 사용하는 빈 구현체 (동기 컴파일 API 등)
+     */
+    JudgeProgressListener NONE = new JudgeProgressListener() {
+    };
+
+    /**
+     * 컴파일(또는 실행 준비)을 시작했습니다.
+     *
+     * @param totalTestCases 실행할 테스트 케이스 수
+     */
+    default void compiling(int totalTestCases) {
+    }
+
+    /**
+     * 테스트 케이스 실행을 시작했습니다.
+     *
+     * @param testNum 테스트 케이스 번호
+     */
+    default void running(int testNum) {
+    }
+
+    /**
+     * 테스트 케이스 하나의 판정이 끝났습니다.
+     *
+     * @param result 테스트 케이스 실행 결과
+     */
+    default void verdict(ResultDto result) {
+    }
+}
@@ -0,0 +1,414 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import com.webproject.jandi_ide_backend.compiler.dto.JudgeProgressDto;
+import com.webproject.jandi_ide_backend.compiler.dto.JudgeProgressDto.Phase;
+import com.webproject.jandi_ide_backend.compiler.dto.ResultDto;
+import com.webproject.jandi_ide_backend.compiler.dto.ResultStatus;
+import com.webproject.jandi_ide_backend.compiler.dto.SubmissionStatusDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 채점 진행 이벤트 발행기
+ *
+ * 비동기 채점 중인 제출의 진행 상황(컴파일, 테스트 케이스 실행/판정, 최종 결과)을
+ * STOMP 목적지 /queue/judge/{submissionId} 와 SSE 구독자에게 보냅니다.
+ *
+ * 채점 루프는 상태를 갱신하고 전송을 예약만 하며, 실제 전송은 별도 스레드에서 합니다.
+ * 전송이 예약된 동안 들어온 이벤트는 다음 전송 하나로 합쳐지므로(coalescing)
+ * 테스트 케이스가 많거나 구독자가 느려도 제출 하나당 flush-interval-ms 마다 최대 한 번만 전송합니다.
+ *
+ * 진행 상황은 채점 워커 스레드에 묶인 JudgeProgressListener 로 전달됩니다.
+ * TestCaseExecutor 는 테스트 케이스를 실행 스레드에 넘기기 전에 호출 스레드에서 리스너를 가져가므로 병렬 실행에서도 같은 제출로 전달됩니다.
+ *
+ * 채점 워커가 다른 서버에서 실행되는 redis-stream 분배 방식에서는 이벤트를 Redis 채널(JUDGE_PROGRESS)로 보내고,
+ * 웹 스택이 있는 서버가 받아 자기에게 연결된 STOMP/SSE 구독자에게 전달합니다.
+ */
+@Slf4j
+@Component
+public class JudgeProgressPublisher implements MessageListener {
+
+    public static final String DESTINATION_PREFIX = "/queue/judge/";
+    private static final String SSE_EVENT_NAME = "progress";
+    private static final String RELAY_CHANNEL = "JUDGE_PROGRESS";
+
+    // 웹 스택 없이 실행되는 채점 워커에서는 null
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    // 이벤트를 Redis 채널로 중계할지 여부 (redis-stream 분배 방식)
+    private final boolean relay;
+    private final long flushIntervalMillis;
+    private final long sseTimeoutMillis;
+
+    // 채점 워커 스레드에서 진행 중인 제출의 추적기
+    private final ThreadLocal<Tracker> current = new ThreadLocal<>();
+    // 제출 ID -> 진행 중인 채점 추적기
+    private final ConcurrentMap<Long, Tracker> trackers = new ConcurrentHashMap<>();
+    // 제출 ID -> SSE 구독자
+    private final ConcurrentMap<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private final ScheduledExecutorService sender;
+    private final Counter sentEvents;
+
+    /**
+     * 채점 진행 이벤트 발행기 생성자
+     *
+     * @param messagingTemplate STOMP 메시지 전송기 (웹 스택이 없으면 비어 있음)
+     * @param redisTemplate 이벤트 중계 발행에 사용하는 RedisTemplate
+     * @param listenerContainer 이벤트 중계 구독에 사용하는 리스너 컨테이너
+     * @param objectMapper 중계된 이벤트를 읽는 ObjectMapper
+     * @param meterRegistry 지표 레지스트리
+     * @param dispatch 채점 분배 방식 (local 또는 redis-stream)
+     * @param enabled 진행 이벤트 발행 여부
+     * @param flushIntervalMillis 제출 하나의 이벤트를 모아 보내는 간격 (ms)
+     * @param sseTimeoutSeconds SSE 연결 최대 유지 시간 (초)
+     */
+    public JudgeProgressPublisher(
+            ObjectProvider<SimpMessageSendingOperations> messagingTemplate,
+            RedisTemplate<String, Object> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${compiler.judge.dispatch:local}") String dispatch,
+            @Value("${compiler.progress.enabled:true}") boolean enabled,
+            @Value("${compiler.progress.flush-interval-ms:100}") long flushIntervalMillis,
+            @Value("${compiler.progress.sse-timeout-seconds:120}") long sseTimeoutSeconds) {
+        this.messagingTemplate = messagingTemplate.getIfAvailable();
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.relay = JudgeStreamQueue.DISPATCH_REDIS_STREAM.equalsIgnoreCase(dispatch);
+        this.flushIntervalMillis = Math.max(0, flushIntervalMillis);
+        this.sseTimeoutMillis = sseTimeoutSeconds * 1000;
+        this.sender = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "judge-progress");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.sentEvents = Counter.builder("judge.progress.events")
+                .description("전송한 채점 진행 이벤트 수 (합쳐진 이벤트는 하나로 계산)")
+                .register(meterRegistry);
+        Gauge.builder("judge.progress.subscribers", subscriberCount, AtomicInteger::get)
+                .description("채점 진행 이벤트 SSE 구독자 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이벤트를 중계하는 경우, 웹 스택이 있는 서버에서 다른 서버의 채점 이벤트를 구독합니다.
+     */
+    @PostConstruct
+    private void init() {
+        if (enabled && relay && messagingTemplate != null) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(RELAY_CHANNEL));
+        }
+    }
+
+    /**
+     * 현재 스레드에서 채점할 제출의 진행 이벤트 발행을 시작합니다. 채점이 끝나면 finish 를 호출해야 합니다.
+     *
+     * @param submissionId 제출 ID
+     */
+    public void begin(Long submissionId) {
+        if (!enabled) {
+            return;
+        }
+        Tracker tracker = new Tracker(submissionId);
+        trackers.put(submissionId, tracker);
+        current.set(tracker);
+    }
+
+    /**
+     * 현재 스레드에서 채점 중인 제출의 진행 상황 리스너를 반환합니다.
+     *
+     * @return 진행 상황 리스너, 비동기 채점이 아니면 JudgeProgressListener.NONE
+     */
+    public JudgeProgressListener current() {
+        Tracker tracker = current.get();
+        return tracker != null ? tracker : JudgeProgressListener.NONE;
+    }
+
+    /**
+     * 최종 결과를 보내고 현재 스레드의 진행 이벤트 발행을 끝냅니다. SSE 구독은 최종 결과를 보낸 뒤 닫힙니다.
+     *
+     * @param result 최종 채점 결과
+     */
+    public void finish(SubmissionStatusDto result) {
+        Tracker tracker = current.get();
+        current.remove();
+        if (tracker == null) {
+            return;
+        }
+        trackers.remove(tracker.submissionId, tracker);
+        tracker.finish(result);
+    }
+
+    /**
+     * 제출의 진행 이벤트를 SSE로 구독합니다.
+     * 구독 즉시 현재 상태를 한 번 보내며, 이미 채점이 끝난 제출은 최종 결과를 보내고 바로 닫습니다.
+     * 다른 서버에서 채점 중인 제출은 현재 진행 상황을 알 수 없으므로 QUEUED 를 보내고, 이후 중계되는 이벤트부터 전달합니다.
+     *
+     * @param submissionId 제출 ID
+     * @param statusLookup 제출의 현재 상태 조회 (구독을 등록한 뒤 채점이 끝났는지 다시 확인할 때 사용)
+     * @return SSE 응답
+     */
+    public SseEmitter subscribe(Long submissionId, Supplier<Optional<SubmissionStatusDto>> statusLookup) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+        emitters.computeIfAbsent(submissionId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+        subscriberCount.incrementAndGet();
+        Runnable remove = () -> removeEmitter(submissionId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+
+        // 최종 결과 전송과 같은 스레드에서 처리하므로, 등록 직전에 채점이 끝났어도 최종 결과를 놓치지 않음
+        sender.execute(() -> {
+            Tracker tracker = trackers.get(submissionId);
+            if (tracker != null) {
+                send(emitter, tracker.snapshot(List.of(), false));
+                return;
+            }
+            Optional<SubmissionStatusDto> status = statusLookup.get();
+            if (status.isPresent() && Boolean.TRUE.equals(status.get().getFinished())) {
+                send(emitter, finishedEvent(submissionId, 1, status.get()));
+                closeSubscribers(submissionId);
+                return;
+            }
+            send(emitter, JudgeProgressDto.builder().submissionId(submissionId).sequence(0L).phase(Phase.QUEUED).build());
+        });
+        return emitter;
+    }
+
+    /**
+     * 애플리케이션 종료 시 전송 스레드와 SSE 연결 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        emitters.values().forEach(list -> list.forEach(SseEmitter::complete));
+        emitters.clear();
+    }
+
+    private JudgeProgressDto finishedEvent(Long submissionId, long sequence, SubmissionStatusDto result) {
+        return JudgeProgressDto.builder()
+                .submissionId(submissionId)
+                .sequence(sequence)
+                .phase(Phase.FINISHED)
+                .result(result)
+                .build();
+    }
+
+    /**
+     * 채점 중인 제출의 이벤트를 보냅니다. 중계하는 경우 Redis 채널로 보내고, 아니면 바로 구독자에게 전달합니다.
+     * 전송 스레드에서만 호출됩니다.
+     */
+    private void publish(JudgeProgressDto event) {
+        sentEvents.increment();
+        if (!relay) {
+            deliver(event);
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(RELAY_CHANNEL, event);
+        } catch (Exception e) {
+            log.debug("Failed to relay judge progress for submission {}: {}", event.getSubmissionId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 서버에서 중계한 이벤트를 받아 전송 스레드에서 전달합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            JudgeProgressDto event = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), JudgeProgressDto.class);
+            sender.execute(() -> deliver(event));
+        } catch (IOException e) {
+            log.warn("Ignoring malformed judge progress message: {}", e.getMessage());
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    /**
+     * STOMP 목적지와 SSE 구독자에게 이벤트를 보냅니다. 최종 결과를 보낸 뒤에는 SSE 구독을 닫습니다.
+     * 전송 스레드에서만 호출됩니다.
+     */
+    private void deliver(JudgeProgressDto event) {
+        if (messagingTemplate != null) {
+            try {
+                messagingTemplate.convertAndSend(DESTINATION_PREFIX + event.getSubmissionId(), event);
+            } catch (Exception e) {
+                log.debug("Failed to publish judge progress for submission {}: {}", event.getSubmissionId(), e.getMessage());
+            }
+        }
+        List<SseEmitter> subscribers = emitters.get(event.getSubmissionId());
+        if (subscribers != null) {
+            subscribers.forEach(emitter -> send(emitter, event));
+        }
+        if (event.getPhase() == Phase.FINISHED) {
+            closeSubscribers(event.getSubmissionId());
+        }
+    }
+
+    private void send(SseEmitter emitter, JudgeProgressDto event) {
+        try {
+            emitter.send(SseEmitter.event().name(SSE_EVENT_NAME).id(String.valueOf(event.getSequence())).data(event));
+        } catch (IOException | IllegalStateException e) {
+            // 구독자가 연결을 끊은 경우
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void closeSubscribers(Long submissionId) {
+        List<SseEmitter> subscribers = emitters.remove(submissionId);
+        if (subscribers != null) {
+            subscriberCount.addAndGet(-subscribers.size());
+            subscribers.forEach(SseEmitter::complete);
+        }
+    }
+
+    private void removeEmitter(Long submissionId, SseEmitter emitter) {
+        emitters.computeIfPresent(submissionId, (id, list) -> {
+            if (list.remove(emitter)) {
+                subscriberCount.decrementAndGet();
+            }
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    /**
+     * 제출 하나의 진행 상태
+     *
+     * 채점 스레드는 상태만 갱신하고 전송을 예약하며, 전송 스레드가 예약된 시점의 상태를 모아 이벤트 하나로 보냅니다.
+     */
+    private class Tracker implements JudgeProgressListener {
+        private final Long submissionId;
+        private volatile Phase phase = Phase.QUEUED;
+        private volatile int totalTestCases;
+        private final AtomicInteger completed = new AtomicInteger();
+        private final AtomicInteger passed = new AtomicInteger();
+        private final ConcurrentSkipListSet<Integer> running = new ConcurrentSkipListSet<>();
+        private final ConcurrentLinkedQueue<JudgeProgressDto.Verdict> pendingVerdicts = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean flushScheduled = new AtomicBoolean();
+        private final AtomicLong sequence = new AtomicLong();
+        // 최종 결과를 보낸 뒤에 실행되는 예약 전송은 무시 (전송 스레드에서만 사용)
+        private boolean finished;
+
+        Tracker(Long submissionId) {
+            this.submissionId = submissionId;
+        }
+
+        @Override
+        public void compiling(int totalTestCases) {
+            this.totalTestCases = totalTestCases;
+            this.phase = Phase.COMPILING;
+            scheduleFlush();
+        }
+
+        @Override
+        public void running(int testNum) {
+            phase = Phase.RUNNING;
+            running.add(testNum);
+            scheduleFlush();
+        }
+
+        @Override
+        public void verdict(ResultDto result) {
+            phase = Phase.RUNNING;
+            running.remove(result.getTestNum());
+            completed.incrementAndGet();
+            if (result.getStatus() == ResultStatus.CORRECT) {
+                passed.incrementAndGet();
+            }
+            pendingVerdicts.add(JudgeProgressDto.Verdict.from(result));
+            scheduleFlush();
+        }
+
+        void finish(SubmissionStatusDto result) {
+            try {
+                sender.execute(() -> {
+                    // 아직 보내지 않은 판정을 먼저 보내고 최종 결과를 보냄
+                    if (!pendingVerdicts.isEmpty()) {
+                        flush();
+                    }
+                    finished = true;
+                    publish(finishedEvent(submissionId, sequence.incrementAndGet(), result));
+                });
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+            }
+        }
+
+        /**
+         * 전송이 예약되어 있지 않을 때만 예약합니다. 예약된 동안의 이벤트는 그 전송에 합쳐집니다.
+         */
+        private void scheduleFlush() {
+            if (flushScheduled.compareAndSet(false, true)) {
+                try {
+                    sender.schedule(this::flush, flushIntervalMillis, TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    flushScheduled.set(false);
+                }
+            }
+        }
+
+        private void flush() {
+            flushScheduled.set(false);
+            if (finished) {
+                return;
+            }
+            List<JudgeProgressDto.Verdict> verdicts = new ArrayList<>();
+            JudgeProgressDto.Verdict verdict;
+            while ((verdict = pendingVerdicts.poll()) != null) {
+                verdicts.add(verdict);
+            }
+            publish(snapshot(verdicts, true));
+        }
+
+        JudgeProgressDto snapshot(List<JudgeProgressDto.Verdict> verdicts, boolean advance) {
+            return JudgeProgressDto.builder()
+                    .submissionId(submissionId)
+                    .sequence(advance ? sequence.incrementAndGet() : sequence.get())
+                    .phase(phase)
+                    .totalTestCases(totalTestCases)
+                    .completedTestCases(completed.get())
+                    .passedTestCases(passed.get())
+                    .runningTestCases(new ArrayList<>(running))
+                    .verdicts(verdicts)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,619 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import com.webproject.jandi_ide_backend.algorithm.solution.entity.Solution;
+import com.webproject.jandi_ide_backend.algorithm.solution.entity.Solution.SolutionStatus;
+import com.webproject.jandi_ide_backend.algorithm.solution.service.SolutionService;
+import com.webproject.jandi_ide_backend.compiler.dto.CodeSubmissionDto;
+import com.webproject.jandi_ide_backend.compiler.dto.CompileResultDto;
+import com.webproject.jandi_ide_backend.compiler.dto.JudgeMode;
+import com.webproject.jandi_ide_backend.compiler.dto.SubmissionStatusDto;
+import com.webproject.jandi_ide_backend.compiler.exception.CompilerException;
+import com.webproject.jandi_ide_backend.compiler.exception.JudgeOverloadedException;
+import com.webproject.jandi_ide_backend.global.error.CustomErrorCodes;
+import com.webproject.jandi_ide_backend.global.error.CustomException;
+import com.webproject.jandi_ide_backend.user.entity.User;
+import com.webproject.jandi_ide_backend.user.service.UserService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 채점 큐 서비스
+ *
+ * 제출된 코드를 SUBMITTED 상태의 Solution으로 저장한 뒤 즉시 제출 ID를 반환하고,
+ * 고정 크기의 채점 워커 풀이 큐를 소비하며 채점을 수행합니다.
+ * Tomcat 요청 스레드에서 채점을 수행하지 않으므로 제출이 몰려도 다른 API가 멈추지 않습니다.
+ *
+ * compiler.judge.dispatch=redis-stream 이면 이 서버에서 채점하지 않고 제출 ID를 Redis Stream(JudgeStreamQueue)에 넣으며,
+ * 별도로 띄운 채점 워커(JudgeStreamWorker)가 채점해 결과를 Solution에 저장합니다.
+ * 채점이 끝나면 Redis 채널(JUDGE_DONE)로 알려 long-polling 대기자가 있는 서버가 응답하게 합니다.
+ *
+ * 큐 길이, 대기 시간, 워커 사용률은 Micrometer 지표(judge.*)로 노출됩니다.
+ * 채점 중에는 테스트 케이스별 진행 상황을 JudgeProgressPublisher 로 STOMP/SSE 구독자에게 보냅니다.
+ * 채점 워커는 JudgeScheduler 가 사용자별 공정 큐와 언어별 동시 실행 제한에 따라 슬롯을 줄 때 채점을 시작합니다.
+ * 같은 문제에 같은 코드를 다시 제출하면 SubmissionDeduplicator 에 저장된 결과로 바로 제출을 완료합니다.
+ */
+@Service
+@Slf4j
+public class JudgeQueueService implements MessageListener {
+
+    private static final String DONE_CHANNEL = "JUDGE_DONE";
+
+    private final CompilerService compilerService;
+    private final SolutionService solutionService;
+    private final UserService userService;
+    private final JudgeProgressPublisher progressPublisher;
+    private final JudgeStreamQueue streamQueue;
+    private final JudgeScheduler scheduler;
+    private final SubmissionDeduplicator deduplicator;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final ThreadPoolExecutor workers;
+    private final int workerCount;
+    private final int queueCapacity;
+
+    // 제출 ID별 long-polling 대기자 목록
+    private final ConcurrentMap<Long, List<DeferredResult<SubmissionStatusDto>>> waiters = new ConcurrentHashMap<>();
+
+    private final Timer queueWaitTimer;
+    private final Timer judgeTimer;
+
+    /**
+     * 채점 큐 서비스 생성자
+     *
+     * @param compilerService 컴파일러 서비스
+     * @param solutionService 솔루션 서비스
+     * @param userService 사용자 서비스
+     * @param progressPublisher 채점 진행 이벤트 발행기
+     * @param streamQueue Redis Stream 채점 대기열 (redis-stream 분배 방식에서 사용)
+     * @param scheduler 채점 슬롯을 사용자와 언어별로 나눠 주는 채점 스케줄러
+     * @param deduplicator 같은 코드의 재제출과 멱등성 키를 처리하는 제출 중복 제거
+     * @param redisTemplate 채점 완료 알림 발행에 사용하는 RedisTemplate
+     * @param listenerContainer 채점 완료 알림 구독에 사용하는 리스너 컨테이너
+     * @param meterRegistry 지표 레지스트리
+     * @param workerCount 채점 워커 수 (스케줄러를 켠 local 분배 방식에서는 스케줄러의 최대 슬롯 수를 사용)
+     * @param queueCapacity 채점 대기열 최대 길이
+     */
+    public JudgeQueueService(
+            CompilerService compilerService,
+            SolutionService solutionService,
+            UserService userService,
+            JudgeProgressPublisher progressPublisher,
+            JudgeStreamQueue streamQueue,
+            JudgeScheduler scheduler,
+            SubmissionDeduplicator deduplicator,
+            RedisTemplate<String, Object> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${compiler.judge.worker-count:4}") int workerCount,
+            @Value("${compiler.judge.queue-capacity:200}") int queueCapacity) {
+        this.compilerService = compilerService;
+        this.solutionService = solutionService;
+        this.userService = userService;
+        this.progressPublisher = progressPublisher;
+        this.streamQueue = streamQueue;
+        this.scheduler = scheduler;
+        this.deduplicator = deduplicator;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        // 스케줄러가 슬롯을 준 요청은 바로 시작해야 공정 큐 순서, 언어별 실행 수, 채점 시간 측정이 맞으므로
+        // 스레드 수를 최대 슬롯 수에 맞추고 대기는 스케줄러의 대기열에서만 함
+        this.workerCount = scheduler.isEnabled() ? scheduler.getMaxSlots() : workerCount;
+        this.queueCapacity = queueCapacity;
+
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        this.workers = new ThreadPoolExecutor(
+                this.workerCount, this.workerCount,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "judge-worker-" + threadNumber.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        Gauge.builder("judge.queue.depth", this, JudgeQueueService::queueDepthOrNaN)
+                .description("채점 대기 중인 제출 수 (redis-stream 분배 방식에서는 채점 중인 제출 포함)")
+                .register(meterRegistry);
+        Gauge.builder("judge.workers.active", workers, ThreadPoolExecutor::getActiveCount)
+                .description("채점 중인 워커 수")
+                .register(meterRegistry);
+        Gauge.builder("judge.workers.utilization", workers,
+                        executor -> (double) executor.getActiveCount() / executor.getMaximumPoolSize())
+                .description("채점 워커 사용률 (0~1)")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("judge.queue.wait")
+                .description("제출부터 채점 시작까지 대기 시간")
+                .register(meterRegistry);
+        this.judgeTimer = Timer.builder("judge.execution")
+                .description("채점 워커의 채점 소요 시간")
+                .register(meterRegistry);
+
+        log.info("Judge queue initialized: dispatch={}, workers={}, capacity={}",
+                streamQueue.isEnabled() ? JudgeStreamQueue.DISPATCH_REDIS_STREAM : "local", this.workerCount, queueCapacity);
+    }
+
+    /**
+     * 다른 서버의 채점 워커가 발행한 채점 완료 알림을 구독합니다.
+     */
+    @PostConstruct
+    private void init() {
+        if (streamQueue.isEnabled()) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(DONE_CHANNEL));
+        }
+    }
+
+    /**
+     * 코드를 채점 큐에 등록합니다.
+     * SUBMITTED 상태의 Solution을 저장하고 채점을 기다리지 않고 바로 반환합니다.
+     * 같은 문제에 같은 코드로 채점한 결과가 있으면 채점하지 않고 그 결과로 완료된 Solution을 저장합니다.
+     *
+     * @param submissionDto 코드 제출 정보
+     * @param idempotencyKey 클라이언트가 보낸 멱등성 키 (없으면 null), 같은 키로 다시 보내면 처음 만든 제출을 반환
+     * @return 등록된 제출의 상태 정보 (제출 ID 포함)
+     * @throws JudgeOverloadedException 채점 대기열이 가득 찼거나 사용자의 동시 채점 한도를 넘은 경우
+     */
+    public SubmissionStatusDto submit(CodeSubmissionDto submissionDto, String idempotencyKey) {
+        Long userId = submissionDto.getUserId();
+        Optional<SubmissionStatusDto> previous = deduplicator.claim(userId, idempotencyKey).flatMap(this::getStatus);
+        if (previous.isPresent()) {
+            log.debug("Returning submission {} for a repeated idempotency key", previous.get().getSubmissionId());
+            return previous.get();
+        }
+        try {
+            SubmissionStatusDto status = enqueue(submissionDto);
+            deduplicator.bind(userId, idempotencyKey, status.getSubmissionId());
+            return status;
+        } catch (RuntimeException e) {
+            deduplicator.release(userId, idempotencyKey);
+            throw e;
+        }
+    }
+
+    private SubmissionStatusDto enqueue(CodeSubmissionDto submissionDto) {
+        Optional<SubmissionDeduplicator.Verdict> cached = deduplicator
+                .keyOf(submissionDto, compilerService.resolveJudgeMode(submissionDto))
+                .flatMap(deduplicator::find);
+        if (cached.isPresent()) {
+            return completeFromCache(submissionDto, cached.get());
+        }
+
+        if (isQueueFull()) {
+            throw new JudgeOverloadedException("채점 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.", estimateRetryAfterSeconds());
+        }
+        JudgeScheduler.Ticket ticket = null;
+        if (!streamQueue.isEnabled()) {
+            // 저장 전에 거절해 거절된 제출이 기록에 남지 않게 함
+            ticket = scheduler.ticket(submissionDto);
+            scheduler.checkAdmission(ticket);
+        }
+
+        Solution solution = newSolution(submissionDto);
+        solution.setIsCorrect(false);
+        solution.setStatus(SolutionStatus.SUBMITTED);
+        Solution saved = solutionService.saveSolution(solution);
+
+        if (streamQueue.isEnabled()) {
+            return enqueueToStream(saved, submissionDto);
+        }
+
+        long enqueuedAt = System.nanoTime();
+        try {
+            scheduler.dispatch(ticket, workers, () -> judge(saved.getId(), submissionDto, enqueuedAt));
+        } catch (JudgeOverloadedException e) {
+            // 한도 확인 이후 다른 요청이 먼저 자리를 차지한 경우
+            saved.setStatus(SolutionStatus.RUNTIME_ERROR);
+            saved.setAdditionalInfo("채점 대기열이 가득 차 채점하지 못했습니다.");
+            solutionService.saveSolution(saved);
+            throw e;
+        } catch (RejectedExecutionException e) {
+            // 용량 확인 이후 다른 요청이 먼저 자리를 차지한 경우
+            saved.setStatus(SolutionStatus.RUNTIME_ERROR);
+            saved.setAdditionalInfo("채점 대기열이 가득 차 채점하지 못했습니다.");
+            solutionService.saveSolution(saved);
+            throw new JudgeOverloadedException("채점 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.", estimateRetryAfterSeconds());
+        }
+
+        log.debug("Submission {} queued (queue depth={})", saved.getId(), queueDepthOrZero());
+        return SubmissionStatusDto.fromEntity(saved);
+    }
+
+    /**
+     * 저장된 채점 결과로 완료된 제출을 만듭니다. 채점 대기열과 채점 슬롯을 사용하지 않습니다.
+     */
+    private SubmissionStatusDto completeFromCache(CodeSubmissionDto submissionDto, SubmissionDeduplicator.Verdict verdict) {
+        Solution solution = newSolution(submissionDto);
+        solution.setStatus(verdict.getStatus());
+        solution.setIsCorrect(Boolean.TRUE.equals(verdict.getIsCorrect()));
+        solution.setAdditionalInfo(verdict.getAdditionalInfo());
+        solution.setExecutionTime(verdict.getExecutionTime());
+        solution.setMemoryUsage(verdict.getMemoryUsage());
+        Solution saved = solutionService.saveSolution(solution);
+        log.debug("Submission {} completed from verdict cache ({})", saved.getId(), saved.getStatus());
+        return SubmissionStatusDto.fromEntity(saved);
+    }
+
+    private Solution newSolution(CodeSubmissionDto submissionDto) {
+        User user = userService.getUserById(submissionDto.getUserId());
+
+        Solution solution = new Solution();
+        solution.setUser(user);
+        solution.setProblemId(submissionDto.getProblemId().intValue());
+        solution.setProblemSetId(submissionDto.getProblemSetId());
+        solution.setCode(submissionDto.getCode());
+        solution.setLanguage(submissionDto.getLanguage());
+        solution.setSolvingTime(submissionDto.getSolvingTime());
+        return solution;
+    }
+
+    /**
+     * 저장된 제출을 Redis Stream 채점 대기열에 넣습니다.
+     */
+    private SubmissionStatusDto enqueueToStream(Solution saved, CodeSubmissionDto submissionDto) {
+        try {
+            streamQueue.enqueue(saved.getId(), submissionDto.getJudgeMode());
+        } catch (Exception e) {
+            log.error("Failed to enqueue submission {} to judge stream: {}", saved.getId(), e.getMessage());
+            saved.setStatus(SolutionStatus.RUNTIME_ERROR);
+            saved.setAdditionalInfo("채점 대기열에 연결하지 못해 채점하지 못했습니다.");
+            solutionService.saveSolution(saved);
+            throw new JudgeOverloadedException("채점 대기열에 연결할 수 없습니다. 잠시 후 다시 시도해주세요.", estimateRetryAfterSeconds());
+        }
+        log.debug("Submission {} queued to judge stream", saved.getId());
+        return SubmissionStatusDto.fromEntity(saved);
+    }
+
+    /**
+     * 제출이 요청한 사용자의 것인지 확인합니다.
+     * 제출이 없으면 확인하지 않으며, 각 조회 API에서 존재하지 않는 제출로 처리합니다.
+     *
+     * @param submissionId 제출 ID
+     * @param githubId 요청한 사용자의 깃헙 아이디
+     * @throws CustomException 다른 사용자의 제출인 경우 (PERMISSION_DENIED)
+     */
+    public void checkOwner(Long submissionId, String githubId) {
+        solutionService.findOwnerGithubId(submissionId)
+                .filter(owner -> !owner.equals(githubId))
+                .ifPresent(owner -> {
+                    throw new CustomException(CustomErrorCodes.PERMISSION_DENIED);
+                });
+    }
+
+    /**
+     * 제출의 현재 상태를 조회합니다.
+     *
+     * @param submissionId 제출 ID
+     * @return 제출 상태 (존재하지 않으면 empty)
+     */
+    public Optional<SubmissionStatusDto> getStatus(Long submissionId) {
+        return solutionService.findById(submissionId).map(SubmissionStatusDto::fromEntity);
+    }
+
+    /**
+     * 채점이 끝날 때까지 기다렸다가 결과를 반환하는 long-polling 응답을 생성합니다.
+     * 제한 시간 안에 채점이 끝나지 않으면 그 시점의 상태를 반환합니다.
+     *
+     * @param submissionId 제출 ID
+     * @param timeoutMillis 최대 대기 시간 (ms)
+     * @return 채점 결과를 담을 DeferredResult
+     */
+    public DeferredResult<SubmissionStatusDto> awaitResult(Long submissionId, long timeoutMillis) {
+        DeferredResult<SubmissionStatusDto> deferred = new DeferredResult<>(timeoutMillis);
+        deferred.onTimeout(() -> getStatus(submissionId).ifPresent(deferred::setResult));
+        deferred.onCompletion(() -> removeWaiter(submissionId, deferred));
+
+        waiters.computeIfAbsent(submissionId, id -> new CopyOnWriteArrayList<>()).add(deferred);
+
+        // 등록 전에 이미 채점이 끝난 경우 바로 응답
+        getStatus(submissionId)
+                .filter(status -> Boolean.TRUE.equals(status.getFinished()))
+                .ifPresent(deferred::setResult);
+        return deferred;
+    }
+
+    /**
+     * 제출의 채점 진행 이벤트를 SSE로 구독합니다.
+     *
+     * @param submissionId 제출 ID
+     * @return SSE 응답 (제출이 존재하지 않으면 empty)
+     */
+    public Optional<SseEmitter> streamProgress(Long submissionId) {
+        if (getStatus(submissionId).isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(progressPublisher.subscribe(submissionId, () -> getStatus(submissionId)));
+    }
+
+    /**
+     * 워커 스레드에서 실행되는 채점 작업
+     */
+    private void judge(Long solutionId, CodeSubmissionDto submissionDto, long enqueuedAt) {
+        queueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+
+        Solution solution = solutionService.findById(solutionId).orElse(null);
+        if (solution == null) {
+            log.warn("Submission {} disappeared before judging", solutionId);
+            return;
+        }
+        evaluate(solution, submissionDto);
+    }
+
+    /**
+     * Redis Stream 에서 가져온 제출을 채점합니다. (JudgeStreamWorker 에서 호출)
+     * 이미 채점이 끝난 제출(결과 저장 후 ACK 전에 워커가 종료된 경우 등)은 다시 채점하지 않습니다.
+     * 이 서버의 채점 슬롯은 JudgeScheduler 가 나눠 주므로, 워커 수가 슬롯 수보다 많으면 먼저 읽어 둔 제출끼리 공정 큐로 순서를 정합니다.
+     *
+     * @param solutionId 제출 ID
+     * @param enqueuedAtMillis 대기열에 들어간 시각 (epoch ms)
+     * @param judgeMode 요청에 지정한 채점 방식 (없으면 null)
+     */
+    void judgeQueued(Long solutionId, long enqueuedAtMillis, JudgeMode judgeMode) {
+        queueWaitTimer.record(Math.max(0, System.currentTimeMillis() - enqueuedAtMillis), TimeUnit.MILLISECONDS);
+
+        Solution solution = solutionService.findById(solutionId).orElse(null);
+        if (solution == null) {
+            log.warn("Submission {} disappeared before judging", solutionId);
+            return;
+        }
+        if (SubmissionStatusDto.isTerminal(solution.getStatus())) {
+            log.debug("Submission {} is already judged ({}), skipping", solutionId, solution.getStatus());
+            return;
+        }
+        CodeSubmissionDto submissionDto = toSubmission(solution, judgeMode);
+        Solution queued = solution;
+        scheduler.runAdmitted(scheduler.ticket(submissionDto), () -> evaluate(queued, submissionDto));
+    }
+
+    /**
+     * 다시 채점하지 않고 제출을 오류로 처리합니다. (JudgeStreamWorker 에서 호출)
+     *
+     * @param solutionId 제출 ID
+     * @param reason 제출 기록에 남길 사유
+     */
+    void abandon(Long solutionId, String reason) {
+        solutionService.findById(solutionId)
+                .filter(solution -> !SubmissionStatusDto.isTerminal(solution.getStatus()))
+                .ifPresent(solution -> {
+                    solution.setStatus(SolutionStatus.RUNTIME_ERROR);
+                    solution.setIsCorrect(false);
+                    solution.setAdditionalInfo(reason);
+                    completed(solutionService.saveSolution(solution));
+                });
+    }
+
+    /**
+     * 저장된 제출 정보로 채점 요청을 다시 만듭니다.
+     */
+    private CodeSubmissionDto toSubmission(Solution solution, JudgeMode judgeMode) {
+        return CodeSubmissionDto.builder()
+                .userId(solution.getUser().getId())
+                .problemId(solution.getProblemId().longValue())
+                .problemSetId(solution.getProblemSetId())
+                .code(solution.getCode())
+                .language(solution.getLanguage())
+                .solvingTime(solution.getSolvingTime())
+                .judgeMode(judgeMode)
+                .build();
+    }
+
+    private void evaluate(Solution solution, CodeSubmissionDto submissionDto) {
+        Long solutionId = solution.getId();
+        solution.setStatus(SolutionStatus.EVALUATING);
+        solution = solutionService.saveSolution(solution);
+
+        // 이 워커 스레드에서 실행되는 채점의 진행 상황을 구독자에게 보냄
+        progressPublisher.begin(solutionId);
+        Solution saved = solution;
+        try {
+            // 채점하는 동안 테스트 케이스가 바뀌어도 이전 데이터의 키로 저장되도록 채점 전에 키를 만듦
+            Optional<SubmissionDeduplicator.Key> verdictKey = verdictKeyOf(submissionDto);
+            Solution judged = solution;
+            judgeTimer.record(() -> applyResult(judged, submissionDto));
+
+            try {
+                saved = solutionService.saveSolution(judged);
+            } catch (RuntimeException e) {
+                // 종료 이벤트는 recordSaveFailure 가 실패 상태로 바꾼 제출로 보냄
+                saved = judged;
+                recordSaveFailure(judged, e);
+                return;
+            }
+            Solution stored = saved;
+            verdictKey.ifPresent(key -> deduplicator.put(key, stored));
+            completed(saved);
+        } finally {
+            progressPublisher.finish(SubmissionStatusDto.fromEntity(saved));
+        }
+    }
+
+    /**
+     * 채점 결과를 저장하지 못한 제출을 EVALUATING 으로 남기지 않도록 서버 오류로 다시 기록합니다.
+     * 다시 기록하지도 못하면 대기자에게만 실패를 알리고 원래 예외를 전달합니다.
+     * (redis-stream 분배 방식에서는 워커가 abandon 으로 한 번 더 기록을 시도함)
+     */
+    private void recordSaveFailure(Solution judged, RuntimeException cause) {
+        log.error("Failed to save judged submission {}: {}", judged.getId(), cause.getMessage(), cause);
+        String reason = "채점 결과를 저장하지 못했습니다. 다시 제출해주세요.";
+        judged.setStatus(SolutionStatus.RUNTIME_ERROR);
+        judged.setIsCorrect(false);
+        judged.setAdditionalInfo(reason);
+        try {
+            abandon(judged.getId(), reason);
+        } catch (RuntimeException retry) {
+            notifyWaiters(judged);
+            cause.addSuppressed(retry);
+            throw cause;
+        }
+    }
+
+    /**
+     * 채점 결과 캐시 키를 만듭니다. 채점 방식을 정하지 못하면 캐시 없이 채점하도록 empty 를 반환합니다.
+     */
+    private Optional<SubmissionDeduplicator.Key> verdictKeyOf(CodeSubmissionDto submissionDto) {
+        try {
+            return deduplicator.keyOf(submissionDto, compilerService.resolveJudgeMode(submissionDto));
+        } catch (RuntimeException e) {
+            log.warn("Skipping verdict cache for problem {}: {}", submissionDto.getProblemId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 기존 채점 로직(compileCode)을 실행하고 결과를 Solution에 반영합니다.
+     */
+    private void applyResult(Solution solution, CodeSubmissionDto submissionDto) {
+        try {
+            CompileResultDto result = compilerService.compileCode(submissionDto);
+            solution.setStatus(result.getStatus());
+            solution.setIsCorrect(Boolean.TRUE.equals(result.getIsCorrect()));
+            solution.setAdditionalInfo(result.getResultDetails());
+            solution.setExecutionTime(result.getExecutionTime());
+            solution.setMemoryUsage(result.getMemoryUsage());
+        } catch (CompilerException e) {
+            solution.setStatus(e.getErrorType());
+            solution.setIsCorrect(false);
+            solution.setAdditionalInfo(e.getErrorDetails());
+        } catch (Exception e) {
+            log.error("Unexpected error while judging submission {}: {}", solution.getId(), e.getMessage(), e);
+            solution.setStatus(SolutionStatus.RUNTIME_ERROR);
+            solution.setIsCorrect(false);
+            solution.setAdditionalInfo("채점 중 서버 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 채점이 끝난 제출의 long-polling 대기자에게 응답하고, redis-stream 분배 방식이면 다른 서버에도 알립니다.
+     */
+    private void completed(Solution solution) {
+        notifyWaiters(solution);
+        if (!streamQueue.isEnabled()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(DONE_CHANNEL, solution.getId());
+        } catch (Exception e) {
+            // 다른 서버의 대기자는 대기 시간이 끝나면 저장된 상태를 반환함
+            log.warn("Failed to publish judge completion for submission {}: {}", solution.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 서버에서 발행한 채점 완료 알림을 처리합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8).replace("\"", "").trim();
+            Long submissionId = Long.valueOf(body);
+            if (waiters.containsKey(submissionId)) {
+                solutionService.findById(submissionId).ifPresent(this::notifyWaiters);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed judge completion message: {}", e.getMessage());
+        }
+    }
+
+    private void notifyWaiters(Solution solution) {
+        List<DeferredResult<SubmissionStatusDto>> pending = waiters.remove(solution.getId());
+        if (pending == null) {
+            return;
+        }
+        SubmissionStatusDto status = SubmissionStatusDto.fromEntity(solution);
+        pending.forEach(deferred -> deferred.setResult(status));
+    }
+
+    private void removeWaiter(Long submissionId, DeferredResult<SubmissionStatusDto> deferred) {
+        waiters.computeIfPresent(submissionId, (id, list) -> {
+            list.remove(deferred);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    /**
+     * 현재 대기열 길이와 평균 채점 시간으로 재시도 대기 시간을 추정합니다.
+     */
+    private long estimateRetryAfterSeconds() {
+        if (!streamQueue.isEnabled() && scheduler.isEnabled()) {
+            return scheduler.estimateRetryAfterSeconds();
+        }
+        double meanSeconds = judgeTimer.count() > 0 ? judgeTimer.mean(TimeUnit.SECONDS) : 1.0;
+        long estimate = (long) Math.ceil(queueDepthOrZero() * meanSeconds / workerCount);
+        return Math.max(1, estimate);
+    }
+
+    /**
+     * 채점 대기열이 가득 찼는지 확인합니다.
+     *
+     * @throws JudgeOverloadedException Redis 채점 대기열에 연결할 수 없는 경우
+     */
+    private boolean isQueueFull() {
+        if (!streamQueue.isEnabled()) {
+            return queueDepth() >= queueCapacity;
+        }
+        try {
+            return streamQueue.size() >= queueCapacity;
+        } catch (Exception e) {
+            log.warn("Failed to read judge stream length: {}", e.getMessage());
+            throw new JudgeOverloadedException("채점 대기열에 연결할 수 없습니다. 잠시 후 다시 시도해주세요.", 1);
+        }
+    }
+
+    /**
+     * 채점을 기다리는 제출 수. local 분배 방식에서는 스케줄러의 대기열과 스레드 풀의 대기열을 합칩니다.
+     * (스케줄러를 켜면 슬롯을 얻은 요청은 바로 시작하므로 스레드 풀의 대기열은 비어 있음)
+     */
+    private long queueDepth() {
+        return streamQueue.isEnabled() ? streamQueue.size() : scheduler.getWaitingCount() + workers.getQueue().size();
+    }
+
+    private long queueDepthOrZero() {
+        try {
+            return queueDepth();
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+
+    private double queueDepthOrNaN() {
+        try {
+            return queueDepth();
+        } catch (Exception e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 채점 워커 풀 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
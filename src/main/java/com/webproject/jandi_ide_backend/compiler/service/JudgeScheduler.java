@@ -0,0 +1,511 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import com.webproject.jandi_ide_backend.algorithm.problemSet.Repository.ProblemSetRepository;
+import com.webproject.jandi_ide_backend.compiler.dto.CodeSubmissionDto;
+import com.webproject.jandi_ide_backend.compiler.exception.JudgeOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 채점 스케줄러
+ *
+ * 동기 실행(/api/compile)과 비동기 채점을 모두 정해진 수의 채점 슬롯에서 실행하며, 슬롯이 비면 다음 채점을 아래 규칙으로 고릅니다.
+ *
+ * - 사용자별 가중 공정 큐(start-time fair queuing): 요청마다 (언어 비용 / 우선순위 가중치)만큼 사용자의 가상 시간을 늘리고,
+ *   가상 시작 시각이 가장 이른 요청부터 실행합니다. 한 사용자가 제출을 몰아 보내도 다른 사용자의 요청이 그 뒤에 줄 서지 않습니다.
+ * - 언어별 동시 실행 수 제한: 제한에 걸린 언어의 요청은 건너뛰고 다음 요청을 실행하므로 C++ 컴파일이 몰려도 다른 언어는 막히지 않습니다.
+ * - 우선순위: 제한 시간이 있는 문제집(ProblemSet.solvingTimeInMinutes)의 문제 제출은 TIMED 로 분류되어 timed-weight 배의 몫을 받습니다.
+ *   가중치로만 앞서므로 일반 제출도 계속 실행됩니다.
+ *
+ * 슬롯 수는 JudgeConcurrencyLimiter 가 테스트 케이스 실행의 지연 비율과 CPU 사용률을 보고 조절하며, 조절기를 끄면 slots 로 고정됩니다.
+ *
+ * 사용자별 대기 + 실행 중인 요청이 max-per-user 를 넘거나 전체 대기 요청이 max-waiting 을 넘거나
+ * 앞선 요청 때문에 max-wait-ms 안에 시작될 수 없어 보이면 파일을 만들기 전에 바로 거절하고(JudgeOverloadedException),
+ * 동기 실행은 max-wait-ms 안에 슬롯을 얻지 못하면 거절합니다. 거절 시 재시도 시간은 최근 채점 시간으로 추정합니다.
+ */
+@Slf4j
+@Component
+public class JudgeScheduler {
+
+    /**
+     * 채점 우선순위
+     */
+    public enum Priority {
+        TIMED,  // 제한 시간이 있는 문제집의 문제
+        NORMAL
+    }
+
+    // 사용자 ID가 없는 요청은 하나의 사용자로 취급
+    private static final long ANONYMOUS = -1L;
+    // 최근 채점 시간 평균에 새 값을 반영하는 비율
+    private static final double SERVICE_TIME_ALPHA = 0.2;
+
+    private final ProblemSetRepository problemSetRepository;
+    private final JudgeConcurrencyLimiter limiter;
+    private final boolean enabled;
+    private final int slots;
+    private final int maxPerUser;
+    private final int maxWaiting;
+    private final long maxWaitMillis;
+    private final double timedWeight;
+    private final Map<String, Integer> languageLimits;
+    private final Map<String, Double> languageCosts;
+
+    // 아래 상태는 this 로 동기화
+    private final List<Request> waiting = new ArrayList<>();
+    private final Map<String, Integer> runningByLanguage = new HashMap<>();
+    // 사용자 ID -> 대기 + 실행 중인 요청 수
+    private final Map<Long, Integer> activeByUser = new HashMap<>();
+    // 사용자 ID -> 마지막 요청의 가상 종료 시각
+    private final Map<Long, Double> lastFinish = new HashMap<>();
+    private double virtualTime;
+    private long sequence;
+    private int running;
+    private double meanServiceSeconds = 1.0;
+
+    private final Counter rejectedByUser;
+    private final Counter rejectedByCapacity;
+    private final Counter rejectedByTimeout;
+    private final Timer timedWaitTimer;
+    private final Timer normalWaitTimer;
+
+    /**
+     * 채점 스케줄러 생성자
+     *
+     * @param problemSetRepository 문제집 조회 (우선순위 분류)
+     * @param limiter 채점 동시 실행 수 자동 조절기
+     * @param meterRegistry 지표 레지스트리
+     * @param enabled 스케줄러 사용 여부 (끄면 요청을 바로 실행)
+     * @param slots 동시에 실행하는 채점 수 (0이면 CPU 코어 수, 자동 조절기를 켜면 처음 값으로만 사용)
+     * @param maxPerUser 사용자 한 명의 최대 대기 + 실행 요청 수
+     * @param maxWaiting 전체 최대 대기 요청 수
+     * @param maxWaitMillis 동기 실행의 최대 대기 시간 (ms)
+     * @param timedWeight TIMED 요청의 가중치 (NORMAL 은 1)
+     * @param languageLimits 언어별 최대 동시 실행 수 (예: c++=2,java=3)
+     * @param languageCosts 언어별 상대 비용 (예: c++=3,java=2,python=1, 지정하지 않은 언어는 1)
+     */
+    public JudgeScheduler(
+            ProblemSetRepository problemSetRepository,
+            JudgeConcurrencyLimiter limiter,
+            MeterRegistry meterRegistry,
+            @Value("${compiler.judge.scheduler.enabled:true}") boolean enabled,
+            @Value("${compiler.judge.scheduler.slots:0}") int slots,
+            @Value("${compiler.judge.scheduler.max-per-user:3}") int maxPerUser,
+            @Value("${compiler.judge.queue-capacity:200}") int maxWaiting,
+            @Value("${compiler.judge.scheduler.max-wait-ms:30000}") long maxWaitMillis,
+            @Value("${compiler.judge.scheduler.timed-weight:4}") double timedWeight,
+            @Value("${compiler.judge.scheduler.language-limits:c++=2,java=3}") String languageLimits,
+            @Value("${compiler.judge.scheduler.language-costs:c++=3,java=2,python=1}") String languageCosts) {
+        this.problemSetRepository = problemSetRepository;
+        this.limiter = limiter;
+        this.enabled = enabled;
+        this.slots = slots > 0 ? slots : Runtime.getRuntime().availableProcessors();
+        this.maxPerUser = Math.max(1, maxPerUser);
+        this.maxWaiting = Math.max(1, maxWaiting);
+        this.maxWaitMillis = Math.max(1, maxWaitMillis);
+        this.timedWeight = Math.max(1.0, timedWeight);
+        this.languageLimits = new HashMap<>();
+        parseLanguageMap(languageLimits).forEach((language, limit) -> this.languageLimits.put(language, Math.max(1, limit.intValue())));
+        this.languageCosts = parseLanguageMap(languageCosts);
+
+        Gauge.builder("judge.scheduler.waiting", this, JudgeScheduler::getWaitingCount)
+                .description("채점 슬롯을 기다리는 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("judge.scheduler.running", this, JudgeScheduler::getRunningCount)
+                .description("채점 슬롯에서 실행 중인 요청 수")
+                .register(meterRegistry);
+        this.rejectedByUser = rejectedCounter(meterRegistry, "user");
+        this.rejectedByCapacity = rejectedCounter(meterRegistry, "capacity");
+        this.rejectedByTimeout = rejectedCounter(meterRegistry, "timeout");
+        this.timedWaitTimer = waitTimer(meterRegistry, Priority.TIMED);
+        this.normalWaitTimer = waitTimer(meterRegistry, Priority.NORMAL);
+
+        log.info("Judge scheduler initialized: enabled={}, slots={}, max-per-user={}, language-limits={}",
+                enabled, limiter.isEnabled() ? "adaptive" : this.slots, this.maxPerUser, this.languageLimits);
+    }
+
+    /**
+     * 제출 정보로 스케줄링 대상을 만듭니다. 문제집이 지정되어 있으면 제한 시간이 있는 문제집의 문제인지 확인합니다.
+     *
+     * @param submissionDto 코드 제출 정보
+     * @return 스케줄링 대상
+     */
+    @Transactional(readOnly = true)
+    public Ticket ticket(CodeSubmissionDto submissionDto) {
+        Priority priority = Priority.NORMAL;
+        Long problemSetId = submissionDto.getProblemSetId();
+        Long problemId = submissionDto.getProblemId();
+        if (problemSetId != null && problemId != null && problemId > 0) {
+            boolean timed = problemSetRepository.findById(problemSetId)
+                    .filter(problemSet -> problemSet.getSolvingTimeInMinutes() != null && problemSet.getSolvingTimeInMinutes() > 0)
+                    .filter(problemSet -> problemSet.getProblems().contains(problemId.intValue()))
+                    .isPresent();
+            if (timed) {
+                priority = Priority.TIMED;
+            }
+        }
+        return new Ticket(submissionDto.getUserId(), submissionDto.getLanguage(), priority);
+    }
+
+    /**
+     * 요청을 받을 수 있는지 확인합니다. 자리를 예약하지는 않습니다.
+     *
+     * @param ticket 스케줄링 대상
+     * @throws JudgeOverloadedException 사용자별 또는 전체 대기 한도를 넘은 경우
+     */
+    public synchronized void checkAdmission(Ticket ticket) {
+        if (!enabled) {
+            return;
+        }
+        if (activeByUser.getOrDefault(ticket.userKey(), 0) >= maxPerUser) {
+            rejectedByUser.increment();
+            throw new JudgeOverloadedException(
+                    "동시에 채점할 수 있는 제출 수(" + maxPerUser + "개)를 넘었습니다. 이전 제출의 채점이 끝난 뒤 다시 시도해주세요.",
+                    retryAfterSecondsLocked(1));
+        }
+        if (waiting.size() >= maxWaiting) {
+            rejectedByCapacity.increment();
+            throw new JudgeOverloadedException("채점 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.",
+                    retryAfterSecondsLocked(waiting.size()));
+        }
+        if (limiter.shouldShed(waiting.size(), meanServiceSeconds, maxWaitMillis)) {
+            throw new JudgeOverloadedException("채점 요청이 많아 지금은 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+                    retryAfterSecondsLocked(waiting.size()));
+        }
+    }
+
+    /**
+     * 슬롯을 얻을 때까지 기다렸다가 현재 스레드에서 실행합니다. (동기 실행)
+     *
+     * @param ticket 스케줄링 대상
+     * @param work 실행할 작업
+     * @return 작업 결과
+     * @throws JudgeOverloadedException 대기 한도를 넘었거나 max-wait-ms 안에 슬롯을 얻지 못한 경우
+     */
+    public <T> T call(Ticket ticket, Supplier<T> work) {
+        if (!enabled) {
+            return work.get();
+        }
+        Request request = awaitSlot(ticket, true, maxWaitMillis);
+        try {
+            return work.get();
+        } finally {
+            release(request);
+        }
+    }
+
+    /**
+     * 이미 받은 요청을 슬롯을 얻을 때까지 기다렸다가 현재 스레드에서 실행합니다. (Redis Stream 채점 워커)
+     * 대기열에서 가져온 요청이므로 대기 한도와 대기 시간 제한을 적용하지 않습니다.
+     *
+     * @param ticket 스케줄링 대상
+     * @param work 실행할 작업
+     */
+    public void runAdmitted(Ticket ticket, Runnable work) {
+        if (!enabled) {
+            work.run();
+            return;
+        }
+        Request request = awaitSlot(ticket, false, 0);
+        try {
+            work.run();
+        } finally {
+            release(request);
+        }
+    }
+
+    /**
+     * 요청을 대기열에 넣고, 슬롯을 얻으면 executor 에서 실행합니다. (비동기 채점)
+     *
+     * @param ticket 스케줄링 대상
+     * @param executor 작업을 실행할 스레드 풀
+     * @param work 실행할 작업
+     * @throws JudgeOverloadedException 대기 한도를 넘은 경우
+     * @throws RejectedExecutionException 스케줄러를 끈 상태에서 executor 가 작업을 거절한 경우
+     */
+    public void dispatch(Ticket ticket, Executor executor, Runnable work) {
+        if (!enabled) {
+            executor.execute(work);
+            return;
+        }
+        Request[] self = new Request[1];
+        Runnable onGranted = () -> {
+            try {
+                executor.execute(() -> {
+                    // 채점 시간은 스레드 풀에서 실제로 시작한 시각부터 측정
+                    self[0].grantedAt = System.nanoTime();
+                    try {
+                        work.run();
+                    } finally {
+                        release(self[0]);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+                log.error("Judge executor rejected a scheduled task: {}", e.getMessage());
+                release(self[0]);
+            }
+        };
+        List<Runnable> granted;
+        synchronized (this) {
+            checkAdmission(ticket);
+            self[0] = enqueueLocked(ticket, onGranted);
+            granted = grantLocked();
+        }
+        granted.forEach(Runnable::run);
+    }
+
+    public synchronized int getWaitingCount() {
+        return waiting.size();
+    }
+
+    public synchronized int getRunningCount() {
+        return running;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 동시에 실행될 수 있는 최대 채점 수 (자동 조절기를 켜면 조절 범위의 최댓값)
+     * 비동기 채점을 실행하는 스레드 풀은 이 수만큼 스레드를 두어 슬롯을 얻은 요청이 스레드 풀에서 다시 기다리지 않게 합니다.
+     */
+    public int getMaxSlots() {
+        return limiter.isEnabled() ? limiter.getMaxLimit() : slots;
+    }
+
+    /**
+     * 지금 대기 중인 요청 수와 최근 채점 시간으로 재시도까지 기다릴 시간을 추정합니다.
+     *
+     * @return 재시도 대기 시간 (초)
+     */
+    public synchronized long estimateRetryAfterSeconds() {
+        return retryAfterSecondsLocked(waiting.size());
+    }
+
+    /**
+     * 요청을 대기열에 넣고 슬롯을 얻을 때까지 기다립니다.
+     */
+    private Request awaitSlot(Ticket ticket, boolean admission, long timeoutMillis) {
+        CountDownLatch latch = new CountDownLatch(1);
+        Request request;
+        List<Runnable> granted;
+        synchronized (this) {
+            if (admission) {
+                checkAdmission(ticket);
+            }
+            request = enqueueLocked(ticket, latch::countDown);
+            granted = grantLocked();
+        }
+        granted.forEach(Runnable::run);
+
+        boolean interrupted = false;
+        try {
+            if (timeoutMillis > 0) {
+                latch.await(timeoutMillis, TimeUnit.MILLISECONDS);
+            } else {
+                latch.await();
+            }
+        } catch (InterruptedException e) {
+            interrupted = true;
+        }
+        synchronized (this) {
+            if (!request.granted) {
+                // 시간 초과 또는 인터럽트: 대기열에서 빼고 거절
+                waiting.remove(request);
+                leaveLocked(request);
+                rejectedByTimeout.increment();
+                long retryAfter = retryAfterSecondsLocked(waiting.size());
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new JudgeOverloadedException("채점 대기 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.", retryAfter);
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return request;
+    }
+
+    private Request enqueueLocked(Ticket ticket, Runnable onGranted) {
+        long user = ticket.userKey();
+        double weight = ticket.priority == Priority.TIMED ? timedWeight : 1.0;
+        double start = Math.max(virtualTime, lastFinish.getOrDefault(user, 0.0));
+        lastFinish.put(user, start + languageCosts.getOrDefault(ticket.language, 1.0) / weight);
+        activeByUser.merge(user, 1, Integer::sum);
+
+        Request request = new Request(ticket, start, sequence++, onGranted);
+        waiting.add(request);
+        return request;
+    }
+
+    /**
+     * 빈 슬롯마다 실행할 수 있는 요청 중 가상 시작 시각이 가장 이른 요청을 고릅니다.
+     *
+     * @return 잠금을 푼 뒤 실행할 알림 목록
+     */
+    private List<Runnable> grantLocked() {
+        List<Runnable> granted = new ArrayList<>();
+        while (running < currentSlots()) {
+            Request next = null;
+            for (Request candidate : waiting) {
+                if (!hasLanguageCapacity(candidate.ticket.language)) {
+                    continue;
+                }
+                if (next == null || candidate.startTag < next.startTag
+                        || (candidate.startTag == next.startTag && candidate.sequence < next.sequence)) {
+                    next = candidate;
+                }
+            }
+            if (next == null) {
+                break;
+            }
+            waiting.remove(next);
+            next.granted = true;
+            next.grantedAt = System.nanoTime();
+            running++;
+            runningByLanguage.merge(next.ticket.language, 1, Integer::sum);
+            virtualTime = Math.max(virtualTime, next.startTag);
+            (next.ticket.priority == Priority.TIMED ? timedWaitTimer : normalWaitTimer)
+                    .record(next.grantedAt - next.enqueuedAt, TimeUnit.NANOSECONDS);
+            granted.add(next.onGranted);
+        }
+        return granted;
+    }
+
+    private int currentSlots() {
+        return limiter.isEnabled() ? limiter.getLimit() : slots;
+    }
+
+    private boolean hasLanguageCapacity(String language) {
+        Integer limit = languageLimits.get(language);
+        return limit == null || runningByLanguage.getOrDefault(language, 0) < limit;
+    }
+
+    private void release(Request request) {
+        List<Runnable> granted;
+        synchronized (this) {
+            running--;
+            runningByLanguage.computeIfPresent(request.ticket.language, (language, count) -> count > 1 ? count - 1 : null);
+            long elapsed = System.nanoTime() - request.grantedAt;
+            meanServiceSeconds += SERVICE_TIME_ALPHA * (elapsed / 1_000_000_000.0 - meanServiceSeconds);
+            limiter.onJudged(request.grantedAt, !waiting.isEmpty());
+            leaveLocked(request);
+            granted = grantLocked();
+        }
+        granted.forEach(Runnable::run);
+    }
+
+    /**
+     * 사용자의 요청 수를 줄이고, 남은 요청이 없으면 지난 가상 시각을 정리합니다.
+     */
+    private void leaveLocked(Request request) {
+        long user = request.ticket.userKey();
+        Integer remaining = activeByUser.computeIfPresent(user, (key, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null && lastFinish.getOrDefault(user, 0.0) <= virtualTime) {
+            lastFinish.remove(user);
+        }
+    }
+
+    /**
+     * 앞선 요청 수와 최근 채점 시간으로 재시도까지 기다릴 시간을 추정합니다.
+     */
+    private long retryAfterSecondsLocked(int ahead) {
+        return Math.max(1, (long) Math.ceil(Math.max(1, ahead) * meanServiceSeconds / currentSlots()));
+    }
+
+    /**
+     * 언어별 설정 값을 해석합니다. (예: c++=3,java=2,python=1)
+     */
+    private static Map<String, Double> parseLanguageMap(String value) {
+        Map<String, Double> parsed = new HashMap<>();
+        for (String entry : value.split(",")) {
+            int separator = entry.lastIndexOf('=');
+            if (separator <= 0) {
+                continue;
+            }
+            try {
+                parsed.put(normalize(entry.substring(0, separator)), Double.parseDouble(entry.substring(separator + 1).trim()));
+            } catch (NumberFormatException e) {
+                log.warn("Ignoring invalid judge scheduler language setting: {}", entry);
+            }
+        }
+        return parsed;
+    }
+
+    private static String normalize(String language) {
+        return language == null ? "" : language.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("judge.scheduler.rejected")
+                .description("채점 스케줄러가 거절한 요청 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static Timer waitTimer(MeterRegistry meterRegistry, Priority priority) {
+        return Timer.builder("judge.scheduler.wait")
+                .description("채점 슬롯을 얻기까지 기다린 시간")
+                .tag("priority", priority.name())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 스케줄링 대상 (사용자, 언어, 우선순위)
+     */
+    public static class Ticket {
+        private final Long userId;
+        private final String language;
+        private final Priority priority;
+
+        public Ticket(Long userId, String language, Priority priority) {
+            this.userId = userId;
+            this.language = normalize(language);
+            this.priority = priority;
+        }
+
+        public Priority getPriority() {
+            return priority;
+        }
+
+        long userKey() {
+            return userId != null ? userId : ANONYMOUS;
+        }
+    }
+
+    /**
+     * 대기 중이거나 실행 중인 요청
+     */
+    private static class Request {
+        private final Ticket ticket;
+        private final double startTag;
+        private final long sequence;
+        private final long enqueuedAt = System.nanoTime();
+        private final Runnable onGranted;
+        private boolean granted;
+        private long grantedAt;
+
+        Request(Ticket ticket, double startTag, long sequence, Runnable onGranted) {
+            this.ticket = ticket;
+            this.startTag = startTag;
+            this.sequence = sequence;
+            this.onGranted = onGranted;
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import com.webproject.jandi_ide_backend.compiler.dto.JudgeMode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis Stream 채점 대기열 (compiler.judge.dispatch=redis-stream)
+ *
+ * API 서버는 제출 ID를 스트림에 추가(XADD)만 하고, 채점 워커(JudgeStreamWorker)는 컨슈머 그룹으로 나눠 읽어 채점합니다.
+ * 채점이 끝난 항목은 ACK 후 스트림에서 삭제하므로 스트림 길이는 아직 끝나지 않은 제출 수(대기 + 채점 중)와 같습니다.
+ *
+ * 워커가 채점 도중 종료되어 ACK 하지 못한 항목은 claim-idle-ms 동안 아무도 건드리지 않으면 다른 워커가 가져갑니다(XCLAIM).
+ * 채점 중인 워커는 claim-idle-ms 보다 짧은 주기로 자기 항목을 다시 claim 해 유휴 시간을 초기화하므로,
+ * 채점이 오래 걸려도 다른 워커가 같은 제출을 가져가지 않습니다. 이때는 XCLAIM JUSTID 를 사용해 전달 횟수를 늘리지 않으므로
+ * 전달 횟수(max-deliveries 판단)는 실제로 워커에게 전달된 횟수만 셉니다.
+ */
+@Slf4j
+@Component
+public class JudgeStreamQueue {
+
+    public static final String DISPATCH_REDIS_STREAM = "redis-stream";
+
+    private static final String FIELD_SUBMISSION_ID = "submissionId";
+    private static final String FIELD_ENQUEUED_AT = "enqueuedAt";
+    private static final String FIELD_JUDGE_MODE = "judgeMode";
+
+    private final boolean enabled;
+    private final String streamKey;
+    private final String group;
+    private final Duration claimIdle;
+    private final StreamOperations<String, String, String> streams;
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * Redis Stream 채점 대기열 생성자
+     *
+     * @param dispatch 채점 분배 방식 (local 또는 redis-stream)
+     * @param streamKey 채점 대기열 스트림 키
+     * @param group 채점 워커 컨슈머 그룹 이름
+     * @param claimIdleMillis 다른 워커가 가져갈 수 있게 되는 항목의 유휴 시간 (ms)
+     * @param redisTemplate 스트림 명령에 사용하는 RedisTemplate (문자열 직렬화)
+     */
+    public JudgeStreamQueue(
+            @Value("${compiler.judge.dispatch:local}") String dispatch,
+            @Value("${compiler.judge.stream.key:judge:submissions}") String streamKey,
+            @Value("${compiler.judge.stream.group:judge-workers}") String group,
+            @Value("${compiler.judge.stream.claim-idle-ms:60000}") long claimIdleMillis,
+            StringRedisTemplate redisTemplate) {
+        this.enabled = DISPATCH_REDIS_STREAM.equalsIgnoreCase(dispatch);
+        this.streamKey = streamKey;
+        this.group = group;
+        this.claimIdle = Duration.ofMillis(Math.max(1000, claimIdleMillis));
+        this.streams = redisTemplate.opsForStream();
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * Redis Stream 으로 채점을 분배하는지 확인합니다.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Duration getClaimIdle() {
+        return claimIdle;
+    }
+
+    /**
+     * 제출을 채점 대기열에 추가합니다.
+     *
+     * @param submissionId 제출 ID
+     * @param judgeMode 요청에 지정한 채점 방식 (없으면 null, 워커가 문제집 설정과 기본값으로 정함)
+     */
+    public void enqueue(Long submissionId, JudgeMode judgeMode) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(FIELD_SUBMISSION_ID, String.valueOf(submissionId));
+        fields.put(FIELD_ENQUEUED_AT, String.valueOf(System.currentTimeMillis()));
+        if (judgeMode != null) {
+            fields.put(FIELD_JUDGE_MODE, judgeMode.name());
+        }
+        MapRecord<String, String, String> record = StreamRecords.newRecord()
+                .in(streamKey)
+                .ofMap(fields);
+        streams.add(record);
+    }
+
+    /**
+     * 아직 끝나지 않은 제출 수 (대기 + 채점 중)
+     */
+    public long size() {
+        Long size = streams.size(streamKey);
+        return size != null ? size : 0;
+    }
+
+    /**
+     * 컨슈머 그룹이 없으면 만듭니다. 스트림이 없으면 함께 만들고, 그룹을 만들기 전에 들어온 항목도 처음부터 읽습니다.
+     */
+    public void ensureGroup() {
+        try {
+            streams.createGroup(streamKey, ReadOffset.from("0"), group);
+            log.info("Created judge stream consumer group {} on {}", group, streamKey);
+        } catch (Exception e) {
+            if (!isBusyGroup(e)) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 아직 아무 워커에게도 전달되지 않은 항목을 읽습니다.
+     *
+     * @param consumer 컨슈머 이름
+     * @param count 최대 개수
+     * @param block 항목이 없을 때 기다릴 최대 시간
+     * @return 읽은 항목 (없으면 빈 목록)
+     */
+    public List<Entry> read(String consumer, int count, Duration block) {
+        List<MapRecord<String, String, String>> records = streams.read(
+                Consumer.from(group, consumer),
+                StreamReadOptions.empty().count(count).block(block),
+                StreamOffset.create(streamKey, ReadOffset.lastConsumed()));
+        return toEntries(records, 1);
+    }
+
+    /**
+     * claim-idle-ms 이상 처리되지 않은 항목을 가져옵니다. (채점 도중 종료된 워커의 항목)
+     *
+     * @param consumer 항목을 가져갈 컨슈머 이름
+     * @param count 최대 개수
+     * @return 가져온 항목과 지금까지 전달된 횟수
+     */
+    public List<Entry> reclaim(String consumer, int count) {
+        PendingMessages pending = streams.pending(streamKey, group, Range.unbounded(), count * 4L);
+        List<RecordId> stale = new ArrayList<>();
+        List<Long> deliveries = new ArrayList<>();
+        for (PendingMessage message : pending) {
+            if (message.getElapsedTimeSinceLastDelivery().compareTo(claimIdle) >= 0) {
+                stale.add(message.getId());
+                deliveries.add(message.getTotalDeliveryCount());
+                if (stale.size() == count) {
+                    break;
+                }
+            }
+        }
+        if (stale.isEmpty()) {
+            return List.of();
+        }
+        // 다른 워커가 먼저 가져간 항목은 유휴 시간이 초기화되어 결과에서 빠짐
+        List<MapRecord<String, String, String>> claimed = streams.claim(streamKey, group, consumer,
+                XClaimOptions.minIdle(claimIdle).ids(stale.toArray(new RecordId[0])));
+        List<Entry> entries = new ArrayList<>();
+        for (MapRecord<String, String, String> record : claimed) {
+            int index = stale.indexOf(record.getId());
+            long delivered = index >= 0 ? deliveries.get(index) + 1 : 1;
+            Entry entry = toEntry(record, delivered);
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * 채점 중인 항목의 유휴 시간을 초기화해 다른 워커가 가져가지 않게 합니다.
+     * JUSTID 로 claim 하므로 전달 횟수는 늘어나지 않습니다.
+     *
+     * @param consumer 항목을 가진 컨슈머 이름
+     * @param recordIds 채점 중인 항목 ID
+     */
+    public void touch(String consumer, Collection<RecordId> recordIds) {
+        if (recordIds.isEmpty()) {
+            return;
+        }
+        byte[] key = streamKey.getBytes(StandardCharsets.UTF_8);
+        XClaimOptions options = XClaimOptions.minIdle(Duration.ZERO).ids(recordIds.toArray(new RecordId[0]));
+        redisTemplate.execute((RedisCallback<List<RecordId>>) connection ->
+                connection.streamCommands().xClaimJustId(key, group, consumer, options));
+    }
+
+    /**
+     * 처리가 끝난 항목을 ACK 하고 스트림에서 삭제합니다.
+     *
+     * @param recordId 항목 ID
+     */
+    public void complete(RecordId recordId) {
+        streams.acknowledge(streamKey, group, recordId);
+        streams.delete(streamKey, recordId);
+    }
+
+    /**
+     * 컨슈머 그룹이 없어 실패한 경우인지 확인합니다. (Redis 데이터가 초기화된 경우 등)
+     */
+    public static boolean isMissingGroup(Exception e) {
+        return messageContains(e, "NOGROUP");
+    }
+
+    private static boolean isBusyGroup(Exception e) {
+        return messageContains(e, "BUSYGROUP");
+    }
+
+    private static boolean messageContains(Throwable e, String code) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains(code)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<Entry> toEntries(List<MapRecord<String, String, String>> records, long deliveries) {
+        if (records == null || records.isEmpty()) {
+            return List.of();
+        }
+        List<Entry> entries = new ArrayList<>();
+        for (MapRecord<String, String, String> record : records) {
+            Entry entry = toEntry(record, deliveries);
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    private Entry toEntry(MapRecord<String, String, String> record, long deliveries) {
+        Map<String, String> fields = record.getValue();
+        try {
+            Long submissionId = Long.valueOf(fields.get(FIELD_SUBMISSION_ID));
+            String enqueuedAt = fields.get(FIELD_ENQUEUED_AT);
+            String judgeMode = fields.get(FIELD_JUDGE_MODE);
+            return new Entry(record.getId(), submissionId,
+                    enqueuedAt != null ? Long.parseLong(enqueuedAt) : System.currentTimeMillis(),
+                    judgeMode != null ? JudgeMode.valueOf(judgeMode) : null, deliveries);
+        } catch (IllegalArgumentException e) {
+            // 형식이 잘못된 항목(숫자, 채점 방식)은 다시 읽히지 않도록 바로 정리
+            log.warn("Dropping malformed judge stream entry {}: {}", record.getId(), fields);
+            complete(record.getId());
+            return null;
+        }
+    }
+
+    /**
+     * 채점 대기열 항목
+     */
+    public static class Entry {
+        private final RecordId recordId;
+        private final Long submissionId;
+        private final long enqueuedAtMillis;
+        private final JudgeMode judgeMode;
+        private final long deliveries;
+
+        Entry(RecordId recordId, Long submissionId, long enqueuedAtMillis, JudgeMode judgeMode, long deliveries) {
+            this.recordId = recordId;
+            this.submissionId = submissionId;
+            this.enqueuedAtMillis = enqueuedAtMillis;
+            this.judgeMode = judgeMode;
+            this.deliveries = deliveries;
+        }
+
+        public RecordId getRecordId() {
+            return recordId;
+        }
+
+        public Long getSubmissionId() {
+            return submissionId;
+        }
+
+        public long getEnqueuedAtMillis() {
+            return enqueuedAtMillis;
+        }
+
+        /**
+         * 요청에 지정한 채점 방식 (없으면 null)
+         */
+        public JudgeMode getJudgeMode() {
+            return judgeMode;
+        }
+
+        /**
+         * 이 항목이 워커에게 전달된 횟수 (이번 전달 포함)
+         */
+        public long getDeliveries() {
+            return deliveries;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Redis Stream 채점 워커
+ *
+ * compiler.judge.stream.consumer-enabled 가 켜진 서버(judge-worker 프로필)에서 채점 워커 수만큼 스레드를 띄워
+ * 채점 대기열(JudgeStreamQueue)을 컨슈머 그룹으로 나눠 읽고 채점합니다.
+ * 채점 결과는 Solution 에 저장한 뒤 항목을 ACK 하므로, 채점 도중 워커가 종료되면 다른 워커가 항목을 가져가 다시 채점합니다.
+ * 워커를 늘리면 API 서버와 관계없이 채점 처리량이 늘어납니다.
+ *
+ * 같은 제출이 max-deliveries 번 전달되고도 끝나지 않으면(워커를 계속 종료시키는 제출 등) 다시 채점하지 않고 오류로 처리합니다.
+ * 채점 도중 예외가 나면 제출을 오류로 기록하고 ACK 하며, 오류를 기록하지 못했거나 종료 중이면 ACK 하지 않아 다른 워커가 다시 채점합니다.
+ */
+@Slf4j
+@Component
+public class JudgeStreamWorker {
+
+    private final JudgeStreamQueue streamQueue;
+    private final JudgeQueueService judgeQueueService;
+    private final boolean enabled;
+    private final int workerCount;
+    private final Duration block;
+    private final long maxDeliveries;
+    private final String consumerName;
+
+    // 이 서버에서 채점 중인 항목 (주기적으로 유휴 시간을 초기화)
+    private final Set<RecordId> inFlight = ConcurrentHashMap.newKeySet();
+    private final ExecutorService consumers;
+    private final ScheduledExecutorService heartbeat;
+    private volatile boolean running;
+
+    /**
+     * Redis Stream 채점 워커 생성자
+     *
+     * @param streamQueue 채점 대기열
+     * @param judgeQueueService 채점을 수행하는 채점 큐 서비스
+     * @param consumerEnabled 이 서버에서 채점 대기열을 소비할지 여부
+     * @param workerCount 채점 워커 스레드 수
+     * @param blockMillis 대기열이 비었을 때 한 번에 기다리는 시간 (ms)
+     * @param maxDeliveries 같은 제출을 다시 채점하는 최대 횟수
+     * @param consumerName 컨슈머 이름 (비우면 pid@호스트 이름)
+     */
+    public JudgeStreamWorker(
+            JudgeStreamQueue streamQueue,
+            JudgeQueueService judgeQueueService,
+            @Value("${compiler.judge.stream.consumer-enabled:false}") boolean consumerEnabled,
+            @Value("${compiler.judge.worker-count:4}") int workerCount,
+            @Value("${compiler.judge.stream.block-ms:2000}") long blockMillis,
+            @Value("${compiler.judge.stream.max-deliveries:3}") long maxDeliveries,
+            @Value("${compiler.judge.stream.consumer-name:}") String consumerName) {
+        this.streamQueue = streamQueue;
+        this.judgeQueueService = judgeQueueService;
+        this.enabled = consumerEnabled && streamQueue.isEnabled();
+        this.workerCount = Math.max(1, workerCount);
+        this.block = Duration.ofMillis(Math.max(100, blockMillis));
+        this.maxDeliveries = Math.max(1, maxDeliveries);
+        this.consumerName = consumerName.isBlank() ? ManagementFactory.getRuntimeMXBean().getName() : consumerName;
+
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        this.consumers = Executors.newFixedThreadPool(this.workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "judge-stream-worker-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "judge-stream-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 컨슈머 그룹을 준비하고 채점 워커 스레드를 시작합니다.
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            consumers.execute(this::consume);
+        }
+        long interval = Math.max(500, streamQueue.getClaimIdle().toMillis() / 3);
+        heartbeat.scheduleWithFixedDelay(this::touchInFlight, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("Judge stream worker started: consumer={}, workers={}", consumerName, workerCount);
+    }
+
+    /**
+     * 워커 스레드 루프: 새 항목을 읽고, 없으면 중단된 워커의 항목을 가져와 채점합니다.
+     */
+    private void consume() {
+        boolean groupReady = false;
+        while (running) {
+            try {
+                if (!groupReady) {
+                    streamQueue.ensureGroup();
+                    groupReady = true;
+                }
+                List<JudgeStreamQueue.Entry> entries = streamQueue.read(consumerName, 1, block);
+                if (entries.isEmpty()) {
+                    entries = streamQueue.reclaim(consumerName, 1);
+                }
+                for (JudgeStreamQueue.Entry entry : entries) {
+                    process(entry);
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                if (JudgeStreamQueue.isMissingGroup(e)) {
+                    groupReady = false;
+                }
+                log.warn("Judge stream worker failed to read from Redis: {}", e.getMessage());
+                if (!pause()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void process(JudgeStreamQueue.Entry entry) {
+        inFlight.add(entry.getRecordId());
+        try {
+            if (entry.getDeliveries() > maxDeliveries) {
+                log.warn("Submission {} was delivered {} times without completing, giving up",
+                        entry.getSubmissionId(), entry.getDeliveries());
+                judgeQueueService.abandon(entry.getSubmissionId(), "채점 서버 오류로 채점하지 못했습니다. 다시 제출해주세요.");
+            } else if (!judge(entry)) {
+                return;
+            }
+            streamQueue.complete(entry.getRecordId());
+        } catch (RuntimeException e) {
+            // 결과를 기록하지 못한 항목은 ACK 하지 않으므로 claim-idle-ms 뒤 다른 워커가 다시 채점함
+            log.error("Failed to record judge result for submission {}, leaving it for redelivery: {}",
+                    entry.getSubmissionId(), e.getMessage(), e);
+        } finally {
+            inFlight.remove(entry.getRecordId());
+        }
+    }
+
+    /**
+     * 항목을 채점합니다. 채점 중 예외가 나면 제출을 오류로 기록합니다.
+     *
+     * @return ACK 해도 되면 true (종료 중에 중단된 채점은 다시 채점하도록 false)
+     */
+    private boolean judge(JudgeStreamQueue.Entry entry) {
+        try {
+            judgeQueueService.judgeQueued(entry.getSubmissionId(), entry.getEnqueuedAtMillis(), entry.getJudgeMode());
+            return true;
+        } catch (RuntimeException e) {
+            if (!running || Thread.currentThread().isInterrupted()) {
+                log.info("Judging submission {} was interrupted by shutdown, leaving it for redelivery",
+                        entry.getSubmissionId());
+                return false;
+            }
+            log.error("Failed to judge submission {}: {}", entry.getSubmissionId(), e.getMessage(), e);
+            judgeQueueService.abandon(entry.getSubmissionId(), "채점 중 서버 오류가 발생했습니다. 다시 제출해주세요.");
+            return true;
+        }
+    }
+
+    private void touchInFlight() {
+        try {
+            streamQueue.touch(consumerName, List.copyOf(inFlight));
+        } catch (Exception e) {
+            log.warn("Failed to refresh in-flight judge stream entries: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Redis 오류가 계속될 때 재시도 간격을 둡니다.
+     *
+     * @return 종료 중이면 false
+     */
+    private boolean pause() {
+        try {
+            Thread.sleep(block.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 워커 스레드 정리
+     * 채점 중이던 항목은 ACK 되지 않으므로 claim-idle-ms 뒤 다른 워커가 다시 채점합니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        heartbeat.shutdownNow();
+        consumers.shutdown();
+        try {
+            if (!consumers.awaitTermination(10, TimeUnit.SECONDS)) {
+                consumers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            consumers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
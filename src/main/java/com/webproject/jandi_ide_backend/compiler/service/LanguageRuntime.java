@@ -0,0 +1,117 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import com.webproject.jandi_ide_backend.algorithm.problem.entity.Problem;
+import com.webproject.jandi_ide_backend.algorithm.testCase.entity.TestCase;
+import com.webproject.jandi_ide_backend.compiler.dto.CompileDiagnosticDto;
+import com.webproject.jandi_ide_backend.compiler.dto.ResultDto;
+import com.webproject.jandi_ide_backend.compiler.dto.RuntimeInfoDto;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 언어 런타임
+ *
+ * 지원 언어 하나의 컴파일, 실행, 제한 보정, 워밍업을 담당하는 확장 지점입니다.
+ * 구현체를 빈으로 등록하면 LanguageRuntimeRegistry 가 제출의 language 값으로 찾아 사용하므로,
+ * 새 언어를 추가할 때 CompilerService 를 고칠 필요가 없습니다.
+ *
+ * 생명주기
+ * 1. 애플리케이션 시작 시 discoverToolchains() 가 한 번 호출되어 컴파일러/인터프리터 경로와 버전을 찾습니다.
+ * 2. 툴체인을 모두 찾았으면 warmup() 이 백그라운드에서 한 번 호출됩니다.
+ * 3. 이후 채점(runCode)과 단순 검사(checkCompilation, checkExecution)는 찾은 경로만 사용합니다.
+ */
+public interface LanguageRuntime {
+
+    /**
+     * 제출의 language 값 (소문자, 예: java, python, c++)
+     */
+    String getLanguage();
+
+    /**
+     * 사용자 메시지에 표시할 언어 이름
+     */
+    String getDisplayName();
+
+    /**
+     * 실행 전에 별도의 컴파일 단계가 있는지 여부
+     */
+    boolean isCompiled();
+
+    /**
+     * 컴파일러/인터프리터를 찾습니다. 애플리케이션 시작 시 한 번 호출됩니다.
+     *
+     * @return 찾은 툴체인 목록
+     */
+    List<Toolchain> discoverToolchains();
+
+    /**
+     * 찾은 툴체인 목록
+     */
+    List<Toolchain> getToolchains();
+
+    /**
+     * 필요한 툴체인을 모두 찾아 사용할 수 있는지 여부
+     */
+    boolean isAvailable();
+
+    /**
+     * 측정된 메모리를 메모리 제한과 비교할 때 더해 주는 런타임 자체 메모리 (MB)
+     */
+    default int getMemoryOverheadMb() {
+        return 0;
+    }
+
+    /**
+     * 첫 제출이 느려지지 않도록 미리 준비합니다. 툴체인을 찾은 뒤 백그라운드에서 한 번 호출됩니다.
+     */
+    default void warmup() {
+    }
+
+    /**
+     * 코드를 컴파일하고 모든 테스트 케이스를 실행합니다.
+     *
+     * @param problem 문제 정보 (시간/메모리/출력 제한)
+     * @param testcases 테스트 케이스 목록
+     * @param code 제출 코드
+     * @param userId 사용자 ID
+     * @return 테스트 케이스별 실행 결과 목록
+     */
+    List<ResultDto> runCode(Problem problem, List<TestCase> testcases, String code, Long userId);
+
+    /**
+     * 단순 검사용으로 작업 디렉토리에서 코드를 컴파일합니다. 컴파일 단계가 없는 언어는 소스 파일만 만듭니다.
+     *
+     * @param workspace 작업 디렉토리
+     * @param code 제출 코드
+     * @param output 컴파일 결과 및 오류 메시지를 저장할 StringBuilder
+     * @param diagnostics 컴파일 진단 정보를 담을 목록
+     * @return 컴파일 성공 여부
+     */
+    boolean checkCompilation(Path workspace, String code, StringBuilder output, List<CompileDiagnosticDto> diagnostics);
+
+    /**
+     * 단순 검사용으로 checkCompilation 이 준비한 코드를 실행합니다.
+     *
+     * @param workspace 작업 디렉토리
+     * @param input 표준 입력으로 전달할 데이터
+     * @param output 실행 결과 및 오류 메시지를 저장할 StringBuilder
+     * @return 실행 성공 여부
+     */
+    boolean checkExecution(Path workspace, String input, StringBuilder output);
+
+    /**
+     * 런타임 정보를 응답 DTO로 변환합니다.
+     */
+    default RuntimeInfoDto describe() {
+        return RuntimeInfoDto.builder()
+                .language(getLanguage())
+                .displayName(getDisplayName())
+                .compiled(isCompiled())
+                .available(isAvailable())
+                .memoryOverheadMb(getMemoryOverheadMb())
+                .toolchains(getToolchains().stream().map(Toolchain::toDto).collect(Collectors.toList()))
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import com.webproject.jandi_ide_backend.compiler.dto.RuntimeInfoDto;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 언어 런타임 레지스트리
+ *
+ * 빈으로 등록된 LanguageRuntime 구현체를 language 값으로 찾아 줍니다.
+ * 애플리케이션 시작 시 모든 런타임의 툴체인을 한 번 탐색하고, 사용할 수 있는 런타임은 백그라운드에서 워밍업합니다.
+ */
+@Slf4j
+@Component
+public class LanguageRuntimeRegistry {
+
+    private final Map<String, LanguageRuntime> runtimes = new LinkedHashMap<>();
+
+    /**
+     * 언어 런타임 레지스트리 생성자
+     *
+     * @param runtimes 빈으로 등록된 언어 런타임 목록
+     */
+    public LanguageRuntimeRegistry(List<LanguageRuntime> runtimes) {
+        for (LanguageRuntime runtime : runtimes) {
+            LanguageRuntime previous = this.runtimes.put(normalize(runtime.getLanguage()), runtime);
+            if (previous != null) {
+                throw new IllegalStateException("언어 런타임이 중복 등록되었습니다: " + runtime.getLanguage());
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 툴체인을 탐색하고 워밍업을 시작합니다.
+     */
+    @PostConstruct
+    public void init() {
+        List<LanguageRuntime> available = new ArrayList<>();
+        for (LanguageRuntime runtime : runtimes.values()) {
+            List<Toolchain> toolchains = runtime.discoverToolchains();
+            if (runtime.isAvailable()) {
+                available.add(runtime);
+                log.info("Language runtime {} ready: {}", runtime.getLanguage(), toolchains.stream()
+                        .map(toolchain -> toolchain.getCommand() + " (" + toolchain.getVersion() + ")")
+                        .collect(Collectors.joining(", ")));
+            } else {
+                log.warn("Language runtime {} unavailable: required toolchain not found", runtime.getLanguage());
+            }
+        }
+
+        // 워밍업은 시작을 늦추지 않도록 백그라운드에서 수행
+        Thread warmup = new Thread(() -> {
+            for (LanguageRuntime runtime : available) {
+                try {
+                    runtime.warmup();
+                } catch (RuntimeException e) {
+                    log.warn("Failed to warm up language runtime {}: {}", runtime.getLanguage(), e.getMessage());
+                }
+            }
+        }, "judge-runtime-warmup");
+        warmup.setDaemon(true);
+        warmup.start();
+    }
+
+    /**
+     * language 값으로 런타임을 찾습니다. (대소문자 구분 없음)
+     *
+     * @param language 제출의 language 값
+     * @return 런타임, 지원하지 않는 언어이면 empty
+     */
+    public Optional<LanguageRuntime> find(String language) {
+        if (language == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(runtimes.get(normalize(language)));
+    }
+
+    /**
+     * language 값으로 런타임을 찾습니다.
+     *
+     * @param language 제출의 language 값
+     * @return 런타임
+     * @throws IllegalArgumentException 지원하지 않는 언어인 경우
+     */
+    public LanguageRuntime get(String language) {
+        return find(language).orElseThrow(() -> new IllegalArgumentException("지원하지 않는 언어입니다: " + language));
+    }
+
+    /**
+     * 지원 언어 목록 (예: java, python, c++)
+     */
+    public List<String> getLanguages() {
+        return new ArrayList<>(runtimes.keySet());
+    }
+
+    /**
+     * 모든 런타임의 정보를 반환합니다.
+     */
+    public List<RuntimeInfoDto> describe() {
+        return runtimes.values().stream()
+                .map(LanguageRuntime::describe)
+                .collect(Collectors.toList());
+    }
+
+    private static String normalize(String language) {
+        return language.trim().toLowerCase(Locale.ROOT);
+    }
+}
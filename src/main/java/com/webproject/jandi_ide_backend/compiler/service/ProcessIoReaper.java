@@ -0,0 +1,185 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 공유 프로세스 입출력 처리기
+ *
+ * 채점 실행기와 단순 컴파일/실행 검사가 자식 프로세스의 표준 입출력을 처리할 때 공통으로 사용하는 컴포넌트입니다.
+ * 호출마다 스레드 풀을 만들지 않고 하나의 작은 입출력 스레드 풀을 재사용하므로, 제출이 몰려도 스레드 수가 일정하게 유지됩니다.
+ *
+ * - 입출력 스레드는 max-threads 개까지 만들어지고, 유휴 상태가 지속되면 정리됩니다.
+ * - 출력은 제한 크기까지만 모으며, 넘으면 프로세스를 종료합니다.
+ * - 프로세스 종료는 ProcessHandle.onExit() 콜백으로 감지합니다.
+ * - 실행 중인 프로세스 수(judge.process.active)와 처리 대기 중인 입출력 작업 수(judge.process.io.pending)를 지표로 노출합니다.
+ */
+@Slf4j
+@Component
+public class ProcessIoReaper {
+
+    private static final int READ_BUFFER_SIZE = 8192;
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 30;
+
+    /**
+     * 제한 크기까지 읽은 스트림 출력
+     */
+    @Getter
+    public static class StreamOutput {
+        private final String text;
+        // 출력이 제한을 넘어 읽기를 멈추고 프로세스를 종료했는지 여부
+        private final boolean limitExceeded;
+
+        StreamOutput(String text, boolean limitExceeded) {
+            this.text = text;
+            this.limitExceeded = limitExceeded;
+        }
+    }
+
+    private final ThreadPoolExecutor ioPool;
+    private final AtomicInteger activeProcesses = new AtomicInteger();
+    private final AtomicInteger pendingTasks = new AtomicInteger();
+
+    /**
+     * 공유 프로세스 입출력 처리기 생성자
+     *
+     * @param maxThreads 입출력 스레드 최대 수 (동시에 실행되는 프로세스 수 x 2 정도가 적당)
+     * @param meterRegistry 지표 레지스트리
+     */
+    public ProcessIoReaper(
+            @Value("${compiler.process-io.max-threads:32}") int maxThreads,
+            MeterRegistry meterRegistry) {
+        int threads = Math.max(2, maxThreads);
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        this.ioPool = new ThreadPoolExecutor(
+                threads, threads,
+                IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "judge-process-io-" + threadNumber.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.ioPool.allowCoreThreadTimeOut(true);
+
+        Gauge.builder("judge.process.active", activeProcesses, AtomicInteger::get)
+                .description("실행 중인 채점 프로세스 수")
+                .register(meterRegistry);
+        Gauge.builder("judge.process.io.pending", pendingTasks, AtomicInteger::get)
+                .description("처리 중이거나 대기 중인 프로세스 입출력 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("judge.process.io.threads", ioPool, ThreadPoolExecutor::getPoolSize)
+                .description("프로세스 입출력 스레드 수")
+                .register(meterRegistry);
+
+        log.info("Process I/O reaper initialized: maxThreads={}", threads);
+    }
+
+    /**
+     * 프로세스를 실행 중인 프로세스로 등록하고, 종료되면 등록을 해제합니다.
+     *
+     * @param process 시작된 프로세스
+     * @return 프로세스가 종료되면 완료되는 future (종료 후 처리를 콜백으로 연결할 수 있음)
+     */
+    public CompletableFuture<Process> track(Process process) {
+        activeProcesses.incrementAndGet();
+        return process.onExit().whenComplete((exited, error) -> activeProcesses.decrementAndGet());
+    }
+
+    /**
+     * 입출력 작업을 공유 스레드 풀에서 실행합니다.
+     *
+     * @param task 실행할 작업
+     * @return 작업 결과 future
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        pendingTasks.incrementAndGet();
+        try {
+            ioPool.execute(() -> {
+                try {
+                    future.complete(task.call());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    pendingTasks.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingTasks.decrementAndGet();
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * 프로세스 표준 입력에 내용을 쓰고 닫습니다.
+     * 프로세스가 입력을 다 읽지 않고 종료한 경우의 쓰기 오류는 무시합니다.
+     *
+     * @param process 대상 프로세스
+     * @param input 표준 입력으로 전달할 내용 (null 이면 바로 닫음)
+     * @return 쓰기가 끝나면 완료되는 future
+     */
+    public CompletableFuture<Void> write(Process process, String input) {
+        return submit(() -> {
+            try (OutputStream stdin = process.getOutputStream()) {
+                if (input != null) {
+                    stdin.write(input.getBytes(StandardCharsets.UTF_8));
+                }
+            } catch (IOException e) {
+                log.debug("Failed to write process input: {}", e.getMessage());
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 프로세스 출력 스트림을 끝까지 읽습니다.
+     * 출력이 제한을 넘으면 제한까지만 보관하고 프로세스를 종료합니다.
+     *
+     * @param process 대상 프로세스
+     * @param stream 읽을 출력 스트림 (표준 출력 또는 표준 에러)
+     * @param limitBytes 보관할 최대 크기 (바이트)
+     * @return 읽은 출력 future
+     */
+    public CompletableFuture<StreamOutput> read(Process process, InputStream stream, long limitBytes) {
+        return submit(() -> {
+            ByteArrayOutputStream collected = new ByteArrayOutputStream();
+            byte[] buffer = new byte[READ_BUFFER_SIZE];
+            try (InputStream in = stream) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    if (collected.size() + read > limitBytes) {
+                        // 제한까지만 보관하고 즉시 종료 (무한 출력이 서버 메모리를 채우지 않도록)
+                        collected.write(buffer, 0, (int) (limitBytes - collected.size()));
+                        process.destroyForcibly();
+                        return new StreamOutput(collected.toString(StandardCharsets.UTF_8), true);
+                    }
+                    collected.write(buffer, 0, read);
+                }
+            }
+            return new StreamOutput(collected.toString(StandardCharsets.UTF_8), false);
+        });
+    }
+
+    /**
+     * 애플리케이션 종료 시 스레드 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        ioPool.shutdownNow();
+    }
+}
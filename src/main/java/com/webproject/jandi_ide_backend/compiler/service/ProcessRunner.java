@@ -0,0 +1,811 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import com.webproject.jandi_ide_backend.algorithm.testCase.entity.TestCase;
+import com.webproject.jandi_ide_backend.compiler.checker.OutputChecker;
+import com.webproject.jandi_ide_backend.compiler.dto.TimeLimitPolicy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 채점 프로세스 실행기
+ *
+ * 언어별 컴파일러가 제출 코드를 실행할 때 공통으로 사용하는 프로세스 실행 컴포넌트입니다.
+ * 표준 입력 전달과 출력 수집은 공유 입출력 처리기(ProcessIoReaper)에 맡기고, 자식 프로세스의 실제 자원 사용량을 측정합니다.
+ *
+ * 자원 측정 방식 (compiler.accounting.mode)
+ * - cgroup: 실행마다 cgroup v2 하위 그룹을 만들어 memory.peak, cpu.stat 으로 정확히 측정하고 memory.max 로 제한합니다.
+ * - proc: /proc/{pid}/status 의 VmHWM(최대 RSS)과 /proc/{pid}/stat 의 user+sys CPU 시간을 주기적으로 샘플링합니다.
+ * - auto: cgroup-root 가 설정되어 있고 사용할 수 있으면 cgroup, 아니면 proc (기본값)
+ *
+ * 시간 제한 판정 방식 (compiler.time-limit.policy)
+ * - cpu: CPU 시간이 제한을 넘으면 실행 중에도 바로 종료하며, 벽시계 시간은 제한의 wall-multiplier 배까지 허용합니다. (기본값)
+ *        서버가 바빠 대기 시간이 늘어나도 판정이 흔들리지 않습니다.
+ * - wall: 기존과 같이 벽시계 시간으로 판정합니다.
+ * 두 방식 모두 시간 측정은 프로세스 생성 직전부터 시작합니다.
+ *
+ * 출력 처리 방식 (compiler.output.mode)
+ * - streaming: 입력 파일을 표준 입력으로, 표준 출력을 파일로 리다이렉트하고 출력 파일을 따라 읽으며 기대 출력과 바로 비교합니다.
+ *              첫 불일치에서 실행을 중단하며, 출력은 앞부분만 결과에 보관합니다. (기본값)
+ * - buffered: 파이프로 입출력하고 전체 출력을 문자열로 모아 반환합니다.
+ *
+ * 출력 제한 (compiler.output.default-limit-kb, 문제별 outputLimit)
+ * 두 방식 모두 출력이 제한을 넘는 즉시 프로세스를 종료하고 출력 초과로 표시합니다.
+ * 결과에 보관하는 출력(storedOutput)은 compiler.output.max-stored-bytes 까지만 담고 나머지는 생략 표시로 대신합니다.
+ */
+@Slf4j
+@Component
+public class ProcessRunner {
+
+    private static final String MODE_CGROUP = "cgroup";
+    private static final String MODE_PROC = "proc";
+
+    // /proc/{pid}/stat 의 CPU 시간 단위 (USER_HZ, Linux 에서는 사실상 항상 100)
+    private static final long CLOCK_TICKS_PER_SECOND = 100;
+
+    private static final String OUTPUT_STREAMING = "streaming";
+    private static final int READ_BUFFER_SIZE = 8192;
+    // 프로세스 종료 후 출력 읽기가 끝나기를 기다리는 최대 시간
+    private static final long OUTPUT_DRAIN_TIMEOUT_SECONDS = 5;
+    // 출력 파일에 새 내용이 없을 때 다시 읽기까지 기다리는 시간
+    private static final long TAIL_POLL_NANOS = TimeUnit.MICROSECONDS.toNanos(500);
+
+    /**
+     * 프로세스 실행 결과
+     */
+    @Getter
+    public static class ProcessResult {
+        // 표준 출력과 표준 에러를 합친 출력 (streaming 방식에서는 앞부분만)
+        private final String output;
+        // 결과에 보관할 출력 (max-stored-bytes 까지, 넘으면 생략 표시 포함)
+        private final String storedOutput;
+        // 출력 제한을 넘겨 강제 종료되었는지 여부
+        private final boolean outputLimitExceeded;
+        // streaming 방식의 기대 출력 일치 여부 (buffered 방식이면 null)
+        private final Boolean outputMatched;
+        private final int exitCode;
+        // 시간 제한을 넘겨 강제 종료되었는지 여부
+        private final boolean timedOut;
+        // 프로세스 생성부터 종료까지의 벽시계 시간 (ms)
+        private final double wallTimeMillis;
+        private final double cpuTimeMillis;
+        private final long peakMemoryKb;
+        // cgroup 메모리 제한으로 강제 종료되었는지 여부
+        private final boolean oomKilled;
+        // 측정 방식 (cgroup 또는 proc)
+        private final String accounting;
+        // 적용된 시간 제한 판정 방식
+        private final TimeLimitPolicy timePolicy;
+        private final long timeLimitMillis;
+
+        ProcessResult(String output, String storedOutput, boolean outputLimitExceeded, Boolean outputMatched,
+                      int exitCode, boolean timedOut, double wallTimeMillis, double cpuTimeMillis, long peakMemoryKb,
+                      boolean oomKilled, String accounting, TimeLimitPolicy timePolicy, long timeLimitMillis) {
+            this.output = output;
+            this.storedOutput = storedOutput;
+            this.outputLimitExceeded = outputLimitExceeded;
+            this.outputMatched = outputMatched;
+            this.exitCode = exitCode;
+            this.timedOut = timedOut;
+            this.wallTimeMillis = wallTimeMillis;
+            this.cpuTimeMillis = cpuTimeMillis;
+            this.peakMemoryKb = peakMemoryKb;
+            this.oomKilled = oomKilled;
+            this.accounting = accounting;
+            this.timePolicy = timePolicy;
+            this.timeLimitMillis = timeLimitMillis;
+        }
+
+        /**
+         * 최대 메모리 사용량 (MB)
+         */
+        public double getPeakMemoryMB() {
+            return peakMemoryKb / 1024.0;
+        }
+
+        /**
+         * 적용된 판정 방식으로 시간 제한을 넘었는지 확인합니다.
+         */
+        public boolean isTimeLimitExceeded() {
+            if (timedOut) {
+                return true;
+            }
+            double measured = timePolicy == TimeLimitPolicy.CPU ? cpuTimeMillis : wallTimeMillis;
+            return measured > timeLimitMillis;
+        }
+
+        /**
+         * 메모리 사용량이 제한을 넘었는지 확인합니다.
+         *
+         * @param memoryLimitMb 메모리 제한 (MB)
+         */
+        public boolean exceedsMemoryLimit(int memoryLimitMb) {
+            return oomKilled || peakMemoryKb > memoryLimitMb * 1024L;
+        }
+    }
+
+    private final boolean cgroupEnabled;
+    private final Path cgroupRoot;
+    private final long sampleIntervalMillis;
+    private final TimeLimitPolicy timePolicy;
+    private final double wallMultiplier;
+    private final boolean streaming;
+    private final long defaultOutputLimitBytes;
+    private final int maxStoredBytes;
+    private final AtomicInteger runNumber = new AtomicInteger(1);
+
+    private final ProcessIoReaper ioReaper;
+    private final TestDataStore testDataStore;
+    private final ScheduledExecutorService sampler;
+
+    /**
+     * 채점 프로세스 실행기 생성자
+     *
+     * @param mode 자원 측정 방식 (auto, cgroup, proc)
+     * @param cgroupRoot 실행별 cgroup 을 만들 cgroup v2 디렉토리 (memory, cpu 컨트롤러가 위임되어 있어야 함)
+     * @param sampleIntervalMillis 자원 사용량 샘플링 주기 (ms)
+     * @param timePolicy 시간 제한 판정 방식 (cpu 또는 wall)
+     * @param wallMultiplier cpu 방식에서 허용할 벽시계 시간 (시간 제한의 배수)
+     * @param outputMode 출력 처리 방식 (streaming 또는 buffered)
+     * @param defaultOutputLimitKb 문제에 출력 제한이 없을 때 적용할 출력 제한 (KB)
+     * @param maxStoredBytes 실행 결과에 보관할 출력의 최대 크기 (바이트)
+     * @param ioReaper 공유 프로세스 입출력 처리기
+     * @param testDataStore 파일 기반 테스트 데이터 저장소
+     */
+    public ProcessRunner(
+            @Value("${compiler.accounting.mode:auto}") String mode,
+            @Value("${compiler.accounting.cgroup-root:}") String cgroupRoot,
+            @Value("${compiler.accounting.sample-interval-ms:10}") long sampleIntervalMillis,
+            @Value("${compiler.time-limit.policy:cpu}") String timePolicy,
+            @Value("${compiler.time-limit.wall-multiplier:3}") double wallMultiplier,
+            @Value("${compiler.output.mode:streaming}") String outputMode,
+            @Value("${compiler.output.default-limit-kb:65536}") long defaultOutputLimitKb,
+            @Value("${compiler.output.max-stored-bytes:65536}") int maxStoredBytes,
+            ProcessIoReaper ioReaper,
+            TestDataStore testDataStore) {
+        this.cgroupRoot = cgroupRoot.isBlank() ? null : Paths.get(cgroupRoot);
+        this.sampleIntervalMillis = Math.max(1, sampleIntervalMillis);
+        this.timePolicy = TimeLimitPolicy.valueOf(timePolicy.toUpperCase(Locale.ROOT));
+        this.wallMultiplier = Math.max(1.0, wallMultiplier);
+        this.streaming = OUTPUT_STREAMING.equalsIgnoreCase(outputMode);
+        this.defaultOutputLimitBytes = Math.max(1, defaultOutputLimitKb) * 1024;
+        this.maxStoredBytes = Math.max(1, maxStoredBytes);
+
+        boolean wantCgroup = MODE_CGROUP.equalsIgnoreCase(mode) || ("auto".equalsIgnoreCase(mode) && this.cgroupRoot != null);
+        this.cgroupEnabled = wantCgroup && prepareCgroupRoot();
+        if (MODE_CGROUP.equalsIgnoreCase(mode) && !cgroupEnabled) {
+            log.warn("cgroup v2 accounting is not available at {}, falling back to /proc sampling", cgroupRoot);
+        }
+
+        this.ioReaper = ioReaper;
+        this.testDataStore = testDataStore;
+        this.sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "judge-process-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        log.info("Process accounting: {}, time limit policy: {} (wall x{}), output mode: {} (default limit {}KB)",
+                cgroupEnabled ? MODE_CGROUP + " (" + this.cgroupRoot + ")" : MODE_PROC, this.timePolicy, this.wallMultiplier,
+                streaming ? OUTPUT_STREAMING : "buffered", defaultOutputLimitKb);
+    }
+
+    /**
+     * streaming 출력 방식이 켜져 있는지 확인합니다.
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * 적용 중인 시간 제한 판정 방식
+     */
+    public TimeLimitPolicy getTimePolicy() {
+        return timePolicy;
+    }
+
+    /**
+     * 판정 방식에 따라 허용하는 벽시계 시간을 계산합니다.
+     *
+     * @param timeLimitMillis 문제의 시간 제한 (ms)
+     * @return cpu 방식이면 시간 제한의 wall-multiplier 배, wall 방식이면 시간 제한 그대로
+     */
+    public long wallTimeLimitMillis(long timeLimitMillis) {
+        return timePolicy == TimeLimitPolicy.CPU ? (long) (timeLimitMillis * wallMultiplier) : timeLimitMillis;
+    }
+
+    /**
+     * 문제의 출력 제한을 바이트 단위로 계산합니다.
+     *
+     * @param outputLimitKb 문제의 출력 제한 (KB), null 이면 기본값
+     * @return 출력 제한 (바이트)
+     */
+    public long outputLimitBytes(Integer outputLimitKb) {
+        return outputLimitKb != null && outputLimitKb > 0 ? outputLimitKb * 1024L : defaultOutputLimitBytes;
+    }
+
+    /**
+     * 출력을 결과에 보관할 크기로 자릅니다.
+     *
+     * @param output 전체 출력
+     * @return max-stored-bytes 이하면 그대로, 넘으면 앞부분과 생략 표시
+     */
+    public String storedOutput(String output) {
+        byte[] bytes = output.getBytes(StandardCharsets.UTF_8);
+        return storedOutput(bytes, bytes.length, bytes.length);
+    }
+
+    /**
+     * 출력 파일의 앞부분을 결과에 보관할 크기만큼 읽습니다.
+     *
+     * @param outputFile 출력 파일
+     * @return max-stored-bytes 이하면 전체, 넘으면 앞부분과 생략 표시
+     * @throws IOException 파일을 읽지 못한 경우
+     */
+    public String storedOutput(Path outputFile) throws IOException {
+        long totalBytes = Files.size(outputFile);
+        try (InputStream in = Files.newInputStream(outputFile)) {
+            byte[] prefix = in.readNBytes(maxStoredBytes);
+            return storedOutput(prefix, prefix.length, totalBytes);
+        }
+    }
+
+    private String storedOutput(byte[] bytes, int length, long totalBytes) {
+        if (totalBytes <= maxStoredBytes) {
+            return new String(bytes, 0, length, StandardCharsets.UTF_8);
+        }
+        return new String(bytes, 0, Math.min(length, maxStoredBytes), StandardCharsets.UTF_8)
+                + "\n... (출력이 너무 길어 전체 " + totalBytes + "바이트 중 앞 " + maxStoredBytes + "바이트만 표시합니다)";
+    }
+
+    /**
+     * 테스트 케이스 하나를 실행합니다. 출력 방식과 테스트 데이터 저장소 사용 여부에 따라 입력을 전달하는 방법을 고릅니다.
+     * - streaming + 테스트 데이터 저장소: 저장된 입력 파일을 리다이렉트하고 출력 검사기로 비교
+     * - streaming: 실행마다 입력 파일을 만들어 리다이렉트하고 출력 검사기로 비교
+     * - buffered: 입력을 파이프로 전달하고 전체 출력을 수집 (비교는 호출하는 쪽에서 수행)
+     *
+     * @param command 실행할 명령
+     * @param workingDir 작업 디렉토리
+     * @param testCase 실행할 테스트 케이스
+     * @param checker 출력 검사기 (streaming 방식에서만 사용)
+     * @param timeLimitMillis 문제의 시간 제한 (ms), 판정 방식에 따라 CPU 또는 벽시계 시간에 적용
+     * @param memoryLimitMb 메모리 제한 (MB), cgroup 방식에서는 memory.max 로 강제
+     * @param outputLimitBytes 출력 제한 (바이트), 넘으면 즉시 종료
+     * @return 실행 결과
+     * @throws IOException 프로세스를 시작하지 못하거나 입출력 파일을 만들지 못한 경우
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    public ProcessResult runTestCase(List<String> command, Path workingDir, TestCase testCase, OutputChecker checker,
+                                     long timeLimitMillis, int memoryLimitMb, long outputLimitBytes)
+            throws IOException, InterruptedException {
+        if (streaming && testDataStore.isEnabled()) {
+            Path inputFile = testDataStore.get(testCase).getInputFile();
+            return runStreaming(command, workingDir, inputFile, checker, timeLimitMillis, memoryLimitMb, outputLimitBytes);
+        }
+        String formattedInput = TestDataStore.formatInput(testCase.getInput());
+        return streaming
+                ? runStreaming(command, workingDir, formattedInput, checker, timeLimitMillis, memoryLimitMb, outputLimitBytes)
+                : run(command, workingDir, formattedInput, timeLimitMillis, memoryLimitMb, outputLimitBytes);
+    }
+
+    /**
+     * 명령을 실행하고 전체 출력과 자원 사용량을 반환합니다. (buffered 방식)
+     *
+     * @param command 실행할 명령
+     * @param workingDir 작업 디렉토리
+     * @param input 표준 입력으로 전달할 내용
+     * @param timeLimitMillis 문제의 시간 제한 (ms), 판정 방식에 따라 CPU 또는 벽시계 시간에 적용
+     * @param memoryLimitMb 메모리 제한 (MB), cgroup 방식에서는 memory.max 로 강제
+     * @param outputLimitBytes 출력 제한 (바이트), 넘으면 즉시 종료
+     * @return 실행 결과
+     * @throws IOException 프로세스를 시작하지 못한 경우
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    public ProcessResult run(List<String> command, Path workingDir, String input, long timeLimitMillis,
+                             int memoryLimitMb, long outputLimitBytes) throws IOException, InterruptedException {
+        return execute(command, workingDir, new PipeIo(input, outputLimitBytes), timeLimitMillis, memoryLimitMb);
+    }
+
+    /**
+     * 입력 파일을 표준 입력으로, 표준 출력을 파일로 리다이렉트해 명령을 실행하고
+     * 출력이 기록되는 대로 출력 검사기로 비교합니다. (streaming 방식)
+     * 불일치가 발견되면 즉시 프로세스를 종료하며, 결과의 출력에는 앞부분만 담깁니다.
+     *
+     * @param command 실행할 명령
+     * @param workingDir 작업 디렉토리 (입출력 파일이 만들어짐)
+     * @param input 표준 입력으로 전달할 내용
+     * @param checker 출력 검사기
+     * @param timeLimitMillis 문제의 시간 제한 (ms), 판정 방식에 따라 CPU 또는 벽시계 시간에 적용
+     * @param memoryLimitMb 메모리 제한 (MB), cgroup 방식에서는 memory.max 로 강제
+     * @param outputLimitBytes 출력 제한 (바이트), 넘으면 즉시 종료
+     * @return 실행 결과 (outputMatched 에 비교 결과)
+     * @throws IOException 프로세스를 시작하지 못하거나 입출력 파일을 만들지 못한 경우
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    public ProcessResult runStreaming(List<String> command, Path workingDir, String input, OutputChecker checker,
+                                      long timeLimitMillis, int memoryLimitMb, long outputLimitBytes)
+            throws IOException, InterruptedException {
+        FileIo io = new FileIo(workingDir, input, checker, outputLimitBytes);
+        try {
+            return execute(command, workingDir, io, timeLimitMillis, memoryLimitMb);
+        } finally {
+            io.close();
+        }
+    }
+
+    /**
+     * TestDataStore에 저장된 입력 파일을 표준 입력으로 바로 연결하고, 출력 검사기로 비교합니다. (streaming 방식)
+     * 입력을 복사하거나 변환하지 않으므로 입출력이 큰 테스트 케이스에서도 힙 사용량이 늘지 않습니다.
+     *
+     * @param command 실행할 명령
+     * @param workingDir 작업 디렉토리 (출력 파일이 만들어짐)
+     * @param inputFile 테스트 케이스의 입력 파일 (실행 후에도 유지)
+     * @param checker 출력 검사기
+     * @param timeLimitMillis 문제의 시간 제한 (ms), 판정 방식에 따라 CPU 또는 벽시계 시간에 적용
+     * @param memoryLimitMb 메모리 제한 (MB), cgroup 방식에서는 memory.max 로 강제
+     * @param outputLimitBytes 출력 제한 (바이트), 넘으면 즉시 종료
+     * @return 실행 결과 (outputMatched 에 비교 결과)
+     * @throws IOException 프로세스를 시작하지 못하거나 출력 파일을 만들지 못한 경우
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    public ProcessResult runStreaming(List<String> command, Path workingDir, Path inputFile, OutputChecker checker,
+                                      long timeLimitMillis, int memoryLimitMb, long outputLimitBytes)
+            throws IOException, InterruptedException {
+        FileIo io = new FileIo(workingDir, inputFile, checker, outputLimitBytes);
+        try {
+            return execute(command, workingDir, io, timeLimitMillis, memoryLimitMb);
+        } finally {
+            io.close();
+        }
+    }
+
+    private ProcessResult execute(List<String> command, Path workingDir, ProcessIo io,
+                                  long timeLimitMillis, int memoryLimitMb) throws IOException, InterruptedException {
+        Path cgroup = cgroupEnabled ? createRunCgroup(memoryLimitMb) : null;
+
+        List<String> fullCommand = new ArrayList<>();
+        if (cgroup != null) {
+            // 셸이 자신을 cgroup 에 넣은 뒤 exec 하므로 제출 코드의 모든 메모리/CPU 사용량이 cgroup 에 기록됨
+            fullCommand.addAll(List.of("/bin/sh", "-c", "echo $$ > \"$0\" && exec \"$@\"",
+                    cgroup.resolve("cgroup.procs").toString()));
+        }
+        fullCommand.addAll(command);
+
+        ProcessBuilder pb = new ProcessBuilder(fullCommand);
+        pb.directory(workingDir.toFile());
+        pb.redirectErrorStream(true); // 표준 에러를 표준 출력으로 리다이렉트
+        io.configure(pb);
+
+        // 시간 측정은 입력 전달 전, 프로세스 생성 시점부터 시작
+        long startNanos = System.nanoTime();
+        Process process;
+        try {
+            process = pb.start();
+        } catch (IOException e) {
+            removeCgroup(cgroup);
+            throw e;
+        }
+
+        UsageSample usage = new UsageSample(process, cgroup, timeLimitMillis);
+        ScheduledFuture<?> sampling = sampler.scheduleAtFixedRate(
+                usage::sample, 0, sampleIntervalMillis, TimeUnit.MILLISECONDS);
+        // 종료되는 즉시 샘플링을 멈춤
+        CompletableFuture<Process> exit = ioReaper.track(process);
+        exit.thenRun(() -> sampling.cancel(false));
+
+        io.started(process);
+
+        try {
+            long wallDeadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(wallTimeLimitMillis(timeLimitMillis));
+            boolean completed = awaitExit(exit, wallDeadlineNanos - System.nanoTime());
+            if (!completed) {
+                process.destroyForcibly();
+                process.waitFor();
+            }
+            double wallTimeMillis = (System.nanoTime() - startNanos) / 1_000_000.0;
+            sampling.cancel(false);
+
+            String output = io.finish();
+
+            long peakMemoryKb;
+            double cpuTimeMillis;
+            boolean oomKilled = false;
+            if (cgroup != null) {
+                peakMemoryKb = readCgroupLong(cgroup.resolve("memory.peak")) / 1024;
+                cpuTimeMillis = readCgroupStat(cgroup.resolve("cpu.stat"), "usage_usec") / 1000.0;
+                oomKilled = readCgroupStat(cgroup.resolve("memory.events"), "oom_kill") > 0;
+            } else {
+                peakMemoryKb = usage.peakMemoryKb;
+                cpuTimeMillis = usage.cpuMillis;
+            }
+
+            boolean timedOut = !completed || usage.cpuLimitKilled;
+            return new ProcessResult(output, io.storedOutput(), io.outputLimitExceeded(), io.outputMatched(),
+                    timedOut ? -1 : process.exitValue(), timedOut, wallTimeMillis, cpuTimeMillis, peakMemoryKb, oomKilled,
+                    cgroup != null ? MODE_CGROUP : MODE_PROC, timePolicy, timeLimitMillis);
+        } finally {
+            sampling.cancel(false);
+            process.destroyForcibly();
+            removeCgroup(cgroup);
+        }
+    }
+
+    private boolean awaitExit(CompletableFuture<Process> exit, long timeoutNanos) throws InterruptedException {
+        try {
+            exit.get(Math.max(0, timeoutNanos), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("프로세스 종료를 기다리지 못했습니다", e.getCause());
+        }
+    }
+
+    /**
+     * 프로세스 표준 입출력 처리 방식
+     */
+    private interface ProcessIo {
+        void configure(ProcessBuilder pb);
+
+        void started(Process process);
+
+        // 프로세스 종료 후 호출되어 결과에 담을 출력을 반환
+        String finish() throws InterruptedException;
+
+        // finish() 이후 호출되어 결과에 보관할 출력을 반환
+        String storedOutput();
+
+        boolean outputLimitExceeded();
+
+        Boolean outputMatched();
+    }
+
+    /**
+     * 파이프로 입력을 쓰고 전체 출력을 모으는 방식 (buffered)
+     * 출력은 출력 제한까지만 모으며, 넘으면 프로세스를 종료합니다.
+     */
+    private class PipeIo implements ProcessIo {
+        private final String input;
+        private final long outputLimitBytes;
+        private boolean outputExceeded;
+        private CompletableFuture<Void> writer;
+        private CompletableFuture<ProcessIoReaper.StreamOutput> reader;
+        private String output = "";
+
+        PipeIo(String input, long outputLimitBytes) {
+            this.input = input;
+            this.outputLimitBytes = outputLimitBytes;
+        }
+
+        @Override
+        public void configure(ProcessBuilder pb) {
+            // 기본 파이프 사용
+        }
+
+        @Override
+        public void started(Process process) {
+            writer = ioReaper.write(process, input);
+            reader = ioReaper.read(process, process.getInputStream(), outputLimitBytes);
+        }
+
+        @Override
+        public String finish() throws InterruptedException {
+            try {
+                ProcessIoReaper.StreamOutput read = reader.get(OUTPUT_DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                output = read.getText();
+                outputExceeded = read.isLimitExceeded();
+            } catch (ExecutionException e) {
+                log.debug("Failed to read process output: {}", e.getCause().getMessage());
+            } catch (TimeoutException e) {
+                // 손자 프로세스가 출력 파이프를 잡고 있는 경우
+                reader.cancel(true);
+            } finally {
+                writer.cancel(true);
+            }
+            return output;
+        }
+
+        @Override
+        public String storedOutput() {
+            return ProcessRunner.this.storedOutput(output);
+        }
+
+        @Override
+        public boolean outputLimitExceeded() {
+            return outputExceeded;
+        }
+
+        @Override
+        public Boolean outputMatched() {
+            return null;
+        }
+    }
+
+    /**
+     * 입출력을 파일로 리다이렉트하고 출력 파일을 따라 읽으며 비교하는 방식 (streaming)
+     * 출력이 파일로 가므로 파이프가 가득 차 프로세스가 멈추는 일이 없습니다.
+     * 출력 파일 크기가 출력 제한을 넘으면 비교가 뒤처져 있어도 바로 프로세스를 종료합니다.
+     */
+    private class FileIo implements ProcessIo {
+        private final Path inputFile;
+        // 실행마다 만든 입력 파일이면 종료 후 삭제 (TestDataStore 파일은 유지)
+        private final boolean ownsInputFile;
+        private final Path outputFile;
+        private final OutputChecker checker;
+        private final long outputLimitBytes;
+        private CompletableFuture<Void> follower;
+        private volatile boolean drained;
+        private volatile boolean outputExceeded;
+        private String stored = "";
+
+        FileIo(Path workingDir, String input, OutputChecker checker,
+               long outputLimitBytes) throws IOException {
+            // 같은 작업 디렉토리의 테스트 케이스가 병렬로 실행되므로 입출력 파일은 실행마다 따로 만듦
+            this.inputFile = Files.createTempFile(workingDir, "input-", ".txt");
+            this.ownsInputFile = true;
+            this.outputFile = Files.createTempFile(workingDir, "output-", ".txt");
+            this.checker = checker;
+            this.outputLimitBytes = outputLimitBytes;
+            Files.writeString(inputFile, input != null ? input : "", StandardCharsets.UTF_8);
+        }
+
+        FileIo(Path workingDir, Path inputFile, OutputChecker checker,
+               long outputLimitBytes) throws IOException {
+            this.inputFile = inputFile;
+            this.ownsInputFile = false;
+            this.outputFile = Files.createTempFile(workingDir, "output-", ".txt");
+            this.checker = checker;
+            this.outputLimitBytes = outputLimitBytes;
+        }
+
+        @Override
+        public void configure(ProcessBuilder pb) {
+            pb.redirectInput(inputFile.toFile());
+            pb.redirectOutput(outputFile.toFile());
+        }
+
+        @Override
+        public void started(Process process) {
+            follower = ioReaper.submit(() -> follow(process));
+        }
+
+        /**
+         * 출력 파일에 새로 기록된 내용을 읽어 비교합니다. 불일치가 발견되거나 출력 제한을 넘으면 프로세스를 종료합니다.
+         */
+        private Void follow(Process process) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+            try (FileChannel channel = FileChannel.open(outputFile, StandardOpenOption.READ)) {
+                while (true) {
+                    // 종료 여부를 먼저 확인해야 종료 직전에 기록된 출력까지 빠짐없이 읽음
+                    boolean alive = process.isAlive();
+                    if (channel.size() > outputLimitBytes) {
+                        outputExceeded = true;
+                        process.destroyForcibly();
+                        return null;
+                    }
+                    int read = channel.read(buffer);
+                    if (read > 0) {
+                        if (!checker.accept(buffer.array(), 0, read)) {
+                            process.destroyForcibly();
+                            return null;
+                        }
+                        buffer.clear();
+                        continue;
+                    }
+                    if (!alive) {
+                        drained = true;
+                        return null;
+                    }
+                    LockSupport.parkNanos(TAIL_POLL_NANOS);
+                }
+            }
+        }
+
+        @Override
+        public String finish() throws InterruptedException {
+            try {
+                follower.get(OUTPUT_DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                log.debug("Failed to follow process output: {}", e.getCause().getMessage());
+            } catch (TimeoutException e) {
+                follower.cancel(true);
+            }
+            stored = readStoredOutput();
+            return stored;
+        }
+
+        @Override
+        public String storedOutput() {
+            return stored;
+        }
+
+        @Override
+        public boolean outputLimitExceeded() {
+            return outputExceeded;
+        }
+
+        @Override
+        public Boolean outputMatched() {
+            return drained && !outputExceeded && checker.finish();
+        }
+
+        private String readStoredOutput() {
+            try {
+                return ProcessRunner.this.storedOutput(outputFile);
+            } catch (IOException e) {
+                log.debug("Failed to read process output: {}", e.getMessage());
+                return "";
+            }
+        }
+
+        void close() {
+            try {
+                if (ownsInputFile) {
+                    Files.deleteIfExists(inputFile);
+                }
+                Files.deleteIfExists(outputFile);
+            } catch (IOException e) {
+                log.debug("Failed to delete process I/O files: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * cgroup v2 루트를 확인하고 하위 그룹에서 memory, cpu 컨트롤러를 쓸 수 있도록 설정합니다.
+     */
+    private boolean prepareCgroupRoot() {
+        if (cgroupRoot == null || !Files.isDirectory(cgroupRoot) || !Files.exists(cgroupRoot.resolve("cgroup.controllers"))) {
+            return false;
+        }
+        try {
+            String controllers = Files.readString(cgroupRoot.resolve("cgroup.subtree_control"));
+            if (!controllers.contains("memory") || !controllers.contains("cpu")) {
+                Files.writeString(cgroupRoot.resolve("cgroup.subtree_control"), "+memory +cpu");
+            }
+            return true;
+        } catch (IOException e) {
+            log.warn("Cannot enable memory/cpu controllers under {}: {}", cgroupRoot, e.getMessage());
+            return false;
+        }
+    }
+
+    private Path createRunCgroup(int memoryLimitMb) throws IOException {
+        Path cgroup = cgroupRoot.resolve("run-" + ProcessHandle.current().pid() + "-" + runNumber.getAndIncrement());
+        Files.createDirectory(cgroup);
+        Files.writeString(cgroup.resolve("memory.max"), String.valueOf(memoryLimitMb * 1024L * 1024L));
+        try {
+            Files.writeString(cgroup.resolve("memory.swap.max"), "0");
+        } catch (IOException e) {
+            // 스왑 컨트롤러가 없는 환경
+        }
+        return cgroup;
+    }
+
+    private void removeCgroup(Path cgroup) {
+        if (cgroup == null) {
+            return;
+        }
+        try {
+            // 남은 프로세스(제출 코드가 만든 자식 포함)를 모두 종료
+            Files.writeString(cgroup.resolve("cgroup.kill"), "1");
+        } catch (IOException e) {
+            log.debug("cgroup.kill is not supported: {}", e.getMessage());
+        }
+        for (int attempt = 0; attempt < 10; attempt++) {
+            try {
+                Files.delete(cgroup);
+                return;
+            } catch (IOException e) {
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        log.warn("Failed to remove cgroup {}", cgroup);
+    }
+
+    private long readCgroupLong(Path file) {
+        try {
+            return Long.parseLong(Files.readString(file).trim());
+        } catch (IOException | NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private long readCgroupStat(Path file, String key) {
+        try {
+            for (String line : Files.readAllLines(file)) {
+                if (line.startsWith(key + " ")) {
+                    return Long.parseLong(line.substring(key.length() + 1).trim());
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            log.debug("Failed to read {} from {}: {}", key, file, e.getMessage());
+        }
+        return 0;
+    }
+
+    /**
+     * 애플리케이션 종료 시 스레드 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        sampler.shutdownNow();
+    }
+
+    /**
+     * 실행 중 자원 사용량 샘플
+     * cpu 판정 방식에서는 CPU 시간이 제한을 넘는 즉시 프로세스를 종료합니다.
+     * VmHWM 은 단조 증가하는 최대값이므로 마지막 샘플이 가장 정확합니다.
+     */
+    private class UsageSample {
+        private final Process process;
+        private final Path cgroup;
+        private final long timeLimitMillis;
+        private final Path status;
+        private final Path stat;
+        volatile long peakMemoryKb;
+        volatile double cpuMillis;
+        volatile boolean cpuLimitKilled;
+
+        UsageSample(Process process, Path cgroup, long timeLimitMillis) {
+            this.process = process;
+            this.cgroup = cgroup;
+            this.timeLimitMillis = timeLimitMillis;
+            this.status = Paths.get("/proc", String.valueOf(process.pid()), "status");
+            this.stat = Paths.get("/proc", String.valueOf(process.pid()), "stat");
+        }
+
+        void sample() {
+            if (cgroup != null) {
+                cpuMillis = readCgroupStat(cgroup.resolve("cpu.stat"), "usage_usec") / 1000.0;
+            } else {
+                sampleProc();
+            }
+            if (timePolicy == TimeLimitPolicy.CPU && cpuMillis > timeLimitMillis && process.isAlive()) {
+                cpuLimitKilled = true;
+                process.destroyForcibly();
+            }
+        }
+
+        private void sampleProc() {
+            try {
+                for (String line : Files.readAllLines(status)) {
+                    if (line.startsWith("VmHWM:")) {
+                        long kb = Long.parseLong(line.substring(6).replace("kB", "").trim());
+                        peakMemoryKb = Math.max(peakMemoryKb, kb);
+                        break;
+                    }
+                }
+                // 프로세스 이름에 공백이 있을 수 있으므로 마지막 ')' 이후부터 필드를 셈
+                String content = Files.readString(stat);
+                String[] fields = content.substring(content.lastIndexOf(')') + 2).split(" ");
+                // fields[0] 은 state(3번째 필드), utime 은 14번째, stime 은 15번째 필드
+                long ticks = Long.parseLong(fields[11]) + Long.parseLong(fields[12]);
+                cpuMillis = Math.max(cpuMillis, ticks * 1000.0 / CLOCK_TICKS_PER_SECOND);
+            } catch (IOException | RuntimeException e) {
+                // 프로세스가 이미 종료된 경우
+            }
+        }
+    }
+}
@@ -2,26 +2,98 @@ package com.webproject.jandi_ide_backend.compiler.service;
 
 import com.webproject.jandi_ide_backend.algorithm.problem.entity.Problem;
 import com.webproject.jandi_ide_backend.algorithm.testCase.entity.TestCase;
+import com.webproject.jandi_ide_backend.compiler.checker.CheckerEngine;
+import com.webproject.jandi_ide_backend.compiler.checker.CheckerSpec;
+import com.webproject.jandi_ide_backend.compiler.checker.OutputChecker;
+import com.webproject.jandi_ide_backend.compiler.dto.CompileDiagnosticDto;
 import com.webproject.jandi_ide_backend.compiler.dto.ResultDto;
 import com.webproject.jandi_ide_backend.compiler.dto.ResultStatus;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
 
 import java.io.*;
 import java.nio.file.Path;
 import java.util.*;
-import java.util.concurrent.*;
 
 @Service
 @Slf4j
-public class PythonCompiler {
+@Order(2)
+public class PythonCompiler implements LanguageRuntime {
+
+    // 순서대로 시도할 Python 인터프리터 명령
+    private static final List<String> PYTHON_INTERPRETERS = List.of("python3", "python", "py");
 
     private final CompilerFileManager fileManager;
+    private final TestCaseExecutor testCaseExecutor;
+    private final ProcessRunner processRunner;
+    private final ToolchainLocator toolchainLocator;
+    private final SimpleCheckRunner simpleCheckRunner;
+    private final PythonForkServer forkServer;
+    private final BatchedHarnessRunner batchedHarnessRunner;
+    private final CheckerEngine checkerEngine;
+
+    // 시작 시 찾은 인터프리터 (모든 제출에서 공유)
+    private volatile Toolchain interpreter;
 
-    public PythonCompiler(CompilerFileManager fileManager) {
+    public PythonCompiler(CompilerFileManager fileManager, TestCaseExecutor testCaseExecutor, ProcessRunner processRunner,
+                          ToolchainLocator toolchainLocator, SimpleCheckRunner simpleCheckRunner, PythonForkServer forkServer,
+                          BatchedHarnessRunner batchedHarnessRunner, CheckerEngine checkerEngine) {
         this.fileManager = fileManager;
+        this.testCaseExecutor = testCaseExecutor;
+        this.processRunner = processRunner;
+        this.toolchainLocator = toolchainLocator;
+        this.simpleCheckRunner = simpleCheckRunner;
+        this.forkServer = forkServer;
+        this.batchedHarnessRunner = batchedHarnessRunner;
+        this.checkerEngine = checkerEngine;
+    }
+
+    @Override
+    public String getLanguage() {
+        return "python";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "파이썬";
+    }
+
+    @Override
+    public boolean isCompiled() {
+        return false;
+    }
+
+    /**
+     * 사용할 Python 인터프리터를 찾습니다. (python3, python, py 순서)
+     */
+    @Override
+    public List<Toolchain> discoverToolchains() {
+        interpreter = toolchainLocator.locate("interpreter", PYTHON_INTERPRETERS, List.of("--version")).orElse(null);
+        return getToolchains();
+    }
+
+    @Override
+    public List<Toolchain> getToolchains() {
+        return interpreter != null ? List.of(interpreter) : List.of();
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return interpreter != null;
     }
 
+    /**
+     * fork-server 실행 모드이면 찾은 인터프리터로 Python fork-server를 띄웁니다.
+     */
+    @Override
+    public void warmup() {
+        if (forkServer.isEnabled()) {
+            forkServer.start(interpreter.getCommand());
+        }
+    }
+
+    @Override
     public List<ResultDto> runCode(Problem problem, List<TestCase> testcases, String code, Long userId) {
         List<ResultDto> results = new ArrayList<>();
         Path workingDir = null;
@@ -31,205 +103,210 @@ public class PythonCompiler {
             Long problemId = Long.valueOf(problem.getId()); // Convert Integer to Long
             workingDir = fileManager.createWorkingDir(userId, problemId);
 
-            for (int i = 0; i < testcases.size(); i++) {
-                String input = testcases.get(i).getInput();
-                String expectedOutput = testcases.get(i).getOutput();
-                StringBuilder output = new StringBuilder();
-                Double time = 0.0;
-                Double memory = 0.0;
+            // 소스 파일은 한 번만 생성하고 모든 테스트 케이스에서 공유
+            File pythonFile = fileManager.createPythonFile(workingDir, code);
+            log.debug("Python code written to file: {}", code);
+            fileManager.checkQuota(workingDir);
 
-                try {
-                    // 임시 파일 생성
-                    File pythonFile = fileManager.createPythonFile(workingDir, code);
-                    log.debug("Python code written to file: {}", code);
-
-                    // 여러 Python 인터프리터 명령어를 순차적으로 시도
-                    String[] pythonInterpreters = {"python3", "python", "py"};
-                    ProcessBuilder compilePb = null;
-                    Process runProcess = null;
-                    boolean started = false;
-                    
-                    for (String interpreter : pythonInterpreters) {
-                        try {
-                            compilePb = new ProcessBuilder(interpreter, pythonFile.getAbsolutePath());
-                            compilePb.directory(workingDir.toFile()); // 작업 디렉토리 설정
-                            compilePb.redirectErrorStream(true);
-                            log.debug("Trying Python interpreter: {}", interpreter);
-                            runProcess = compilePb.start();
-                            started = true;
-                            log.debug("Successfully started Python with: {}", interpreter);
-                            break;
-                        } catch (IOException e) {
-                            log.warn("Failed to start Python with interpreter {}: {}", interpreter, e.getMessage());
-                        }
-                    }
-                    
-                    if (!started || runProcess == null) {
-                        throw new IOException("Unable to start any Python interpreter. Tried: " + 
-                                             String.join(", ", pythonInterpreters));
-                    }
-
-                    // 테스트 케이스 입력 전달
-                    OutputStream stdin = runProcess.getOutputStream();
-                    BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(stdin));
-                    
-                    log.debug("Test case input: {}", input);
-                    // 입력값 처리: 공백으로 구분된 입력을 쉼표로 구분된 형식으로 변환
-                    String[] inputValues = input.trim().split("\\s+");
-                    String formattedInput = String.join(",", inputValues);
-                    log.debug("Formatted input for test case {}: {}", i+1, formattedInput);
-                    
-                    writer.write(formattedInput);
-                    writer.newLine();
-                    writer.flush();
-                    writer.close(); // 입력 스트림을 닫아 프로세스가 더 이상 입력을 기다리지 않게 함
-
-                    // 타이머 시작
-                    long startTime = System.nanoTime();
-                    long startMemory = getUsedMemory();
-                    
-                    // 출력 읽기
-                    InputStream stdout = runProcess.getInputStream();
-                    BufferedReader reader = new BufferedReader(new InputStreamReader(stdout));
-                    StringBuilder result = new StringBuilder();
-                    String line;
-                    
-                    try {
-                        // 프로세스 완료 대기 (타임아웃 설정)
-                        boolean completed = runProcess.waitFor(problem.getTimeLimit(), TimeUnit.SECONDS);
-                        
-                        if (!completed) {
-                            // 타임아웃 발생
-                            runProcess.destroyForcibly();
-                            output.append("시간 초과 발생: 실행 시간이 제한(")
-                                  .append(problem.getTimeLimit())
-                                  .append("초)을 초과했습니다.\n");
-                            
-                            results.add(ResultDto.builder()
-                                    .testNum(i+1)
-                                    .input(input)
-                                    .expectedResult(expectedOutput)
-                                    .actualResult(output.toString())
-                                    .status(ResultStatus.TIMEOUT)
-                                    .build());
-                            continue;
-                        }
-                        
-                        // 출력 읽기
-                        while ((line = reader.readLine()) != null) {
-                            result.append(line).append("\n");
-                        }
-                        
-                        // 추가로 남은 출력이 있는지 확인 (한 줄 이상일 경우)
-                        int available = stdout.available();
-                        if (available > 0) {
-                            byte[] buffer = new byte[available];
-                            stdout.read(buffer);
-                            result.append(new String(buffer));
-                        }
-                        
-                        // 종료 코드 확인
-                        int exitCode = runProcess.exitValue();
-                        if (exitCode != 0) {
-                            log.warn("Process exited with non-zero code: " + exitCode);
-                        }
-                        
-                    } catch (InterruptedException e) {
-                        runProcess.destroyForcibly();
-                        output.append("실행이 중단되었습니다: ").append(e.getMessage()).append("\n");
-                        
-                        results.add(ResultDto.builder()
-                                .testNum(i+1)
-                                .input(input)
-                                .expectedResult(expectedOutput)
-                                .actualResult(output.toString())
-                                .status(ResultStatus.RUNTIME_ERROR)
-                                .build());
-                        continue;
-                    } finally {
-                        // 자원 정리
-                        reader.close();
-                        stdout.close();
-                        runProcess.destroyForcibly();
-                        
-                        long endTime = System.nanoTime();
-                        long endMemory = getUsedMemory();
-                        
-                        Double executionTime = (double) TimeUnit.NANOSECONDS.toMillis(endTime - startTime);
-                        Double usedMemoryMB = (double) ((endMemory - startMemory) / (1024 * 1024));
-                        
-                        time = executionTime;
-                        memory = usedMemoryMB;
-                    }
-
-                    // 결과 저장
-                    String resultString = result.toString().trim();
-                    log.debug("Raw output capture: [" + resultString + "]");
-
-                    // 통과 여부 확인
-                    boolean isPass = compareOutput(resultString, expectedOutput);
-
-                    ResultDto resultDto = ResultDto.builder()
-                            .testNum(i + 1)
-                            .input(input)
-                            .expectedResult(expectedOutput)
-                            .actualResult(resultString)
-                            .executionTime(time)
-                            .usedMemory(memory)
-                            .status(isPass ? ResultStatus.CORRECT : ResultStatus.WRONG_ANSWER)
-                            .build();
-
-                    results.add(resultDto);
-                } catch (Exception e) {
-                    output.append("🚨ERROR : ").append(e.getMessage()).append("\n");
-                    results.add(ResultDto.builder()
-                            .testNum(i + 1)
-                            .input(input)
-                            .expectedResult(expectedOutput)
-                            .actualResult(output.toString())
-                            .status(ResultStatus.RUNTIME_ERROR)
-                            .build());
-                }
+            // 묶음 실행 문제는 하네스 프로세스 하나로 모든 테스트 케이스를 실행
+            if (batchedHarnessRunner.isBatched(problem, testcases)) {
+                Path scriptDir = workingDir;
+                List<String> launcher = List.of(interpreter.getCommand(),
+                        batchedHarnessRunner.pythonHarnessScript().toString());
+                results.addAll(batchedHarnessRunner.execute(problem, testcases, launcher, pythonFile.getAbsolutePath(),
+                        workingDir, problem.getMemory(),
+                        (testCase, testNum) -> runTestCase(problem, testCase, testNum, pythonFile, null, scriptDir)));
+                return results;
             }
+
+            // fork-server를 쓸 수 있으면 바이트코드를 한 번만 만들어 모든 테스트 케이스에서 공유
+            // (문법 오류 등으로 실패하면 오류 메시지가 그대로 보이도록 일반 실행으로 처리)
+            Path bytecode = prepareBytecode(workingDir, pythonFile);
+
+            // 모든 테스트 케이스 실행
+            Path scriptDir = workingDir;
+            results.addAll(testCaseExecutor.execute(testcases,
+                    (testCase, testNum) -> runTestCase(problem, testCase, testNum, pythonFile, bytecode, scriptDir)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            results.add(ResultDto.builder()
+                    .testNum(1)
+                    .actualResult("실행이 중단되었습니다: " + e.getMessage())
+                    .status(ResultStatus.RUNTIME_ERROR)
+                    .build());
         } catch (IOException e) {
-            log.error("Error creating working directory: {}", e.getMessage(), e);
+            log.error("Working directory error: {}", e.getMessage(), e);
             results.add(ResultDto.builder()
                     .testNum(1)
-                    .actualResult("작업 디렉토리 생성 오류: " + e.getMessage())
+                    .actualResult("작업 디렉토리 오류: " + e.getMessage())
                     .status(ResultStatus.RUNTIME_ERROR)
                     .build());
         } finally {
-            // 작업이 끝난 후 디렉토리 정리
-            if (workingDir != null) {
-                fileManager.cleanupDirectory(workingDir.toFile());
-            }
+            // 작업 디렉토리는 백그라운드에서 비운 뒤 재사용
+            fileManager.releaseWorkingDir(workingDir);
         }
         return results;
     }
 
-    private long getUsedMemory() {
-        Runtime runtime = Runtime.getRuntime();
-        return runtime.totalMemory() - runtime.freeMemory();
+    /**
+     * fork-server로 Main.py를 Main.pyc로 컴파일합니다.
+     *
+     * @return 컴파일된 바이트코드 경로, fork-server를 쓸 수 없거나 컴파일에 실패하면 null
+     */
+    private Path prepareBytecode(Path workingDir, File pythonFile) throws InterruptedException {
+        if (!forkServer.isHealthy()) {
+            return null;
+        }
+        Path bytecode = workingDir.resolve("Main.pyc");
+        return forkServer.compile(pythonFile.toPath(), bytecode) ? bytecode : null;
+    }
+
+    /**
+     * Python 스크립트를 테스트 케이스 하나에 대해 실행합니다.
+     * 병렬 모드에서는 여러 스레드에서 동시에 호출되므로 공유 상태를 두지 않습니다.
+     *
+     * @param problem 문제 정보 (시간/메모리 제한)
+     * @param testCase 실행할 테스트 케이스
+     * @param testNum 테스트 케이스 번호
+     * @param pythonFile 실행할 Main.py
+     * @param bytecode fork-server에서 실행할 Main.pyc (null 이면 인터프리터를 새로 실행)
+     * @param workingDir 작업 디렉토리
+     * @return 테스트 케이스 실행 결과
+     */
+    private ResultDto runTestCase(Problem problem, TestCase testCase, int testNum, File pythonFile, Path bytecode,
+                                  Path workingDir) {
+        String input = testCase.getInput();
+        String expectedOutput = testCase.getOutput();
+
+        long timeLimitMillis = problem.getTimeLimit() * 1000L;
+        int memoryLimitMb = problem.getMemory();
+        long outputLimitBytes = processRunner.outputLimitBytes(problem.getOutputLimit());
+
+        try {
+            CheckerSpec checkerSpec = CheckerSpec.of(problem);
+            OutputChecker checker = checkerEngine.create(checkerSpec, testCase);
+            ProcessRunner.ProcessResult run = null;
+            if (bytecode != null && forkServer.isHealthy()) {
+                try {
+                    run = forkServer.run(bytecode, workingDir, TestDataStore.formatInput(input),
+                            processRunner.isStreaming() ? checker : null,
+                            timeLimitMillis, memoryLimitMb, outputLimitBytes);
+                } catch (IOException e) {
+                    // fork-server가 중간에 종료된 경우 이번 테스트 케이스는 인터프리터를 새로 실행
+                    log.warn("Python fork-server run failed, falling back to interpreter: {}", e.getMessage());
+                    checker = checkerEngine.create(checkerSpec, testCase);
+                }
+            }
+            if (run == null) {
+                List<String> command = List.of(interpreter.getCommand(), pythonFile.getAbsolutePath());
+                // streaming 방식은 출력을 기록되는 대로 검사기로 비교하고 첫 불일치에서 실행을 중단
+                run = processRunner.runTestCase(command, workingDir, testCase, checker,
+                        timeLimitMillis, memoryLimitMb, outputLimitBytes);
+            }
+
+            if (run.getExitCode() != 0 && !run.isTimedOut()) {
+                log.warn("Process exited with non-zero code: " + run.getExitCode());
+            }
+
+            // 결과 저장
+            String resultString = run.getOutput().trim();
+            log.debug("Raw output capture: [" + resultString + "]");
+
+            if (run.isOutputLimitExceeded()) {
+                return ResultDto.builder()
+                        .testNum(testNum)
+                        .input(input)
+                        .expectedResult(expectedOutput)
+                        .actualResult("출력 초과 발생: 출력이 제한(" + outputLimitBytes / 1024 + "KB)을 초과했습니다.\n")
+                        .executionTime(run.getWallTimeMillis())
+                        .cpuTime(run.getCpuTimeMillis())
+                        .timePolicy(run.getTimePolicy())
+                        .usedMemory(run.getPeakMemoryMB())
+                        .status(ResultStatus.OUTPUT_LIMIT)
+                        .build();
+            }
+            if (run.isTimeLimitExceeded()) {
+                return ResultDto.builder()
+                        .testNum(testNum)
+                        .input(input)
+                        .expectedResult(expectedOutput)
+                        .actualResult("시간 초과 발생: 실행 시간이 제한(" + problem.getTimeLimit() + "초)을 초과했습니다.\n")
+                        .executionTime(run.getWallTimeMillis())
+                        .cpuTime(run.getCpuTimeMillis())
+                        .timePolicy(run.getTimePolicy())
+                        .usedMemory(run.getPeakMemoryMB())
+                        .status(ResultStatus.TIMEOUT)
+                        .build();
+            }
+            if (run.exceedsMemoryLimit(memoryLimitMb) || resultString.contains("MemoryError")) {
+                return ResultDto.builder()
+                        .testNum(testNum)
+                        .input(input)
+                        .expectedResult(expectedOutput)
+                        .actualResult("메모리 초과 발생: 메모리 제한(" + problem.getMemory() + "MB)을 초과했습니다.\n")
+                        .executionTime(run.getWallTimeMillis())
+                        .cpuTime(run.getCpuTimeMillis())
+                        .timePolicy(run.getTimePolicy())
+                        .usedMemory(run.getPeakMemoryMB())
+                        .status(ResultStatus.MEMORY_LIMIT)
+                        .build();
+            }
+
+            // 통과 여부 확인
+            boolean isPass = run.getOutputMatched() != null ? run.getOutputMatched() : checker.matches(run.getOutput());
+
+            return ResultDto.builder()
+                    .testNum(testNum)
+                    .input(input)
+                    .expectedResult(expectedOutput)
+                    .actualResult(run.getStoredOutput().trim())
+                    .executionTime(run.getWallTimeMillis())
+                    .cpuTime(run.getCpuTimeMillis())
+                    .timePolicy(run.getTimePolicy())
+                    .usedMemory(run.getPeakMemoryMB())
+                    .status(isPass ? ResultStatus.CORRECT : ResultStatus.WRONG_ANSWER)
+                    .firstDifference(isPass ? null : checker.getFirstDifference())
+                    .build();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ResultDto.builder()
+                    .testNum(testNum)
+                    .input(input)
+                    .expectedResult(expectedOutput)
+                    .actualResult("실행이 중단되었습니다: " + e.getMessage() + "\n")
+                    .status(ResultStatus.RUNTIME_ERROR)
+                    .build();
+        } catch (Exception e) {
+            return ResultDto.builder()
+                    .testNum(testNum)
+                    .input(input)
+                    .expectedResult(expectedOutput)
+                    .actualResult("🚨ERROR : " + e.getMessage() + "\n")
+                    .status(ResultStatus.RUNTIME_ERROR)
+                    .build();
+        }
+    }
+
+    /**
+     * 단순 검사용으로 작업 디렉토리에 Main.py를 만듭니다. Python은 컴파일 단계가 없습니다.
+     */
+    @Override
+    public boolean checkCompilation(Path workspace, String code, StringBuilder output, List<CompileDiagnosticDto> diagnostics) {
+        try {
+            fileManager.createPythonFile(workspace, code);
+            return true;
+        } catch (IOException e) {
+            output.append("실행 중 시스템 오류: ").append(e.getMessage());
+            return false;
+        }
     }
 
-    private boolean compareOutput(String actual, String expected) {
-        log.debug("Comparing - Actual output: [" + actual + "]");
-        log.debug("Comparing - Expected output: [" + expected + "]");
-        
-        // 실제 출력에서 실행 결과 부분 추출 (필요한 경우)
-        String actualOutput = actual.trim();
-        String expectedOutput = expected.trim();
-        
-        // 두 개 연속된 공백을 줄바꿈으로 변환
-        actualOutput = actualOutput.replaceAll("  ", "\n");
-        expectedOutput = expectedOutput.replaceAll("  ", "\n");
-        
-        // 연속된 줄바꿈을 하나로 정규화
-        actualOutput = actualOutput.replaceAll("\n+", "\n");
-        expectedOutput = expectedOutput.replaceAll("\n+", "\n");
-        
-        log.debug("After formatting - Actual: [" + actualOutput + "], Expected: [" + expectedOutput + "]");
-        
-        return actualOutput.equals(expectedOutput);
+    /**
+     * 단순 검사용으로 작업 디렉토리의 Main.py를 실행합니다.
+     */
+    @Override
+    public boolean checkExecution(Path workspace, String input, StringBuilder output) {
+        List<String> command = List.of(interpreter.getCommand(), workspace.resolve("Main.py").toAbsolutePath().toString());
+        return simpleCheckRunner.execute(command, workspace, input, output);
     }
 }
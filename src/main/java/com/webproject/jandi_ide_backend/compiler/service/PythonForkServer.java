@@ -0,0 +1,439 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import com.webproject.jandi_ide_backend.compiler.checker.OutputChecker;
+import com.webproject.jandi_ide_backend.compiler.dto.TimeLimitPolicy;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Python fork-server
+ *
+ * compiler.python.run-mode=fork-server 일 때 미리 띄워 둔 Python 인터프리터(python_fork_server.py)에서
+ * 테스트 케이스마다 자식 프로세스를 fork 해 제출 코드를 실행합니다.
+ * 인터프리터 기동과 표준 라이브러리 import 비용을 테스트 케이스마다 다시 내지 않으므로 짧은 테스트 케이스의 지연 시간이 줄어듭니다.
+ *
+ * - 서버는 -S -E -B 옵션(site 모듈, PYTHON* 환경 변수, .pyc 기록 비활성화)으로 실행됩니다.
+ * - 제출 코드는 제출마다 한 번 바이트코드(Main.pyc)로 컴파일하고, 모든 테스트 케이스가 이를 공유합니다.
+ * - 자식 프로세스에는 CPU 시간(RLIMIT_CPU), 주소 공간(RLIMIT_AS), 출력 파일 크기(RLIMIT_FSIZE) 제한이 걸립니다.
+ * - CPU 시간과 최대 메모리는 서버가 wait4 로 받은 rusage 값이며, 벽시계 제한을 넘으면 자식 프로세스를 강제 종료합니다.
+ * - 서버가 종료되면 진행 중인 실행은 실패로 돌려주고(호출 측은 일반 실행으로 대체), 백그라운드에서 다시 띄웁니다.
+ */
+@Slf4j
+@Component
+public class PythonForkServer {
+
+    private static final String MODE_FORK_SERVER = "fork-server";
+    private static final String SCRIPT_RESOURCE = "compiler/python_fork_server.py";
+    private static final List<String> ISOLATED_FLAGS = List.of("-S", "-E", "-B");
+    private static final String ACCOUNTING = "fork-server";
+
+    private static final long STARTUP_TIMEOUT_SECONDS = 30;
+    // 서버가 fork 결과(pid)를 돌려줄 때까지 기다리는 시간
+    private static final long FORK_TIMEOUT_SECONDS = 5;
+    private static final long COMPILE_TIMEOUT_SECONDS = 15;
+    // 자식 프로세스를 강제 종료한 뒤 종료 보고를 기다리는 시간
+    private static final long KILL_GRACE_MILLIS = 1000;
+    private static final long INITIAL_RESTART_DELAY_MILLIS = 1000;
+    private static final long MAX_RESTART_DELAY_MILLIS = 60_000;
+
+    // 주소 공간 제한은 인터프리터 자체 매핑을 감안해 메모리 제한보다 넉넉하게 잡고, 판정은 최대 RSS 로 함
+    private static final long ADDRESS_SPACE_MIN_EXTRA_MB = 256;
+
+    private static final int SIGXCPU = 24;
+    private static final int SIGXFSZ = 25;
+
+    private final boolean enabled;
+    private final ProcessRunner processRunner;
+    private final ExecutorService starter;
+    private final ScheduledExecutorService watchdog;
+    private final AtomicLong requestNumber = new AtomicLong(1);
+
+    private volatile Server server;
+    private volatile String interpreter;
+    private volatile boolean shuttingDown = false;
+    private long restartDelayMillis = INITIAL_RESTART_DELAY_MILLIS;
+    private Path scriptPath;
+
+    /**
+     * Python fork-server 생성자
+     *
+     * @param runMode Python 실행 방식 (fork 또는 fork-server)
+     * @param processRunner 시간 제한 판정 방식과 보관할 출력 크기를 가져오는 채점 프로세스 실행기
+     */
+    public PythonForkServer(
+            @Value("${compiler.python.run-mode:fork}") String runMode,
+            ProcessRunner processRunner) {
+        this.enabled = MODE_FORK_SERVER.equalsIgnoreCase(runMode);
+        this.processRunner = processRunner;
+        this.starter = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "python-fork-server-starter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "python-fork-server-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * fork-server 실행 모드가 켜져 있는지 확인합니다.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 서버가 실행 중이어서 요청을 받을 수 있는지 확인합니다.
+     */
+    public boolean isHealthy() {
+        Server current = server;
+        return current != null && current.process.isAlive();
+    }
+
+    /**
+     * 찾은 인터프리터로 서버를 띄웁니다. PythonCompiler 워밍업에서 한 번 호출됩니다.
+     *
+     * @param interpreterCommand Python 인터프리터 절대 경로
+     */
+    public synchronized void start(String interpreterCommand) {
+        if (!enabled || shuttingDown) {
+            return;
+        }
+        this.interpreter = interpreterCommand;
+        try {
+            if (scriptPath == null) {
+                scriptPath = extractScript();
+            }
+            server = startServer();
+            restartDelayMillis = INITIAL_RESTART_DELAY_MILLIS;
+            log.info("Python fork-server started: pid={}, interpreter={}", server.process.pid(), interpreterCommand);
+        } catch (IOException e) {
+            log.warn("Failed to start Python fork-server: {}", e.getMessage());
+            scheduleRestart();
+        }
+    }
+
+    /**
+     * 제출 코드를 바이트코드로 컴파일합니다. 제출마다 한 번 호출됩니다.
+     *
+     * @param source Main.py
+     * @param target 기록할 .pyc 경로
+     * @return 컴파일에 성공했으면 true (문법 오류이거나 서버를 사용할 수 없으면 false)
+     */
+    public boolean compile(Path source, Path target) throws InterruptedException {
+        Server current = server;
+        if (current == null) {
+            return false;
+        }
+        try {
+            Job job = current.submit("compile", source, target, source.getParent());
+            String[] exit = job.exit.get(COMPILE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return Integer.parseInt(exit[2]) == 0 && Files.exists(target);
+        } catch (IOException | ExecutionException | TimeoutException e) {
+            log.debug("Python fork-server compile failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 바이트코드를 fork 한 자식 프로세스에서 한 번 실행합니다.
+     *
+     * @param bytecode 실행할 Main.pyc
+     * @param workingDir 작업 디렉토리
+     * @param input 표준 입력으로 전달할 내용
+     * @param checker 출력 검사기 (null 이 아니면 출력 파일을 스트리밍으로 비교하고 출력은 앞부분만 반환)
+     * @param timeLimitMillis 시간 제한 (ms)
+     * @param memoryLimitMb 메모리 제한 (MB)
+     * @param outputLimitBytes 출력 제한 (바이트)
+     * @return 실행 결과
+     * @throws IOException 서버를 사용할 수 없거나 실행 중 서버가 종료된 경우 (호출 측은 일반 실행으로 대체)
+     */
+    public ProcessRunner.ProcessResult run(Path bytecode, Path workingDir, String input, OutputChecker checker,
+                                           long timeLimitMillis, int memoryLimitMb, long outputLimitBytes)
+            throws IOException, InterruptedException {
+        Server current = server;
+        if (current == null || !current.process.isAlive()) {
+            throw new IOException("Python fork-server를 사용할 수 없습니다");
+        }
+
+        // 같은 작업 디렉토리의 테스트 케이스가 병렬로 실행되므로 입출력 파일은 실행마다 따로 만듦
+        Path inputFile = Files.createTempFile(workingDir, "input-", ".txt");
+        Path outputFile = Files.createTempFile(workingDir, "output-", ".txt");
+        try {
+            Files.writeString(inputFile, input, StandardCharsets.UTF_8);
+
+            long cpuSeconds = (timeLimitMillis + 999) / 1000 + 1;
+            long addressSpaceBytes = Math.max(memoryLimitMb * 2L, memoryLimitMb + ADDRESS_SPACE_MIN_EXTRA_MB) * 1024 * 1024;
+            Job job = current.submit("run", bytecode, workingDir, inputFile, outputFile,
+                    cpuSeconds, addressSpaceBytes, outputLimitBytes + 1);
+
+            long pid;
+            try {
+                pid = await(job.started, FORK_TIMEOUT_SECONDS * 1000);
+            } catch (InterruptedException e) {
+                // fail-fast 로 중단: 나중에 fork 된 자식 프로세스도 바로 종료
+                job.started.thenAccept(started -> ProcessHandle.of(started).ifPresent(ProcessHandle::destroyForcibly));
+                Thread.currentThread().interrupt();
+                throw e;
+            }
+            // 벽시계 제한을 넘으면 자식 프로세스만 강제 종료 (서버는 계속 사용)
+            AtomicBoolean killed = new AtomicBoolean(false);
+            ScheduledFuture<?> kill = watchdog.schedule(() -> {
+                if (!job.exit.isDone()) {
+                    killed.set(true);
+                    ProcessHandle.of(pid).ifPresent(ProcessHandle::destroyForcibly);
+                }
+            }, processRunner.wallTimeLimitMillis(timeLimitMillis), TimeUnit.MILLISECONDS);
+
+            String[] exit;
+            try {
+                exit = await(job.exit, processRunner.wallTimeLimitMillis(timeLimitMillis) + KILL_GRACE_MILLIS);
+            } catch (IOException e) {
+                // 서버가 먼저 종료되어 고아가 된 자식 프로세스도 정리
+                ProcessHandle.of(pid).ifPresent(ProcessHandle::destroyForcibly);
+                throw e;
+            } catch (InterruptedException e) {
+                // fail-fast 로 중단된 실행의 자식 프로세스가 남지 않도록 종료하고 인터럽트 상태를 유지
+                ProcessHandle.of(pid).ifPresent(ProcessHandle::destroyForcibly);
+                Thread.currentThread().interrupt();
+                throw e;
+            } finally {
+                kill.cancel(false);
+            }
+            return result(exit, killed.get(), outputFile, checker, timeLimitMillis, outputLimitBytes);
+        } finally {
+            Files.deleteIfExists(inputFile);
+            Files.deleteIfExists(outputFile);
+        }
+    }
+
+    private ProcessRunner.ProcessResult result(String[] exit, boolean killed, Path outputFile, OutputChecker checker,
+                                               long timeLimitMillis, long outputLimitBytes) throws IOException {
+        int exitCode = Integer.parseInt(exit[2]);
+        int signal = Integer.parseInt(exit[3]);
+        double cpuMillis = Double.parseDouble(exit[4]);
+        double wallMillis = Double.parseDouble(exit[5]);
+        long peakMemoryKb = Long.parseLong(exit[6]);
+        // RLIMIT_CPU 를 넘으면 SIGXCPU, RLIMIT_FSIZE 를 넘으면 SIGXFSZ 로 종료됨
+        boolean timedOut = killed || signal == SIGXCPU;
+        TimeLimitPolicy timePolicy = processRunner.getTimePolicy();
+
+        String storedOutput = processRunner.storedOutput(outputFile);
+        if (signal == SIGXFSZ || Files.size(outputFile) > outputLimitBytes) {
+            return new ProcessRunner.ProcessResult(storedOutput, storedOutput, true, false, exitCode, timedOut,
+                    wallMillis, cpuMillis, peakMemoryKb, false, ACCOUNTING, timePolicy, timeLimitMillis);
+        }
+        if (checker == null) {
+            String output = Files.readString(outputFile, StandardCharsets.UTF_8);
+            return new ProcessRunner.ProcessResult(output, storedOutput, false, null, exitCode, timedOut,
+                    wallMillis, cpuMillis, peakMemoryKb, false, ACCOUNTING, timePolicy, timeLimitMillis);
+        }
+        // 출력 전체를 문자열로 읽지 않고 파일을 흘려 읽으며 비교
+        boolean matched;
+        try (InputStream in = Files.newInputStream(outputFile)) {
+            matched = checker.matches(in);
+        }
+        return new ProcessRunner.ProcessResult(storedOutput, storedOutput, false, matched, exitCode, timedOut,
+                wallMillis, cpuMillis, peakMemoryKb, false, ACCOUNTING, timePolicy, timeLimitMillis);
+    }
+
+    private <T> T await(CompletableFuture<T> future, long timeoutMillis) throws IOException, InterruptedException {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            // 응답하지 않는 서버는 더 쓰지 않음
+            Server current = server;
+            if (current != null) {
+                current.process.destroyForcibly();
+            }
+            throw new IOException("Python fork-server가 응답하지 않습니다", e);
+        }
+    }
+
+    private Server startServer() throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(interpreter);
+        command.addAll(ISOLATED_FLAGS);
+        command.add(scriptPath.toString());
+        ProcessBuilder pb = new ProcessBuilder(command);
+        pb.redirectError(ProcessBuilder.Redirect.DISCARD);
+        Process process = pb.start();
+        Server started = new Server(process);
+
+        // 준비 완료 신호를 기다림 (인터프리터 기동과 모듈 import 비용은 여기서 미리 지불)
+        ScheduledFuture<?> kill = watchdog.schedule(process::destroyForcibly, STARTUP_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        try {
+            String line = started.reply.readLine();
+            if (line == null || !line.startsWith("ready\t")) {
+                process.destroyForcibly();
+                throw new IOException("Python fork-server가 올바르게 시작되지 않았습니다");
+            }
+        } finally {
+            kill.cancel(false);
+        }
+
+        Thread reader = new Thread(started::readReplies, "python-fork-server-reader");
+        reader.setDaemon(true);
+        reader.start();
+        return started;
+    }
+
+    /**
+     * 서버가 종료되었을 때 호출됩니다. 진행 중인 요청을 실패로 돌려주고 다시 띄웁니다.
+     */
+    private synchronized void serverDied(Server dead) {
+        IOException failure = new IOException("Python fork-server가 종료되었습니다");
+        dead.jobs.values().forEach(job -> {
+            job.started.completeExceptionally(failure);
+            job.exit.completeExceptionally(failure);
+        });
+        dead.jobs.clear();
+        if (server != dead || shuttingDown) {
+            return;
+        }
+        server = null;
+        log.warn("Python fork-server exited, falling back to per-run interpreter until it restarts");
+        scheduleRestart();
+    }
+
+    private synchronized void scheduleRestart() {
+        if (shuttingDown || interpreter == null) {
+            return;
+        }
+        long delay = restartDelayMillis;
+        restartDelayMillis = Math.min(restartDelayMillis * 2, MAX_RESTART_DELAY_MILLIS);
+        // 기동 대기 중 시간 초과 처리를 watchdog 이 맡으므로 기동 자체는 starter 스레드에서 수행
+        watchdog.schedule(() -> starter.execute(() -> {
+            if (server == null) {
+                start(interpreter);
+            }
+        }), delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 애플리케이션 리소스에서 서버 스크립트를 꺼내 임시 파일로 기록합니다.
+     */
+    private Path extractScript() throws IOException {
+        Path script = Files.createTempFile("jandi-python-fork-server", ".py");
+        try (InputStream in = PythonForkServer.class.getClassLoader().getResourceAsStream(SCRIPT_RESOURCE)) {
+            if (in == null) {
+                throw new IOException("Fork-server script not found: " + SCRIPT_RESOURCE);
+            }
+            Files.copy(in, script, StandardCopyOption.REPLACE_EXISTING);
+        }
+        script.toFile().deleteOnExit();
+        return script;
+    }
+
+    /**
+     * 애플리케이션 종료 시 서버 정리 (제어 채널이 닫히면 서버도 스스로 종료)
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        shuttingDown = true;
+        starter.shutdownNow();
+        watchdog.shutdownNow();
+        Server current = server;
+        server = null;
+        if (current != null) {
+            current.process.destroyForcibly();
+        }
+    }
+
+    /**
+     * 요청 하나의 응답 대기
+     */
+    private static class Job {
+        // fork 된 자식 프로세스 pid
+        private final CompletableFuture<Long> started = new CompletableFuture<>();
+        // exit 응답 필드
+        private final CompletableFuture<String[]> exit = new CompletableFuture<>();
+    }
+
+    /**
+     * 서버 프로세스 하나와 제어 채널
+     */
+    private class Server {
+        private final Process process;
+        private final Writer control;
+        private final BufferedReader reply;
+        // 요청 ID -> 응답 대기
+        private final ConcurrentMap<String, Job> jobs = new ConcurrentHashMap<>();
+
+        Server(Process process) {
+            this.process = process;
+            this.control = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+            this.reply = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        /**
+         * 요청 한 줄을 보냅니다. 필드는 탭으로 구분합니다.
+         */
+        Job submit(String op, Object... fields) throws IOException {
+            String id = String.valueOf(requestNumber.getAndIncrement());
+            Job job = new Job();
+            jobs.put(id, job);
+            StringBuilder line = new StringBuilder(op).append('\t').append(id);
+            for (Object field : fields) {
+                line.append('\t').append(field instanceof Path ? ((Path) field).toAbsolutePath() : field);
+            }
+            try {
+                synchronized (control) {
+                    control.write(line.append('\n').toString());
+                    control.flush();
+                }
+            } catch (IOException e) {
+                jobs.remove(id);
+                throw e;
+            }
+            return job;
+        }
+
+        /**
+         * 응답을 읽어 요청별 대기에 전달합니다. 서버가 종료되면 serverDied 를 호출합니다.
+         */
+        void readReplies() {
+            try {
+                String line;
+                while ((line = reply.readLine()) != null) {
+                    String[] fields = line.split("\t");
+                    if (fields.length < 3) {
+                        continue;
+                    }
+                    if ("started".equals(fields[0])) {
+                        Job job = jobs.get(fields[1]);
+                        if (job != null) {
+                            job.started.complete(Long.parseLong(fields[2]));
+                        }
+                    } else if ("exit".equals(fields[0])) {
+                        Job job = jobs.remove(fields[1]);
+                        if (job != null) {
+                            job.exit.complete(fields);
+                        }
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                log.debug("Python fork-server reply channel closed: {}", e.getMessage());
+            }
+            process.destroyForcibly();
+            serverDied(this);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 단순 컴파일/실행 검사 실행기
+ *
+ * 문제 ID가 0인 테스트 모드에서 각 언어 런타임이 컴파일 명령과 실행 명령을 실행할 때 공통으로 사용합니다.
+ * 표준 출력/에러를 제한 크기까지만 모으고, 결과를 사용자에게 보여 줄 문자열로 정리합니다.
+ */
+@Component
+public class SimpleCheckRunner {
+
+    // 단순 실행 테스트에서 표준 출력/에러 각각 보관하는 최대 크기 (바이트)
+    private static final int SIMPLE_CHECK_OUTPUT_LIMIT = 64 * 1024;
+    private static final int COMPILE_TIMEOUT_SECONDS = 10;
+    private static final int RUN_TIMEOUT_SECONDS = 5;
+
+    private final ProcessIoReaper ioReaper;
+
+    public SimpleCheckRunner(ProcessIoReaper ioReaper) {
+        this.ioReaper = ioReaper;
+    }
+
+    /**
+     * 컴파일 명령을 실행하고 결과를 기록합니다.
+     *
+     * @param command 컴파일 명령
+     * @param workspace 작업 디렉토리
+     * @param output 컴파일 결과 및 오류 메시지를 저장할 StringBuilder
+     * @return 컴파일 성공 여부
+     */
+    public boolean compile(List<String> command, Path workspace, StringBuilder output) {
+        try {
+            // 컴파일 프로세스 실행
+            ProcessBuilder compilePb = new ProcessBuilder(command);
+            compilePb.directory(workspace.toFile());
+            Process compileProcess = compilePb.start();
+            compileProcess.getOutputStream().close();
+
+            // 프로세스 출력 수집
+            String[] results = collectProcessOutput(compileProcess, COMPILE_TIMEOUT_SECONDS);
+            String stdOut = results[0];
+            String stdErr = results[1];
+
+            // 프로세스 종료 대기
+            int exitCode = compileProcess.waitFor();
+
+            // 컴파일 결과 확인 (종료 코드가 0이 아니면 컴파일 실패)
+            if (exitCode != 0) {
+                // 오류 출력이 있으면 추가
+                if (!stdErr.isEmpty()) {
+                    output.append(stdErr);
+                }
+                // 표준 출력도 있으면 추가 (일부 컴파일러는 표준 출력으로 오류 메시지를 출력할 수 있음)
+                if (!stdOut.isEmpty()) {
+                    output.append(stdOut);
+                }
+
+                // 둘 다 비어있으면 기본 메시지
+                if (stdErr.isEmpty() && stdOut.isEmpty()) {
+                    output.append("컴파일 실패 (종료 코드: ").append(exitCode).append(")");
+                }
+
+                return false;
+            }
+
+            // 성공이지만 출력이 있는 경우 (경고 등)
+            if (!stdOut.isEmpty()) {
+                output.append("컴파일러 출력: ").append(stdOut);
+            }
+
+            return true;
+        } catch (TimeoutException e) {
+            output.append("컴파일 시간 초과 (" + COMPILE_TIMEOUT_SECONDS + "초)");
+            return false;
+        } catch (Exception e) {
+            output.append("컴파일 중 시스템 오류: ").append(e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 실행 명령을 실행하고 결과를 기록합니다.
+     *
+     * @param command 실행 명령
+     * @param workspace 작업 디렉토리
+     * @param input 표준 입력으로 전달할 데이터
+     * @param output 실행 결과 및 오류 메시지를 저장할 StringBuilder
+     * @return 실행 성공 여부
+     */
+    public boolean execute(List<String> command, Path workspace, String input, StringBuilder output) {
+        try {
+            // 실행 프로세스 시작
+            ProcessBuilder runPb = new ProcessBuilder(command);
+            runPb.directory(workspace.toFile());
+            Process runProcess = runPb.start();
+
+            // 입력 데이터 전달
+            try (BufferedWriter processInput = new BufferedWriter(new OutputStreamWriter(runProcess.getOutputStream()))) {
+                if (input != null && !input.isEmpty()) {
+                    processInput.write(input);
+                    processInput.newLine();
+                }
+            } catch (IOException e) {
+                // 입력을 다 읽기 전에 종료된 프로세스
+            }
+
+            // 프로세스 출력 수집 (5초 타임아웃)
+            String[] results = collectProcessOutput(runProcess, RUN_TIMEOUT_SECONDS);
+            String stdOut = results[0];
+            String stdErr = results[1];
+
+            // 프로세스 종료 대기
+            int exitCode = runProcess.waitFor();
+
+            // 실행 결과 및 오류 기록
+            output.append("실행 결과 (종료 코드: ").append(exitCode).append("):\n");
+
+            if (!stdOut.isEmpty()) {
+                output.append("표준 출력:\n").append(stdOut);
+            } else {
+                output.append("(표준 출력 없음)\n");
+            }
+
+            // 오류가 있는 경우 추가
+            if (!stdErr.isEmpty()) {
+                output.append("\n오류 출력:\n").append(stdErr);
+                return false;
+            }
+
+            // 종료 코드가 0이 아니면 실행 실패로 간주
+            if (exitCode != 0) {
+                output.append("\n비정상 종료: 종료 코드 ").append(exitCode);
+                return false;
+            }
+
+            return true;
+        } catch (TimeoutException e) {
+            output.append("실행 시간 초과 (" + RUN_TIMEOUT_SECONDS + "초)");
+            return false;
+        } catch (Exception e) {
+            output.append("실행 중 시스템 오류: ").append(e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 프로세스의 표준 출력과 표준 에러를 수집합니다.
+     * 각 스트림은 SIMPLE_CHECK_OUTPUT_LIMIT 까지만 보관하며, 넘으면 프로세스를 종료합니다.
+     *
+     * @param process 실행 중인 프로세스
+     * @param timeout 타임아웃 (초)
+     * @return 표준 출력과 표준 에러 [stdout, stderr]
+     */
+    private String[] collectProcessOutput(Process process, int timeout)
+            throws TimeoutException, ExecutionException, InterruptedException {
+        ioReaper.track(process);
+        CompletableFuture<ProcessIoReaper.StreamOutput> stdOutFuture =
+                ioReaper.read(process, process.getInputStream(), SIMPLE_CHECK_OUTPUT_LIMIT);
+        CompletableFuture<ProcessIoReaper.StreamOutput> stdErrFuture =
+                ioReaper.read(process, process.getErrorStream(), SIMPLE_CHECK_OUTPUT_LIMIT);
+
+        try {
+            // 주어진 타임아웃 내에 두 스트림의 결과 획득
+            CompletableFuture.allOf(stdOutFuture, stdErrFuture).get(timeout, TimeUnit.SECONDS);
+            return new String[] { formatCollectedOutput(stdOutFuture.get()), formatCollectedOutput(stdErrFuture.get()) };
+        } catch (TimeoutException e) {
+            // 타임아웃 발생 시 프로세스 강제 종료 (스트림이 닫히면서 읽기 작업도 끝남)
+            process.destroyForcibly();
+            throw e;
+        }
+    }
+
+    private String formatCollectedOutput(ProcessIoReaper.StreamOutput output) {
+        if (!output.isLimitExceeded()) {
+            return output.getText();
+        }
+        return output.getText() + "\n... (출력 초과: " + SIMPLE_CHECK_OUTPUT_LIMIT + "바이트 이후는 생략되었습니다)\n";
+    }
+}
@@ -0,0 +1,383 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webproject.jandi_ide_backend.algorithm.problem.entity.Problem;
+import com.webproject.jandi_ide_backend.algorithm.problem.service.ProblemService;
+import com.webproject.jandi_ide_backend.algorithm.solution.entity.Solution;
+import com.webproject.jandi_ide_backend.algorithm.solution.entity.Solution.SolutionStatus;
+import com.webproject.jandi_ide_backend.algorithm.testCase.entity.TestCase;
+import com.webproject.jandi_ide_backend.algorithm.testCase.service.TestCaseCache;
+import com.webproject.jandi_ide_backend.algorithm.testCase.service.TestCaseService;
+import com.webproject.jandi_ide_backend.compiler.checker.ExpectedOutput;
+import com.webproject.jandi_ide_backend.compiler.dto.CodeSubmissionDto;
+import com.webproject.jandi_ide_backend.compiler.dto.JudgeMode;
+import com.webproject.jandi_ide_backend.compiler.exception.JudgeOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 제출 중복 제거
+ *
+ * - 채점 결과 캐시: (문제 ID, 테스트 데이터 버전, 언어, 정규화한 코드의 SHA-256)이 같은 제출은 다시 채점하지 않고 저장된 결과를 사용합니다.
+ *   테스트 데이터 버전은 문제의 채점 설정(제한, 검사기, 수정 시각)과 테스트 케이스(ID, 수정 시각, TestDataStore 가 저장한 입출력의 SHA-256)로 계산하므로,
+ *   테스트 케이스나 문제가 바뀌면 이전 결과는 더 이상 사용되지 않습니다.
+ *   fail-fast 채점 결과는 실패한 테스트 케이스까지만 담기므로 전체 채점 결과와 따로 저장합니다.
+ *   결과는 문제별 Redis 해시(verdict-cache.key-prefix + 문제 ID)에 저장되어 API 서버와 채점 워커가 함께 사용하며,
+ *   테스트 케이스 무효화(TEST_CASE_INVALIDATE)를 받으면 해당 문제의 해시를 삭제합니다.
+ *   실행 환경에 따라 달라질 수 있는 결과(시간/메모리 초과, 런타임 오류 등)는 저장하지 않습니다.
+ * - 멱등성 키: 같은 사용자가 같은 Idempotency-Key 로 다시 제출하면 새 제출을 만들지 않고 처음 만든 제출을 반환합니다.
+ *
+ * Redis 에 연결할 수 없으면 중복 제거 없이 평소처럼 채점합니다.
+ */
+@Slf4j
+@Component
+public class SubmissionDeduplicator implements MessageListener {
+
+    // 처리 중인 멱등성 키의 값 (제출 ID가 정해지기 전)
+    private static final String PENDING = "pending";
+    private static final String IDEMPOTENCY_KEY_PREFIX = "judge:idempotency:";
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 128;
+
+    private final ProblemService problemService;
+    private final TestCaseService testCaseService;
+    private final TestDataStore testDataStore;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final String keyPrefix;
+    private final Duration ttl;
+    private final long maxEntriesPerProblem;
+    private final Duration idempotencyTtl;
+    private final HashOperations<String, String, String> hashes;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    /**
+     * 제출 중복 제거 생성자
+     *
+     * @param problemService 문제 서비스 (채점 설정 조회)
+     * @param testCaseService 테스트 케이스 서비스 (테스트 데이터 버전 계산)
+     * @param testDataStore 테스트 케이스별 입출력 해시를 저장하는 테스트 데이터 저장소
+     * @param redisTemplate 결과와 멱등성 키를 저장하는 RedisTemplate (문자열 직렬화)
+     * @param listenerContainer 테스트 케이스 무효화 구독에 사용하는 리스너 컨테이너
+     * @param objectMapper 결과 직렬화에 사용하는 ObjectMapper
+     * @param meterRegistry 지표 레지스트리
+     * @param enabled 채점 결과 캐시 사용 여부
+     * @param keyPrefix 문제별 결과 해시의 키 접두사
+     * @param ttlSeconds 문제별 결과 해시의 만료 시간 (초, 저장할 때마다 연장)
+     * @param maxEntriesPerProblem 문제 하나에 저장하는 최대 결과 수
+     * @param idempotencyTtlSeconds 멱등성 키를 기억하는 시간 (초)
+     */
+    public SubmissionDeduplicator(
+            ProblemService problemService,
+            TestCaseService testCaseService,
+            TestDataStore testDataStore,
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${compiler.verdict-cache.enabled:true}") boolean enabled,
+            @Value("${compiler.verdict-cache.key-prefix:judge:verdict:}") String keyPrefix,
+            @Value("${compiler.verdict-cache.ttl-seconds:86400}") long ttlSeconds,
+            @Value("${compiler.verdict-cache.max-entries-per-problem:10000}") long maxEntriesPerProblem,
+            @Value("${compiler.submission.idempotency-ttl-seconds:600}") long idempotencyTtlSeconds) {
+        this.problemService = problemService;
+        this.testCaseService = testCaseService;
+        this.testDataStore = testDataStore;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.keyPrefix = keyPrefix;
+        this.ttl = Duration.ofSeconds(Math.max(1, ttlSeconds));
+        this.maxEntriesPerProblem = maxEntriesPerProblem;
+        this.idempotencyTtl = Duration.ofSeconds(Math.max(1, idempotencyTtlSeconds));
+        this.hashes = redisTemplate.opsForHash();
+
+        this.hitCounter = Counter.builder("judge.verdict.cache.hits")
+                .description("채점 결과 캐시 적중 횟수 (채점하지 않은 제출 수)")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("judge.verdict.cache.misses")
+                .description("채점 결과 캐시 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 테스트 케이스 무효화를 구독합니다.
+     */
+    @PostConstruct
+    private void init() {
+        if (enabled) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(TestCaseCache.INVALIDATE_CHANNEL));
+        }
+    }
+
+    /**
+     * 제출의 채점 결과 캐시 키를 만듭니다.
+     *
+     * @param submissionDto 코드 제출 정보
+     * @param judgeMode 적용할 채점 방식
+     * @return 캐시 키 (캐시를 사용하지 않거나 테스트 모드, 문제를 찾을 수 없는 경우 empty)
+     */
+    public Optional<Key> keyOf(CodeSubmissionDto submissionDto, JudgeMode judgeMode) {
+        if (!enabled || submissionDto.getProblemId() == null || submissionDto.getProblemId() <= 0
+                || submissionDto.getCode() == null || submissionDto.getLanguage() == null) {
+            return Optional.empty();
+        }
+        Integer problemId = submissionDto.getProblemId().intValue();
+        try {
+            Problem problem = problemService.getProblemById(problemId);
+            List<TestCase> testCases = testCaseService.getTestCasesByProblemId(problemId);
+            String field = dataVersion(problem, testCases)
+                    + ":" + submissionDto.getLanguage().trim().toLowerCase(Locale.ROOT)
+                    + ":" + ExpectedOutput.sha256(normalize(submissionDto.getCode()).getBytes(StandardCharsets.UTF_8))
+                    // 기존 전체 채점 키는 그대로 두고 fail-fast 결과만 구분
+                    + (judgeMode == JudgeMode.FAIL_FAST ? ":fail-fast" : "");
+            return Optional.of(new Key(problemId, field));
+        } catch (IOException | RuntimeException e) {
+            // 없는 문제 등은 평소처럼 채점하며 오류를 기록
+            log.debug("Skipping verdict cache for problem {}: {}", problemId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 저장된 채점 결과를 찾습니다.
+     *
+     * @param key 캐시 키
+     * @return 저장된 결과 (없으면 empty)
+     */
+    public Optional<Verdict> find(Key key) {
+        try {
+            String json = hashes.get(hashKey(key.problemId), key.field);
+            if (json == null) {
+                missCounter.increment();
+                return Optional.empty();
+            }
+            hitCounter.increment();
+            return Optional.of(objectMapper.readValue(json, Verdict.class));
+        } catch (Exception e) {
+            log.warn("Failed to read verdict cache for problem {}: {}", key.problemId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 채점 결과를 저장합니다. 실행 환경에 따라 달라질 수 있는 결과는 저장하지 않습니다.
+     *
+     * @param key 채점 전에 만든 캐시 키
+     * @param solution 채점이 끝난 제출
+     */
+    public void put(Key key, Solution solution) {
+        if (!isCacheable(solution.getStatus())) {
+            return;
+        }
+        String hashKey = hashKey(key.problemId);
+        try {
+            Long size = hashes.size(hashKey);
+            if (size != null && size >= maxEntriesPerProblem) {
+                return;
+            }
+            Verdict verdict = new Verdict(solution.getStatus(), Boolean.TRUE.equals(solution.getIsCorrect()),
+                    solution.getAdditionalInfo(), solution.getExecutionTime(), solution.getMemoryUsage());
+            hashes.put(hashKey, key.field, objectMapper.writeValueAsString(verdict));
+            redisTemplate.expire(hashKey, ttl);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize verdict for problem {}: {}", key.problemId, e.getMessage());
+        } catch (Exception e) {
+            log.warn("Failed to store verdict for problem {}: {}", key.problemId, e.getMessage());
+        }
+    }
+
+    /**
+     * 멱등성 키를 확인하고, 처음 보는 키이면 처리 중으로 표시합니다.
+     *
+     * @param userId 사용자 ID
+     * @param idempotencyKey 클라이언트가 보낸 멱등성 키 (없으면 null)
+     * @return 같은 키로 이미 만든 제출 ID (처음 보는 키이거나 키가 없으면 empty)
+     * @throws JudgeOverloadedException 같은 키의 요청을 아직 처리하고 있는 경우
+     */
+    public Optional<Long> claim(Long userId, String idempotencyKey) {
+        String redisKey = idempotencyKey(userId, idempotencyKey);
+        if (redisKey == null) {
+            return Optional.empty();
+        }
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(redisKey, PENDING, idempotencyTtl))) {
+                return Optional.empty();
+            }
+            String value = redisTemplate.opsForValue().get(redisKey);
+            if (value == null) {
+                // 확인하는 사이 만료된 경우
+                redisTemplate.opsForValue().setIfAbsent(redisKey, PENDING, idempotencyTtl);
+                return Optional.empty();
+            }
+            if (PENDING.equals(value)) {
+                throw new JudgeOverloadedException("같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요.", 1);
+            }
+            return Optional.of(Long.valueOf(value));
+        } catch (JudgeOverloadedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("Failed to check idempotency key for user {}: {}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 멱등성 키에 만든 제출 ID를 기록합니다.
+     *
+     * @param userId 사용자 ID
+     * @param idempotencyKey 클라이언트가 보낸 멱등성 키 (없으면 null)
+     * @param submissionId 제출 ID
+     */
+    public void bind(Long userId, String idempotencyKey, Long submissionId) {
+        String redisKey = idempotencyKey(userId, idempotencyKey);
+        if (redisKey == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(redisKey, String.valueOf(submissionId), idempotencyTtl);
+        } catch (Exception e) {
+            log.warn("Failed to record idempotency key for submission {}: {}", submissionId, e.getMessage());
+        }
+    }
+
+    /**
+     * 제출을 만들지 못한 멱등성 키를 지워 같은 키로 다시 시도할 수 있게 합니다.
+     *
+     * @param userId 사용자 ID
+     * @param idempotencyKey 클라이언트가 보낸 멱등성 키 (없으면 null)
+     */
+    public void release(Long userId, String idempotencyKey) {
+        String redisKey = idempotencyKey(userId, idempotencyKey);
+        if (redisKey == null) {
+            return;
+        }
+        try {
+            redisTemplate.delete(redisKey);
+        } catch (Exception e) {
+            log.warn("Failed to release idempotency key for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 테스트 케이스가 바뀐 문제의 저장된 결과를 삭제합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8).replace("\"", "").trim();
+            redisTemplate.delete(hashKey(Integer.valueOf(body)));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed test case invalidation message: {}", e.getMessage());
+        } catch (Exception e) {
+            // 이전 결과는 테스트 데이터 버전이 달라 사용되지 않고 만료 시간이 지나면 삭제됨
+            log.warn("Failed to invalidate verdict cache: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 같은 코드로 볼 수 있도록 줄바꿈 형식(CRLF, CR)과 파일 끝의 공백만 정리합니다.
+     * 줄 안의 공백은 (Python 들여쓰기, 문자열 리터럴 등) 결과에 영향을 줄 수 있으므로 그대로 두고,
+     * BOM 도 javac 가 컴파일 오류로 처리하므로 해시에 그대로 포함합니다.
+     */
+    static String normalize(String code) {
+        String normalized = code.replace("\r\n", "\n").replace('\r', '\n');
+        return normalized.stripTrailing();
+    }
+
+    /**
+     * 채점 결과에 영향을 주는 문제 설정과 테스트 케이스로 테스트 데이터 버전을 계산합니다.
+     * 입출력 해시는 테스트 데이터 저장소가 테스트 케이스 버전마다 한 번 계산해 저장한 값을 사용합니다.
+     */
+    private String dataVersion(Problem problem, List<TestCase> testCases) throws IOException {
+        StringBuilder source = new StringBuilder()
+                .append(problem.getUpdatedAt()).append('|')
+                .append(problem.getTimeLimit()).append('|')
+                .append(problem.getMemory()).append('|')
+                .append(problem.getOutputLimit()).append('|')
+                .append(problem.getCheckerType()).append('|')
+                .append(problem.getCheckerAbsoluteEpsilon()).append('|')
+                .append(problem.getCheckerRelativeEpsilon()).append('|')
+                .append(problem.getSpecialJudge());
+        for (TestCase testCase : testCases) {
+            source.append('|').append(testCase.getId())
+                    .append(',').append(testCase.getUpdatedAt())
+                    .append(',').append(testDataStore.contentSha256(testCase));
+        }
+        // 키 길이를 줄이기 위해 앞 16자리만 사용
+        return ExpectedOutput.sha256(source.toString().getBytes(StandardCharsets.UTF_8)).substring(0, 16);
+    }
+
+    private static boolean isCacheable(SolutionStatus status) {
+        return status == SolutionStatus.CORRECT || status == SolutionStatus.WRONG_ANSWER;
+    }
+
+    private String hashKey(Integer problemId) {
+        return keyPrefix + problemId;
+    }
+
+    private static String idempotencyKey(Long userId, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return null;
+        }
+        String trimmed = idempotencyKey.trim();
+        if (trimmed.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            trimmed = ExpectedOutput.sha256(trimmed.getBytes(StandardCharsets.UTF_8));
+        }
+        return IDEMPOTENCY_KEY_PREFIX + userId + ":" + trimmed;
+    }
+
+    /**
+     * 채점 결과 캐시 키 (문제별 해시의 필드)
+     */
+    public static class Key {
+        private final Integer problemId;
+        private final String field;
+
+        Key(Integer problemId, String field) {
+            this.problemId = problemId;
+            this.field = field;
+        }
+    }
+
+    /**
+     * 저장된 채점 결과
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Verdict {
+        private SolutionStatus status;
+        private Boolean isCorrect;
+        private String additionalInfo;
+        private Integer executionTime;
+        private Integer memoryUsage;
+    }
+}
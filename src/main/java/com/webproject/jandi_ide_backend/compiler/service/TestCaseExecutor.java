@@ -0,0 +1,304 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import com.webproject.jandi_ide_backend.algorithm.testCase.entity.TestCase;
+import com.webproject.jandi_ide_backend.compiler.dto.ResultDto;
+import com.webproject.jandi_ide_backend.compiler.dto.ResultStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 테스트 케이스 실행기
+ *
+ * 컴파일이 끝난 제출의 테스트 케이스들을 실행합니다.
+ * 병렬 모드에서는 서로 독립적인 테스트 케이스를 여러 코어에서 동시에 실행하며,
+ * 두 가지 동시 실행 한도를 둡니다.
+ * - 전역 한도: 호스트 전체에서 동시에 실행되는 자식 프로세스 수 (모든 제출 공유)
+ * - 제출별 한도: 하나의 제출이 동시에 사용할 수 있는 실행 슬롯 수
+ *
+ * 결과는 실행 순서와 관계없이 testNum 순서로 정렬되어 반환됩니다.
+ * fail-fast 로 실행하면(failFast) CORRECT 가 아닌 판정이 나오는 즉시 대기 중인 테스트 케이스는 실행하지 않고
+ * 실행 중인 테스트 케이스는 중단하며, 실행을 마친 테스트 케이스의 결과만 반환합니다.
+ * 비동기 채점 중이면 테스트 케이스마다 실행 시작과 판정을 채점 진행 이벤트로 알립니다.
+ * 실행을 마친 테스트 케이스의 CPU 시간과 벽시계 시간은 채점 동시 실행 수 조절기에 넘깁니다.
+ */
+@Slf4j
+@Component
+public class TestCaseExecutor {
+
+    /**
+     * 테스트 케이스 하나를 실행하는 작업
+     */
+    @FunctionalInterface
+    public interface TestCaseTask {
+        /**
+         * @param testCase 실행할 테스트 케이스
+         * @param testNum 1부터 시작하는 테스트 케이스 번호
+         * @return 실행 결과
+         */
+        ResultDto run(TestCase testCase, int testNum);
+    }
+
+    private final boolean parallelEnabled;
+    private final int perSubmissionParallelism;
+    private final Semaphore processPermits;
+    private final ExecutorService pool;
+    private final JudgeProgressPublisher progressPublisher;
+    private final JudgeConcurrencyLimiter limiter;
+    // failFast 로 실행 중인 호출 스레드
+    private final ThreadLocal<Boolean> failFast = new ThreadLocal<>();
+
+    /**
+     * 테스트 케이스 실행기 생성자
+     *
+     * @param parallelEnabled 병렬 실행 여부
+     * @param maxProcesses 호스트 전체 동시 실행 프로세스 수 (0 이하이면 CPU 코어 수)
+     * @param perSubmissionParallelism 제출 하나의 최대 동시 실행 수
+     * @param progressPublisher 채점 진행 이벤트 발행기
+     * @param limiter 채점 동시 실행 수 자동 조절기
+     */
+    public TestCaseExecutor(
+            @Value("${compiler.judge.parallel.enabled:true}") boolean parallelEnabled,
+            @Value("${compiler.judge.parallel.max-processes:0}") int maxProcesses,
+            @Value("${compiler.judge.parallel.per-submission:2}") int perSubmissionParallelism,
+            JudgeProgressPublisher progressPublisher,
+            JudgeConcurrencyLimiter limiter) {
+        int globalLimit = maxProcesses > 0 ? maxProcesses : Runtime.getRuntime().availableProcessors();
+        this.parallelEnabled = parallelEnabled;
+        this.perSubmissionParallelism = Math.max(1, Math.min(perSubmissionParallelism, globalLimit));
+        this.processPermits = new Semaphore(globalLimit, true);
+        this.progressPublisher = progressPublisher;
+        this.limiter = limiter;
+
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        this.pool = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "judge-testcase-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        log.info("Test case executor initialized: parallel={}, maxProcesses={}, perSubmission={}",
+                parallelEnabled, globalLimit, this.perSubmissionParallelism);
+    }
+
+    /**
+     * 현재 스레드에서 실행하는 테스트 케이스를 fail-fast 로 실행합니다.
+     *
+     * @param enabled fail-fast 여부 (false 이면 모든 테스트 케이스 실행)
+     * @param work 테스트 케이스를 실행하는 작업 (언어 런타임의 runCode 등)
+     * @return 작업 결과
+     */
+    public <T> T failFast(boolean enabled, Supplier<T> work) {
+        Boolean previous = failFast.get();
+        failFast.set(enabled);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                failFast.remove();
+            } else {
+                failFast.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드가 fail-fast 로 실행 중인지 확인합니다.
+     */
+    public boolean isFailFast() {
+        return Boolean.TRUE.equals(failFast.get());
+    }
+
+    /**
+     * 모든 테스트 케이스를 실행하고 testNum 순서로 정렬된 결과를 반환합니다.
+     *
+     * @param testCases 실행할 테스트 케이스 목록
+     * @param task 테스트 케이스 하나를 실행하는 작업
+     * @return 테스트 케이스별 실행 결과 (testNum 오름차순)
+     */
+    public List<ResultDto> execute(List<TestCase> testCases, TestCaseTask task) {
+        List<Integer> testNums = new ArrayList<>();
+        for (int i = 0; i < testCases.size(); i++) {
+            testNums.add(i + 1);
+        }
+        return execute(testCases, testNums, task);
+    }
+
+    /**
+     * 테스트 케이스 번호를 지정해 실행합니다. (일부 테스트 케이스만 다시 실행하는 경우)
+     *
+     * @param testCases 실행할 테스트 케이스 목록
+     * @param testNums 각 테스트 케이스의 번호 (testCases 와 같은 순서)
+     * @param task 테스트 케이스 하나를 실행하는 작업
+     * @return 테스트 케이스별 실행 결과 (testNum 오름차순)
+     */
+    public List<ResultDto> execute(List<TestCase> testCases, List<Integer> testNums, TestCaseTask task) {
+        // 실행 스레드에는 채점 워커의 리스너가 없으므로 호출 스레드에서 가져가 넘김
+        JudgeProgressListener progress = progressPublisher.current();
+        boolean stopOnFailure = isFailFast();
+        if (!parallelEnabled || perSubmissionParallelism == 1 || testCases.size() <= 1) {
+            return executeSequentially(testCases, testNums, task, progress, stopOnFailure);
+        }
+        return executeInParallel(testCases, testNums, task, progress, stopOnFailure);
+    }
+
+    private List<ResultDto> executeSequentially(List<TestCase> testCases, List<Integer> testNums, TestCaseTask task,
+                                                JudgeProgressListener progress, boolean stopOnFailure) {
+        List<ResultDto> results = new ArrayList<>();
+        for (int i = 0; i < testCases.size(); i++) {
+            ResultDto result = runWithPermit(testCases.get(i), testNums.get(i), task, progress);
+            results.add(result);
+            if (stopOnFailure && result.getStatus() != ResultStatus.CORRECT) {
+                break;
+            }
+        }
+        return results;
+    }
+
+    private List<ResultDto> executeInParallel(List<TestCase> testCases, List<Integer> testNums, TestCaseTask task,
+                                              JudgeProgressListener progress, boolean stopOnFailure) {
+        Semaphore submissionPermits = new Semaphore(perSubmissionParallelism);
+        // 실패한 작업이 다른 작업을 중단할 수 있도록 스레드 안전한 목록 사용
+        List<Future<?>> futures = new CopyOnWriteArrayList<>();
+        // 중단된 작업의 결과는 Future 로 받을 수 없으므로 끝난 결과를 따로 모음
+        Queue<ResultDto> finished = new ConcurrentLinkedQueue<>();
+        // fail-fast 에서 CORRECT 가 아닌 판정이 나왔는지 여부
+        AtomicBoolean failed = new AtomicBoolean(false);
+
+        for (int i = 0; i < testCases.size() && !failed.get(); i++) {
+            TestCase testCase = testCases.get(i);
+            int testNum = testNums.get(i);
+            try {
+                // 제출별 한도를 넘지 않도록 호출 스레드에서 슬롯을 확보한 뒤 작업을 넘김
+                submissionPermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(future -> future.cancel(true));
+                throw new IllegalStateException("테스트 케이스 실행이 중단되었습니다", e);
+            }
+            if (failed.get()) {
+                // 슬롯을 기다리는 동안 실패가 확정됨
+                submissionPermits.release();
+                break;
+            }
+            futures.add(pool.submit(() -> {
+                try {
+                    ResultDto result;
+                    try {
+                        result = runWithPermit(testCase, testNum, task, progress, failed);
+                    } catch (RuntimeException e) {
+                        result = errorResult(testCase, testNum, e);
+                        progress.verdict(result);
+                    }
+                    if (result == null) {
+                        return;
+                    }
+                    finished.add(result);
+                    if (stopOnFailure && result.getStatus() != ResultStatus.CORRECT && failed.compareAndSet(false, true)) {
+                        // 대기 중이거나 실행 중인 다른 테스트 케이스를 중단 (실행 중인 프로세스는 ProcessRunner 가 종료)
+                        futures.forEach(future -> future.cancel(true));
+                    }
+                } finally {
+                    submissionPermits.release();
+                }
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (CancellationException e) {
+                // fail-fast 로 중단된 테스트 케이스는 결과에서 뺌
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(pending -> pending.cancel(true));
+                throw new IllegalStateException("테스트 케이스 실행이 중단되었습니다", e);
+            } catch (ExecutionException e) {
+                log.error("Unexpected error while running test cases: {}", e.getMessage(), e);
+            }
+        }
+        List<ResultDto> results = new ArrayList<>(finished);
+        results.sort(Comparator.comparingInt(ResultDto::getTestNum));
+        return results;
+    }
+
+    /**
+     * 전역 프로세스 슬롯을 확보한 상태에서 테스트 케이스를 실행하고 판정을 진행 이벤트로 알립니다.
+     */
+    private ResultDto runWithPermit(TestCase testCase, int testNum, TestCaseTask task, JudgeProgressListener progress) {
+        return runWithPermit(testCase, testNum, task, progress, null);
+    }
+
+    /**
+     * @param cancelled fail-fast 로 중단되었는지 여부 (중단되었으면 실행하지 않거나 결과를 버리고 null 반환)
+     */
+    private ResultDto runWithPermit(TestCase testCase, int testNum, TestCaseTask task, JudgeProgressListener progress,
+                                    AtomicBoolean cancelled) {
+        if (cancelled != null && cancelled.get()) {
+            return null;
+        }
+        ResultDto result;
+        try {
+            processPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return cancelled != null && cancelled.get() ? null : errorResult(testCase, testNum, e);
+        }
+        try {
+            progress.running(testNum);
+            result = task.run(testCase, testNum);
+        } catch (Exception e) {
+            log.error("Unexpected error while running test case {}: {}", testNum, e.getMessage(), e);
+            result = errorResult(testCase, testNum, e);
+        } finally {
+            processPermits.release();
+        }
+        if (cancelled != null && cancelled.get()) {
+            // 중단되어 끝난 실행의 결과는 판정으로 알리지 않음
+            return null;
+        }
+        limiter.onTestCase(result);
+        progress.verdict(result);
+        return result;
+    }
+
+    /**
+     * 전역 프로세스 슬롯을 확보한 상태에서 작업을 실행합니다. (테스트 케이스 여러 개를 한 프로세스로 실행하는 경우)
+     */
+    public <T> T callWithPermit(Callable<T> task) throws Exception {
+        processPermits.acquire();
+        try {
+            return task.call();
+        } finally {
+            processPermits.release();
+        }
+    }
+
+    private ResultDto errorResult(TestCase testCase, int testNum, Throwable cause) {
+        return ResultDto.builder()
+                .testNum(testNum)
+                .input(testCase.getInput())
+                .expectedResult(testCase.getOutput())
+                .actualResult("예상치 못한 오류: " + (cause != null ? cause.getMessage() : "unknown") + "\n")
+                .status(ResultStatus.RUNTIME_ERROR)
+                .build();
+    }
+
+    /**
+     * 애플리케이션 종료 시 실행 스레드 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,300 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import com.webproject.jandi_ide_backend.algorithm.testCase.entity.TestCase;
+import com.webproject.jandi_ide_backend.compiler.checker.ExpectedOutput;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 파일 기반 테스트 데이터 저장소
+ *
+ * 테스트 케이스의 입력과 기대 출력을 로컬 디스크에 한 번만 파일로 만들어 두고 streaming 실행에서 재사용합니다.
+ * - 입력 파일에는 실행기가 넘기는 형식(공백 구분을 쉼표 구분으로 변환)으로 변환된 입력을 저장하며, 자식 프로세스의 표준 입력으로 바로 연결합니다.
+ * - 기대 출력 파일에는 검사기 종류별 정규화 형식(CheckerEngine.canonicalize)으로 바꾼 기대 출력과 그 SHA-256 해시를 저장하고,
+ *   비교할 때 메모리 매핑해 사용합니다. 정규화 형식별 파일은 해당 검사기로 처음 채점할 때 만듭니다.
+ * - 원본 입력과 기대 출력의 SHA-256 해시를 content.sha256 에 저장해 두고, 채점 결과 캐시의 테스트 데이터 버전에 사용합니다.
+ * 따라서 실행할 때마다 입력을 split/join 하거나 입력 파일을 새로 쓰지 않으며, 입출력이 큰 테스트 케이스도 힙에 복사본을 만들지 않습니다.
+ *
+ * MySQL이 원본이며 파일은 실행 시점에 필요할 때 만듭니다. 파일은 (테스트 케이스 ID, 수정 시각, 입출력 길이)로 정한 버전 디렉토리에 저장되므로
+ * 테스트 케이스가 수정되면 새 버전을 만들고 이전 버전은 삭제합니다.
+ *
+ * 디렉토리 구조: {root}/{테스트 케이스 ID}/{버전}/input.txt, content.sha256, expected-{형식}.txt, expected-{형식}.sha256
+ */
+@Slf4j
+@Component
+public class TestDataStore {
+
+    private static final String INPUT_FILE = "input.txt";
+    private static final String CONTENT_HASH_FILE = "content.sha256";
+    private static final String EXPECTED_PREFIX = "expected-";
+    private static final String TEMP_PREFIX = ".tmp-";
+
+    private final boolean enabled;
+    private final Path rootDir;
+
+    // 테스트 케이스 ID -> 현재 버전의 테스트 데이터
+    private final Map<Integer, TestData> index = new ConcurrentHashMap<>();
+
+    /**
+     * 테스트 데이터 저장소 생성자
+     *
+     * @param enabled 사용 여부 (false 이면 실행마다 입력 파일을 새로 만듦)
+     * @param rootDir 테스트 데이터 파일을 저장할 디렉토리
+     */
+    public TestDataStore(
+            @Value("${compiler.test-data.enabled:true}") boolean enabled,
+            @Value("${compiler.test-data.dir:compiler_testdata}") String rootDir) {
+        this.enabled = enabled;
+        this.rootDir = Paths.get(rootDir).toAbsolutePath();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 실행기가 표준 입력으로 넘기는 형식으로 입력을 변환합니다. (공백으로 구분된 입력을 쉼표로 구분하고 줄바꿈 추가)
+     *
+     * @param input 테스트 케이스 입력
+     * @return 변환된 입력
+     */
+    public static String formatInput(String input) {
+        return String.join(",", input.trim().split("\\s+")) + "\n";
+    }
+
+    /**
+     * 테스트 케이스의 원본 입력과 기대 출력의 SHA-256 해시를 반환합니다.
+     * 저장소를 사용하면 버전 디렉토리에 저장된 해시를 재사용하고, 사용하지 않으면 매번 계산합니다.
+     *
+     * @param testCase 테스트 케이스
+     * @return 16진수 SHA-256 해시
+     * @throws IOException 테스트 데이터 파일을 만들거나 읽지 못한 경우
+     */
+    public String contentSha256(TestCase testCase) throws IOException {
+        return enabled ? get(testCase).getSha256() : computeContentSha256(testCase);
+    }
+
+    /**
+     * 테스트 케이스의 테스트 데이터 파일을 찾고, 없거나 버전이 다르면 새로 만듭니다.
+     *
+     * @param testCase 테스트 케이스
+     * @return 테스트 데이터
+     * @throws IOException 파일을 만들거나 매핑하지 못한 경우
+     */
+    public TestData get(TestCase testCase) throws IOException {
+        String version = version(testCase);
+        TestData current = index.get(testCase.getId());
+        if (current != null && current.version.equals(version)) {
+            return current;
+        }
+        try {
+            // 같은 테스트 케이스를 동시에 실행하는 스레드는 한 번만 파일을 만듦
+            return index.compute(testCase.getId(), (id, existing) -> {
+                if (existing != null && existing.version.equals(version)) {
+                    return existing;
+                }
+                try {
+                    return materialize(testCase, version);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 테스트 케이스의 정규화된 기대 출력을 찾고, 없으면 새로 만듭니다.
+     *
+     * @param testCase 테스트 케이스
+     * @param form 정규화 형식 이름 (파일 이름에 사용)
+     * @param canonicalizer 원본 기대 출력을 정규화 형식으로 바꾸는 함수
+     * @return 메모리 매핑된 기대 출력
+     * @throws IOException 파일을 만들거나 매핑하지 못한 경우
+     */
+    public ExpectedOutput expected(TestCase testCase, String form, Function<String, byte[]> canonicalizer)
+            throws IOException {
+        TestData data = get(testCase);
+        ExpectedOutput current = data.forms.get(form);
+        if (current != null) {
+            return current;
+        }
+        try {
+            return data.forms.computeIfAbsent(form, key -> {
+                try {
+                    return materializeExpected(data, testCase, key, canonicalizer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 버전 디렉토리에 입력 파일이 있으면 그대로 사용하고, 없으면 임시 디렉토리에 만든 뒤 옮깁니다.
+     */
+    private TestData materialize(TestCase testCase, String version) throws IOException {
+        Path caseDir = rootDir.resolve(String.valueOf(testCase.getId()));
+        Path target = caseDir.resolve(version);
+        if (!Files.exists(target.resolve(INPUT_FILE))) {
+            Files.createDirectories(caseDir);
+            Path temp = Files.createTempDirectory(caseDir, TEMP_PREFIX);
+            try {
+                Files.writeString(temp.resolve(INPUT_FILE), formatInput(testCase.getInput()), StandardCharsets.UTF_8);
+                try {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                    log.debug("Materialized test data for test case {} (version {})", testCase.getId(), version);
+                } catch (IOException e) {
+                    // 다른 인스턴스가 같은 버전을 먼저 만든 경우 그쪽을 사용
+                    log.debug("Test data for test case {} already exists: {}", testCase.getId(), e.getMessage());
+                }
+            } finally {
+                if (Files.exists(temp)) {
+                    deleteRecursively(temp);
+                }
+            }
+            removeStale(caseDir, version);
+        }
+
+        // 해시 파일이 없던 이전 버전 디렉토리도 처음 사용할 때 해시를 기록
+        Path hashFile = target.resolve(CONTENT_HASH_FILE);
+        if (!Files.exists(hashFile)) {
+            publish(target, hashFile, computeContentSha256(testCase).getBytes(StandardCharsets.US_ASCII));
+        }
+        String sha256 = Files.readString(hashFile, StandardCharsets.US_ASCII).trim();
+        return new TestData(version, target.resolve(INPUT_FILE), sha256);
+    }
+
+    /**
+     * 원본 입력과 기대 출력을 구분자와 함께 이어 붙인 내용의 SHA-256 해시
+     */
+    private static String computeContentSha256(TestCase testCase) {
+        String input = testCase.getInput() != null ? testCase.getInput() : "";
+        String output = testCase.getOutput() != null ? testCase.getOutput() : "";
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(input.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(output.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 버전 디렉토리에 정규화 형식의 기대 출력 파일이 있으면 매핑하고, 없으면 임시 파일에 쓴 뒤 옮깁니다.
+     */
+    private ExpectedOutput materializeExpected(TestData data, TestCase testCase, String form,
+                                               Function<String, byte[]> canonicalizer) throws IOException {
+        Path dir = data.inputFile.getParent();
+        Path expectedFile = dir.resolve(EXPECTED_PREFIX + form + ".txt");
+        Path hashFile = dir.resolve(EXPECTED_PREFIX + form + ".sha256");
+        if (!Files.exists(expectedFile)) {
+            byte[] canonical = canonicalizer.apply(testCase.getOutput());
+            // 해시 파일을 먼저 옮기므로 기대 출력 파일이 있으면 해시 파일도 완성된 상태
+            publish(dir, hashFile, ExpectedOutput.sha256(canonical).getBytes(StandardCharsets.US_ASCII));
+            publish(dir, expectedFile, canonical);
+            log.debug("Materialized {} expected output for test case {} (version {})", form, testCase.getId(), data.version);
+        }
+
+        String sha256 = Files.readString(hashFile, StandardCharsets.US_ASCII).trim();
+        try (FileChannel channel = FileChannel.open(expectedFile, StandardOpenOption.READ)) {
+            ByteBuffer expected = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new ExpectedOutput(expected, sha256);
+        }
+    }
+
+    /**
+     * 같은 디렉토리의 임시 파일에 쓴 뒤 원자적으로 옮겨, 다른 스레드나 인스턴스가 쓰다 만 파일을 읽지 않게 합니다.
+     */
+    private void publish(Path dir, Path target, byte[] content) throws IOException {
+        Path temp = Files.createTempFile(dir, TEMP_PREFIX, ".tmp");
+        try {
+            Files.write(temp, content);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * MySQL의 테스트 케이스가 바뀌면 달라지는 버전 문자열
+     */
+    private String version(TestCase testCase) {
+        long updatedAt = testCase.getUpdatedAt() != null
+                ? testCase.getUpdatedAt().toInstant(ZoneOffset.UTC).toEpochMilli()
+                : 0;
+        return updatedAt + "-" + testCase.getInput().length() + "-" + testCase.getOutput().length();
+    }
+
+    /**
+     * 같은 테스트 케이스의 이전 버전과 중단된 임시 디렉토리를 삭제합니다.
+     */
+    private void removeStale(Path caseDir, String currentVersion) {
+        try (Stream<Path> dirs = Files.list(caseDir)) {
+            dirs.filter(dir -> !dir.getFileName().toString().equals(currentVersion))
+                    .filter(dir -> !dir.getFileName().toString().startsWith(TEMP_PREFIX))
+                    .forEach(this::deleteRecursively);
+        } catch (IOException e) {
+            log.debug("Failed to remove stale test data in {}: {}", caseDir, e.getMessage());
+        }
+    }
+
+    private void deleteRecursively(Path dir) {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    log.debug("Failed to delete {}: {}", path, e.getMessage());
+                }
+            });
+        } catch (IOException e) {
+            log.debug("Failed to delete {}: {}", dir, e.getMessage());
+        }
+    }
+
+    /**
+     * 테스트 케이스 하나의 테스트 데이터 파일
+     */
+    @Getter
+    public static class TestData {
+        private final String version;
+        // 실행기 형식으로 변환된 입력 (표준 입력으로 리다이렉트)
+        private final Path inputFile;
+        // 원본 입력과 기대 출력의 SHA-256 해시
+        private final String sha256;
+        // 정규화 형식 -> 기대 출력 (읽기 전용 메모리 매핑, 여러 실행에서 공유)
+        @Getter(AccessLevel.NONE)
+        private final Map<String, ExpectedOutput> forms = new ConcurrentHashMap<>();
+
+        TestData(String version, Path inputFile, String sha256) {
+            this.version = version;
+            this.inputFile = inputFile;
+            this.sha256 = sha256;
+        }
+    }
+}
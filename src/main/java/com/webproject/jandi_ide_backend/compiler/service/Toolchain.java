@@ -0,0 +1,37 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import com.webproject.jandi_ide_backend.compiler.dto.RuntimeInfoDto;
+import lombok.Getter;
+
+/**
+ * 찾은 툴체인 (컴파일러 또는 인터프리터 실행 파일)
+ *
+ * ToolchainLocator 가 애플리케이션 시작 시 PATH 에서 찾은 실행 파일의 절대 경로와 버전을 담습니다.
+ */
+@Getter
+public class Toolchain {
+
+    // 역할 (compiler, runtime, interpreter)
+    private final String role;
+    // 실행 파일 절대 경로
+    private final String command;
+    // 버전 출력의 첫 줄
+    private final String version;
+
+    Toolchain(String role, String command, String version) {
+        this.role = role;
+        this.command = command;
+        this.version = version;
+    }
+
+    /**
+     * 응답 DTO로 변환합니다.
+     */
+    public RuntimeInfoDto.ToolchainDto toDto() {
+        return RuntimeInfoDto.ToolchainDto.builder()
+                .role(role)
+                .command(command)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 툴체인 탐색기
+ *
+ * 후보 명령을 순서대로 PATH 에서 찾아 절대 경로로 바꾸고, 버전 옵션으로 한 번 실행해 버전을 확인합니다.
+ * 애플리케이션 시작 시 언어 런타임마다 한 번만 호출되며, 이후 채점에서는 찾은 경로를 바로 사용하므로
+ * 제출이나 테스트 케이스마다 인터프리터를 찾는 프로세스를 띄우지 않습니다.
+ */
+@Slf4j
+@Component
+public class ToolchainLocator {
+
+    private static final long VERSION_TIMEOUT_SECONDS = 5;
+    private static final int VERSION_OUTPUT_LIMIT = 4096;
+
+    private final ProcessIoReaper ioReaper;
+
+    public ToolchainLocator(ProcessIoReaper ioReaper) {
+        this.ioReaper = ioReaper;
+    }
+
+    /**
+     * 후보 명령 중 처음으로 실행에 성공한 툴체인을 찾습니다.
+     *
+     * @param role 툴체인 역할 (compiler, runtime, interpreter)
+     * @param candidates 순서대로 시도할 명령 이름 또는 경로
+     * @param versionArgs 버전을 출력하는 인자 (예: --version)
+     * @return 찾은 툴체인, 실행 가능한 후보가 없으면 empty
+     */
+    public Optional<Toolchain> locate(String role, List<String> candidates, List<String> versionArgs) {
+        for (String candidate : candidates) {
+            Optional<Path> executable = resolve(candidate);
+            if (executable.isEmpty()) {
+                log.debug("Toolchain candidate not found on PATH: {}", candidate);
+                continue;
+            }
+            String command = executable.get().toString();
+            try {
+                String version = probeVersion(command, versionArgs);
+                if (version != null) {
+                    return Optional.of(new Toolchain(role, command, version));
+                }
+            } catch (IOException | ExecutionException | TimeoutException e) {
+                log.warn("Failed to probe toolchain {}: {}", command, e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<Path> resolve(String candidate) {
+        if (candidate.contains(File.separator)) {
+            Path path = Paths.get(candidate).toAbsolutePath();
+            return Files.isExecutable(path) ? Optional.of(path) : Optional.empty();
+        }
+        String pathEnv = System.getenv("PATH");
+        if (pathEnv == null) {
+            return Optional.empty();
+        }
+        for (String dir : pathEnv.split(File.pathSeparator)) {
+            if (dir.isEmpty()) {
+                continue;
+            }
+            Path path = Paths.get(dir, candidate);
+            if (Files.isRegularFile(path) && Files.isExecutable(path)) {
+                return Optional.of(path.toAbsolutePath());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 버전 옵션으로 실행해 출력의 첫 줄을 반환합니다.
+     *
+     * @return 버전 문자열, 종료 코드가 0이 아니면 null
+     */
+    private String probeVersion(String command, List<String> versionArgs)
+            throws IOException, InterruptedException, ExecutionException, TimeoutException {
+        List<String> probeCommand = new ArrayList<>();
+        probeCommand.add(command);
+        probeCommand.addAll(versionArgs);
+
+        // java -version 처럼 버전을 표준 에러로 출력하는 도구가 있으므로 두 스트림을 합침
+        Process process = new ProcessBuilder(probeCommand).redirectErrorStream(true).start();
+        ioReaper.track(process);
+        try {
+            process.getOutputStream().close();
+            String output = ioReaper.read(process, process.getInputStream(), VERSION_OUTPUT_LIMIT)
+                    .get(VERSION_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                    .getText();
+            if (!process.waitFor(VERSION_TIMEOUT_SECONDS, TimeUnit.SECONDS) || process.exitValue() != 0) {
+                return null;
+            }
+            return output.strip().lines().findFirst().orElse("");
+        } finally {
+            process.destroyForcibly();
+        }
+    }
+}
@@ -0,0 +1,481 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import com.webproject.jandi_ide_backend.compiler.checker.OutputChecker;
+import com.webproject.jandi_ide_backend.compiler.runner.WarmJvmRunner;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Java 실행 JVM 풀
+ *
+ * compiler.java.run-mode=warm 일 때 미리 띄워 둔 실행 JVM(WarmJvmRunner)에서 Java 제출 코드를 실행합니다.
+ * 테스트 케이스마다 JVM을 새로 띄우지 않으므로 지연 시간이 줄고, 실행 시간에는 main 메서드 실행 시간만 포함됩니다.
+ *
+ * - 실행 JVM은 시작 시 LanguageRuntimeRegistry 가 찾은 java 툴체인으로 띄웁니다.
+ * - 실행 JVM은 힙 크기(-Xmx)별로 따로 관리되며, 유휴 JVM이 pool-size 보다 적으면 백그라운드에서 새로 띄웁니다.
+ * - 메모리는 fork 방식의 proc 측정과 같이 실행 JVM 전체의 최대 RSS(VmHWM)로 보고됩니다.
+ * - 제출 코드가 System.exit 으로 종료하면 종료 코드가 0이 아닐 때 EXIT 상태로 보고합니다.
+ * - 실행 JVM은 max-runs 번 사용하거나 시간/메모리 제한 초과, System.exit 호출, 남은 사용자 스레드가 있으면 교체됩니다.
+ * - 응답이 제한 시간 + 여유 시간 안에 오지 않으면 JVM을 강제 종료합니다.
+ * - 실행 중 출력 파일이 출력 제한을 넘거나 실행을 요청한 스레드가 인터럽트되면 JVM을 강제 종료합니다.
+ */
+@Slf4j
+@Component
+public class WarmJvmRunnerPool {
+
+    private static final String MODE_WARM = "warm";
+
+    // 실행 JVM이 응답하지 못할 때 강제 종료까지 추가로 기다리는 시간
+    private static final long KILL_GRACE_MILLIS = 1000;
+    private static final long STARTUP_TIMEOUT_SECONDS = 30;
+    // 실행 중 출력 파일 크기를 확인하는 주기
+    private static final long OUTPUT_CHECK_INTERVAL_MILLIS = 20;
+
+    /**
+     * 실행 결과 상태
+     */
+    public enum Status {
+        OK, EXCEPTION, MEMORY_LIMIT, TIMEOUT, OUTPUT_LIMIT, EXIT, ERROR
+    }
+
+    /**
+     * 실행 JVM에서 main을 한 번 실행한 결과
+     */
+    @Getter
+    public static class RunResult {
+        private final Status status;
+        // 표준 출력과 표준 에러를 합친 출력 (기대 출력을 넘긴 경우 앞부분만)
+        private final String output;
+        // 결과에 보관할 출력 (max-stored-bytes 까지, 넘으면 생략 표시 포함)
+        private final String storedOutput;
+        // 기대 출력 일치 여부 (기대 출력을 넘기지 않은 경우 null)
+        private final Boolean outputMatched;
+        // main 실행 시간 (ms)
+        private final double elapsedMillis;
+        // main 스레드의 CPU 시간 (ms)
+        private final double cpuMillis;
+        // 실행 JVM 전체의 최대 RSS (MB)
+        private final double usedMemoryMB;
+        // System.exit 으로 종료한 경우의 종료 코드 (그 외에는 0)
+        private final int exitCode;
+        private final String message;
+
+        RunResult(Status status, String output, String storedOutput, Boolean outputMatched, double elapsedMillis,
+                  double cpuMillis, double usedMemoryMB, int exitCode, String message) {
+            this.status = status;
+            this.output = output;
+            this.storedOutput = storedOutput;
+            this.outputMatched = outputMatched;
+            this.elapsedMillis = elapsedMillis;
+            this.cpuMillis = cpuMillis;
+            this.usedMemoryMB = usedMemoryMB;
+            this.exitCode = exitCode;
+            this.message = message;
+        }
+    }
+
+    private final boolean enabled;
+    private final int poolSize;
+    private final int maxRuns;
+    private final int prewarmHeapMb;
+    private final ProcessRunner processRunner;
+
+    // 힙 크기(MB) -> 유휴 실행 JVM
+    private final ConcurrentMap<Integer, Deque<Runner>> idleRunners = new ConcurrentHashMap<>();
+    private final ExecutorService starter;
+    private final ScheduledExecutorService watchdog;
+    private final AtomicInteger runnerNumber = new AtomicInteger(1);
+    private Path runnerClassPath;
+    // 시작 시 찾은 java 실행 파일 경로 (찾기 전에는 null)
+    private volatile String javaCommand;
+
+    /**
+     * Java 실행 JVM 풀 생성자
+     *
+     * @param runMode Java 실행 방식 (fork 또는 warm)
+     * @param poolSize 힙 크기별로 유지할 유휴 실행 JVM 수
+     * @param maxRuns 실행 JVM 하나를 재사용할 최대 횟수
+     * @param prewarmHeapMb 시작 시 미리 띄울 실행 JVM의 힙 크기 (MB, 0이면 미리 띄우지 않음)
+     * @param processRunner 보관할 출력을 자르는 데 사용하는 채점 프로세스 실행기
+     */
+    public WarmJvmRunnerPool(
+            @Value("${compiler.java.run-mode:fork}") String runMode,
+            @Value("${compiler.java.warm-runner.pool-size:2}") int poolSize,
+            @Value("${compiler.java.warm-runner.max-runs:50}") int maxRuns,
+            @Value("${compiler.java.warm-runner.prewarm-heap-mb:512}") int prewarmHeapMb,
+            ProcessRunner processRunner) {
+        this.enabled = MODE_WARM.equalsIgnoreCase(runMode);
+        this.poolSize = Math.max(1, poolSize);
+        this.maxRuns = Math.max(1, maxRuns);
+        this.prewarmHeapMb = prewarmHeapMb;
+        this.processRunner = processRunner;
+
+        this.starter = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "java-runner-starter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "java-runner-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 실행 JVM 클래스 파일을 준비합니다.
+     */
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            runnerClassPath = extractRunnerClasses();
+        } catch (IOException e) {
+            log.error("Failed to prepare warm JVM runner classes", e);
+            throw new IllegalStateException("Java 실행 JVM 풀을 초기화할 수 없습니다", e);
+        }
+        log.info("Warm JVM runner pool enabled: poolSize={}, maxRuns={}, prewarmHeapMb={}",
+                poolSize, maxRuns, prewarmHeapMb);
+    }
+
+    /**
+     * 툴체인 탐색에서 찾은 java 로 실행 JVM을 띄우도록 설정하고 기본 힙 크기의 실행 JVM을 미리 띄웁니다.
+     *
+     * @param java 찾은 java 런타임 툴체인
+     */
+    public void start(Toolchain java) {
+        if (!enabled) {
+            return;
+        }
+        javaCommand = java.getCommand();
+        if (prewarmHeapMb > 0) {
+            replenish(prewarmHeapMb);
+        }
+    }
+
+    /**
+     * warm 실행 모드가 켜져 있는지 확인합니다.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 컴파일된 Main 클래스를 실행 JVM에서 한 번 실행합니다.
+     *
+     * @param classDir Main.class가 있는 디렉토리
+     * @param input 표준 입력으로 전달할 내용
+     * @param checker 출력 검사기 (null 이 아니면 출력 파일을 스트리밍으로 비교하고 출력은 앞부분만 반환)
+     * @param heapMb 실행 JVM의 최대 힙 크기 (MB)
+     * @param timeLimitMillis main 실행 제한 시간 (ms)
+     * @param outputLimitBytes 출력 제한 (바이트)
+     * @return 실행 결과
+     * @throws IOException 실행 JVM을 시작하거나 입출력 파일을 다루지 못한 경우
+     * @throws InterruptedIOException 실행 중 호출 스레드가 인터럽트되어 실행 JVM을 종료한 경우
+     */
+    public RunResult run(Path classDir, String input, OutputChecker checker, int heapMb,
+                         long timeLimitMillis, long outputLimitBytes) throws IOException {
+        // 같은 작업 디렉토리의 테스트 케이스가 병렬로 실행되므로 입출력 파일은 실행마다 따로 만듦
+        Path inputFile = Files.createTempFile(classDir, "input-", ".txt");
+        Path outputFile = Files.createTempFile(classDir, "output-", ".txt");
+        Runner runner = borrow(heapMb);
+        boolean reusable = false;
+        try {
+            Files.writeString(inputFile, input, StandardCharsets.UTF_8);
+
+            AtomicBoolean killed = new AtomicBoolean(false);
+            ScheduledFuture<?> kill = watchdog.schedule(() -> {
+                killed.set(true);
+                runner.process.destroyForcibly();
+            }, timeLimitMillis + KILL_GRACE_MILLIS, TimeUnit.MILLISECONDS);
+            // 출력 파일은 실행 JVM이 직접 쓰므로 크기를 주기적으로 확인해 제한을 넘으면 종료
+            // 파이프 읽기는 인터럽트되지 않으므로 호출 스레드가 인터럽트(fail-fast 취소)되면 JVM을 종료해 읽기를 끝냄
+            Thread caller = Thread.currentThread();
+            AtomicBoolean cancelled = new AtomicBoolean(false);
+            AtomicBoolean outputExceeded = new AtomicBoolean(false);
+            ScheduledFuture<?> outputCheck = watchdog.scheduleAtFixedRate(() -> {
+                if (caller.isInterrupted()) {
+                    cancelled.set(true);
+                    runner.process.destroyForcibly();
+                    return;
+                }
+                try {
+                    if (Files.size(outputFile) > outputLimitBytes) {
+                        outputExceeded.set(true);
+                        runner.process.destroyForcibly();
+                    }
+                } catch (IOException e) {
+                    // 실행이 끝나 출력 파일이 삭제된 경우
+                }
+            }, OUTPUT_CHECK_INTERVAL_MILLIS, OUTPUT_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+
+            long startNanos = System.nanoTime();
+            int status;
+            long elapsedNanos;
+            long cpuNanos;
+            long usedBytes;
+            String message;
+            try {
+                runner.control.writeUTF(classDir.toAbsolutePath().toString());
+                runner.control.writeUTF(inputFile.toAbsolutePath().toString());
+                runner.control.writeUTF(outputFile.toAbsolutePath().toString());
+                runner.control.writeLong(timeLimitMillis);
+                runner.control.flush();
+
+                status = runner.reply.readInt();
+                elapsedNanos = runner.reply.readLong();
+                cpuNanos = runner.reply.readLong();
+                usedBytes = runner.reply.readLong();
+                reusable = runner.reply.readBoolean();
+                message = runner.reply.readUTF();
+            } catch (IOException e) {
+                // 응답 전에 JVM이 종료됨: 취소, 강제 종료(시간/출력 초과) 또는 제출 코드의 Runtime.halt 호출
+                double wallMillis = (System.nanoTime() - startNanos) / 1_000_000.0;
+                if (cancelled.get()) {
+                    throw new InterruptedIOException("실행이 취소되었습니다");
+                }
+                if (outputExceeded.get()) {
+                    return result(Status.OUTPUT_LIMIT, outputFile, null, outputLimitBytes, wallMillis, 0.0, 0.0, 0, null);
+                }
+                if (killed.get()) {
+                    return result(Status.TIMEOUT, outputFile, checker, outputLimitBytes, wallMillis, 0.0, 0.0, 0, null);
+                }
+                int exitCode = exitCode(runner);
+                return result(Status.ERROR, outputFile, checker, outputLimitBytes, wallMillis, 0.0, 0.0, exitCode,
+                        "실행 JVM이 응답 없이 종료되었습니다 (종료 코드 " + exitCode + ")");
+            } finally {
+                kill.cancel(false);
+                outputCheck.cancel(false);
+            }
+
+            runner.runs++;
+            int exitCode = 0;
+            Status runStatus = toStatus(status);
+            if (status == WarmJvmRunner.STATUS_EXIT) {
+                // System.exit 호출: 종료 훅이 보낸 측정값을 사용하고 종료 코드로 정상 종료 여부를 판정
+                exitCode = exitCode(runner);
+                runStatus = exitCode == 0 ? Status.OK : Status.EXIT;
+            }
+            return result(runStatus, outputFile, checker, outputLimitBytes, elapsedNanos / 1_000_000.0,
+                    cpuNanos / 1_000_000.0, usedBytes / (1024.0 * 1024.0), exitCode, message);
+        } finally {
+            release(runner, reusable);
+            Files.deleteIfExists(inputFile);
+            Files.deleteIfExists(outputFile);
+        }
+    }
+
+    private Status toStatus(int status) {
+        return switch (status) {
+            case WarmJvmRunner.STATUS_OK -> Status.OK;
+            case WarmJvmRunner.STATUS_EXCEPTION -> Status.EXCEPTION;
+            case WarmJvmRunner.STATUS_MEMORY_LIMIT -> Status.MEMORY_LIMIT;
+            case WarmJvmRunner.STATUS_TIMEOUT -> Status.TIMEOUT;
+            default -> Status.ERROR;
+        };
+    }
+
+    /**
+     * 종료 중인 실행 JVM의 종료 코드 (종료 훅 이후 곧 끝나므로 여유 시간만큼만 기다림)
+     */
+    private int exitCode(Runner runner) throws InterruptedIOException {
+        try {
+            if (runner.process.waitFor(KILL_GRACE_MILLIS, TimeUnit.MILLISECONDS)) {
+                return runner.process.exitValue();
+            }
+            runner.destroy();
+            return -1;
+        } catch (InterruptedException e) {
+            runner.destroy();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("실행이 취소되었습니다");
+        }
+    }
+
+    private RunResult result(Status status, Path outputFile, OutputChecker checker, long outputLimitBytes,
+                             double elapsedMillis, double cpuMillis, double usedMemoryMB, int exitCode,
+                             String message) throws IOException {
+        // 마지막 확인 이후 응답 직전에 기록된 출력이 제한을 넘은 경우도 출력 초과로 처리
+        if (status == Status.OUTPUT_LIMIT || Files.size(outputFile) > outputLimitBytes) {
+            String storedOutput = processRunner.storedOutput(outputFile);
+            return new RunResult(Status.OUTPUT_LIMIT, storedOutput, storedOutput, false,
+                    elapsedMillis, cpuMillis, usedMemoryMB, exitCode, message);
+        }
+        String storedOutput = processRunner.storedOutput(outputFile);
+        if (checker == null) {
+            String output = Files.readString(outputFile, StandardCharsets.UTF_8);
+            return new RunResult(status, output, storedOutput, null, elapsedMillis, cpuMillis, usedMemoryMB,
+                    exitCode, message);
+        }
+        // 출력 전체를 문자열로 읽지 않고 파일을 흘려 읽으며 비교
+        boolean matched;
+        try (InputStream in = Files.newInputStream(outputFile)) {
+            matched = checker.matches(in);
+        }
+        return new RunResult(status, storedOutput, storedOutput, matched, elapsedMillis, cpuMillis, usedMemoryMB,
+                exitCode, message);
+    }
+
+    /**
+     * 유휴 실행 JVM을 가져오고, 없으면 새로 띄웁니다.
+     */
+    private Runner borrow(int heapMb) throws IOException {
+        Deque<Runner> idle = idleRunners.computeIfAbsent(heapMb, size -> new ConcurrentLinkedDeque<>());
+        Runner runner;
+        while ((runner = idle.pollFirst()) != null) {
+            if (runner.process.isAlive()) {
+                replenish(heapMb);
+                return runner;
+            }
+        }
+        // 미리 띄운 JVM이 없으면 이번 실행은 직접 띄우고 이후를 위해 풀을 채움
+        replenish(heapMb);
+        return startRunner(heapMb);
+    }
+
+    /**
+     * 실행 JVM을 풀에 돌려주거나, 더 쓸 수 없으면 종료합니다.
+     */
+    private void release(Runner runner, boolean reusable) {
+        Deque<Runner> idle = idleRunners.computeIfAbsent(runner.heapMb, size -> new ConcurrentLinkedDeque<>());
+        if (reusable && runner.runs < maxRuns && runner.process.isAlive() && idle.size() < poolSize) {
+            idle.offerFirst(runner);
+            return;
+        }
+        runner.destroy();
+        replenish(runner.heapMb);
+    }
+
+    /**
+     * 유휴 실행 JVM이 poolSize 개가 되도록 백그라운드에서 채웁니다.
+     */
+    private void replenish(int heapMb) {
+        starter.execute(() -> {
+            Deque<Runner> idle = idleRunners.computeIfAbsent(heapMb, size -> new ConcurrentLinkedDeque<>());
+            while (idle.size() < poolSize) {
+                try {
+                    idle.offerLast(startRunner(heapMb));
+                } catch (IOException e) {
+                    log.warn("Failed to start warm JVM runner (heap={}MB): {}", heapMb, e.getMessage());
+                    return;
+                }
+            }
+        });
+    }
+
+    private Runner startRunner(int heapMb) throws IOException {
+        String command = javaCommand;
+        if (command == null) {
+            throw new IOException("java 런타임을 찾지 못해 실행 JVM을 띄울 수 없습니다");
+        }
+        // 힙을 여유 있게 줄여 이전 실행의 힙이 다음 실행의 최대 RSS에 남지 않도록 함
+        ProcessBuilder pb = new ProcessBuilder(
+                command, "-Xmx" + heapMb + "m", "-XX:+UseSerialGC", "-XX:MinHeapFreeRatio=10",
+                "-XX:MaxHeapFreeRatio=20", "-Xshare:auto",
+                "-cp", runnerClassPath.toString(), WarmJvmRunner.class.getName());
+        pb.redirectError(ProcessBuilder.Redirect.DISCARD);
+        Process process = pb.start();
+        Runner runner = new Runner(process, heapMb, runnerNumber.getAndIncrement());
+
+        // 준비 완료 신호를 기다림 (JVM 기동 비용은 여기서 미리 지불)
+        // 시작 제한 시간을 넘기거나 기다리는 스레드가 인터럽트되면 JVM을 종료해 읽기를 끝냄
+        Thread caller = Thread.currentThread();
+        long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(STARTUP_TIMEOUT_SECONDS);
+        ScheduledFuture<?> kill = watchdog.scheduleAtFixedRate(() -> {
+            if (caller.isInterrupted() || System.nanoTime() > deadlineNanos) {
+                runner.destroy();
+            }
+        }, OUTPUT_CHECK_INTERVAL_MILLIS, OUTPUT_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        try {
+            if (runner.reply.readInt() != WarmJvmRunner.READY) {
+                runner.destroy();
+                throw new IOException("실행 JVM이 올바르게 시작되지 않았습니다");
+            }
+        } catch (IOException e) {
+            runner.destroy();
+            if (caller.isInterrupted()) {
+                throw new InterruptedIOException("실행 JVM 시작이 취소되었습니다");
+            }
+            throw new IOException("실행 JVM을 시작하지 못했습니다: " + e.getMessage(), e);
+        } finally {
+            kill.cancel(false);
+        }
+        log.debug("Warm JVM runner #{} started (heap={}MB)", runner.id, heapMb);
+        return runner;
+    }
+
+    /**
+     * 애플리케이션 클래스에서 실행 JVM 클래스 파일(중첩 클래스 포함)을 꺼내 임시 디렉토리에 기록합니다.
+     */
+    private Path extractRunnerClasses() throws IOException {
+        Path classPath = Files.createTempDirectory("jandi-java-runner");
+        List<Class<?>> classes = new ArrayList<>();
+        classes.add(WarmJvmRunner.class);
+        classes.addAll(List.of(WarmJvmRunner.class.getDeclaredClasses()));
+
+        for (Class<?> type : classes) {
+            String resource = type.getName().replace('.', '/') + ".class";
+            try (InputStream in = WarmJvmRunner.class.getClassLoader().getResourceAsStream(resource)) {
+                if (in == null) {
+                    throw new IOException("Runner class not found: " + resource);
+                }
+                Path target = classPath.resolve(resource);
+                Files.createDirectories(target.getParent());
+                Files.copy(in, target);
+            }
+        }
+        return classPath;
+    }
+
+    /**
+     * 애플리케이션 종료 시 실행 JVM 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        starter.shutdownNow();
+        watchdog.shutdownNow();
+        idleRunners.values().forEach(idle -> idle.forEach(Runner::destroy));
+        idleRunners.clear();
+    }
+
+    /**
+     * 실행 JVM 하나와 제어 채널
+     */
+    private static class Runner {
+        private final Process process;
+        private final DataOutputStream control;
+        private final DataInputStream reply;
+        private final int heapMb;
+        private final int id;
+        private int runs = 0;
+
+        Runner(Process process, int heapMb, int id) {
+            this.process = process;
+            this.control = new DataOutputStream(new BufferedOutputStream(process.getOutputStream()));
+            this.reply = new DataInputStream(new BufferedInputStream(process.getInputStream()));
+            this.heapMb = heapMb;
+            this.id = id;
+        }
+
+        void destroy() {
+            process.destroyForcibly();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.webproject.jandi_ide_backend.config;
 import com.webproject.jandi_ide_backend.security.JwtAuthenticationFilter;
 import com.webproject.jandi_ide_backend.security.JwtTokenProvider;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -19,6 +20,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import java.util.Arrays;
 
 @Configuration
+@ConditionalOnWebApplication
 @EnableWebSecurity
 @Slf4j
 public class SecurityConfig {
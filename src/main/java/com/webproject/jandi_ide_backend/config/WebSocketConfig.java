@@ -1,7 +1,11 @@
 package com.webproject.jandi_ide_backend.config;
 
+import com.webproject.jandi_ide_backend.compiler.service.JudgeProgressPublisher;
+import com.webproject.jandi_ide_backend.compiler.service.JudgeQueueService;
 import com.webproject.jandi_ide_backend.security.JwtTokenProvider;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -17,17 +21,22 @@ import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBr
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+import java.security.Principal;
 import java.util.List;
 
 @Slf4j
 @Configuration
+@ConditionalOnWebApplication
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final JwtTokenProvider jwtTokenProvider;
+    // 채점 진행 이벤트 구독 권한 확인용 (채점 서비스가 메시지 브로커 설정에 의존하므로 지연 조회)
+    private final ObjectProvider<JudgeQueueService> judgeQueueService;
 
-    public WebSocketConfig(JwtTokenProvider jwtTokenProvider) {
+    public WebSocketConfig(JwtTokenProvider jwtTokenProvider, ObjectProvider<JudgeQueueService> judgeQueueService) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.judgeQueueService = judgeQueueService;
     }
 
     @Override
@@ -60,10 +69,14 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                     
                     log.debug("WebSocket 메시지: command={}, destination={}", command, destination);
                     
+                    boolean judgeSubscription = StompCommand.SUBSCRIBE.equals(command) && destination != null
+                            && destination.startsWith(JudgeProgressPublisher.DESTINATION_PREFIX);
+
                     // CONNECT 명령이거나 메시지 송신인 경우 인증 검사
                     if (StompCommand.CONNECT.equals(command) || 
                         StompCommand.SEND.equals(command) || 
-                        (StompCommand.SUBSCRIBE.equals(command) && destination != null && destination.startsWith("/topic/chat"))) {
+                        (StompCommand.SUBSCRIBE.equals(command) && destination != null && destination.startsWith("/topic/chat")) ||
+                        judgeSubscription) {
                         
                         // 인증 헤더에서 토큰 추출
                         List<String> authHeaders = accessor.getNativeHeader("Authorization");
@@ -125,6 +138,11 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                         }
                     }
                     
+                    // 채점 진행 이벤트는 제출한 사용자만 구독 가능
+                    if (judgeSubscription) {
+                        checkJudgeSubscription(accessor.getUser(), destination);
+                    }
+
                     // 연결이 끊어질 때 로그 추가
                     if (StompCommand.DISCONNECT.equals(command)) {
                         log.info("WebSocket 연결 종료: {}", 
@@ -136,4 +154,24 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
             }
         });
     }
-}
\ No newline at end of file
+
+    /**
+     * 채점 진행 이벤트 구독이 제출한 사용자의 것인지 확인합니다.
+     * 인증되지 않았거나 (게스트 포함) 다른 사용자의 제출이면 예외를 발생시켜 구독을 거부합니다.
+     */
+    private void checkJudgeSubscription(Principal user, String destination) {
+        if (!(user instanceof Authentication auth) || auth.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_GUEST".equals(authority.getAuthority()))) {
+            log.warn("인증되지 않은 채점 진행 구독 거부: 목적지: {}", destination);
+            throw new IllegalArgumentException("채점 진행 상황을 구독하려면 인증이 필요합니다");
+        }
+
+        Long submissionId;
+        try {
+            submissionId = Long.valueOf(destination.substring(JudgeProgressPublisher.DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 채점 진행 구독 경로입니다: " + destination);
+        }
+        judgeQueueService.getObject().checkOwner(submissionId, auth.getName());
+    }
+}
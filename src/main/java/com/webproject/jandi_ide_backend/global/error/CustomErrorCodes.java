@@ -32,6 +32,7 @@ public enum CustomErrorCodes implements CustomErrorCodeInterface {
 
     PERMISSION_DENIED(HttpStatus.FORBIDDEN, "PERMISSION_DENIED", "Permission denied"), // 권한 없음
     INVALID_PAGE(HttpStatus.BAD_REQUEST, "INVALID_PAGE", "Invalid page"), // 유효하지 않은 페이지
+    INVALID_CHECKER(HttpStatus.BAD_REQUEST, "INVALID_CHECKER", "Invalid output checker"), // 사용할 수 없는 출력 검사기 설정
 
 
 
@@ -5,6 +5,7 @@ import com.webproject.jandi_ide_backend.chat.dto.ChatMessageDTO;
 import jakarta.annotation.PostConstruct; // Spring Boot 3+ 에서는 jakarta 사용
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.listener.PatternTopic;
@@ -21,6 +22,7 @@ import java.io.IOException;
  */
 @Slf4j
 @Component
+@ConditionalOnWebApplication
 @RequiredArgsConstructor
 public class RedisSubscriber implements MessageListener {
 
@@ -0,0 +1,139 @@
+"""
+Python 묶음 실행(batched harness)
+
+BatchedHarnessRunner 가 문제의 테스트 케이스를 모두 표준 입력으로 한 번에 넘기면,
+제출 코드를 한 번만 컴파일한 뒤 테스트 케이스마다 새 __main__ 네임스페이스에서 실행하고 출력을 프레임 단위로 돌려줍니다.
+
+인자: token time_limit_ms output_limit_bytes source
+입력: (입력 바이트 수 + "\n" + 입력) 을 테스트 케이스 수만큼 반복
+출력: (token index status wall_us cpu_us 출력바이트수 + "\n" + 출력) 을 테스트 케이스마다, 마지막에 token END
+
+- 컴파일에 실패하면 프레임 없이 종료하며, 백엔드는 모든 테스트 케이스를 프로세스별 실행으로 채점합니다.
+- 시간 초과, 출력 초과, 메모리 부족처럼 다음 테스트 케이스를 믿고 실행할 수 없으면 해당 프레임을 기록한 뒤 종료합니다.
+"""
+import builtins
+import io
+import os
+import signal
+import sys
+import time
+import types
+
+
+class HarnessTimeout(BaseException):
+    """테스트 케이스 하나의 제한 시간이 지났을 때 제출 코드 안에서 발생시키는 예외"""
+
+
+class LimitedBuffer(io.RawIOBase):
+    """출력 제한까지만 보관하는 출력 버퍼 (넘으면 이후 출력은 버림)"""
+
+    def __init__(self, limit):
+        super().__init__()
+        self.limit = limit
+        self.data = bytearray()
+        self.exceeded = False
+
+    def writable(self):
+        return True
+
+    def write(self, b):
+        if len(self.data) + len(b) > self.limit:
+            self.exceeded = True
+        else:
+            self.data += b
+        return len(b)
+
+
+def read_frame(stream):
+    line = stream.readline()
+    if not line:
+        return None
+    length = int(line)
+    data = stream.read(length)
+    if len(data) != length:
+        raise EOFError("입력 프레임이 끝나기 전에 입력이 닫혔습니다")
+    return data
+
+
+def on_timeout(signum, frame):
+    raise HarnessTimeout()
+
+
+def execute(program, source, data, time_limit, output_limit):
+    captured = LimitedBuffer(output_limit)
+    out = io.TextIOWrapper(io.BufferedWriter(captured), encoding="utf-8", line_buffering=False)
+    sys.stdin = sys.__stdin__ = io.TextIOWrapper(io.BytesIO(data), encoding="utf-8")
+    # 표준 에러는 fork 방식(redirectErrorStream)과 같이 표준 출력에 합침
+    sys.stdout = sys.__stdout__ = out
+    sys.stderr = sys.__stderr__ = out
+
+    main = types.ModuleType("__main__")
+    main.__file__ = source
+    main.__builtins__ = builtins
+    sys.modules["__main__"] = main
+    sys.argv = [source]
+
+    status, continuable = "OK", True
+    start, cpu_start = time.perf_counter(), time.process_time()
+    signal.setitimer(signal.ITIMER_REAL, time_limit)
+    try:
+        exec(program, main.__dict__)
+    except SystemExit as e:
+        if e.code not in (None, 0):
+            status = "ERROR"
+    except HarnessTimeout:
+        status, continuable = "TIMEOUT", False
+    except MemoryError:
+        status, continuable = "ERROR", False
+    except BaseException:
+        # 예외로 끝난 테스트 케이스는 백엔드가 프로세스별 실행으로 다시 채점하므로 출력은 쓰지 않음
+        status = "ERROR"
+    finally:
+        signal.setitimer(signal.ITIMER_REAL, 0)
+    wall, cpu = time.perf_counter() - start, time.process_time() - cpu_start
+    try:
+        out.flush()
+    except BaseException:
+        status, continuable = "ERROR", False
+    if captured.exceeded:
+        status, continuable = "OUTPUT_LIMIT", False
+    output = bytes(captured.data) if status != "OUTPUT_LIMIT" else b""
+    return status, continuable, int(wall * 1_000_000), int(cpu * 1_000_000), output
+
+
+def main():
+    token, time_limit_ms, output_limit, source = sys.argv[1], int(sys.argv[2]), int(sys.argv[3]), sys.argv[4]
+    # 프레임 채널은 원래 표준 입출력에 고정하고, 제출 코드가 쓰는 sys.stdin/stdout은 테스트 케이스마다 교체
+    # (원래 객체를 계속 참조해야 교체 후에도 닫히지 않음)
+    original = (sys.stdin, sys.stdout, sys.stderr)
+    frames = original[0].buffer
+    reply_fd = original[1].fileno()
+
+    with open(source, "rb") as f:
+        try:
+            program = compile(f.read(), source, "exec")
+        except (SyntaxError, ValueError):
+            os._exit(2)
+
+    signal.signal(signal.SIGALRM, on_timeout)
+    index = 0
+    while True:
+        data = read_frame(frames)
+        if data is None:
+            break
+        index += 1
+        status, continuable, wall_us, cpu_us, output = execute(program, source, data, time_limit_ms / 1000.0, output_limit)
+        sys.stdin, sys.stdout, sys.stderr = original
+        sys.__stdin__, sys.__stdout__, sys.__stderr__ = original
+        frame = ("%s %d %s %d %d %d\n" % (token, index, status, wall_us, cpu_us, len(output))).encode("utf-8") + output
+        while frame:
+            frame = frame[os.write(reply_fd, frame):]
+        if not continuable:
+            # 상태를 신뢰할 수 없으므로 남은 테스트 케이스는 백엔드에 맡기고 종료
+            os._exit(0)
+    os.write(reply_fd, ("%s END\n" % token).encode("utf-8"))
+    os._exit(0)
+
+
+if __name__ == "__main__":
+    main()
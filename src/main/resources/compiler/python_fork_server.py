@@ -0,0 +1,188 @@
+"""
+Python fork-server (compiler.python.run-mode=fork-server)
+
+PythonForkServer 가 -S -E -B 옵션으로 한 번 띄워 두는 인터프리터입니다.
+자주 쓰는 표준 라이브러리를 미리 불러온 뒤, 실행 요청마다 자식 프로세스를 fork 하므로
+테스트 케이스마다 인터프리터를 새로 시작하고 모듈을 다시 불러오는 비용이 들지 않습니다.
+
+제어 채널 (표준 입력 / 표준 출력, 탭으로 구분한 한 줄 단위)
+  요청: compile <id> <source> <target> <cwd>
+        run <id> <bytecode> <cwd> <input> <output> <cpu_seconds> <address_space_bytes> <file_size_bytes>
+  응답: ready <pid>
+        started <id> <pid>
+        exit <id> <exit_code> <signal> <cpu_ms> <wall_ms> <max_rss_kb>
+
+- 자식 프로세스는 fork 직후 작업 디렉토리, 표준 입출력, 자원 제한(CPU 시간, 주소 공간, 파일 크기)을 설정합니다.
+- 종료된 자식은 reaper 스레드가 wait4 로 회수하고 자원 사용량(rusage)과 함께 보고합니다.
+- 제출 코드 컴파일도 서버를 보호하기 위해 자식 프로세스에서 수행합니다.
+"""
+import io
+import marshal
+import os
+import py_compile
+import resource
+import signal
+import sys
+import threading
+import time
+import traceback
+import types
+
+# 제출 코드에서 자주 쓰는 모듈을 미리 불러와 자식 프로세스가 그대로 물려받게 함
+PRELOAD_MODULES = (
+    "array", "bisect", "collections", "copy", "decimal", "fractions", "functools", "heapq",
+    "itertools", "math", "operator", "random", "re", "statistics", "string",
+)
+for module_name in PRELOAD_MODULES:
+    try:
+        __import__(module_name)
+    except ImportError:
+        pass
+
+# 제어 채널은 다른 번호로 옮기고, 표준 입출력은 /dev/null 로 막아 제출 코드와 섞이지 않게 함
+CONTROL_IN = os.dup(0)
+CONTROL_OUT = os.dup(1)
+_devnull = os.open(os.devnull, os.O_RDWR)
+os.dup2(_devnull, 0)
+os.dup2(_devnull, 1)
+os.close(_devnull)
+
+COMPILE_CPU_SECONDS = 10
+# pyc 헤더 크기 (magic, flags, mtime/hash, size)
+PYC_HEADER_SIZE = 16
+
+write_lock = threading.Lock()
+jobs_lock = threading.Lock()
+# pid -> (요청 ID, 시작 시각)
+jobs = {}
+running = threading.Semaphore(0)
+
+
+def send(*fields):
+    line = ("\t".join(str(field) for field in fields) + "\n").encode("utf-8")
+    with write_lock:
+        os.write(CONTROL_OUT, line)
+
+
+def reap():
+    """종료된 자식을 회수하고 종료 상태와 자원 사용량을 보고합니다."""
+    while True:
+        running.acquire()
+        while True:
+            try:
+                pid, status, usage = os.wait4(-1, 0)
+                break
+            except InterruptedError:
+                continue
+        end = time.monotonic()
+        with jobs_lock:
+            job_id, start = jobs.pop(pid)
+        if os.WIFSIGNALED(status):
+            exit_code, sig = 128 + os.WTERMSIG(status), os.WTERMSIG(status)
+        else:
+            exit_code, sig = os.WEXITSTATUS(status), 0
+        cpu_ms = (usage.ru_utime + usage.ru_stime) * 1000.0
+        send("exit", job_id, exit_code, sig, "%.3f" % cpu_ms, "%.3f" % ((end - start) * 1000.0), usage.ru_maxrss)
+
+
+def enter_child(cwd, cpu_seconds):
+    os.close(CONTROL_IN)
+    os.close(CONTROL_OUT)
+    os.chdir(cwd)
+    resource.setrlimit(resource.RLIMIT_CPU, (cpu_seconds, cpu_seconds + 1))
+    resource.setrlimit(resource.RLIMIT_CORE, (0, 0))
+
+
+def compile_child(cwd, source, target):
+    try:
+        enter_child(cwd, COMPILE_CPU_SECONDS)
+        py_compile.compile(source, cfile=target, dfile="Main.py", doraise=True)
+        code = 0
+    except BaseException:
+        code = 1
+    os._exit(code)
+
+
+def run_child(bytecode, cwd, input_path, output_path, cpu_seconds, address_space, file_size):
+    code = 1
+    try:
+        enter_child(cwd, cpu_seconds)
+        fd = os.open(input_path, os.O_RDONLY)
+        os.dup2(fd, 0)
+        os.close(fd)
+        fd = os.open(output_path, os.O_WRONLY | os.O_CREAT | os.O_TRUNC, 0o644)
+        os.dup2(fd, 1)
+        os.dup2(fd, 2)
+        os.close(fd)
+        if address_space > 0:
+            resource.setrlimit(resource.RLIMIT_AS, (address_space, address_space))
+        resource.setrlimit(resource.RLIMIT_FSIZE, (file_size, file_size))
+        # 인터프리터가 무시하도록 설정한 SIGXFSZ 를 되돌려 출력 제한을 넘으면 바로 종료되게 함
+        signal.signal(signal.SIGXFSZ, signal.SIG_DFL)
+
+        sys.stdin = sys.__stdin__ = io.open(0, "r", encoding="utf-8", closefd=False)
+        sys.stdout = sys.__stdout__ = io.open(1, "w", encoding="utf-8", closefd=False)
+        sys.stderr = sys.__stderr__ = io.open(2, "w", encoding="utf-8", closefd=False, buffering=1)
+        sys.argv = ["Main.py"]
+        sys.path[0] = cwd
+
+        with open(bytecode, "rb") as f:
+            program = marshal.loads(f.read()[PYC_HEADER_SIZE:])
+        main = types.ModuleType("__main__")
+        main.__file__ = "Main.py"
+        main.__builtins__ = __builtins__
+        sys.modules["__main__"] = main
+
+        code = 0
+        try:
+            exec(program, main.__dict__)
+        except SystemExit as e:
+            if e.code is None:
+                code = 0
+            elif isinstance(e.code, int):
+                code = e.code & 0xFF
+            else:
+                print(e.code, file=sys.stderr)
+                code = 1
+        except BaseException as e:
+            # 서버 쪽 프레임은 빼고 제출 코드의 traceback 만 출력
+            traceback.print_exception(type(e), e, e.__traceback__.tb_next)
+            code = 1
+        try:
+            sys.stdout.flush()
+            sys.stderr.flush()
+        except BaseException:
+            code = code or 1
+    except BaseException:
+        code = 70
+    os._exit(code)
+
+
+def fork_job(job_id, target, *args):
+    with jobs_lock:
+        start = time.monotonic()
+        pid = os.fork()
+        if pid == 0:
+            target(*args)
+        jobs[pid] = (job_id, start)
+    running.release()
+    send("started", job_id, pid)
+
+
+def main():
+    threading.Thread(target=reap, name="reaper", daemon=True).start()
+    send("ready", os.getpid())
+    control = os.fdopen(CONTROL_IN, "rb", closefd=False)
+    for raw in control:
+        fields = raw.decode("utf-8").rstrip("\n").split("\t")
+        op = fields[0]
+        if op == "run":
+            fork_job(fields[1], run_child, fields[2], fields[3], fields[4], fields[5],
+                     int(fields[6]), int(fields[7]), int(fields[8]))
+        elif op == "compile":
+            fork_job(fields[1], compile_child, fields[4], fields[2], fields[3])
+    # 제어 채널이 닫히면 (애플리케이션 종료) 서버도 종료
+
+
+if __name__ == "__main__":
+    main()
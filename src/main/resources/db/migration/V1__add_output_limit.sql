@@ -0,0 +1,8 @@
+-- 문제별 출력 제한 (KB). NULL 이면 compiler.output.default-limit-kb 를 적용하므로 기존 문제는 NULL 로 둡니다.
+ALTER TABLE problems
+    ADD COLUMN output_limit INT NULL DEFAULT NULL;
+
+-- 출력 초과 판정(OUTPUT_LIMIT) 추가
+ALTER TABLE solutions
+    MODIFY COLUMN status ENUM ('SUBMITTED', 'EVALUATING', 'CORRECT', 'WRONG_ANSWER', 'RUNTIME_ERROR',
+        'COMPILATION_ERROR', 'TIMEOUT', 'MEMORY_LIMIT', 'OUTPUT_LIMIT') NOT NULL;
@@ -0,0 +1,3 @@
+-- 테스트 케이스를 하네스 프로세스 하나로 묶어 실행할지 여부. 기존 문제는 프로세스별 실행(false)을 유지합니다.
+ALTER TABLE problems
+    ADD COLUMN batched_harness BIT(1) NULL DEFAULT b'0';
@@ -0,0 +1,12 @@
+-- 문제별 출력 검사 방식. 기존 문제는 기존 비교 규칙(DEFAULT)을 유지합니다.
+ALTER TABLE problems
+    ADD COLUMN checker_type ENUM ('DEFAULT', 'EXACT', 'TOKEN', 'LINE', 'FLOAT', 'SPECIAL') NULL DEFAULT 'DEFAULT';
+
+-- FLOAT 검사기의 허용 오차. NULL 이면 1e-6 을 사용합니다.
+ALTER TABLE problems
+    ADD COLUMN checker_absolute_epsilon DOUBLE NULL DEFAULT NULL,
+    ADD COLUMN checker_relative_epsilon DOUBLE NULL DEFAULT NULL;
+
+-- SPECIAL 검사기가 실행할 스페셜 저지 이름 (special-judge-dir 안의 실행 파일)
+ALTER TABLE problems
+    ADD COLUMN special_judge VARCHAR(255) NULL DEFAULT NULL;
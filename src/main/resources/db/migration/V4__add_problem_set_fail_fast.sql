@@ -0,0 +1,3 @@
+-- 문제집의 fail-fast 채점 설정. NULL 이면 compiler.judge.mode 를 따릅니다.
+ALTER TABLE problem_sets
+    ADD COLUMN fail_fast BIT(1) NULL DEFAULT NULL;
@@ -0,0 +1,67 @@
+package com.webproject.jandi_ide_backend.algorithm.solution.service;
+
+import com.webproject.jandi_ide_backend.algorithm.problem.service.ProblemService;
+import com.webproject.jandi_ide_backend.algorithm.problemSet.Repository.ProblemSetRepository;
+import com.webproject.jandi_ide_backend.algorithm.problemSet.service.ProblemSetService;
+import com.webproject.jandi_ide_backend.algorithm.solution.entity.Solution;
+import com.webproject.jandi_ide_backend.algorithm.solution.repository.SolutionRepository;
+import com.webproject.jandi_ide_backend.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SolutionServiceTest {
+
+    private SolutionRepository solutionRepository;
+    private SolutionService solutionService;
+
+    @BeforeEach
+    void setUp() {
+        solutionRepository = mock(SolutionRepository.class);
+        when(solutionRepository.save(any(Solution.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        solutionService = new SolutionService(solutionRepository, mock(ProblemService.class),
+                mock(ProblemSetService.class), mock(ProblemSetRepository.class), 10);
+    }
+
+    @Test
+    @DisplayName("추가 정보가 최대 길이를 넘으면 앞부분만 저장한다")
+    void truncatesAdditionalInfo() {
+        Solution solution = new Solution();
+        solution.setAdditionalInfo("0123456789overflow");
+
+        Solution saved = solutionService.saveSolution(solution);
+
+        assertThat(saved.getAdditionalInfo()).startsWith("0123456789\n...");
+        assertThat(saved.getAdditionalInfo()).doesNotContain("overflow");
+    }
+
+    @Test
+    @DisplayName("최대 길이 이하의 추가 정보는 그대로 저장한다")
+    void keepsShortAdditionalInfo() {
+        Solution solution = new Solution();
+        solution.setAdditionalInfo("0123456789");
+
+        assertThat(solutionService.saveSolution(solution).getAdditionalInfo()).isEqualTo("0123456789");
+    }
+
+    @Test
+    @DisplayName("제출한 사용자의 깃헙 아이디를 조회한다")
+    void findsOwnerGithubId() {
+        User user = new User();
+        user.setGithubId("octocat");
+        Solution solution = new Solution();
+        solution.setUser(user);
+        when(solutionRepository.findById(1L)).thenReturn(Optional.of(solution));
+        when(solutionRepository.findById(2L)).thenReturn(Optional.empty());
+
+        assertThat(solutionService.findOwnerGithubId(1L)).contains("octocat");
+        assertThat(solutionService.findOwnerGithubId(2L)).isEmpty();
+    }
+}
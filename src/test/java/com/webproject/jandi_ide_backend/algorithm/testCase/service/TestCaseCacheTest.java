@@ -0,0 +1,137 @@
+package com.webproject.jandi_ide_backend.algorithm.testCase.service;
+
+import com.webproject.jandi_ide_backend.algorithm.testCase.entity.TestCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 테스트 케이스 캐시 테스트
+ * 한 서버에서 무효화하면 Redis 채널을 통해 다른 서버의 항목도 무효화되는지 확인합니다.
+ */
+class TestCaseCacheTest {
+
+    private static final Integer PROBLEM_ID = 1;
+
+    private RedisTemplate<String, Object> redisTemplate;
+    // 같은 Redis 를 사용하는 두 서버
+    private TestCaseCache serverA;
+    private TestCaseCache serverB;
+
+    private String output;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        serverA = cache();
+        serverB = cache();
+        output = "2";
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("캐시에 있으면 다시 조회하지 않는다")
+    void returnsCachedTestCases() {
+        serverA.get(PROBLEM_ID, loader());
+        List<TestCase> cached = serverA.get(PROBLEM_ID, loader());
+
+        assertThat(loads).hasValue(1);
+        assertThat(cached).extracting(TestCase::getOutput).containsExactly("2");
+    }
+
+    @Test
+    @DisplayName("무효화하면 다른 서버에 문제 ID를 발행한다")
+    void invalidatePublishesProblemId() {
+        serverA.invalidate(PROBLEM_ID);
+
+        verify(redisTemplate).convertAndSend(TestCaseCache.INVALIDATE_CHANNEL, PROBLEM_ID);
+    }
+
+    @Test
+    @DisplayName("다른 서버의 무효화 메시지를 받으면 다음 조회에서 새 데이터를 읽는다")
+    void remoteInvalidationReloads() {
+        serverA.get(PROBLEM_ID, loader());
+        serverB.get(PROBLEM_ID, loader());
+
+        output = "3";
+        serverA.invalidate(PROBLEM_ID);
+
+        // 메시지가 도착하기 전에는 B 는 이전 항목을 사용
+        assertThat(serverB.get(PROBLEM_ID, loader())).extracting(TestCase::getOutput).containsExactly("2");
+        assertThat(serverA.get(PROBLEM_ID, loader())).extracting(TestCase::getOutput).containsExactly("3");
+
+        serverB.onMessage(message("\"1\""), null);
+
+        assertThat(serverB.get(PROBLEM_ID, loader())).extracting(TestCase::getOutput).containsExactly("3");
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("조회하는 동안 무효화되면 조회한 목록을 캐시에 넣지 않는다")
+    void invalidationDuringLoadIsNotCached() {
+        List<TestCase> loaded = serverB.get(PROBLEM_ID, () -> {
+            loads.incrementAndGet();
+            List<TestCase> stale = List.of(testCase(output));
+            output = "3";
+            serverB.onMessage(message("1"), null);
+            return stale;
+        });
+
+        assertThat(loaded).extracting(TestCase::getOutput).containsExactly("2");
+        assertThat(serverB.getEntryCount()).isZero();
+        assertThat(serverB.get(PROBLEM_ID, loader())).extracting(TestCase::getOutput).containsExactly("3");
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 무효화 메시지는 무시한다")
+    void ignoresMalformedMessage() {
+        serverB.get(PROBLEM_ID, loader());
+
+        serverB.onMessage(message("not-a-number"), null);
+
+        assertThat(serverB.get(PROBLEM_ID, loader())).hasSize(1);
+        assertThat(loads).hasValue(1);
+    }
+
+    private TestCaseCache cache() {
+        return new TestCaseCache(true, 1024 * 1024, 600, redisTemplate,
+                mock(RedisMessageListenerContainer.class), new SimpleMeterRegistry());
+    }
+
+    private Supplier<List<TestCase>> loader() {
+        return () -> {
+            loads.incrementAndGet();
+            return List.of(testCase(output));
+        };
+    }
+
+    private static TestCase testCase(String output) {
+        TestCase testCase = new TestCase();
+        testCase.setId(1);
+        testCase.setInput("1");
+        testCase.setOutput(output);
+        return testCase;
+    }
+
+    private static Message message(String body) {
+        Message message = mock(Message.class);
+        when(message.getBody()).thenReturn(body.getBytes(StandardCharsets.UTF_8));
+        return message;
+    }
+}
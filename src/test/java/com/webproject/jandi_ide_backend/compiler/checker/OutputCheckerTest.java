@@ -0,0 +1,137 @@
+package com.webproject.jandi_ide_backend.compiler.checker;
+
+import com.webproject.jandi_ide_backend.algorithm.problem.entity.Problem;
+import com.webproject.jandi_ide_backend.algorithm.testCase.entity.TestCase;
+import com.webproject.jandi_ide_backend.compiler.service.TestDataStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검사 방식별 출력 비교 테스트
+ */
+class OutputCheckerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private CheckerEngine checkerEngine;
+
+    @BeforeEach
+    void setUp() {
+        checkerEngine = new CheckerEngine(new TestDataStore(false, tempDir.toString()), tempDir.toString(), 10);
+    }
+
+    @Test
+    @DisplayName("FLOAT: 절대 오차 안의 숫자는 같은 값으로 본다")
+    void floatWithinAbsoluteEpsilon() {
+        assertThat(matches(floatSpec(1e-6, 0), "0.333333", "0.3333334")).isTrue();
+        assertThat(matches(floatSpec(1e-6, 0), "0.333333", "0.3334")).isFalse();
+    }
+
+    @Test
+    @DisplayName("FLOAT: 큰 값은 기대값 기준 상대 오차로 비교한다")
+    void floatWithinRelativeEpsilon() {
+        assertThat(matches(floatSpec(1e-9, 1e-6), "1000000", "1000000.5")).isTrue();
+        assertThat(matches(floatSpec(1e-9, 1e-6), "1000000", "1000002")).isFalse();
+    }
+
+    @Test
+    @DisplayName("FLOAT: 지수 표기와 부호를 해석한다")
+    void floatParsesExponentAndSign() {
+        assertThat(matches(floatSpec(1e-9, 1e-9), "0.001 -2.5", "1e-3 -25E-1")).isTrue();
+        assertThat(matches(floatSpec(1e-9, 1e-9), "-2.5", "2.5")).isFalse();
+    }
+
+    @Test
+    @DisplayName("FLOAT: 숫자가 아닌 토큰은 정확히 비교한다")
+    void floatComparesWordsExactly() {
+        assertThat(matches(floatSpec(1e-6, 1e-6), "YES 1.0", "YES 1.0000001")).isTrue();
+        assertThat(matches(floatSpec(1e-6, 1e-6), "YES 1.0", "yes 1.0")).isFalse();
+    }
+
+    @Test
+    @DisplayName("FLOAT: 토큰 수가 다르면 틀리고 처음 달라진 위치를 남긴다")
+    void floatReportsMissingTokens() {
+        OutputChecker checker = create(floatSpec(1e-6, 1e-6), "1.0 2.0 3.0");
+
+        assertThat(checker.matches("1.0 2.0")).isFalse();
+        assertThat(checker.getFirstDifference()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("FLOAT: 조각으로 나뉘어 들어온 토큰도 하나로 해석한다")
+    void floatAcceptsSplitChunks() {
+        OutputChecker checker = create(floatSpec(1e-6, 0), "0.333333\n");
+        byte[] first = "0.33".getBytes(StandardCharsets.UTF_8);
+        byte[] second = "33334\n".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(checker.accept(first, 0, first.length)).isTrue();
+        assertThat(checker.accept(second, 0, second.length)).isTrue();
+        assertThat(checker.finish()).isTrue();
+    }
+
+    @Test
+    @DisplayName("TOKEN: 공백과 줄바꿈 차이는 무시한다")
+    void tokenIgnoresWhitespace() {
+        CheckerSpec spec = spec(CheckerType.TOKEN);
+        assertThat(matches(spec, "1 2\n3", "1\n2   3\n\n")).isTrue();
+        assertThat(matches(spec, "1 2 3", "1 2 4")).isFalse();
+    }
+
+    @Test
+    @DisplayName("LINE: 줄 구분은 유지하고 줄 안의 공백 개수는 무시한다")
+    void lineKeepsLineBreaks() {
+        CheckerSpec spec = spec(CheckerType.LINE);
+        assertThat(matches(spec, "1 2\n3", "1    2\n3\n")).isTrue();
+        assertThat(matches(spec, "1 2\n3", "1\n2 3")).isFalse();
+    }
+
+    @Test
+    @DisplayName("EXACT: 바이트 단위로 비교한다")
+    void exactComparesBytes() {
+        CheckerSpec spec = spec(CheckerType.EXACT);
+        assertThat(matches(spec, "1 2\n", "1 2\n")).isTrue();
+        assertThat(matches(spec, "1 2\n", "1 2")).isFalse();
+    }
+
+    @Test
+    @DisplayName("오차를 지정하지 않은 문제는 기본 허용 오차를 사용한다")
+    void usesDefaultEpsilon() {
+        Problem problem = new Problem();
+        problem.setCheckerType(CheckerType.FLOAT);
+
+        CheckerSpec spec = CheckerSpec.of(problem);
+
+        assertThat(spec.getAbsoluteEpsilon()).isEqualTo(CheckerSpec.DEFAULT_EPSILON);
+        assertThat(spec.getRelativeEpsilon()).isEqualTo(CheckerSpec.DEFAULT_EPSILON);
+        assertThat(CheckerSpec.of(new Problem()))
+                .isSameAs(CheckerSpec.DEFAULT);
+    }
+
+    private boolean matches(CheckerSpec spec, String expected, String actual) {
+        return create(spec, expected).matches(actual);
+    }
+
+    private OutputChecker create(CheckerSpec spec, String expected) {
+        TestCase testCase = new TestCase();
+        testCase.setId(1);
+        testCase.setInput("");
+        testCase.setOutput(expected);
+        return checkerEngine.create(spec, testCase);
+    }
+
+    private static CheckerSpec floatSpec(double absoluteEpsilon, double relativeEpsilon) {
+        return new CheckerSpec(CheckerType.FLOAT, absoluteEpsilon, relativeEpsilon, null);
+    }
+
+    private static CheckerSpec spec(CheckerType type) {
+        return new CheckerSpec(type, CheckerSpec.DEFAULT_EPSILON, CheckerSpec.DEFAULT_EPSILON, null);
+    }
+}
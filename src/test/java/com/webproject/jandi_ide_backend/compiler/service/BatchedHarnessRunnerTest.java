@@ -0,0 +1,149 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import com.webproject.jandi_ide_backend.algorithm.problem.entity.Problem;
+import com.webproject.jandi_ide_backend.algorithm.testCase.entity.TestCase;
+import com.webproject.jandi_ide_backend.compiler.checker.CheckerEngine;
+import com.webproject.jandi_ide_backend.compiler.dto.ResultDto;
+import com.webproject.jandi_ide_backend.compiler.dto.ResultStatus;
+import com.webproject.jandi_ide_backend.compiler.dto.TimeLimitPolicy;
+import com.webproject.jandi_ide_backend.compiler.runner.BatchHarness;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 묶음 실행 결과 분배 테스트
+ * 하네스 프로세스 대신 프레임 출력을 돌려주는 ProcessRunner 를 사용합니다.
+ */
+class BatchedHarnessRunnerTest {
+
+    private static final List<String> LAUNCHER = List.of("harness");
+
+    @TempDir
+    Path workingDir;
+
+    private ProcessRunner processRunner;
+    private TestCaseExecutor testCaseExecutor;
+    private BatchedHarnessRunner runner;
+    // 프로세스별로 다시 실행된 테스트 케이스 번호
+    private final List<Integer> fallbackRuns = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        processRunner = mock(ProcessRunner.class);
+        when(processRunner.getTimePolicy()).thenReturn(TimeLimitPolicy.WALL);
+        when(processRunner.outputLimitBytes(any())).thenReturn(1024L);
+        when(processRunner.storedOutput(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        JudgeProgressPublisher progressPublisher = mock(JudgeProgressPublisher.class);
+        when(progressPublisher.current()).thenReturn(JudgeProgressListener.NONE);
+        testCaseExecutor = new TestCaseExecutor(false, 2, 1, progressPublisher, mock(JudgeConcurrencyLimiter.class));
+        CheckerEngine checkerEngine = new CheckerEngine(new TestDataStore(false, workingDir.toString()),
+                workingDir.toString(), 10);
+        runner = new BatchedHarnessRunner(processRunner, testCaseExecutor, checkerEngine, progressPublisher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        testCaseExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("정상 종료한 프레임은 하네스 결과로 바로 판정한다")
+    void judgesFramesFromHarness() throws Exception {
+        harnessReplies(frame(1, BatchHarness.STATUS_OK, "1"), frame(2, BatchHarness.STATUS_OK, "4"),
+                frame(3, BatchHarness.STATUS_OK, "9"));
+
+        List<ResultDto> results = execute(testCases("1", "4", "10"));
+
+        assertThat(results).extracting(ResultDto::getStatus)
+                .containsExactly(ResultStatus.CORRECT, ResultStatus.CORRECT, ResultStatus.WRONG_ANSWER);
+        assertThat(fallbackRuns).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비정상 종료한 테스트 케이스와 프레임이 없는 테스트 케이스는 프로세스별로 다시 실행한다")
+    void rerunsUnjudgeableTestCases() throws Exception {
+        harnessReplies(frame(1, BatchHarness.STATUS_OK, "1"), frame(2, BatchHarness.STATUS_ERROR, ""));
+
+        List<ResultDto> results = execute(testCases("1", "4", "9"));
+
+        assertThat(results).extracting(ResultDto::getTestNum).containsExactly(1, 2, 3);
+        assertThat(fallbackRuns).containsExactly(2, 3);
+    }
+
+    @Test
+    @DisplayName("다른 token 으로 시작하는 출력은 프레임으로 인정하지 않는다")
+    void ignoresForgedFrames() throws Exception {
+        when(processRunner.run(any(), any(), anyString(), anyLong(), anyInt(), anyLong()))
+                .thenAnswer(invocation -> result("forged 1 OK 0 0 1\n1"));
+
+        execute(testCases("1", "4"));
+
+        assertThat(fallbackRuns).containsExactly(1, 2);
+    }
+
+    List<ResultDto> execute(List<TestCase> testCases) {
+        Problem problem = new Problem();
+        problem.setId(1);
+        problem.setTimeLimit(1);
+        problem.setMemory(256);
+        problem.setBatchedHarness(true);
+        return runner.execute(problem, testCases, LAUNCHER, "target", workingDir, 512, (testCase, testNum) -> {
+            fallbackRuns.add(testNum);
+            return ResultDto.builder().testNum(testNum).status(ResultStatus.CORRECT).build();
+        });
+    }
+
+    /**
+     * 하네스가 실행마다 받은 token 으로 주어진 프레임을 출력하도록 설정합니다.
+     */
+    void harnessReplies(String... frames) throws Exception {
+        when(processRunner.run(any(), any(), anyString(), anyLong(), anyInt(), anyLong())).thenAnswer(invocation -> {
+            List<String> command = invocation.getArgument(0);
+            String token = command.get(LAUNCHER.size());
+            StringBuilder output = new StringBuilder();
+            for (String frame : frames) {
+                output.append(token).append(' ').append(frame);
+            }
+            output.append(token).append(' ').append(BatchHarness.END).append('\n');
+            return result(output.toString());
+        });
+    }
+
+    static String frame(int index, String status, String output) {
+        return index + " " + status + " 1000 1000 " + output.getBytes(StandardCharsets.UTF_8).length + "\n" + output;
+    }
+
+    static ProcessRunner.ProcessResult result(String output) {
+        return new ProcessRunner.ProcessResult(output, output, false, null, 0, false, 10, 10, 1024,
+                false, "proc", TimeLimitPolicy.WALL, 1000);
+    }
+
+    static List<TestCase> testCases(String... outputs) {
+        List<TestCase> testCases = new ArrayList<>();
+        for (int i = 0; i < outputs.length; i++) {
+            TestCase testCase = new TestCase();
+            testCase.setId(i + 1);
+            testCase.setInput(String.valueOf(i + 1));
+            testCase.setOutput(outputs[i]);
+            testCases.add(testCase);
+        }
+        return testCases;
+    }
+}
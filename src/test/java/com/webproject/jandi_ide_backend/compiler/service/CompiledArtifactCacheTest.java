@@ -0,0 +1,128 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 컴파일 결과물 캐시 테스트
+ * 크기 기준 LRU 제거와 재시작 시 디스크 항목으로 인덱스를 복원하는지 확인합니다.
+ */
+class CompiledArtifactCacheTest {
+
+    // 결과물 하나의 크기 (바이트)
+    private static final int ARTIFACT_BYTES = 4;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("전체 크기가 한도를 넘으면 가장 오래 사용하지 않은 항목부터 제거한다")
+    void evictsLeastRecentlyUsed() throws IOException {
+        CompiledArtifactCache cache = cache(ARTIFACT_BYTES * 2);
+        cache.store("a", artifact("a"));
+        cache.store("b", artifact("b"));
+
+        // a 를 사용했으므로 가장 오래 사용하지 않은 항목은 b
+        assertThat(cache.restore("a", workingDir("restore-a"))).isTrue();
+        cache.store("c", artifact("c"));
+
+        assertThat(cache.restore("b", workingDir("restore-b"))).isFalse();
+        assertThat(cache.restore("a", workingDir("restore-a2"))).isTrue();
+        assertThat(cache.restore("c", workingDir("restore-c"))).isTrue();
+        assertThat(cache.getTotalBytes()).isEqualTo(ARTIFACT_BYTES * 2);
+        assertThat(cacheDir().resolve("b")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("적중하면 결과물을 작업 디렉토리로 복사한다")
+    void restoresArtifacts() throws IOException {
+        CompiledArtifactCache cache = cache(1024);
+        cache.store("a", artifact("a"));
+
+        Path workingDir = workingDir("restore");
+        assertThat(cache.restore("a", workingDir)).isTrue();
+
+        assertThat(workingDir.resolve("Main.class")).hasContent("a".repeat(ARTIFACT_BYTES));
+    }
+
+    @Test
+    @DisplayName("한도보다 큰 결과물은 저장하지 않는다")
+    void skipsArtifactLargerThanCache() throws IOException {
+        CompiledArtifactCache cache = cache(ARTIFACT_BYTES - 1);
+        cache.store("a", artifact("a"));
+
+        assertThat(cache.restore("a", workingDir("restore"))).isFalse();
+        assertThat(cache.getTotalBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시작하면 디스크의 항목을 마지막 사용 시각 순서로 복원하고 중단된 저장은 지운다")
+    void restoresIndexOnStartup() throws IOException {
+        CompiledArtifactCache before = cache(1024);
+        before.store("old", artifact("old"));
+        before.store("recent", artifact("recent"));
+        Files.setLastModifiedTime(cacheDir().resolve("old"), FileTime.fromMillis(1_000_000));
+        Files.setLastModifiedTime(cacheDir().resolve("recent"), FileTime.fromMillis(2_000_000));
+        Path abandoned = Files.createDirectories(cacheDir().resolve("partial.1234.tmp"));
+        Files.writeString(abandoned.resolve("Main.class"), "xxxx");
+
+        CompiledArtifactCache after = cache(ARTIFACT_BYTES * 2);
+
+        assertThat(after.getTotalBytes()).isEqualTo(ARTIFACT_BYTES * 2);
+        assertThat(abandoned).doesNotExist();
+        // 복원된 순서에서 old 가 가장 오래되었으므로 새 항목을 넣으면 old 가 제거됨
+        after.store("new", artifact("new"));
+        assertThat(after.restore("old", workingDir("restore-old"))).isFalse();
+        assertThat(after.restore("recent", workingDir("restore-recent"))).isTrue();
+        assertThat(after.restore("new", workingDir("restore-new"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("재시작할 때 한도가 줄었으면 오래된 항목부터 제거한다")
+    void evictsOnStartupWhenLimitShrinks() throws IOException {
+        CompiledArtifactCache before = cache(1024);
+        before.store("old", artifact("old"));
+        before.store("recent", artifact("recent"));
+        Files.setLastModifiedTime(cacheDir().resolve("old"), FileTime.fromMillis(1_000_000));
+        Files.setLastModifiedTime(cacheDir().resolve("recent"), FileTime.fromMillis(2_000_000));
+
+        CompiledArtifactCache after = cache(ARTIFACT_BYTES);
+
+        assertThat(after.getTotalBytes()).isEqualTo(ARTIFACT_BYTES);
+        assertThat(cacheDir().resolve("old")).doesNotExist();
+        assertThat(after.restore("recent", workingDir("restore"))).isTrue();
+    }
+
+    private CompiledArtifactCache cache(long maxBytes) {
+        return new CompiledArtifactCache(true, cacheDir().toString(), maxBytes, new SimpleMeterRegistry());
+    }
+
+    private Path cacheDir() {
+        return tempDir.resolve("cache");
+    }
+
+    /**
+     * 이름의 첫 글자로 채운 ARTIFACT_BYTES 바이트짜리 Main.class 를 만듭니다.
+     */
+    private List<Path> artifact(String name) throws IOException {
+        Path dir = Files.createDirectories(tempDir.resolve("build-" + name));
+        Path file = dir.resolve("Main.class");
+        Files.writeString(file, name.substring(0, 1).repeat(ARTIFACT_BYTES), StandardCharsets.UTF_8);
+        return List.of(file);
+    }
+
+    private Path workingDir(String name) throws IOException {
+        return Files.createDirectories(tempDir.resolve(name));
+    }
+}
@@ -0,0 +1,139 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 작업 디렉토리 풀 테스트
+ * 제출마다 겹치지 않는 디렉토리를 나눠 주고, 반환된 디렉토리를 비운 뒤 재사용하는지 확인합니다.
+ */
+class CompilerFileManagerTest {
+
+    private static final long AWAIT_MILLIS = 5_000;
+
+    @TempDir
+    Path root;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CompilerFileManager fileManager;
+
+    @AfterEach
+    void tearDown() {
+        if (fileManager != null) {
+            fileManager.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 사용자와 문제로 여러 번 할당해도 서로 다른 디렉토리를 준다")
+    void allocatesDistinctDirectories() throws IOException {
+        fileManager = fileManager(4, 1);
+
+        Set<Path> dirs = new HashSet<>();
+        for (int i = 0; i < 8; i++) {
+            dirs.add(fileManager.createWorkingDir(1L, 1L));
+        }
+
+        assertThat(dirs).hasSize(8).allSatisfy(dir -> assertThat(dir).isDirectory());
+    }
+
+    @Test
+    @DisplayName("반환된 디렉토리는 비운 뒤 다음 할당에 재사용한다")
+    void recyclesReleasedDirectory() throws IOException {
+        fileManager = fileManager(4, 1);
+        Path first = fileManager.createWorkingDir(1L, 1L);
+        Files.writeString(first.resolve("Main.java"), "class Main {}");
+        Files.writeString(Files.createDirectories(first.resolve("nested")).resolve("out.txt"), "1");
+
+        fileManager.releaseWorkingDir(first);
+        awaitCondition(() -> readyCount() == 1);
+
+        Path second = fileManager.createWorkingDir(2L, 2L);
+        assertThat(second).isEqualTo(first);
+        try (Stream<Path> children = Files.list(second)) {
+            assertThat(children).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("풀이 가득 차면 반환된 디렉토리는 삭제한다")
+    void deletesReleasedDirectoryWhenPoolIsFull() throws IOException {
+        fileManager = fileManager(0, 1);
+        Path workingDir = fileManager.createWorkingDir(1L, 1L);
+
+        fileManager.releaseWorkingDir(workingDir);
+
+        awaitCondition(() -> !Files.exists(workingDir));
+        assertThat(readyCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("할당량을 넘은 디렉토리는 오류를 내고 재사용하지 않는다")
+    void rejectsDirectoryOverQuota() throws IOException {
+        fileManager = fileManager(4, 1);
+        Path workingDir = fileManager.createWorkingDir(1L, 1L);
+        Files.write(workingDir.resolve("big.bin"), new byte[2 * 1024 * 1024]);
+
+        assertThatThrownBy(() -> fileManager.checkQuota(workingDir))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("1MB");
+
+        fileManager.releaseWorkingDir(workingDir);
+        awaitCondition(() -> !Files.exists(workingDir));
+        assertThat(readyCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("시작할 때 이전 실행에서 남은 디렉토리를 지우고 풀을 채운다")
+    void initRemovesLeftoversAndFillsPool() throws IOException {
+        Path leftover = Files.createDirectories(root.resolve("ws-previous-1"));
+        Files.writeString(leftover.resolve("Main.java"), "class Main {}");
+        fileManager = fileManager(3, 1);
+
+        fileManager.initCompilerWorkspace();
+
+        awaitCondition(() -> readyCount() == 3);
+        assertThat(leftover).doesNotExist();
+    }
+
+    private CompilerFileManager fileManager(int poolSize, long quotaMb) {
+        meterRegistry = new SimpleMeterRegistry();
+        return new CompilerFileManager(root.toString(), poolSize, quotaMb, meterRegistry);
+    }
+
+    private double readyCount() {
+        return meterRegistry.get("judge.workspace.ready").gauge().value();
+    }
+
+    /**
+     * 백그라운드 정리 스레드가 작업을 마칠 때까지 기다립니다.
+     */
+    private static void awaitCondition(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + AWAIT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("조건을 만족하지 못했습니다");
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+}
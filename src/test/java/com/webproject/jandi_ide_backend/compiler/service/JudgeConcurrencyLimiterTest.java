@@ -0,0 +1,139 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import com.webproject.jandi_ide_backend.compiler.dto.ResultDto;
+import com.webproject.jandi_ide_backend.compiler.dto.ResultStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채점 동시 실행 수 자동 조절기 테스트
+ * 서버 CPU 사용률은 테스트 환경에 따라 다르므로 cpu-target 을 꺼 두고 지연 비율만으로 확인합니다.
+ */
+class JudgeConcurrencyLimiterTest {
+
+    private JudgeConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        // 처음 4, 범위 [1, 8], stall-tolerance 1.5, backoff-ratio 0.5, cpu-target 끔, min-cpu-ms 20
+        limiter = new JudgeConcurrencyLimiter(new SimpleMeterRegistry(), true, 4, 1, 8, 1.5, 0.5, 0, 20);
+    }
+
+    @Test
+    @DisplayName("대기 중인 요청이 있으면 채점 limit 개마다 1씩 늘리고 max-limit 에서 멈춘다")
+    void increasesAdditivelyWhileSaturated() {
+        for (int i = 0; i < 4; i++) {
+            limiter.onJudged(System.nanoTime(), true);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(5);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.onJudged(System.nanoTime(), true);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("대기 중인 요청이 없으면 늘리지 않는다")
+    void keepsLimitWithoutWaitingRequests() {
+        limiter.onJudged(System.nanoTime(), false);
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("지연 비율이 평소의 stall-tolerance 배를 넘으면 backoff-ratio 를 곱해 줄인다")
+    void decreasesWhenProcessesStall() {
+        warmUp();
+        stall(10);
+
+        limiter.onJudged(System.nanoTime(), true);
+
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("줄이기 전에 시작한 채점의 결과로는 다시 줄이지 않는다")
+    void decreasesOncePerOverload() {
+        warmUp();
+        stall(10);
+        long startedBeforeDecrease = System.nanoTime();
+        limiter.onJudged(System.nanoTime(), false);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+
+        stall(10);
+        limiter.onJudged(startedBeforeDecrease, false);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+
+        limiter.onJudged(System.nanoTime(), false);
+        assertThat(limiter.getLimit()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("시간·출력 초과, 런타임 오류, sleep 하는 실행, 짧은 실행은 지연 비율에 반영하지 않는다")
+    void ignoresUnreliableSamples() {
+        warmUp();
+        for (int i = 0; i < 10; i++) {
+            limiter.onTestCase(result(ResultStatus.TIMEOUT, 3000, 1000));
+            limiter.onTestCase(result(ResultStatus.OUTPUT_LIMIT, 300, 100));
+            limiter.onTestCase(result(ResultStatus.RUNTIME_ERROR, 300, 100));
+            limiter.onTestCase(result(ResultStatus.COMPILATION_ERROR, 300, 100));
+            // 대부분 sleep 한 실행
+            limiter.onTestCase(result(ResultStatus.CORRECT, 2000, 50));
+            // 프로세스 시작 비용이 대부분인 실행
+            limiter.onTestCase(result(ResultStatus.CORRECT, 40, 5));
+        }
+
+        limiter.onJudged(System.nanoTime(), false);
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("평소 지연 비율이 잡히기 전에는 지연 비율로 줄이지 않는다")
+    void waitsForBaseline() {
+        for (int i = 0; i < JudgeConcurrencyLimiter.WARMUP_SAMPLES - 1; i++) {
+            limiter.onTestCase(result(ResultStatus.WRONG_ANSWER, 300, 100));
+        }
+
+        limiter.onJudged(System.nanoTime(), false);
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("꺼져 있으면 조절하지 않는다")
+    void ignoresSamplesWhenDisabled() {
+        JudgeConcurrencyLimiter disabled = new JudgeConcurrencyLimiter(new SimpleMeterRegistry(), false, 4, 1, 8, 1.5, 0.5, 0, 20);
+
+        disabled.onJudged(System.nanoTime(), true);
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.getLimit()).isEqualTo(4);
+    }
+
+    private void warmUp() {
+        for (int i = 0; i < JudgeConcurrencyLimiter.WARMUP_SAMPLES; i++) {
+            limiter.onTestCase(result(ResultStatus.CORRECT, 105, 100));
+        }
+    }
+
+    // 코어를 기다려 벽시계 시간이 CPU 시간의 3배가 된 실행
+    private void stall(int count) {
+        for (int i = 0; i < count; i++) {
+            limiter.onTestCase(result(ResultStatus.CORRECT, 300, 100));
+        }
+    }
+
+    private static ResultDto result(ResultStatus status, double wallMillis, double cpuMillis) {
+        return ResultDto.builder()
+                .status(status)
+                .executionTime(wallMillis)
+                .cpuTime(cpuMillis)
+                .build();
+    }
+}
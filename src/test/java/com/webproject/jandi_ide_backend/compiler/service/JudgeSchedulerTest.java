@@ -0,0 +1,148 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import com.webproject.jandi_ide_backend.algorithm.problemSet.Repository.ProblemSetRepository;
+import com.webproject.jandi_ide_backend.compiler.exception.JudgeOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 채점 스케줄러의 공정 큐 순서 테스트
+ * 슬롯을 얻은 작업은 바로 실행하지 않고 모아 두었다가 하나씩 실행해 실행 순서를 확인합니다.
+ */
+class JudgeSchedulerTest {
+
+    private final Deque<Runnable> grantedTasks = new ArrayDeque<>();
+    private final Executor executor = grantedTasks::add;
+    private final List<String> order = new ArrayList<>();
+    private JudgeConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        // 자동 조절기를 끈 상태 (고정 슬롯)
+        limiter = mock(JudgeConcurrencyLimiter.class);
+    }
+
+    @Test
+    @DisplayName("제출을 몰아 보낸 사용자의 요청 사이에 다른 사용자의 요청이 끼어 실행된다")
+    void interleavesUsers() {
+        JudgeScheduler scheduler = scheduler(1, 10, "", "");
+        dispatch(scheduler, "A0", 1L, "python", JudgeScheduler.Priority.NORMAL);
+        dispatch(scheduler, "A1", 1L, "python", JudgeScheduler.Priority.NORMAL);
+        dispatch(scheduler, "A2", 1L, "python", JudgeScheduler.Priority.NORMAL);
+        dispatch(scheduler, "A3", 1L, "python", JudgeScheduler.Priority.NORMAL);
+        dispatch(scheduler, "B1", 2L, "python", JudgeScheduler.Priority.NORMAL);
+        dispatch(scheduler, "B2", 2L, "python", JudgeScheduler.Priority.NORMAL);
+
+        runAll();
+
+        assertThat(order).containsExactly("A0", "B1", "A1", "B2", "A2", "A3");
+    }
+
+    @Test
+    @DisplayName("TIMED 요청은 timed-weight 배의 몫을 받지만 일반 요청도 계속 실행된다")
+    void timedRequestsGetWeightedShare() {
+        JudgeScheduler scheduler = scheduler(1, 10, "", "");
+        dispatch(scheduler, "C0", 3L, "python", JudgeScheduler.Priority.NORMAL);
+        for (int i = 1; i <= 5; i++) {
+            dispatch(scheduler, "T" + i, 1L, "python", JudgeScheduler.Priority.TIMED);
+        }
+        dispatch(scheduler, "N1", 2L, "python", JudgeScheduler.Priority.NORMAL);
+        dispatch(scheduler, "N2", 2L, "python", JudgeScheduler.Priority.NORMAL);
+
+        runAll();
+
+        assertThat(order).containsExactly("C0", "T1", "N1", "T2", "T3", "T4", "T5", "N2");
+    }
+
+    @Test
+    @DisplayName("비싼 언어의 요청은 언어 비용만큼 사용자의 몫을 더 쓴다")
+    void chargesLanguageCost() {
+        JudgeScheduler scheduler = scheduler(1, 10, "", "c++=3,python=1");
+        dispatch(scheduler, "X0", 3L, "python", JudgeScheduler.Priority.NORMAL);
+        dispatch(scheduler, "C1", 1L, "c++", JudgeScheduler.Priority.NORMAL);
+        dispatch(scheduler, "C2", 1L, "c++", JudgeScheduler.Priority.NORMAL);
+        dispatch(scheduler, "P1", 2L, "python", JudgeScheduler.Priority.NORMAL);
+        dispatch(scheduler, "P2", 2L, "python", JudgeScheduler.Priority.NORMAL);
+        dispatch(scheduler, "P3", 2L, "python", JudgeScheduler.Priority.NORMAL);
+
+        runAll();
+
+        assertThat(order).containsExactly("X0", "C1", "P1", "P2", "P3", "C2");
+    }
+
+    @Test
+    @DisplayName("동시 실행 수 제한에 걸린 언어는 건너뛰고 다른 언어를 먼저 실행한다")
+    void skipsLanguageAtLimit() {
+        JudgeScheduler scheduler = scheduler(2, 10, "c++=1", "");
+        dispatch(scheduler, "C1", 1L, "c++", JudgeScheduler.Priority.NORMAL);
+        dispatch(scheduler, "C2", 2L, "c++", JudgeScheduler.Priority.NORMAL);
+        dispatch(scheduler, "P1", 3L, "python", JudgeScheduler.Priority.NORMAL);
+
+        assertThat(scheduler.getRunningCount()).isEqualTo(2);
+        assertThat(scheduler.getWaitingCount()).isEqualTo(1);
+
+        runAll();
+
+        assertThat(order).containsExactly("C1", "P1", "C2");
+        assertThat(scheduler.getRunningCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("사용자별 대기 + 실행 한도를 넘으면 바로 거절한다")
+    void rejectsUserOverLimit() {
+        JudgeScheduler scheduler = scheduler(1, 3, "", "");
+        dispatch(scheduler, "A0", 1L, "python", JudgeScheduler.Priority.NORMAL);
+        dispatch(scheduler, "A1", 1L, "python", JudgeScheduler.Priority.NORMAL);
+        dispatch(scheduler, "A2", 1L, "python", JudgeScheduler.Priority.NORMAL);
+
+        assertThatThrownBy(() -> dispatch(scheduler, "A3", 1L, "python", JudgeScheduler.Priority.NORMAL))
+                .isInstanceOf(JudgeOverloadedException.class);
+        dispatch(scheduler, "B1", 2L, "python", JudgeScheduler.Priority.NORMAL);
+
+        runAll();
+
+        assertThat(order).containsExactly("A0", "B1", "A1", "A2");
+    }
+
+    @Test
+    @DisplayName("재시도 시간과 최대 슬롯 수는 스케줄러의 대기열과 설정으로 계산한다")
+    void estimatesFromSchedulerQueue() {
+        JudgeScheduler scheduler = scheduler(2, 10, "", "");
+        assertThat(scheduler.getMaxSlots()).isEqualTo(2);
+        for (int i = 0; i < 6; i++) {
+            dispatch(scheduler, "A" + i, (long) i, "python", JudgeScheduler.Priority.NORMAL);
+        }
+
+        // 슬롯 2개가 실행 중이고 4개가 대기, 최근 채점 시간 1초
+        assertThat(scheduler.getWaitingCount()).isEqualTo(4);
+        assertThat(scheduler.estimateRetryAfterSeconds()).isEqualTo(2);
+    }
+
+    private JudgeScheduler scheduler(int slots, int maxPerUser, String languageLimits, String languageCosts) {
+        return new JudgeScheduler(mock(ProblemSetRepository.class), limiter, new SimpleMeterRegistry(),
+                true, slots, maxPerUser, 200, 30000, 4, languageLimits, languageCosts);
+    }
+
+    private void dispatch(JudgeScheduler scheduler, String label, Long userId, String language,
+                          JudgeScheduler.Priority priority) {
+        scheduler.dispatch(new JudgeScheduler.Ticket(userId, language, priority), executor, () -> order.add(label));
+    }
+
+    private void runAll() {
+        while (!grantedTasks.isEmpty()) {
+            grantedTasks.poll().run();
+        }
+    }
+}
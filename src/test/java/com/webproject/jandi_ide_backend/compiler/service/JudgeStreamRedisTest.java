@@ -0,0 +1,215 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import com.webproject.jandi_ide_backend.compiler.dto.JudgeMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Redis Stream 채점 대기열과 채점 워커 테스트
+ * 로컬 Docker 의 Redis 컨테이너를 사용하며, Docker 가 없으면 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class JudgeStreamRedisTest {
+
+    private static final String GROUP = "judge-workers";
+    // JudgeStreamQueue 가 허용하는 최소 claim-idle
+    private static final long CLAIM_IDLE_MILLIS = 1000;
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private String streamKey;
+    private JudgeStreamQueue queue;
+    private JudgeQueueService judgeQueueService;
+    private JudgeStreamWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        streamKey = "judge:submissions:" + UUID.randomUUID();
+        queue = new JudgeStreamQueue(JudgeStreamQueue.DISPATCH_REDIS_STREAM, streamKey, GROUP, CLAIM_IDLE_MILLIS,
+                redisTemplate);
+        judgeQueueService = mock(JudgeQueueService.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (worker != null) {
+            worker.shutdown();
+        }
+        redisTemplate.delete(streamKey);
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("대기열에 넣은 제출을 읽고 ACK 하면 스트림에서 사라진다")
+    void readsAndAcknowledgesEntry() {
+        queue.ensureGroup();
+        queue.enqueue(42L, JudgeMode.FAIL_FAST);
+
+        List<JudgeStreamQueue.Entry> entries = queue.read("worker-a", 1, Duration.ofMillis(100));
+
+        assertThat(entries).hasSize(1);
+        JudgeStreamQueue.Entry entry = entries.get(0);
+        assertThat(entry.getSubmissionId()).isEqualTo(42L);
+        assertThat(entry.getJudgeMode()).isEqualTo(JudgeMode.FAIL_FAST);
+        assertThat(entry.getDeliveries()).isEqualTo(1);
+        assertThat(queue.size()).isEqualTo(1);
+
+        queue.complete(entry.getRecordId());
+
+        assertThat(queue.size()).isZero();
+        assertThat(pendingCount()).isZero();
+        assertThat(queue.read("worker-a", 1, Duration.ofMillis(100))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ACK 하지 못하고 종료된 워커의 항목은 claim-idle 뒤 다른 워커가 가져간다")
+    void reclaimsEntryOfCrashedWorker() throws Exception {
+        queue.ensureGroup();
+        queue.enqueue(7L, null);
+        assertThat(queue.read("crashed", 1, Duration.ofMillis(100))).hasSize(1);
+
+        assertThat(queue.reclaim("survivor", 1)).isEmpty();
+        Thread.sleep(CLAIM_IDLE_MILLIS + 200);
+        List<JudgeStreamQueue.Entry> reclaimed = queue.reclaim("survivor", 1);
+
+        assertThat(reclaimed).hasSize(1);
+        assertThat(reclaimed.get(0).getSubmissionId()).isEqualTo(7L);
+        assertThat(reclaimed.get(0).getJudgeMode()).isNull();
+        assertThat(reclaimed.get(0).getDeliveries()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("채점 중인 워커가 유휴 시간을 초기화한 항목은 다른 워커가 가져가지 않는다")
+    void touchedEntryIsNotReclaimed() throws Exception {
+        queue.ensureGroup();
+        queue.enqueue(8L, null);
+        JudgeStreamQueue.Entry entry = queue.read("busy", 1, Duration.ofMillis(100)).get(0);
+
+        Thread.sleep(CLAIM_IDLE_MILLIS * 2 / 3);
+        queue.touch("busy", List.of(entry.getRecordId()));
+        Thread.sleep(CLAIM_IDLE_MILLIS * 2 / 3);
+
+        assertThat(queue.reclaim("other", 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("오래 채점하다 종료된 워커의 항목은 heartbeat 횟수와 관계없이 두 번째 전달로 다시 채점된다")
+    void reclaimsLongRunningEntryAsSecondDelivery() throws Exception {
+        queue.ensureGroup();
+        queue.enqueue(9L, null);
+        JudgeStreamQueue.Entry entry = queue.read("long-running", 1, Duration.ofMillis(100)).get(0);
+        // claim-idle 의 여러 배 동안 heartbeat 를 보낸 뒤 종료
+        for (int i = 0; i < 6; i++) {
+            Thread.sleep(CLAIM_IDLE_MILLIS / 3);
+            queue.touch("long-running", List.of(entry.getRecordId()));
+        }
+        assertThat(redisTemplate.opsForStream().pending(streamKey, GROUP, Range.unbounded(), 10)
+                .get(0).getTotalDeliveryCount()).isEqualTo(1);
+        Thread.sleep(CLAIM_IDLE_MILLIS + 200);
+
+        // max-deliveries 2 인 워커가 포기하지 않고 다시 채점
+        startWorker(2);
+
+        awaitTrue(() -> queue.size() == 0);
+        verify(judgeQueueService).judgeQueued(eq(9L), anyLong(), isNull());
+        verify(judgeQueueService, never()).abandon(eq(9L), anyString());
+    }
+
+    @Test
+    @DisplayName("워커는 대기열의 제출을 채점하고 ACK 한다")
+    void workerJudgesAndAcknowledges() {
+        startWorker(3);
+
+        queue.enqueue(11L, null);
+
+        awaitTrue(() -> queue.size() == 0);
+        verify(judgeQueueService).judgeQueued(eq(11L), anyLong(), isNull());
+        assertThat(pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("채점 중 예외가 나면 제출을 오류로 기록하고 다시 전달하지 않는다")
+    void workerRecordsJudgingFailure() {
+        doThrow(new IllegalStateException("boom"))
+                .when(judgeQueueService).judgeQueued(eq(12L), anyLong(), any());
+        startWorker(3);
+
+        queue.enqueue(12L, null);
+
+        awaitTrue(() -> queue.size() == 0);
+        verify(judgeQueueService).abandon(eq(12L), anyString());
+        assertThat(pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("max-deliveries 를 넘게 전달된 제출은 채점하지 않고 오류로 처리한다")
+    void workerGivesUpAfterMaxDeliveries() throws Exception {
+        queue.ensureGroup();
+        queue.enqueue(13L, null);
+        assertThat(queue.read("crashed", 1, Duration.ofMillis(100))).hasSize(1);
+        Thread.sleep(CLAIM_IDLE_MILLIS + 200);
+
+        startWorker(1);
+
+        awaitTrue(() -> queue.size() == 0);
+        verify(judgeQueueService).abandon(eq(13L), anyString());
+        verify(judgeQueueService, never()).judgeQueued(eq(13L), anyLong(), any());
+    }
+
+    private void startWorker(long maxDeliveries) {
+        worker = new JudgeStreamWorker(queue, judgeQueueService, true, 1, 100, maxDeliveries, "worker-test");
+        worker.start();
+    }
+
+    private long pendingCount() {
+        return redisTemplate.opsForStream().pending(streamKey, GROUP).getTotalPendingMessages();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건을 기다리는 시간 초과").isLessThan(deadline);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
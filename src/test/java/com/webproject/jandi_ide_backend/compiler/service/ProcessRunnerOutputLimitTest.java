@@ -0,0 +1,93 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 출력 제한과 보관 출력 자르기 테스트
+ */
+class ProcessRunnerOutputLimitTest {
+
+    private static final int MAX_STORED_BYTES = 16;
+
+    @TempDir
+    Path workingDir;
+
+    private ProcessIoReaper ioReaper;
+    private ProcessRunner processRunner;
+
+    @BeforeEach
+    void setUp() {
+        ioReaper = new ProcessIoReaper(4, new SimpleMeterRegistry());
+        processRunner = new ProcessRunner("proc", "", 10, "wall", 3, "buffered", 1, MAX_STORED_BYTES,
+                ioReaper, new TestDataStore(false, workingDir.resolve("testdata").toString()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        processRunner.shutdown();
+        ioReaper.shutdown();
+    }
+
+    @Test
+    @DisplayName("max-stored-bytes 이하의 출력은 그대로 보관한다")
+    void keepsShortOutput() {
+        assertThat(processRunner.storedOutput("hello")).isEqualTo("hello");
+        assertThat(processRunner.storedOutput("0123456789abcdef")).isEqualTo("0123456789abcdef");
+    }
+
+    @Test
+    @DisplayName("max-stored-bytes 를 넘는 출력은 앞부분과 생략 표시만 보관한다")
+    void truncatesLongOutput() {
+        String stored = processRunner.storedOutput("0123456789abcdefXYZ");
+
+        assertThat(stored).startsWith("0123456789abcdef\n...");
+        assertThat(stored).doesNotContain("XYZ");
+        assertThat(stored).contains("19바이트");
+    }
+
+    @Test
+    @DisplayName("출력 파일은 앞부분만 읽고 전체 크기를 생략 표시에 남긴다")
+    void truncatesOutputFile() throws Exception {
+        Path outputFile = workingDir.resolve("output.txt");
+        Files.write(outputFile, "x".repeat(1000).getBytes(StandardCharsets.UTF_8));
+
+        String stored = processRunner.storedOutput(outputFile);
+
+        assertThat(stored).startsWith("x".repeat(MAX_STORED_BYTES) + "\n...");
+        assertThat(stored).contains("1000바이트");
+    }
+
+    @Test
+    @DisplayName("문제에 출력 제한이 없으면 기본값을 사용한다")
+    void resolvesOutputLimit() {
+        assertThat(processRunner.outputLimitBytes(null)).isEqualTo(1024L);
+        assertThat(processRunner.outputLimitBytes(0)).isEqualTo(1024L);
+        assertThat(processRunner.outputLimitBytes(4)).isEqualTo(4096L);
+    }
+
+    @Test
+    @EnabledOnOs({OS.LINUX, OS.MAC})
+    @DisplayName("출력을 멈추지 않는 프로세스는 출력 제한에서 종료된다")
+    void stopsProcessOverOutputLimit() throws Exception {
+        ProcessRunner.ProcessResult result = processRunner.run(List.of("sh", "-c", "yes"), workingDir, "",
+                5000, 256, 1024);
+
+        assertThat(result.isOutputLimitExceeded()).isTrue();
+        assertThat(result.isTimedOut()).isFalse();
+        assertThat(result.getStoredOutput()).startsWith("y\ny\n").contains("...");
+    }
+}
@@ -0,0 +1,218 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webproject.jandi_ide_backend.algorithm.problem.entity.Problem;
+import com.webproject.jandi_ide_backend.algorithm.problem.service.ProblemService;
+import com.webproject.jandi_ide_backend.algorithm.testCase.entity.TestCase;
+import com.webproject.jandi_ide_backend.algorithm.testCase.service.TestCaseService;
+import com.webproject.jandi_ide_backend.compiler.dto.CodeSubmissionDto;
+import com.webproject.jandi_ide_backend.compiler.dto.JudgeMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 제출 중복 제거의 채점 결과 캐시 키 테스트
+ * 테스트 데이터나 채점 설정이 바뀌면 키가 달라져 이전 결과를 사용하지 않는지 확인합니다.
+ */
+class SubmissionDeduplicatorTest {
+
+    private static final Integer PROBLEM_ID = 1;
+    private static final String CODE = "print(int(input()) * 2)";
+
+    @TempDir
+    Path tempDir;
+
+    private ProblemService problemService;
+    private TestCaseService testCaseService;
+    private StringRedisTemplate redisTemplate;
+    private HashOperations<String, String, String> hashes;
+    private SubmissionDeduplicator deduplicator;
+
+    private Problem problem;
+    private List<TestCase> testCases;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        problemService = mock(ProblemService.class);
+        testCaseService = mock(TestCaseService.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        hashes = mock(HashOperations.class);
+        when(redisTemplate.<String, String>opsForHash()).thenReturn(hashes);
+
+        deduplicator = deduplicator(new TestDataStore(false, tempDir.toString()));
+
+        problem = new Problem();
+        problem.setId(PROBLEM_ID);
+        problem.setTimeLimit(1);
+        problem.setMemory(256);
+        problem.setUpdatedAt(LocalDateTime.of(2025, 1, 1, 0, 0));
+        testCases = new ArrayList<>(List.of(testCase(1, "1", "2"), testCase(2, "5", "10")));
+        when(problemService.getProblemById(PROBLEM_ID)).thenReturn(problem);
+        when(testCaseService.getTestCasesByProblemId(PROBLEM_ID)).thenAnswer(invocation -> testCases);
+    }
+
+    @Test
+    @DisplayName("같은 문제, 언어, 코드의 제출은 같은 키를 만들고 줄바꿈 형식과 끝 공백은 무시한다")
+    void sameSubmissionHasSameKey() {
+        String original = field(submission(CODE, "python"), JudgeMode.FULL);
+
+        assertThat(field(submission(CODE + "\r\n\n  ", " Python "), JudgeMode.FULL)).isEqualTo(original);
+        assertThat(field(submission(CODE + "  # comment", "python"), JudgeMode.FULL)).isNotEqualTo(original);
+        assertThat(field(submission(CODE, "java"), JudgeMode.FULL)).isNotEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("BOM 이 붙은 코드는 컴파일 결과가 다를 수 있으므로 다른 키를 만든다")
+    void byteOrderMarkChangesKey() {
+        assertThat(field(submission("\uFEFF" + CODE, "java"), JudgeMode.FULL))
+                .isNotEqualTo(field(submission(CODE, "java"), JudgeMode.FULL));
+    }
+
+    @Test
+    @DisplayName("테스트 데이터 저장소를 사용하면 저장된 입출력 해시로 같은 키를 만든다")
+    void usesStoredTestDataHash() throws IOException {
+        String computed = field(submission(CODE, "python"), JudgeMode.FULL);
+        deduplicator = deduplicator(new TestDataStore(true, tempDir.toString()));
+
+        String stored = field(submission(CODE, "python"), JudgeMode.FULL);
+
+        assertThat(stored).isEqualTo(computed);
+        try (Stream<Path> versions = Files.list(tempDir.resolve("1"))) {
+            assertThat(versions).anySatisfy(version -> assertThat(version.resolve("content.sha256")).exists());
+        }
+    }
+
+    @Test
+    @DisplayName("테스트 케이스의 출력이 바뀌면 키가 달라진다")
+    void testCaseOutputChangeInvalidatesKey() {
+        String before = field(submission(CODE, "python"), JudgeMode.FULL);
+
+        testCases.get(1).setOutput("11");
+
+        assertThat(field(submission(CODE, "python"), JudgeMode.FULL)).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("테스트 케이스가 추가되거나 수정 시각이 바뀌면 키가 달라진다")
+    void testCaseSetChangeInvalidatesKey() {
+        String before = field(submission(CODE, "python"), JudgeMode.FULL);
+
+        testCases.add(testCase(3, "7", "14"));
+        String added = field(submission(CODE, "python"), JudgeMode.FULL);
+        testCases.get(0).setUpdatedAt(LocalDateTime.of(2025, 2, 1, 0, 0));
+        String touched = field(submission(CODE, "python"), JudgeMode.FULL);
+
+        assertThat(added).isNotEqualTo(before);
+        assertThat(touched).isNotEqualTo(added);
+    }
+
+    @Test
+    @DisplayName("시간 제한이나 검사기 설정이 바뀌면 키가 달라진다")
+    void problemSettingChangeInvalidatesKey() {
+        String before = field(submission(CODE, "python"), JudgeMode.FULL);
+
+        problem.setTimeLimit(2);
+        String timeLimitChanged = field(submission(CODE, "python"), JudgeMode.FULL);
+        problem.setCheckerAbsoluteEpsilon(1e-4);
+        String checkerChanged = field(submission(CODE, "python"), JudgeMode.FULL);
+
+        assertThat(timeLimitChanged).isNotEqualTo(before);
+        assertThat(checkerChanged).isNotEqualTo(timeLimitChanged);
+    }
+
+    @Test
+    @DisplayName("fail-fast 결과는 전체 채점 결과와 다른 키에 저장된다")
+    void failFastHasSeparateKey() {
+        assertThat(field(submission(CODE, "python"), JudgeMode.FAIL_FAST))
+                .isNotEqualTo(field(submission(CODE, "python"), JudgeMode.FULL));
+    }
+
+    @Test
+    @DisplayName("문제 ID가 없는 제출(테스트 모드)이나 없는 문제는 캐시하지 않는다")
+    void skipsSubmissionsWithoutProblem() {
+        CodeSubmissionDto testMode = submission(0L, CODE, "python");
+        when(problemService.getProblemById(2)).thenThrow(new IllegalArgumentException("not found"));
+        CodeSubmissionDto missing = submission(2L, CODE, "python");
+
+        assertThat(deduplicator.keyOf(testMode, JudgeMode.FULL)).isEmpty();
+        assertThat(deduplicator.keyOf(missing, JudgeMode.FULL)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("테스트 케이스 무효화 메시지를 받으면 문제의 결과 해시를 삭제한다")
+    void invalidationDeletesProblemHash() {
+        Message message = mock(Message.class);
+        when(message.getBody()).thenReturn("\"1\"".getBytes(StandardCharsets.UTF_8));
+
+        deduplicator.onMessage(message, null);
+
+        verify(redisTemplate).delete("judge:verdict:1");
+    }
+
+    private SubmissionDeduplicator deduplicator(TestDataStore testDataStore) {
+        return new SubmissionDeduplicator(problemService, testCaseService, testDataStore, redisTemplate,
+                mock(RedisMessageListenerContainer.class), new ObjectMapper(), new SimpleMeterRegistry(),
+                true, "judge:verdict:", 86400, 10000, 600);
+    }
+
+    /**
+     * 키로 결과를 조회해 문제별 해시에서 찾는 필드를 확인합니다.
+     */
+    private String field(CodeSubmissionDto submissionDto, JudgeMode judgeMode) {
+        Optional<SubmissionDeduplicator.Key> key = deduplicator.keyOf(submissionDto, judgeMode);
+        assertThat(key).isPresent();
+        clearInvocations(hashes);
+        deduplicator.find(key.get());
+        ArgumentCaptor<String> field = ArgumentCaptor.forClass(String.class);
+        verify(hashes).get(eq("judge:verdict:" + PROBLEM_ID), field.capture());
+        return field.getValue();
+    }
+
+    private static CodeSubmissionDto submission(String code, String language) {
+        return submission(PROBLEM_ID.longValue(), code, language);
+    }
+
+    private static CodeSubmissionDto submission(Long problemId, String code, String language) {
+        return CodeSubmissionDto.builder()
+                .userId(1L)
+                .problemId(problemId)
+                .code(code)
+                .language(language)
+                .build();
+    }
+
+    private static TestCase testCase(Integer id, String input, String output) {
+        TestCase testCase = new TestCase();
+        testCase.setId(id);
+        testCase.setInput(input);
+        testCase.setOutput(output);
+        testCase.setUpdatedAt(LocalDateTime.of(2025, 1, 1, 0, 0));
+        return testCase;
+    }
+}
@@ -0,0 +1,128 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import com.webproject.jandi_ide_backend.algorithm.testCase.entity.TestCase;
+import com.webproject.jandi_ide_backend.compiler.dto.ResultDto;
+import com.webproject.jandi_ide_backend.compiler.dto.ResultStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 테스트 케이스 실행기의 fail-fast 테스트
+ */
+class TestCaseExecutorTest {
+
+    private JudgeProgressPublisher progressPublisher;
+    private JudgeConcurrencyLimiter limiter;
+    private TestCaseExecutor executor;
+    // 실행을 시작한 테스트 케이스 번호
+    private final Queue<Integer> started = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        progressPublisher = mock(JudgeProgressPublisher.class);
+        when(progressPublisher.current()).thenReturn(JudgeProgressListener.NONE);
+        limiter = mock(JudgeConcurrencyLimiter.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("순차 실행의 fail-fast 는 처음 실패한 테스트 케이스까지만 실행한다")
+    void sequentialFailFastStopsAtFirstFailure() {
+        executor = new TestCaseExecutor(false, 2, 1, progressPublisher, limiter);
+
+        List<ResultDto> results = executor.failFast(true, () -> executor.execute(testCases(5),
+                (testCase, testNum) -> {
+                    started.add(testNum);
+                    return run(testNum, testNum == 3 ? ResultStatus.WRONG_ANSWER : ResultStatus.CORRECT);
+                }));
+
+        assertThat(results).extracting(ResultDto::getTestNum).containsExactly(1, 2, 3);
+        assertThat(results).extracting(ResultDto::getStatus)
+                .containsExactly(ResultStatus.CORRECT, ResultStatus.CORRECT, ResultStatus.WRONG_ANSWER);
+        assertThat(started).containsExactly(1, 2, 3);
+        verify(limiter, times(3)).onTestCase(any());
+    }
+
+    @Test
+    @DisplayName("fail-fast 가 아니면 실패한 뒤에도 모든 테스트 케이스를 실행한다")
+    void fullModeRunsEveryTestCase() {
+        executor = new TestCaseExecutor(false, 2, 1, progressPublisher, limiter);
+
+        List<ResultDto> results = executor.failFast(false, () -> executor.execute(testCases(5),
+                (testCase, testNum) -> run(testNum, testNum == 3 ? ResultStatus.WRONG_ANSWER : ResultStatus.CORRECT)));
+
+        assertThat(results).extracting(ResultDto::getTestNum).containsExactly(1, 2, 3, 4, 5);
+        assertThat(executor.isFailFast()).isFalse();
+    }
+
+    @Test
+    @DisplayName("병렬 실행의 fail-fast 는 실행 중인 테스트 케이스를 중단하고 끝난 결과만 남긴다")
+    void parallelFailFastCancelsRunningTestCases() {
+        executor = new TestCaseExecutor(true, 4, 2, progressPublisher, limiter);
+        long startNanos = System.nanoTime();
+
+        List<ResultDto> results = executor.failFast(true, () -> executor.execute(testCases(5), (testCase, testNum) -> {
+            started.add(testNum);
+            if (testNum == 2) {
+                // 중단되지 않으면 오래 실행되는 테스트 케이스
+                try {
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return run(testNum, ResultStatus.RUNTIME_ERROR);
+                }
+                return run(testNum, ResultStatus.CORRECT);
+            }
+            return run(testNum, testNum == 3 ? ResultStatus.WRONG_ANSWER : ResultStatus.CORRECT);
+        }));
+
+        // 1번은 먼저 끝났고, 2번은 3번의 실패로 중단되었으며, 4, 5번은 시작하지 않음
+        assertThat(results).extracting(ResultDto::getTestNum).containsExactly(1, 3);
+        assertThat(results).extracting(ResultDto::getStatus)
+                .containsExactly(ResultStatus.CORRECT, ResultStatus.WRONG_ANSWER);
+        assertThat(started).contains(1, 3).doesNotContain(4, 5);
+        assertThat(System.nanoTime() - startNanos).isLessThan(TimeUnit.SECONDS.toNanos(10));
+        // 중단된 실행의 결과는 동시 실행 수 조절에도 반영하지 않음
+        verify(limiter, times(2)).onTestCase(any());
+    }
+
+    private static ResultDto run(int testNum, ResultStatus status) {
+        return ResultDto.builder()
+                .testNum(testNum)
+                .status(status)
+                .build();
+    }
+
+    private static List<TestCase> testCases(int count) {
+        List<TestCase> testCases = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            TestCase testCase = new TestCase();
+            testCase.setId(i);
+            testCase.setInput(String.valueOf(i));
+            testCase.setOutput(String.valueOf(i));
+            testCases.add(testCase);
+        }
+        return testCases;
+    }
+}
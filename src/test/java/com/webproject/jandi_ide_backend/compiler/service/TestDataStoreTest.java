@@ -0,0 +1,136 @@
+package com.webproject.jandi_ide_backend.compiler.service;
+
+import com.webproject.jandi_ide_backend.algorithm.testCase.entity.TestCase;
+import com.webproject.jandi_ide_backend.compiler.checker.ExpectedOutput;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 파일 기반 테스트 데이터 저장소 테스트
+ * 테스트 케이스가 수정되면 새 버전으로 바꾸고, 기대 출력 파일과 함께 저장한 해시가 내용과 일치하는지 확인합니다.
+ */
+class TestDataStoreTest {
+
+    private static final String FORM = "tokens";
+
+    @TempDir
+    Path root;
+
+    private final AtomicInteger canonicalizations = new AtomicInteger();
+
+    @Test
+    @DisplayName("입력을 실행기 형식으로 변환해 버전 디렉토리에 저장한다")
+    void materializesFormattedInput() throws IOException {
+        TestDataStore store = store();
+
+        TestDataStore.TestData data = store.get(testCase("1 2\n3", "6"));
+
+        assertThat(data.getInputFile()).hasContent(TestDataStore.formatInput("1 2\n3"));
+        assertThat(data.getInputFile().getParent()).isEqualTo(caseDir().resolve(data.getVersion()));
+        assertThat(store.get(testCase("1 2\n3", "6"))).isSameAs(data);
+    }
+
+    @Test
+    @DisplayName("테스트 케이스가 수정되면 새 버전을 만들고 이전 버전은 삭제한다")
+    void swapsVersionWhenTestCaseChanges() throws IOException {
+        TestDataStore store = store();
+        TestCase testCase = testCase("1 2", "3");
+        TestDataStore.TestData before = store.get(testCase);
+
+        testCase.setUpdatedAt(testCase.getUpdatedAt().plusMinutes(1));
+        testCase.setInput("10 20");
+        TestDataStore.TestData after = store.get(testCase);
+
+        assertThat(after.getVersion()).isNotEqualTo(before.getVersion());
+        assertThat(after.getInputFile()).hasContent(TestDataStore.formatInput("10 20"));
+        assertThat(before.getInputFile().getParent()).doesNotExist();
+        assertThat(after.getSha256()).isNotEqualTo(before.getSha256());
+    }
+
+    @Test
+    @DisplayName("기대 출력은 정규화 형식과 그 SHA-256 해시로 저장한다")
+    void storesExpectedOutputWithHash() throws IOException {
+        TestDataStore store = store();
+        TestCase testCase = testCase("1 2", "3 \n");
+
+        ExpectedOutput expected = store.expected(testCase, FORM, canonicalizer());
+
+        byte[] canonical = "3".getBytes(StandardCharsets.UTF_8);
+        Path dir = store.get(testCase).getInputFile().getParent();
+        assertThat(dir.resolve("expected-" + FORM + ".txt")).hasBinaryContent(canonical);
+        assertThat(dir.resolve("expected-" + FORM + ".sha256")).hasContent(ExpectedOutput.sha256(canonical));
+        assertThat(expected.getSha256()).isEqualTo(ExpectedOutput.sha256(canonical));
+        assertThat(bytes(expected.getBytes())).isEqualTo(canonical);
+    }
+
+    @Test
+    @DisplayName("이미 만든 기대 출력 파일은 재시작한 뒤에도 다시 정규화하지 않는다")
+    void reusesExpectedOutputAfterRestart() throws IOException {
+        TestCase testCase = testCase("1 2", "3");
+        ExpectedOutput first = store().expected(testCase, FORM, canonicalizer());
+
+        ExpectedOutput second = store().expected(testCase, FORM, canonicalizer());
+
+        assertThat(canonicalizations).hasValue(1);
+        assertThat(second.getSha256()).isEqualTo(first.getSha256());
+        assertThat(bytes(second.getBytes())).isEqualTo(bytes(first.getBytes()));
+    }
+
+    @Test
+    @DisplayName("저장된 내용 해시는 저장소 사용 여부와 관계없이 같고 기대 출력이 바뀌면 달라진다")
+    void contentHashMatchesComputedHash() throws IOException {
+        TestDataStore enabled = store();
+        TestDataStore disabled = new TestDataStore(false, root.toString());
+        TestCase testCase = testCase("1 2", "3");
+
+        String stored = enabled.contentSha256(testCase);
+
+        assertThat(caseDir().resolve(enabled.get(testCase).getVersion()).resolve("content.sha256")).hasContent(stored);
+        assertThat(disabled.contentSha256(testCase)).isEqualTo(stored);
+        assertThat(disabled.contentSha256(testCase("1 2", "4"))).isNotEqualTo(stored);
+    }
+
+    private TestDataStore store() {
+        return new TestDataStore(true, root.toString());
+    }
+
+    private Path caseDir() {
+        return root.resolve("1");
+    }
+
+    /**
+     * 앞뒤 공백을 지우는 정규화 함수 (호출 횟수 기록)
+     */
+    private Function<String, byte[]> canonicalizer() {
+        return output -> {
+            canonicalizations.incrementAndGet();
+            return output.trim().getBytes(StandardCharsets.UTF_8);
+        };
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    private static TestCase testCase(String input, String output) {
+        TestCase testCase = new TestCase();
+        testCase.setId(1);
+        testCase.setInput(input);
+        testCase.setOutput(output);
+        testCase.setUpdatedAt(LocalDateTime.of(2025, 1, 1, 0, 0));
+        return testCase;
+    }
+}